@@ -0,0 +1,115 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.appsearch.app;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import android.os.Bundle;
+import android.os.Parcel;
+
+import org.junit.Test;
+
+public class GenericDocumentTest {
+    private static final byte[] sByteArray1 = new byte[]{(byte) 1, (byte) 2, (byte) 3};
+    private static final byte[] sByteArray2 = new byte[]{(byte) 4, (byte) 5, (byte) 6, (byte) 7};
+    private static final GenericDocument sDocumentProperties1 = new GenericDocument
+            .Builder<>("sDocumentProperties1", "sDocumentPropertiesSchemaType1")
+            .setCreationTimestampMillis(12345L)
+            .build();
+    private static final GenericDocument sDocumentProperties2 = new GenericDocument
+            .Builder<>("sDocumentProperties2", "sDocumentPropertiesSchemaType2")
+            .setCreationTimestampMillis(6789L)
+            .setPropertyString("stringKey1", "test-value1")
+            .build();
+
+    @Test
+    public void testRecreateFromBundle() {
+        GenericDocument document = createDocument();
+        Bundle bundle = document.getBundle();
+        assertThat(document.getBundle()).isSameInstanceAs(bundle);
+
+        GenericDocument recreated = new GenericDocument(bundle);
+        assertThat(recreated).isEqualTo(document);
+        assertThat(recreated.hashCode()).isEqualTo(document.hashCode());
+        assertThat(recreated.getBundle()).isSameInstanceAs(bundle);
+    }
+
+    @Test
+    public void testRecreateFromParceledBundle() {
+        GenericDocument document = createDocument();
+        Parcel parcel = Parcel.obtain();
+        try {
+            parcel.writeBundle(document.getBundle());
+            parcel.setDataPosition(0);
+            Bundle bundle = parcel.readBundle(GenericDocument.class.getClassLoader());
+
+            GenericDocument recreated = new GenericDocument(bundle);
+            assertThat(recreated).isEqualTo(document);
+            assertThat(recreated.getPropertyBytesArray("byteKey1")).asList()
+                    .containsExactly(sByteArray1, sByteArray2).inOrder();
+            assertThat(recreated.getPropertyDocumentArray("documentKey1")).asList()
+                    .containsExactly(sDocumentProperties1, sDocumentProperties2).inOrder();
+        } finally {
+            parcel.recycle();
+        }
+    }
+
+    @Test
+    public void testPropertiesSortedByName() {
+        GenericDocument document = createDocument();
+        assertThat(document.getPropertyCount()).isEqualTo(6);
+        for (int i = 1; i < document.getPropertyCount(); i++) {
+            assertThat(document.getPropertyName(i - 1))
+                    .isLessThan(document.getPropertyName(i));
+        }
+        assertThat(document.getPropertyName(0)).isEqualTo("booleanKey1");
+        assertThat(document.getPropertyValues(0)).isEqualTo(new boolean[]{true, false, true});
+    }
+
+    @Test
+    public void testPropertyArraysCopied() {
+        GenericDocument document = createDocument();
+        int hashCode = document.hashCode();
+
+        document.getPropertyBytesArray("byteKey1")[0][0] = (byte) 9;
+        document.getPropertyBytesArray("byteKey1")[1] = sByteArray1;
+        document.getPropertyBytes("byteKey1")[1] = (byte) 9;
+        document.getPropertyDocumentArray("documentKey1")[0] = sDocumentProperties2;
+
+        assertThat(document).isEqualTo(createDocument());
+        assertThat(document.hashCode()).isEqualTo(hashCode);
+        assertThat(document.getPropertyBytesArray("byteKey1")).asList()
+                .containsExactly(sByteArray1, sByteArray2).inOrder();
+        assertThat(document.getPropertyDocumentArray("documentKey1")).asList()
+                .containsExactly(sDocumentProperties1, sDocumentProperties2).inOrder();
+    }
+
+    private static GenericDocument createDocument() {
+        return new GenericDocument.Builder<>("uri1", "schemaType1")
+                .setNamespace("namespace")
+                .setCreationTimestampMillis(5L)
+                .setTtlMillis(1L)
+                .setScore(2)
+                .setPropertyString("stringKey1", "test-value1", "test-value2", "test-value3")
+                .setPropertyLong("longKey1", 1L, 2L, 3L)
+                .setPropertyDouble("doubleKey1", 1.0, 2.0, 3.0)
+                .setPropertyBoolean("booleanKey1", true, false, true)
+                .setPropertyBytes("byteKey1", sByteArray1, sByteArray2)
+                .setPropertyDocument("documentKey1", sDocumentProperties1, sDocumentProperties2)
+                .build();
+    }
+}
@@ -18,6 +18,7 @@ package androidx.appsearch.app;
 
 import android.annotation.SuppressLint;
 import android.os.Bundle;
+import android.os.Parcelable;
 import android.util.Log;
 
 import androidx.annotation.IntRange;
@@ -25,13 +26,15 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.RestrictTo;
 import androidx.appsearch.exceptions.AppSearchException;
-import androidx.appsearch.util.BundleUtil;
+import androidx.collection.ArrayMap;
+import androidx.collection.ArraySet;
 import androidx.core.util.Preconditions;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -90,19 +93,35 @@ public class GenericDocument {
         return MAX_INDEXED_PROPERTIES;
     }
 
-    /** Contains {@link GenericDocument} basic information (uri, schemaType etc).*/
-    @NonNull
-    final Bundle mBundle;
-
-    /** Contains all properties in {@link GenericDocument} to support getting properties via keys.*/
-    @NonNull
-    private final Bundle mProperties;
-
     @NonNull
     private final String mUri;
     @NonNull
     private final String mSchemaType;
+    @NonNull
+    private final String mNamespace;
     private final long mCreationTimestampMillis;
+    private final long mTtlMillis;
+    private final int mScore;
+
+    /**
+     * The names of all properties in {@link GenericDocument}, sorted so that properties can be
+     * looked up by binary search and visited in a stable order.
+     */
+    @NonNull
+    private final String[] mPropertyNames;
+
+    /**
+     * The values of all properties in {@link GenericDocument}, at the index of their name in
+     * {@link #mPropertyNames}. Values are {@code String[]}, {@code long[]}, {@code double[]},
+     * {@code boolean[]}, {@code byte[][]} or {@link GenericDocument}{@code []}.
+     */
+    @NonNull
+    private final Object[] mPropertyValues;
+
+    /** The {@link Bundle} form of this document. Only created when it is needed for IPC. */
+    @Nullable
+    private volatile Bundle mBundle;
+
     @Nullable
     private Integer mHashCode;
 
@@ -116,12 +135,40 @@ public class GenericDocument {
     @RestrictTo(RestrictTo.Scope.LIBRARY_GROUP)
     public GenericDocument(@NonNull Bundle bundle) {
         Preconditions.checkNotNull(bundle);
-        mBundle = bundle;
-        mProperties = Preconditions.checkNotNull(bundle.getParcelable(PROPERTIES_FIELD));
-        mUri = Preconditions.checkNotNull(mBundle.getString(URI_FIELD));
-        mSchemaType = Preconditions.checkNotNull(mBundle.getString(SCHEMA_TYPE_FIELD));
-        mCreationTimestampMillis = mBundle.getLong(CREATION_TIMESTAMP_MILLIS_FIELD,
+        Bundle properties = Preconditions.checkNotNull(bundle.getParcelable(PROPERTIES_FIELD));
+        mUri = Preconditions.checkNotNull(bundle.getString(URI_FIELD));
+        mSchemaType = Preconditions.checkNotNull(bundle.getString(SCHEMA_TYPE_FIELD));
+        mNamespace = bundle.getString(NAMESPACE_FIELD, DEFAULT_NAMESPACE);
+        mCreationTimestampMillis = bundle.getLong(CREATION_TIMESTAMP_MILLIS_FIELD,
                 System.currentTimeMillis());
+        mTtlMillis = bundle.getLong(TTL_MILLIS_FIELD, DEFAULT_TTL_MILLIS);
+        mScore = bundle.getInt(SCORE_FIELD, DEFAULT_SCORE);
+        mPropertyNames = properties.keySet().toArray(new String[0]);
+        Arrays.sort(mPropertyNames);
+        mPropertyValues = new Object[mPropertyNames.length];
+        for (int i = 0; i < mPropertyNames.length; i++) {
+            mPropertyValues[i] = readPropertyFromBundle(properties, mPropertyNames[i]);
+        }
+        mBundle = bundle;
+    }
+
+    GenericDocument(
+            @NonNull String uri,
+            @NonNull String schemaType,
+            @NonNull String namespace,
+            long creationTimestampMillis,
+            long ttlMillis,
+            int score,
+            @NonNull String[] propertyNames,
+            @NonNull Object[] propertyValues) {
+        mUri = uri;
+        mSchemaType = schemaType;
+        mNamespace = namespace;
+        mCreationTimestampMillis = creationTimestampMillis;
+        mTtlMillis = ttlMillis;
+        mScore = score;
+        mPropertyNames = propertyNames;
+        mPropertyValues = propertyValues;
     }
 
     /**
@@ -130,17 +177,150 @@ public class GenericDocument {
      * <p>This method should be only used by constructor of a subclass.
      */
     protected GenericDocument(@NonNull GenericDocument document) {
-        this(document.mBundle);
+        Preconditions.checkNotNull(document);
+        mUri = document.mUri;
+        mSchemaType = document.mSchemaType;
+        mNamespace = document.mNamespace;
+        mCreationTimestampMillis = document.mCreationTimestampMillis;
+        mTtlMillis = document.mTtlMillis;
+        mScore = document.mScore;
+        mPropertyNames = document.mPropertyNames;
+        mPropertyValues = document.mPropertyValues;
+        mBundle = document.mBundle;
     }
 
     /**
-     * Returns the {@link Bundle} populated by this builder.
+     * Returns the {@link Bundle} form of this document, creating it if needed.
      * @hide
      */
     @RestrictTo(RestrictTo.Scope.LIBRARY_GROUP)
     @NonNull
     public Bundle getBundle() {
-        return mBundle;
+        Bundle bundle = mBundle;
+        if (bundle == null) {
+            bundle = createBundle();
+            mBundle = bundle;
+        }
+        return bundle;
+    }
+
+    @NonNull
+    private Bundle createBundle() {
+        Bundle properties = new Bundle();
+        for (int i = 0; i < mPropertyNames.length; i++) {
+            String key = mPropertyNames[i];
+            Object value = mPropertyValues[i];
+            if (value instanceof String[]) {
+                properties.putStringArray(key, (String[]) value);
+            } else if (value instanceof long[]) {
+                properties.putLongArray(key, (long[]) value);
+            } else if (value instanceof double[]) {
+                properties.putDoubleArray(key, (double[]) value);
+            } else if (value instanceof boolean[]) {
+                properties.putBooleanArray(key, (boolean[]) value);
+            } else if (value instanceof byte[][]) {
+                // Bundle doesn't support two dimension arrays, so each byte[] is wrapped in its
+                // own Bundle.
+                byte[][] bytes = (byte[][]) value;
+                ArrayList<Bundle> bundles = new ArrayList<>(bytes.length);
+                for (int j = 0; j < bytes.length; j++) {
+                    Bundle bundle = new Bundle();
+                    bundle.putByteArray(BYTE_ARRAY_FIELD, bytes[j]);
+                    bundles.add(bundle);
+                }
+                properties.putParcelableArrayList(key, bundles);
+            } else if (value instanceof GenericDocument[]) {
+                GenericDocument[] documents = (GenericDocument[]) value;
+                Bundle[] documentBundles = new Bundle[documents.length];
+                for (int j = 0; j < documents.length; j++) {
+                    documentBundles[j] = documents[j].getBundle();
+                }
+                properties.putParcelableArray(key, documentBundles);
+            }
+        }
+        Bundle bundle = new Bundle();
+        bundle.putString(URI_FIELD, mUri);
+        bundle.putString(SCHEMA_TYPE_FIELD, mSchemaType);
+        bundle.putString(NAMESPACE_FIELD, mNamespace);
+        bundle.putLong(CREATION_TIMESTAMP_MILLIS_FIELD, mCreationTimestampMillis);
+        bundle.putLong(TTL_MILLIS_FIELD, mTtlMillis);
+        bundle.putInt(SCORE_FIELD, mScore);
+        bundle.putBundle(PROPERTIES_FIELD, properties);
+        return bundle;
+    }
+
+    /**
+     * Reads a property written by {@link #createBundle} back into its typed array form.
+     *
+     * <p>Values of unknown types are kept as they are, so getters return {@code null} for them.
+     */
+    @Nullable
+    private static Object readPropertyFromBundle(@NonNull Bundle properties, @NonNull String key) {
+        Object value = properties.get(key);
+        if (value instanceof ArrayList) {
+            ArrayList<?> bundles = (ArrayList<?>) value;
+            byte[][] bytes = new byte[bundles.size()][];
+            for (int i = 0; i < bundles.size(); i++) {
+                Object bundle = bundles.get(i);
+                if (!(bundle instanceof Bundle)) {
+                    Log.e(TAG, "The inner bundle is null at " + i + ", for key: " + key);
+                    continue;
+                }
+                byte[] innerBytes = ((Bundle) bundle).getByteArray(BYTE_ARRAY_FIELD);
+                if (innerBytes == null) {
+                    Log.e(TAG, "The bundle at " + i + " contains a null byte[].");
+                    continue;
+                }
+                bytes[i] = innerBytes;
+            }
+            return bytes;
+        } else if (value instanceof Parcelable[]) {
+            // Arrays of Bundles come back as Parcelable[] once they have been parceled.
+            Parcelable[] bundles = (Parcelable[]) value;
+            GenericDocument[] documents = new GenericDocument[bundles.length];
+            for (int i = 0; i < bundles.length; i++) {
+                if (!(bundles[i] instanceof Bundle)) {
+                    Log.e(TAG, "The inner bundle is null at " + i + ", for key: " + key);
+                    continue;
+                }
+                documents[i] = new GenericDocument((Bundle) bundles[i]);
+            }
+            return documents;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of properties in this document.
+     * @hide
+     */
+    @RestrictTo(RestrictTo.Scope.LIBRARY_GROUP)
+    public int getPropertyCount() {
+        return mPropertyNames.length;
+    }
+
+    /**
+     * Returns the name of the property at the given index. Properties are sorted by name.
+     * @hide
+     */
+    @RestrictTo(RestrictTo.Scope.LIBRARY_GROUP)
+    @NonNull
+    public String getPropertyName(int index) {
+        return mPropertyNames[index];
+    }
+
+    /**
+     * Returns the values of the property at the given index, without copying or boxing them.
+     *
+     * @return A {@code String[]}, {@code long[]}, {@code double[]}, {@code boolean[]},
+     *         {@code byte[][]} or {@link GenericDocument}{@code []}, or {@code null} or another
+     *         type if the document was rebuilt from a malformed {@link Bundle}.
+     * @hide
+     */
+    @RestrictTo(RestrictTo.Scope.LIBRARY_GROUP)
+    @Nullable
+    public Object getPropertyValues(int index) {
+        return mPropertyValues[index];
     }
 
     /** Returns the URI of the {@link GenericDocument}. */
@@ -152,7 +332,7 @@ public class GenericDocument {
     /** Returns the namespace of the {@link GenericDocument}. */
     @NonNull
     public String getNamespace() {
-        return mBundle.getString(NAMESPACE_FIELD, DEFAULT_NAMESPACE);
+        return mNamespace;
     }
 
     /** Returns the schema type of the {@link GenericDocument}. */
@@ -181,7 +361,7 @@ public class GenericDocument {
      *    until the app is uninstalled.
      */
     public long getTtlMillis() {
-        return mBundle.getLong(TTL_MILLIS_FIELD, DEFAULT_TTL_MILLIS);
+        return mTtlMillis;
     }
 
     /**
@@ -196,13 +376,13 @@ public class GenericDocument {
      * <p>Any nonnegative integer can be used a score.
      */
     public int getScore() {
-        return mBundle.getInt(SCORE_FIELD, DEFAULT_SCORE);
+        return mScore;
     }
 
     /** Returns the names of all properties defined in this document. */
     @NonNull
     public Set<String> getPropertyNames() {
-        return Collections.unmodifiableSet(mProperties.keySet());
+        return Collections.unmodifiableSet(new ArraySet<>(Arrays.asList(mPropertyNames)));
     }
 
     /**
@@ -284,12 +464,12 @@ public class GenericDocument {
     @Nullable
     public byte[] getPropertyBytes(@NonNull String key) {
         Preconditions.checkNotNull(key);
-        byte[][] propertyArray = getPropertyBytesArray(key);
+        byte[][] propertyArray = getAndCastPropertyArray(key, byte[][].class);
         if (propertyArray == null || propertyArray.length == 0) {
             return null;
         }
         warnIfSinglePropertyTooLong("ByteArray", key, propertyArray.length);
-        return propertyArray[0];
+        return propertyArray[0] == null ? null : propertyArray[0].clone();
     }
 
     /**
@@ -302,7 +482,7 @@ public class GenericDocument {
     @Nullable
     public GenericDocument getPropertyDocument(@NonNull String key) {
         Preconditions.checkNotNull(key);
-        GenericDocument[] propertyArray = getPropertyDocumentArray(key);
+        GenericDocument[] propertyArray = getAndCastPropertyArray(key, GenericDocument[].class);
         if (propertyArray == null || propertyArray.length == 0) {
             return null;
         }
@@ -382,26 +562,18 @@ public class GenericDocument {
      */
     @SuppressLint("ArrayReturn")
     @Nullable
-    @SuppressWarnings("unchecked")
     public byte[][] getPropertyBytesArray(@NonNull String key) {
         Preconditions.checkNotNull(key);
-        ArrayList<Bundle> bundles = getAndCastPropertyArray(key, ArrayList.class);
-        if (bundles == null || bundles.size() == 0) {
+        byte[][] propertyArray = getAndCastPropertyArray(key, byte[][].class);
+        if (propertyArray == null) {
             return null;
         }
-        byte[][] bytes = new byte[bundles.size()][];
-        for (int i = 0; i < bundles.size(); i++) {
-            Bundle bundle = bundles.get(i);
-            if (bundle == null) {
-                Log.e(TAG, "The inner bundle is null at " + i + ", for key: " + key);
-                continue;
+        // The arrays are copied, as modifying them would modify this immutable document.
+        byte[][] bytes = new byte[propertyArray.length][];
+        for (int i = 0; i < propertyArray.length; i++) {
+            if (propertyArray[i] != null) {
+                bytes[i] = propertyArray[i].clone();
             }
-            byte[] innerBytes = bundle.getByteArray(BYTE_ARRAY_FIELD);
-            if (innerBytes == null) {
-                Log.e(TAG, "The bundle at " + i + " contains a null byte[].");
-                continue;
-            }
-            bytes[i] = innerBytes;
         }
         return bytes;
     }
@@ -417,19 +589,12 @@ public class GenericDocument {
     @Nullable
     public GenericDocument[] getPropertyDocumentArray(@NonNull String key) {
         Preconditions.checkNotNull(key);
-        Bundle[] bundles = getAndCastPropertyArray(key, Bundle[].class);
-        if (bundles == null || bundles.length == 0) {
+        GenericDocument[] propertyArray = getAndCastPropertyArray(key, GenericDocument[].class);
+        if (propertyArray == null) {
             return null;
         }
-        GenericDocument[] documents = new GenericDocument[bundles.length];
-        for (int i = 0; i < bundles.length; i++) {
-            if (bundles[i] == null) {
-                Log.e(TAG, "The inner bundle is null at " + i + ", for key: " + key);
-                continue;
-            }
-            documents[i] = new GenericDocument(bundles[i]);
-        }
-        return documents;
+        // The array is copied, as modifying it would modify this immutable document.
+        return propertyArray.clone();
     }
 
     /**
@@ -438,16 +603,19 @@ public class GenericDocument {
      */
     @Nullable
     private <T> T getAndCastPropertyArray(@NonNull String key, @NonNull Class<T> tClass) {
-        Object value = mProperties.get(key);
+        int index = Arrays.binarySearch(mPropertyNames, key);
+        if (index < 0) {
+            return null;
+        }
+        Object value = mPropertyValues[index];
         if (value == null) {
             return null;
         }
-        try {
-            return tClass.cast(value);
-        } catch (ClassCastException e) {
-            Log.w(TAG, "Error casting to requested type for key \"" + key + "\"", e);
+        if (!tClass.isInstance(value)) {
+            Log.w(TAG, "Error casting to requested type for key \"" + key + "\"");
             return null;
         }
+        return tClass.cast(value);
     }
 
 // @exportToFramework:startStrip()
@@ -483,21 +651,73 @@ public class GenericDocument {
             return false;
         }
         GenericDocument otherDocument = (GenericDocument) other;
-        return BundleUtil.deepEquals(this.mBundle, otherDocument.mBundle);
+        if (!mUri.equals(otherDocument.mUri)
+                || !mSchemaType.equals(otherDocument.mSchemaType)
+                || !mNamespace.equals(otherDocument.mNamespace)
+                || mCreationTimestampMillis != otherDocument.mCreationTimestampMillis
+                || mTtlMillis != otherDocument.mTtlMillis
+                || mScore != otherDocument.mScore
+                || !Arrays.equals(mPropertyNames, otherDocument.mPropertyNames)) {
+            return false;
+        }
+        for (int i = 0; i < mPropertyValues.length; i++) {
+            if (!propertyValuesEqual(mPropertyValues[i], otherDocument.mPropertyValues[i])) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
         if (mHashCode == null) {
-            mHashCode = BundleUtil.deepHashCode(mBundle);
+            int hashCode = mUri.hashCode();
+            hashCode = 31 * hashCode + mSchemaType.hashCode();
+            hashCode = 31 * hashCode + mNamespace.hashCode();
+            hashCode = 31 * hashCode
+                    + (int) (mCreationTimestampMillis ^ (mCreationTimestampMillis >>> 32));
+            hashCode = 31 * hashCode + (int) (mTtlMillis ^ (mTtlMillis >>> 32));
+            hashCode = 31 * hashCode + mScore;
+            for (int i = 0; i < mPropertyNames.length; i++) {
+                hashCode = 31 * hashCode + mPropertyNames[i].hashCode();
+                hashCode = 31 * hashCode + propertyValuesHashCode(mPropertyValues[i]);
+            }
+            mHashCode = hashCode;
         }
         return mHashCode;
     }
 
+    private static boolean propertyValuesEqual(@Nullable Object one, @Nullable Object two) {
+        if (one instanceof long[] && two instanceof long[]) {
+            return Arrays.equals((long[]) one, (long[]) two);
+        } else if (one instanceof double[] && two instanceof double[]) {
+            return Arrays.equals((double[]) one, (double[]) two);
+        } else if (one instanceof boolean[] && two instanceof boolean[]) {
+            return Arrays.equals((boolean[]) one, (boolean[]) two);
+        } else if (one instanceof Object[] && two instanceof Object[]) {
+            // Compares String[], byte[][] and GenericDocument[] element by element.
+            return Arrays.deepEquals((Object[]) one, (Object[]) two);
+        }
+        return one == null ? two == null : one.equals(two);
+    }
+
+    private static int propertyValuesHashCode(@Nullable Object value) {
+        if (value instanceof long[]) {
+            return Arrays.hashCode((long[]) value);
+        } else if (value instanceof double[]) {
+            return Arrays.hashCode((double[]) value);
+        } else if (value instanceof boolean[]) {
+            return Arrays.hashCode((boolean[]) value);
+        } else if (value instanceof Object[]) {
+            return Arrays.deepHashCode((Object[]) value);
+        }
+        return value == null ? 0 : value.hashCode();
+    }
+
     @Override
     @NonNull
     public String toString() {
-        return bundleToString(mBundle).toString();
+        return bundleToString(getBundle()).toString();
     }
 
     @SuppressWarnings("unchecked")
@@ -567,8 +787,13 @@ public class GenericDocument {
     @SuppressLint("StaticFinalBuilder")
     public static class Builder<BuilderType extends Builder> {
 
-        private final Bundle mProperties = new Bundle();
-        private final Bundle mBundle = new Bundle();
+        private final String mUri;
+        private final String mSchemaType;
+        private String mNamespace = DEFAULT_NAMESPACE;
+        private long mCreationTimestampMillis;
+        private long mTtlMillis = DEFAULT_TTL_MILLIS;
+        private int mScore = DEFAULT_SCORE;
+        private final Map<String, Object> mProperties = new ArrayMap<>();
         private final BuilderType mBuilderTypeInstance;
         private boolean mBuilt = false;
 
@@ -587,15 +812,10 @@ public class GenericDocument {
             Preconditions.checkNotNull(uri);
             Preconditions.checkNotNull(schemaType);
             mBuilderTypeInstance = (BuilderType) this;
-            mBundle.putString(GenericDocument.URI_FIELD, uri);
-            mBundle.putString(GenericDocument.SCHEMA_TYPE_FIELD, schemaType);
-            mBundle.putString(GenericDocument.NAMESPACE_FIELD, DEFAULT_NAMESPACE);
+            mUri = uri;
+            mSchemaType = schemaType;
             // Set current timestamp for creation timestamp by default.
-            mBundle.putLong(GenericDocument.CREATION_TIMESTAMP_MILLIS_FIELD,
-                    System.currentTimeMillis());
-            mBundle.putLong(GenericDocument.TTL_MILLIS_FIELD, DEFAULT_TTL_MILLIS);
-            mBundle.putInt(GenericDocument.SCORE_FIELD, DEFAULT_SCORE);
-            mBundle.putBundle(PROPERTIES_FIELD, mProperties);
+            mCreationTimestampMillis = System.currentTimeMillis();
         }
 
         /**
@@ -608,7 +828,8 @@ public class GenericDocument {
          */
         @NonNull
         public BuilderType setNamespace(@NonNull String namespace) {
-            mBundle.putString(GenericDocument.NAMESPACE_FIELD, namespace);
+            Preconditions.checkNotNull(namespace);
+            mNamespace = namespace;
             return mBuilderTypeInstance;
         }
 
@@ -631,7 +852,7 @@ public class GenericDocument {
             if (score < 0) {
                 throw new IllegalArgumentException("Document score cannot be negative.");
             }
-            mBundle.putInt(GenericDocument.SCORE_FIELD, score);
+            mScore = score;
             return mBuilderTypeInstance;
         }
 
@@ -644,8 +865,7 @@ public class GenericDocument {
         @NonNull
         public BuilderType setCreationTimestampMillis(long creationTimestampMillis) {
             Preconditions.checkState(!mBuilt, "Builder has already been used");
-            mBundle.putLong(GenericDocument.CREATION_TIMESTAMP_MILLIS_FIELD,
-                    creationTimestampMillis);
+            mCreationTimestampMillis = creationTimestampMillis;
             return mBuilderTypeInstance;
         }
 
@@ -668,7 +888,7 @@ public class GenericDocument {
             if (ttlMillis < 0) {
                 throw new IllegalArgumentException("Document ttlMillis cannot be negative.");
             }
-            mBundle.putLong(GenericDocument.TTL_MILLIS_FIELD, ttlMillis);
+            mTtlMillis = ttlMillis;
             return mBuilderTypeInstance;
         }
 
@@ -684,7 +904,7 @@ public class GenericDocument {
             Preconditions.checkState(!mBuilt, "Builder has already been used");
             Preconditions.checkNotNull(key);
             Preconditions.checkNotNull(values);
-            putInPropertyBundle(key, values);
+            putInPropertyMap(key, values);
             return mBuilderTypeInstance;
         }
 
@@ -700,7 +920,7 @@ public class GenericDocument {
             Preconditions.checkState(!mBuilt, "Builder has already been used");
             Preconditions.checkNotNull(key);
             Preconditions.checkNotNull(values);
-            putInPropertyBundle(key, values);
+            putInPropertyMap(key, values);
             return mBuilderTypeInstance;
         }
 
@@ -716,7 +936,7 @@ public class GenericDocument {
             Preconditions.checkState(!mBuilt, "Builder has already been used");
             Preconditions.checkNotNull(key);
             Preconditions.checkNotNull(values);
-            putInPropertyBundle(key, values);
+            putInPropertyMap(key, values);
             return mBuilderTypeInstance;
         }
 
@@ -732,7 +952,7 @@ public class GenericDocument {
             Preconditions.checkState(!mBuilt, "Builder has already been used");
             Preconditions.checkNotNull(key);
             Preconditions.checkNotNull(values);
-            putInPropertyBundle(key, values);
+            putInPropertyMap(key, values);
             return mBuilderTypeInstance;
         }
 
@@ -747,7 +967,7 @@ public class GenericDocument {
             Preconditions.checkState(!mBuilt, "Builder has already been used");
             Preconditions.checkNotNull(key);
             Preconditions.checkNotNull(values);
-            putInPropertyBundle(key, values);
+            putInPropertyMap(key, values);
             return mBuilderTypeInstance;
         }
 
@@ -764,11 +984,11 @@ public class GenericDocument {
             Preconditions.checkState(!mBuilt, "Builder has already been used");
             Preconditions.checkNotNull(key);
             Preconditions.checkNotNull(values);
-            putInPropertyBundle(key, values);
+            putInPropertyMap(key, values);
             return mBuilderTypeInstance;
         }
 
-        private void putInPropertyBundle(@NonNull String key, @NonNull String[] values)
+        private void putInPropertyMap(@NonNull String key, @NonNull String[] values)
                 throws IllegalArgumentException {
             validateRepeatedPropertyLength(key, values.length);
             for (int i = 0; i < values.length; i++) {
@@ -780,54 +1000,42 @@ public class GenericDocument {
                             + MAX_STRING_LENGTH + ".");
                 }
             }
-            mProperties.putStringArray(key, values);
+            mProperties.put(key, values);
         }
 
-        private void putInPropertyBundle(@NonNull String key, @NonNull boolean[] values) {
+        private void putInPropertyMap(@NonNull String key, @NonNull boolean[] values) {
             validateRepeatedPropertyLength(key, values.length);
-            mProperties.putBooleanArray(key, values);
+            mProperties.put(key, values);
         }
 
-        private void putInPropertyBundle(@NonNull String key, @NonNull double[] values) {
+        private void putInPropertyMap(@NonNull String key, @NonNull double[] values) {
             validateRepeatedPropertyLength(key, values.length);
-            mProperties.putDoubleArray(key, values);
+            mProperties.put(key, values);
         }
 
-        private void putInPropertyBundle(@NonNull String key, @NonNull long[] values) {
+        private void putInPropertyMap(@NonNull String key, @NonNull long[] values) {
             validateRepeatedPropertyLength(key, values.length);
-            mProperties.putLongArray(key, values);
+            mProperties.put(key, values);
         }
 
-        /**
-         * Converts and saves a byte[][] into {@link #mProperties}.
-         *
-         * <p>Bundle doesn't support for two dimension array byte[][], we are converting byte[][]
-         * into ArrayList<Bundle>, and each elements will contain a one dimension byte[].
-         */
-        private void putInPropertyBundle(@NonNull String key, @NonNull byte[][] values) {
+        private void putInPropertyMap(@NonNull String key, @NonNull byte[][] values) {
             validateRepeatedPropertyLength(key, values.length);
-            ArrayList<Bundle> bundles = new ArrayList<>(values.length);
             for (int i = 0; i < values.length; i++) {
                 if (values[i] == null) {
                     throw new IllegalArgumentException("The byte[] at " + i + " is null.");
                 }
-                Bundle bundle = new Bundle();
-                bundle.putByteArray(BYTE_ARRAY_FIELD, values[i]);
-                bundles.add(bundle);
             }
-            mProperties.putParcelableArrayList(key, bundles);
+            mProperties.put(key, values);
         }
 
-        private void putInPropertyBundle(@NonNull String key, @NonNull GenericDocument[] values) {
+        private void putInPropertyMap(@NonNull String key, @NonNull GenericDocument[] values) {
             validateRepeatedPropertyLength(key, values.length);
-            Bundle[] documentBundles = new Bundle[values.length];
             for (int i = 0; i < values.length; i++) {
                 if (values[i] == null) {
                     throw new IllegalArgumentException("The document at " + i + " is null.");
                 }
-                documentBundles[i] = values[i].mBundle;
             }
-            mProperties.putParcelableArray(key, documentBundles);
+            mProperties.put(key, values);
         }
 
         private static void validateRepeatedPropertyLength(@NonNull String key, int length) {
@@ -846,7 +1054,14 @@ public class GenericDocument {
         public GenericDocument build() {
             Preconditions.checkState(!mBuilt, "Builder has already been used");
             mBuilt = true;
-            return new GenericDocument(mBundle);
+            String[] propertyNames = mProperties.keySet().toArray(new String[0]);
+            Arrays.sort(propertyNames);
+            Object[] propertyValues = new Object[propertyNames.length];
+            for (int i = 0; i < propertyNames.length; i++) {
+                propertyValues[i] = mProperties.get(propertyNames[i]);
+            }
+            return new GenericDocument(mUri, mSchemaType, mNamespace, mCreationTimestampMillis,
+                    mTtlMillis, mScore, propertyNames, propertyValues);
         }
     }
 }
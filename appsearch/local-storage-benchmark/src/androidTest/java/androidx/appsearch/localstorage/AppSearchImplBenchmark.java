@@ -0,0 +1,116 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.appsearch.localstorage;
+
+import static org.junit.Assert.assertTrue;
+
+import androidx.appsearch.app.AppSearchSchema;
+import androidx.appsearch.app.GenericDocument;
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.filters.LargeTest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Measures indexing a batch of {@link #DOCUMENT_COUNT} small documents, one by one and batched.
+ */
+@LargeTest
+@RunWith(AndroidJUnit4.class)
+public class AppSearchImplBenchmark {
+    private static final String PACKAGE_NAME = "package";
+    private static final String DATABASE_NAME = "database";
+    private static final String SCHEMA_TYPE = "email";
+    private static final int DOCUMENT_COUNT = 1000;
+
+    @Rule
+    public BenchmarkRule mBenchmarkRule = new BenchmarkRule();
+
+    @Rule
+    public TemporaryFolder mTemporaryFolder = new TemporaryFolder();
+
+    private AppSearchImpl mAppSearchImpl;
+    private final ExecutorService mExecutor = Executors.newCachedThreadPool();
+    private final List<GenericDocument> mDocuments = new ArrayList<>(DOCUMENT_COUNT);
+
+    @Before
+    public void setUp() throws Exception {
+        mAppSearchImpl = AppSearchImpl.create(mTemporaryFolder.newFolder());
+        AppSearchSchema schema = new AppSearchSchema.Builder(SCHEMA_TYPE)
+                .addProperty(new AppSearchSchema.PropertyConfig.Builder("subject")
+                        .setDataType(AppSearchSchema.PropertyConfig.DATA_TYPE_STRING)
+                        .setCardinality(AppSearchSchema.PropertyConfig.CARDINALITY_OPTIONAL)
+                        .setIndexingType(AppSearchSchema.PropertyConfig.INDEXING_TYPE_PREFIXES)
+                        .setTokenizerType(AppSearchSchema.PropertyConfig.TOKENIZER_TYPE_PLAIN)
+                        .build())
+                .build();
+        mAppSearchImpl.setSchema(PACKAGE_NAME, DATABASE_NAME, Collections.singletonList(schema),
+                /*schemasNotPlatformSurfaceable=*/ Collections.emptyList(),
+                /*forceOverride=*/ false);
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            mDocuments.add(new GenericDocument.Builder<>("uri" + i, SCHEMA_TYPE)
+                    .setNamespace("namespace")
+                    .setPropertyString("subject", "subject of email number " + i)
+                    .build());
+        }
+    }
+
+    @After
+    public void tearDown() {
+        mExecutor.shutdown();
+    }
+
+    @Test
+    public void putDocument() throws Exception {
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            for (int i = 0; i < DOCUMENT_COUNT; i++) {
+                mAppSearchImpl.putDocument(PACKAGE_NAME, DATABASE_NAME, mDocuments.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void putDocuments() {
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            assertTrue(mAppSearchImpl.putDocuments(PACKAGE_NAME, DATABASE_NAME, mDocuments,
+                    mExecutor).isSuccess());
+        }
+    }
+
+    @Test
+    public void putDocuments_persistToDisk() throws Exception {
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            mAppSearchImpl.putDocuments(PACKAGE_NAME, DATABASE_NAME, mDocuments, mExecutor);
+            mAppSearchImpl.persistToDisk();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.appsearch.localstorage.converter;
+
+import androidx.appsearch.app.GenericDocument;
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.filters.LargeTest;
+
+import com.google.android.icing.proto.DocumentProto;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Measures converting {@link #DOCUMENT_COUNT} documents between {@link GenericDocument},
+ * {@link DocumentProto} and the {@link android.os.Bundle} form used for IPC.
+ */
+@LargeTest
+@RunWith(AndroidJUnit4.class)
+public class GenericDocumentToProtoConverterBenchmark {
+    private static final String SCHEMA_TYPE = "email";
+    private static final int DOCUMENT_COUNT = 10_000;
+
+    @Rule
+    public BenchmarkRule mBenchmarkRule = new BenchmarkRule();
+
+    private final GenericDocument[] mDocuments = new GenericDocument[DOCUMENT_COUNT];
+    private final DocumentProto[] mProtos = new DocumentProto[DOCUMENT_COUNT];
+
+    @Before
+    public void setUp() {
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            GenericDocument sender = new GenericDocument.Builder<>("sender" + i, "person")
+                    .setPropertyString("name", "sender " + i)
+                    .build();
+            mDocuments[i] = new GenericDocument.Builder<>("uri" + i, SCHEMA_TYPE)
+                    .setNamespace("namespace")
+                    .setPropertyString("subject", "subject of email number " + i)
+                    .setPropertyString("to", "first recipient", "second recipient")
+                    .setPropertyLong("sentTimestamp", i)
+                    .setPropertyBoolean("read", i % 2 == 0)
+                    .setPropertyBytes("attachment", new byte[]{(byte) i, (byte) (i >> 8)})
+                    .setPropertyDocument("sender", sender)
+                    .build();
+            mProtos[i] = GenericDocumentToProtoConverter.toDocumentProto(mDocuments[i]);
+        }
+    }
+
+    @Test
+    public void toDocumentProto() {
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            for (int i = 0; i < DOCUMENT_COUNT; i++) {
+                GenericDocumentToProtoConverter.toDocumentProto(mDocuments[i]);
+            }
+        }
+    }
+
+    @Test
+    public void toGenericDocument() {
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            for (int i = 0; i < DOCUMENT_COUNT; i++) {
+                GenericDocumentToProtoConverter.toGenericDocument(mProtos[i]);
+            }
+        }
+    }
+
+    @Test
+    public void toGenericDocument_toBundle() {
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            for (int i = 0; i < DOCUMENT_COUNT; i++) {
+                GenericDocumentToProtoConverter.toGenericDocument(mProtos[i]).getBundle();
+            }
+        }
+    }
+}
@@ -20,6 +20,7 @@ import static com.google.common.truth.Truth.assertThat;
 
 import static org.junit.Assert.assertThrows;
 
+import androidx.appsearch.app.AppSearchBatchResult;
 import androidx.appsearch.app.AppSearchSchema;
 import androidx.appsearch.app.GenericDocument;
 import androidx.appsearch.app.SearchResultPage;
@@ -47,6 +48,8 @@ import org.junit.rules.TemporaryFolder;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class AppSearchImplTest {
     @Rule
@@ -326,6 +329,37 @@ public class AppSearchImplTest {
                 .isLessThan(AppSearchImpl.CHECK_OPTIMIZE_INTERVAL);
     }
 
+    @Test
+    public void testPutDocuments() throws Exception {
+        // Insert schema
+        List<AppSearchSchema> schemas =
+                Collections.singletonList(new AppSearchSchema.Builder("type").build());
+        mAppSearchImpl.setSchema("package", "database", schemas, /*schemasNotPlatformSurfaceable=*/
+                Collections.emptyList(), /*forceOverride=*/ false);
+
+        // Insert enough documents to be converted in several chunks, and one which can't be put.
+        List<GenericDocument> documents = new ArrayList<>();
+        for (int i = 0; i < AppSearchImpl.PUT_DOCUMENTS_CHUNK_SIZE * 2 + 1; i++) {
+            documents.add(new GenericDocument.Builder<>("uri" + i, "type").setNamespace(
+                    "namespace").build());
+        }
+        documents.add(new GenericDocument.Builder<>("badUri", "missingType").setNamespace(
+                "namespace").build());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        AppSearchBatchResult<String, Void> result;
+        try {
+            result = mAppSearchImpl.putDocuments("package", "database", documents, executor);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(result.getSuccesses()).hasSize(documents.size() - 1);
+        assertThat(result.getFailures().keySet()).containsExactly("badUri");
+        GenericDocument lastDocument = documents.get(documents.size() - 2);
+        assertThat(mAppSearchImpl.getDocument("package", "database", "namespace",
+                lastDocument.getUri())).isEqualTo(lastDocument);
+    }
+
     @Test
     public void testRewriteSearchSpec_oneInstance() throws Exception {
         SearchSpecProto.Builder searchSpecProto =
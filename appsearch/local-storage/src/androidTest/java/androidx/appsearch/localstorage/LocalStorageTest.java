@@ -49,4 +49,25 @@ public class LocalStorageTest {
                 () -> contextBuilder.setDatabaseName("/testDatabaseNameStartWith"));
         assertThat(e).hasMessageThat().isEqualTo("Database name cannot contain '/'");
     }
+
+    @Test
+    public void testPersistToDiskPolicy() {
+        LocalStorage.SearchContext.Builder contextBuilder =
+                new LocalStorage.SearchContext.Builder(
+                        ApplicationProvider.getApplicationContext());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> contextBuilder.setPersistToDiskPolicy(-1));
+        LocalStorage.SearchContext context = contextBuilder.build();
+        assertThat(context.getPersistToDiskPolicy())
+                .isEqualTo(LocalStorage.SearchContext.PERSIST_TO_DISK_ON_CLOSE);
+
+        context = new LocalStorage.SearchContext.Builder(
+                ApplicationProvider.getApplicationContext())
+                .setPersistToDiskPolicy(
+                        LocalStorage.SearchContext.PERSIST_TO_DISK_AFTER_PUT_DOCUMENTS)
+                .build();
+        assertThat(context.getPersistToDiskPolicy())
+                .isEqualTo(LocalStorage.SearchContext.PERSIST_TO_DISK_AFTER_PUT_DOCUMENTS);
+    }
 }
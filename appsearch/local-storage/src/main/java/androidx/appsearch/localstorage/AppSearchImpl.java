@@ -16,6 +16,8 @@
 
 package androidx.appsearch.localstorage;
 
+import static androidx.appsearch.app.AppSearchResult.throwableToFailedResult;
+
 import android.os.Bundle;
 import android.util.Log;
 
@@ -24,6 +26,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.RestrictTo;
 import androidx.annotation.VisibleForTesting;
 import androidx.annotation.WorkerThread;
+import androidx.appsearch.app.AppSearchBatchResult;
 import androidx.appsearch.app.AppSearchResult;
 import androidx.appsearch.app.AppSearchSchema;
 import androidx.appsearch.app.GenericDocument;
@@ -68,6 +71,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -85,7 +92,7 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  *      <li>Rewrite SchemaType in SchemaProto by adding the package-database prefix and save into
  *          SchemaTypes set in {@link #setSchema}.
  *      <li>Rewrite namespace and SchemaType in DocumentProto by adding package-database prefix and
- *          save to namespaces set in {@link #putDocument}.
+ *          save to namespaces set in {@link #putDocument} and {@link #putDocuments}.
  *      <li>Remove package-database prefix when retrieving documents in {@link #getDocument} and
  *          {@link #query}.
  *      <li>Rewrite filters in {@link SearchSpecProto} to have all namespaces and schema types of
@@ -122,6 +129,10 @@ public final class AppSearchImpl {
     @VisibleForTesting
     static final int CHECK_OPTIMIZE_INTERVAL = 100;
 
+    /** The number of documents converted at once by each thread in {@link #putDocuments}. */
+    @VisibleForTesting
+    static final int PUT_DOCUMENTS_CHUNK_SIZE = 100;
+
     private final ReadWriteLock mReadWriteLock = new ReentrantReadWriteLock();
 
     @GuardedBy("mReadWriteLock")
@@ -398,6 +409,116 @@ public final class AppSearchImpl {
         checkSuccess(putResultProto.getStatus());
     }
 
+    /**
+     * Adds documents to the AppSearch index.
+     *
+     * <p>Unlike calling {@link #putDocument} for each document, the documents are converted and
+     * prefixed in parallel on the given executor and the calling thread, without holding any lock.
+     * They are then all added to Icing under a single hold of the WRITE lock, so that concurrent
+     * queries only wait for the lock once.
+     *
+     * <p>This method belongs to mutate group.
+     *
+     * @param packageName  The package name that owns these documents.
+     * @param databaseName The databaseName these documents reside in.
+     * @param documents    The documents to index.
+     * @param executor     The executor to convert documents on, besides the calling thread.
+     * @return The result of adding each document, by URI.
+     */
+    @NonNull
+    public AppSearchBatchResult<String, Void> putDocuments(@NonNull String packageName,
+            @NonNull String databaseName, @NonNull List<GenericDocument> documents,
+            @NonNull Executor executor) {
+        String prefix = createPrefix(packageName, databaseName);
+        DocumentProto[] documentProtos = new DocumentProto[documents.size()];
+        Throwable[] conversionFailures = new Throwable[documents.size()];
+        convertDocuments(documents, prefix, documentProtos, conversionFailures, executor);
+
+        AppSearchBatchResult.Builder<String, Void> resultBuilder =
+                new AppSearchBatchResult.Builder<>();
+        mReadWriteLock.writeLock().lock();
+        try {
+            for (int i = 0; i < documents.size(); i++) {
+                String uri = documents.get(i).getUri();
+                if (conversionFailures[i] != null) {
+                    resultBuilder.setResult(uri, throwableToFailedResult(conversionFailures[i]));
+                    continue;
+                }
+                try {
+                    PutResultProto putResultProto = mIcingSearchEngineLocked.put(documentProtos[i]);
+                    addToMap(mNamespaceMapLocked, prefix, documentProtos[i].getNamespace());
+                    // The existing documents with same URI will be deleted, so there maybe some
+                    // resources could be released after optimize().
+                    checkForOptimizeLocked(/* force= */ false);
+                    checkSuccess(putResultProto.getStatus());
+                    resultBuilder.setSuccess(uri, /*result=*/ null);
+                } catch (Throwable t) {
+                    resultBuilder.setResult(uri, throwableToFailedResult(t));
+                }
+            }
+        } finally {
+            mReadWriteLock.writeLock().unlock();
+        }
+        return resultBuilder.build();
+    }
+
+    /**
+     * Converts documents to prefixed {@link DocumentProto}s, in chunks of
+     * {@link #PUT_DOCUMENTS_CHUNK_SIZE} documents shared between the calling thread and tasks
+     * running on the given executor.
+     *
+     * <p>The calling thread converts chunks as well, and only waits for the chunks being converted
+     * by other threads, so this can't deadlock even if the executor has no free thread.
+     */
+    private static void convertDocuments(@NonNull List<GenericDocument> documents,
+            @NonNull String prefix, @NonNull DocumentProto[] documentProtos,
+            @NonNull Throwable[] conversionFailures, @NonNull Executor executor) {
+        int chunkCount = (documents.size() + PUT_DOCUMENTS_CHUNK_SIZE - 1)
+                / PUT_DOCUMENTS_CHUNK_SIZE;
+        AtomicInteger nextChunk = new AtomicInteger();
+        CountDownLatch convertedChunks = new CountDownLatch(chunkCount);
+        Runnable converter = () -> {
+            int chunk;
+            while ((chunk = nextChunk.getAndIncrement()) < chunkCount) {
+                int end = Math.min((chunk + 1) * PUT_DOCUMENTS_CHUNK_SIZE, documents.size());
+                for (int i = chunk * PUT_DOCUMENTS_CHUNK_SIZE; i < end; i++) {
+                    try {
+                        DocumentProto.Builder documentBuilder =
+                                GenericDocumentToProtoConverter.toDocumentProto(documents.get(i))
+                                        .toBuilder();
+                        addPrefixToDocument(documentBuilder, prefix);
+                        documentProtos[i] = documentBuilder.build();
+                    } catch (Throwable t) {
+                        conversionFailures[i] = t;
+                    }
+                }
+                convertedChunks.countDown();
+            }
+        };
+        int helperCount = Math.min(chunkCount, Runtime.getRuntime().availableProcessors()) - 1;
+        try {
+            for (int i = 0; i < helperCount; i++) {
+                executor.execute(converter);
+            }
+        } catch (RejectedExecutionException e) {
+            // The calling thread converts the remaining chunks.
+        }
+        converter.run();
+        boolean interrupted = false;
+        while (true) {
+            try {
+                convertedChunks.await();
+                break;
+            } catch (InterruptedException e) {
+                // The chunks being converted must be awaited before using the results.
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     /**
      * Retrieves a document from the AppSearch index by URI.
      *
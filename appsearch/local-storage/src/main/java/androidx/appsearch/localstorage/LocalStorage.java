@@ -18,6 +18,7 @@ package androidx.appsearch.localstorage;
 
 import android.content.Context;
 
+import androidx.annotation.IntDef;
 import androidx.annotation.NonNull;
 import androidx.annotation.RestrictTo;
 import androidx.annotation.VisibleForTesting;
@@ -31,6 +32,8 @@ import androidx.core.util.Preconditions;
 import com.google.common.util.concurrent.ListenableFuture;
 
 import java.io.File;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -59,12 +62,43 @@ public class LocalStorage {
 
     /** Contains information about how to create the search session. */
     public static final class SearchContext {
+        /**
+         * When to persist the documents put by an {@link AppSearchSession} to disk.
+         * @hide
+         */
+        @IntDef(value = {
+                PERSIST_TO_DISK_ON_CLOSE,
+                PERSIST_TO_DISK_AFTER_PUT_DOCUMENTS
+        })
+        @Retention(RetentionPolicy.SOURCE)
+        public @interface PersistToDiskPolicy {}
+
+        /**
+         * Mutations are persisted to disk when the {@link AppSearchSession} is closed.
+         *
+         * <p>If the app crashes before, the search native library recovers them in a costly
+         * process the next time it is initialized.
+         */
+        public static final int PERSIST_TO_DISK_ON_CLOSE = 0;
+
+        /**
+         * Mutations are also persisted to disk at the end of each
+         * {@link AppSearchSession#putDocuments} call, once the documents have been indexed.
+         *
+         * <p>This avoids the costly recovery process if the app crashes before the
+         * {@link AppSearchSession} is closed, at the expense of slower puts.
+         */
+        public static final int PERSIST_TO_DISK_AFTER_PUT_DOCUMENTS = 1;
+
         final Context mContext;
         final String mDatabaseName;
+        final @PersistToDiskPolicy int mPersistToDiskPolicy;
 
-        SearchContext(@NonNull Context context, @NonNull String databaseName) {
+        SearchContext(@NonNull Context context, @NonNull String databaseName,
+                @PersistToDiskPolicy int persistToDiskPolicy) {
             mContext = Preconditions.checkNotNull(context);
             mDatabaseName = Preconditions.checkNotNull(databaseName);
+            mPersistToDiskPolicy = persistToDiskPolicy;
         }
 
         /**
@@ -78,10 +112,16 @@ public class LocalStorage {
             return mDatabaseName;
         }
 
+        /** Returns when the documents put by the {@link AppSearchSession} are persisted to disk. */
+        public @PersistToDiskPolicy int getPersistToDiskPolicy() {
+            return mPersistToDiskPolicy;
+        }
+
         /** Builder for {@link SearchContext} objects. */
         public static final class Builder {
             private final Context mContext;
             private String mDatabaseName = DEFAULT_DATABASE_NAME;
+            private @PersistToDiskPolicy int mPersistToDiskPolicy = PERSIST_TO_DISK_ON_CLOSE;
             private boolean mBuilt = false;
 
             public Builder(@NonNull Context context) {
@@ -114,12 +154,29 @@ public class LocalStorage {
                 return this;
             }
 
+            /**
+             * Sets when the documents put by the {@link AppSearchSession} are persisted to disk.
+             *
+             * <p>If not specified, defaults to {@link #PERSIST_TO_DISK_ON_CLOSE}.
+             *
+             * @param persistToDiskPolicy The policy, either {@link #PERSIST_TO_DISK_ON_CLOSE} or
+             *                            {@link #PERSIST_TO_DISK_AFTER_PUT_DOCUMENTS}.
+             */
+            @NonNull
+            public Builder setPersistToDiskPolicy(@PersistToDiskPolicy int persistToDiskPolicy) {
+                Preconditions.checkState(!mBuilt, "Builder has already been used");
+                Preconditions.checkArgumentInRange(persistToDiskPolicy, PERSIST_TO_DISK_ON_CLOSE,
+                        PERSIST_TO_DISK_AFTER_PUT_DOCUMENTS, "persistToDiskPolicy");
+                mPersistToDiskPolicy = persistToDiskPolicy;
+                return this;
+            }
+
             /** Builds a {@link SearchContext} instance. */
             @NonNull
             public SearchContext build() {
                 Preconditions.checkState(!mBuilt, "Builder has already been used");
                 mBuilt = true;
-                return new SearchContext(mContext, mDatabaseName);
+                return new SearchContext(mContext, mDatabaseName, mPersistToDiskPolicy);
             }
         }
     }
@@ -254,7 +311,8 @@ public class LocalStorage {
     private AppSearchSession doCreateSearchSession(@NonNull SearchContext context,
             @NonNull ExecutorService executor) {
         return new SearchSessionImpl(mAppSearchImpl, executor,
-                context.mContext.getPackageName(), context.mDatabaseName);
+                context.mContext.getPackageName(), context.mDatabaseName,
+                context.mPersistToDiskPolicy);
     }
 
     @NonNull
@@ -53,6 +53,7 @@ class SearchSessionImpl implements AppSearchSession {
     private final ExecutorService mExecutorService;
     private final String mPackageName;
     private final String mDatabaseName;
+    private final @LocalStorage.SearchContext.PersistToDiskPolicy int mPersistToDiskPolicy;
     private boolean mIsMutated = false;
     private boolean mIsClosed = false;
 
@@ -60,11 +61,13 @@ class SearchSessionImpl implements AppSearchSession {
             @NonNull AppSearchImpl appSearchImpl,
             @NonNull ExecutorService executorService,
             @NonNull String packageName,
-            @NonNull String databaseName) {
+            @NonNull String databaseName,
+            @LocalStorage.SearchContext.PersistToDiskPolicy int persistToDiskPolicy) {
         mAppSearchImpl = Preconditions.checkNotNull(appSearchImpl);
         mExecutorService = Preconditions.checkNotNull(executorService);
         mPackageName = packageName;
         mDatabaseName = Preconditions.checkNotNull(databaseName);
+        mPersistToDiskPolicy = persistToDiskPolicy;
     }
 
     @Override
@@ -101,19 +104,14 @@ class SearchSessionImpl implements AppSearchSession {
         Preconditions.checkNotNull(request);
         Preconditions.checkState(!mIsClosed, "AppSearchSession has already been closed");
         return execute(() -> {
-            AppSearchBatchResult.Builder<String, Void> resultBuilder =
-                    new AppSearchBatchResult.Builder<>();
-            for (int i = 0; i < request.getDocuments().size(); i++) {
-                GenericDocument document = request.getDocuments().get(i);
-                try {
-                    mAppSearchImpl.putDocument(mPackageName, mDatabaseName, document);
-                    resultBuilder.setSuccess(document.getUri(), /*result=*/ null);
-                } catch (Throwable t) {
-                    resultBuilder.setResult(document.getUri(), throwableToFailedResult(t));
-                }
-            }
+            AppSearchBatchResult<String, Void> result = mAppSearchImpl.putDocuments(
+                    mPackageName, mDatabaseName, request.getDocuments(), mExecutorService);
             mIsMutated = true;
-            return resultBuilder.build();
+            if (mPersistToDiskPolicy
+                    == LocalStorage.SearchContext.PERSIST_TO_DISK_AFTER_PUT_DOCUMENTS) {
+                mAppSearchImpl.persistToDisk();
+            }
+            return result;
         });
     }
 
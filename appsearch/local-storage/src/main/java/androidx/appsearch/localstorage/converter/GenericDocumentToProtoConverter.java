@@ -25,9 +25,6 @@ import com.google.android.icing.proto.DocumentProto;
 import com.google.android.icing.proto.PropertyProto;
 import com.google.android.icing.protobuf.ByteString;
 
-import java.util.ArrayList;
-import java.util.Collections;
-
 /**
  * Translates a {@link GenericDocument} into a {@link DocumentProto}.
  * @hide
@@ -38,7 +35,6 @@ public final class GenericDocumentToProtoConverter {
 
     /** Converts a {@link GenericDocument} into a {@link DocumentProto}. */
     @NonNull
-    @SuppressWarnings("unchecked")
     public static DocumentProto toDocumentProto(@NonNull GenericDocument document) {
         Preconditions.checkNotNull(document);
         DocumentProto.Builder mProtoBuilder = DocumentProto.newBuilder();
@@ -48,38 +44,39 @@ public final class GenericDocumentToProtoConverter {
                 .setScore(document.getScore())
                 .setTtlMs(document.getTtlMillis())
                 .setCreationTimestampMs(document.getCreationTimestampMillis());
-        ArrayList<String> keys = new ArrayList<>(document.getPropertyNames());
-        Collections.sort(keys);
-        for (int i = 0; i < keys.size(); i++) {
-            String name = keys.get(i);
+        // Properties are kept sorted by name, and their values are read as they are stored, so
+        // that no lookups, sorting or copies are needed here.
+        for (int i = 0; i < document.getPropertyCount(); i++) {
+            String name = document.getPropertyName(i);
+            Object values = document.getPropertyValues(i);
             PropertyProto.Builder propertyProto = PropertyProto.newBuilder().setName(name);
-            String[] stringValues = document.getPropertyStringArray(name);
-            long[] longValues = document.getPropertyLongArray(name);
-            double[] doubleValues = document.getPropertyDoubleArray(name);
-            boolean[] booleanValues = document.getPropertyBooleanArray(name);
-            byte[][] bytesValues = document.getPropertyBytesArray(name);
-            GenericDocument[] documentValues = document.getPropertyDocumentArray(name);
-            if (stringValues != null) {
+            if (values instanceof String[]) {
+                String[] stringValues = (String[]) values;
                 for (int j = 0; j < stringValues.length; j++) {
                     propertyProto.addStringValues(stringValues[j]);
                 }
-            } else if (longValues != null) {
+            } else if (values instanceof long[]) {
+                long[] longValues = (long[]) values;
                 for (int j = 0; j < longValues.length; j++) {
                     propertyProto.addInt64Values(longValues[j]);
                 }
-            } else if (doubleValues != null) {
+            } else if (values instanceof double[]) {
+                double[] doubleValues = (double[]) values;
                 for (int j = 0; j < doubleValues.length; j++) {
                     propertyProto.addDoubleValues(doubleValues[j]);
                 }
-            } else if (booleanValues != null) {
+            } else if (values instanceof boolean[]) {
+                boolean[] booleanValues = (boolean[]) values;
                 for (int j = 0; j < booleanValues.length; j++) {
                     propertyProto.addBooleanValues(booleanValues[j]);
                 }
-            } else if (bytesValues != null) {
+            } else if (values instanceof byte[][]) {
+                byte[][] bytesValues = (byte[][]) values;
                 for (int j = 0; j < bytesValues.length; j++) {
                     propertyProto.addBytesValues(ByteString.copyFrom(bytesValues[j]));
                 }
-            } else if (documentValues != null) {
+            } else if (values instanceof GenericDocument[]) {
+                GenericDocument[] documentValues = (GenericDocument[]) values;
                 for (int j = 0; j < documentValues.length; j++) {
                     DocumentProto proto = toDocumentProto(documentValues[j]);
                     propertyProto.addDocumentValues(proto);
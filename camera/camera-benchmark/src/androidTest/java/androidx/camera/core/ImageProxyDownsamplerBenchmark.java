@@ -0,0 +1,204 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.camera.core;
+
+import android.graphics.ImageFormat;
+import android.graphics.Rect;
+import android.media.Image;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.camera.core.ImageProxyDownsampler.DownsamplingMethod;
+import androidx.camera.testing.fakes.FakeImageInfo;
+import androidx.test.filters.LargeTest;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Measures downsampling a synthetic 4K YUV_420_888 image, with interleaved chroma planes as
+ * produced by most camera HALs.
+ */
+@LargeTest
+@RunWith(Parameterized.class)
+public class ImageProxyDownsamplerBenchmark {
+    private static final int WIDTH = 3840;
+    private static final int HEIGHT = 2160;
+    // Row padding commonly added by camera HALs
+    private static final int ROW_PADDING = 64;
+    private static final int MAX_PARALLELISM = 4;
+
+    @Rule
+    public BenchmarkRule mBenchmarkRule = new BenchmarkRule();
+
+    private final DownsamplingMethod mMethod;
+    private final int mParallelism;
+    private final ExecutorService mWorkers = Executors.newFixedThreadPool(MAX_PARALLELISM - 1);
+
+    public ImageProxyDownsamplerBenchmark(DownsamplingMethod method, int parallelism) {
+        mMethod = method;
+        mParallelism = parallelism;
+    }
+
+    @Parameterized.Parameters(name = "method={0},parallelism={1}")
+    public static List<Object[]> data() {
+        List<Object[]> data = new ArrayList<>();
+        for (DownsamplingMethod method : DownsamplingMethod.values()) {
+            data.add(new Object[]{method, 1});
+            data.add(new Object[]{method, MAX_PARALLELISM});
+        }
+        return data;
+    }
+
+    @After
+    public void tearDown() {
+        mWorkers.shutdown();
+    }
+
+    @Test
+    public void downsampleBy4() {
+        downsample(WIDTH / 4, HEIGHT / 4);
+    }
+
+    @Test
+    public void downsampleBy3() {
+        downsample(WIDTH / 3, HEIGHT / 3);
+    }
+
+    private void downsample(int downsampledWidth, int downsampledHeight) {
+        ImageProxy image = new SyntheticYuvImage(WIDTH, HEIGHT);
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            ImageProxyDownsampler.downsample(image, downsampledWidth, downsampledHeight, mMethod,
+                    mWorkers, mParallelism).close();
+        }
+    }
+
+    /**
+     * A YUV_420_888 image filled with random samples, which stays readable once closed so that
+     * it can be downsampled repeatedly.
+     */
+    private static final class SyntheticYuvImage implements ImageProxy {
+        private final int mWidth;
+        private final int mHeight;
+        private final PlaneProxy[] mPlanes;
+        private final ImageInfo mImageInfo = new FakeImageInfo();
+        private Rect mCropRect;
+
+        SyntheticYuvImage(int width, int height) {
+            mWidth = width;
+            mHeight = height;
+            mCropRect = new Rect(0, 0, width, height);
+            Random random = new Random(0);
+            mPlanes = new PlaneProxy[]{
+                    createPlane(width, height, /*pixelStride=*/ 1, random),
+                    createPlane(width / 2, height / 2, /*pixelStride=*/ 2, random),
+                    createPlane(width / 2, height / 2, /*pixelStride=*/ 2, random)
+            };
+        }
+
+        private static PlaneProxy createPlane(int width, int height, int pixelStride,
+                Random random) {
+            int rowStride = width * pixelStride + ROW_PADDING;
+            // Like camera buffers, the last row is not padded up to the row stride
+            int size = rowStride * (height - 1) + (width - 1) * pixelStride + 1;
+            byte[] samples = new byte[size];
+            random.nextBytes(samples);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(size);
+            buffer.put(samples);
+            buffer.rewind();
+            return new PlaneProxy() {
+                @Override
+                public int getRowStride() {
+                    return rowStride;
+                }
+
+                @Override
+                public int getPixelStride() {
+                    return pixelStride;
+                }
+
+                @NonNull
+                @Override
+                public ByteBuffer getBuffer() {
+                    return buffer;
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @NonNull
+        @Override
+        public Rect getCropRect() {
+            return mCropRect;
+        }
+
+        @Override
+        public void setCropRect(@Nullable Rect rect) {
+            mCropRect = rect != null ? rect : new Rect(0, 0, mWidth, mHeight);
+        }
+
+        @Override
+        public int getFormat() {
+            return ImageFormat.YUV_420_888;
+        }
+
+        @Override
+        public int getHeight() {
+            return mHeight;
+        }
+
+        @Override
+        public int getWidth() {
+            return mWidth;
+        }
+
+        @NonNull
+        @Override
+        public PlaneProxy[] getPlanes() {
+            return mPlanes;
+        }
+
+        @NonNull
+        @Override
+        public ImageInfo getImageInfo() {
+            return mImageInfo;
+        }
+
+        @Nullable
+        @Override
+        @ExperimentalGetImage
+        public Image getImage() {
+            return null;
+        }
+    }
+}
@@ -24,6 +24,7 @@ import static org.mockito.Mockito.when;
 import android.graphics.ImageFormat;
 
 import androidx.annotation.NonNull;
+import androidx.camera.core.impl.utils.executor.CameraXExecutors;
 import androidx.test.ext.junit.runners.AndroidJUnit4;
 import androidx.test.filters.SmallTest;
 
@@ -31,6 +32,8 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @SmallTest
 @RunWith(AndroidJUnit4.class)
@@ -39,22 +42,26 @@ public final class ImageProxyDownsamplerTest {
     private static final int HEIGHT = 8;
 
     private static ImageProxy createYuv420Image(int uvPixelStride) {
+        return createYuv420Image(WIDTH, HEIGHT, uvPixelStride);
+    }
+
+    private static ImageProxy createYuv420Image(int width, int height, int uvPixelStride) {
         ImageProxy image = mock(ImageProxy.class);
         ImageProxy.PlaneProxy[] planes = new ImageProxy.PlaneProxy[3];
 
-        when(image.getWidth()).thenReturn(WIDTH);
-        when(image.getHeight()).thenReturn(HEIGHT);
+        when(image.getWidth()).thenReturn(width);
+        when(image.getHeight()).thenReturn(height);
         when(image.getFormat()).thenReturn(ImageFormat.YUV_420_888);
         when(image.getPlanes()).thenReturn(planes);
 
         planes[0] =
-                createPlaneWithRampPattern(WIDTH, HEIGHT, /*pixelStride=*/ 1, /*initialValue=*/ 0);
+                createPlaneWithRampPattern(width, height, /*pixelStride=*/ 1, /*initialValue=*/ 0);
         planes[1] =
                 createPlaneWithRampPattern(
-                        WIDTH / 2, HEIGHT / 2, uvPixelStride, /*initialValue=*/ 1);
+                        width / 2, height / 2, uvPixelStride, /*initialValue=*/ 1);
         planes[2] =
                 createPlaneWithRampPattern(
-                        WIDTH / 2, HEIGHT / 2, uvPixelStride, /*initialValue=*/ 2);
+                        width / 2, height / 2, uvPixelStride, /*initialValue=*/ 2);
 
         return image;
     }
@@ -173,6 +180,49 @@ public final class ImageProxyDownsamplerTest {
         }
     }
 
+    private static void checkOutputIsBoxDownsampledInput(
+            ImageProxy inputImage, ImageProxy outputImage, int downsamplingFactor) {
+        ImageProxy.PlaneProxy[] inputPlanes = inputImage.getPlanes();
+        ImageProxy.PlaneProxy[] outputPlanes = outputImage.getPlanes();
+        for (int c = 0; c < 3; ++c) {
+            ByteBuffer inputBuffer = inputPlanes[c].getBuffer();
+            ByteBuffer outputBuffer = outputPlanes[c].getBuffer();
+            int divisor = (c == 0) ? 1 : 2;
+            int inputRowStride = inputPlanes[c].getRowStride();
+            int inputPixelStride = inputPlanes[c].getPixelStride();
+            int outputRowStride = outputPlanes[c].getRowStride();
+            int outputPixelStride = outputPlanes[c].getPixelStride();
+            int count = downsamplingFactor * downsamplingFactor;
+            for (int y = 0; y < outputImage.getHeight() / divisor; ++y) {
+                for (int x = 0; x < outputImage.getWidth() / divisor; ++x) {
+                    int sum = 0;
+                    for (int dy = 0; dy < downsamplingFactor; ++dy) {
+                        for (int dx = 0; dx < downsamplingFactor; ++dx) {
+                            sum += inputBuffer.get(
+                                    (y * downsamplingFactor + dy) * inputRowStride
+                                            + (x * downsamplingFactor + dx) * inputPixelStride)
+                                    & 0xFF;
+                        }
+                    }
+                    byte averaged = (byte) ((sum + count / 2) / count);
+                    byte outputPixel =
+                            outputBuffer.get(y * outputRowStride + x * outputPixelStride);
+                    assertThat(outputPixel).isEqualTo(averaged);
+                }
+            }
+        }
+    }
+
+    private static void checkOutputsAreEqual(ImageProxy expectedImage, ImageProxy actualImage) {
+        for (int c = 0; c < 3; ++c) {
+            ByteBuffer expected = expectedImage.getPlanes()[c].getBuffer();
+            ByteBuffer actual = actualImage.getPlanes()[c].getBuffer();
+            expected.rewind();
+            actual.rewind();
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
     @Test
     public void nearestNeighborDownsamplingBy2X_whenUVPlanesHavePixelStride1() {
         ImageProxy inputImage = createYuv420Image(/*uvPixelStride=*/ 1);
@@ -228,4 +278,38 @@ public final class ImageProxyDownsamplerTest {
 
         checkOutputIsAveragingDownsampledInput(inputImage, outputImage, downsamplingFactor);
     }
+
+    @Test
+    public void boxDownsamplingBy3X_whenUVPlanesHavePixelStride2() {
+        int downsamplingFactor = 3;
+        ImageProxy inputImage = createYuv420Image(
+                4 * downsamplingFactor, 4 * downsamplingFactor, /*uvPixelStride=*/ 2);
+        ImageProxy outputImage =
+                ImageProxyDownsampler.downsample(
+                        inputImage,
+                        4,
+                        4,
+                        ImageProxyDownsampler.DownsamplingMethod.BOX);
+
+        checkOutputIsBoxDownsampledInput(inputImage, outputImage, downsamplingFactor);
+    }
+
+    @Test
+    public void downsamplingInBands_matchesDownsamplingOnCallingThread() {
+        ImageProxy inputImage = createYuv420Image(512, 512, /*uvPixelStride=*/ 2);
+        ExecutorService workers = Executors.newFixedThreadPool(3);
+        try {
+            for (ImageProxyDownsampler.DownsamplingMethod method :
+                    ImageProxyDownsampler.DownsamplingMethod.values()) {
+                ImageProxy expected = ImageProxyDownsampler.downsample(inputImage, 200, 200,
+                        method, CameraXExecutors.directExecutor(), /*parallelism=*/ 1);
+                ImageProxy actual = ImageProxyDownsampler.downsample(inputImage, 200, 200,
+                        method, workers, /*parallelism=*/ 4);
+
+                checkOutputsAreEqual(expected, actual);
+            }
+        } finally {
+            workers.shutdown();
+        }
+    }
 }
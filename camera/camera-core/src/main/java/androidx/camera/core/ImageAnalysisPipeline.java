@@ -0,0 +1,512 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.camera.core;
+
+import androidx.annotation.GuardedBy;
+import androidx.annotation.IntDef;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RestrictTo;
+import androidx.annotation.RestrictTo.Scope;
+import androidx.core.util.Preconditions;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * An {@link ImageAnalysis.Analyzer} which runs a chain of analysis stages, each on its own
+ * {@link Executor}, so that different stages can work on different images at the same time.
+ *
+ * <p>Each image passed to {@link #analyze(ImageProxy)} is offered to the first stage. A stage
+ * analyzes the image with its {@link StageAnalyzer}, and passes it on to the next stage if the
+ * analyzer returns {@code true}. A cheap pre-filter stage can therefore look at a new image while
+ * an expensive stage is still busy with an older one.
+ *
+ * <p>The stages share the image instead of copying it: every stage holding the image owns a
+ * reference to it, and the image is closed once the last reference is released. Stages must not
+ * keep the image after {@link StageAnalyzer#analyze(ImageProxy)} returns.
+ *
+ * <p>Each stage analyzes up to {@code maxConcurrency} images at once and keeps up to
+ * {@code queueCapacity} images waiting. When a stage is full, its {@link DropPolicy} decides
+ * whether the incoming image or the oldest waiting one is dropped. The number of processed,
+ * forwarded and dropped images, as well as the time spent analyzing them, is reported per stage
+ * by {@link #getStageStats()}.
+ *
+ * <p>Images are held until all the stages are done with them, which keeps the camera from
+ * producing new ones. To analyze several images concurrently, the {@link ImageAnalysis} should
+ * use {@link ImageAnalysis#STRATEGY_BLOCK_PRODUCER} with an
+ * {@linkplain ImageAnalysis.Builder#setImageQueueDepth(int) image queue depth} larger than the
+ * number of images all the stages can hold at once. With
+ * {@link ImageAnalysis#STRATEGY_KEEP_ONLY_LATEST} a new image is only delivered after the
+ * previous one is closed, so the stages run one image at a time.
+ *
+ * <p>{@link #analyze(ImageProxy)} only hands the image over to the first stage and returns, so
+ * the pipeline can be set on the {@link ImageAnalysis} with any executor.
+ */
+@ExperimentalAnalyzerPipeline
+public final class ImageAnalysisPipeline implements ImageAnalysis.Analyzer {
+
+    /**
+     * When a stage is full, the incoming image is dropped and the images already waiting are
+     * kept.
+     */
+    public static final int DROP_NEWEST = 0;
+
+    /**
+     * When a stage is full, the oldest waiting image is dropped to make room for the incoming
+     * image. If the stage does not keep any image waiting, the incoming image is dropped.
+     */
+    public static final int DROP_OLDEST = 1;
+
+    private static final String TAG = "ImageAnalysisPipeline";
+    private static final int DEFAULT_MAX_CONCURRENCY = 1;
+    private static final int DEFAULT_QUEUE_CAPACITY = 1;
+    @DropPolicy
+    private static final int DEFAULT_DROP_POLICY = DROP_OLDEST;
+
+    @NonNull
+    private final List<Stage> mStages;
+
+    ImageAnalysisPipeline(@NonNull List<Stage> stages) {
+        mStages = stages;
+    }
+
+    /**
+     * Offers the image to the first stage of the pipeline.
+     *
+     * <p>The image is closed once every stage it reached is done with it, or when it is dropped.
+     */
+    @Override
+    public void analyze(@NonNull ImageProxy image) {
+        ReferenceCountedImageProxy frame = new ReferenceCountedImageProxy(image);
+        try {
+            mStages.get(0).offer(frame);
+        } finally {
+            frame.close();
+        }
+    }
+
+    /**
+     * Drops the images waiting in every stage.
+     *
+     * <p>Images which are being analyzed are not affected. This should be called when the
+     * pipeline is removed from the {@link ImageAnalysis}, so that waiting images are released.
+     */
+    public void clear() {
+        for (Stage stage : mStages) {
+            stage.clear();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the statistics of each stage, in the order the stages were added.
+     */
+    @NonNull
+    public List<StageStats> getStageStats() {
+        List<StageStats> stats = new ArrayList<>(mStages.size());
+        for (Stage stage : mStages) {
+            stats.add(stage.getStats());
+        }
+        return Collections.unmodifiableList(stats);
+    }
+
+    /**
+     * Resets the statistics of every stage.
+     */
+    public void resetStageStats() {
+        for (Stage stage : mStages) {
+            stage.resetStats();
+        }
+    }
+
+    /**
+     * Policy deciding which image is dropped when a stage is full.
+     *
+     * @hide
+     */
+    @IntDef({DROP_NEWEST, DROP_OLDEST})
+    @Retention(RetentionPolicy.SOURCE)
+    @RestrictTo(Scope.LIBRARY_GROUP)
+    public @interface DropPolicy {
+    }
+
+    /**
+     * Analyzes images within a stage of an {@link ImageAnalysisPipeline}.
+     */
+    @ExperimentalAnalyzerPipeline
+    public interface StageAnalyzer {
+        /**
+         * Analyzes an image, and decides whether the next stage should analyze it as well.
+         *
+         * <p>Unlike {@link ImageAnalysis.Analyzer#analyze(ImageProxy)}, the image is owned by
+         * the pipeline and is released once this method returns, so it must neither be closed
+         * nor used afterwards.
+         *
+         * @param image The image to analyze
+         * @return {@code true} to pass the image on to the next stage, {@code false} otherwise.
+         * The return value of the last stage is ignored.
+         */
+        boolean analyze(@NonNull ImageProxy image);
+    }
+
+    /**
+     * Statistics of a stage of an {@link ImageAnalysisPipeline}.
+     */
+    @ExperimentalAnalyzerPipeline
+    public static final class StageStats {
+        @NonNull
+        private final String mName;
+        private final long mProcessedCount;
+        private final long mForwardedCount;
+        private final long mDroppedCount;
+        private final long mTotalLatencyNanos;
+        private final long mMaxLatencyNanos;
+
+        StageStats(@NonNull String name, long processedCount, long forwardedCount,
+                long droppedCount, long totalLatencyNanos, long maxLatencyNanos) {
+            mName = name;
+            mProcessedCount = processedCount;
+            mForwardedCount = forwardedCount;
+            mDroppedCount = droppedCount;
+            mTotalLatencyNanos = totalLatencyNanos;
+            mMaxLatencyNanos = maxLatencyNanos;
+        }
+
+        /** Returns the name the stage was added with. */
+        @NonNull
+        public String getName() {
+            return mName;
+        }
+
+        /** Returns the number of images the stage analyzed. */
+        public long getProcessedCount() {
+            return mProcessedCount;
+        }
+
+        /** Returns the number of images the stage passed on to the next stage. */
+        public long getForwardedCount() {
+            return mForwardedCount;
+        }
+
+        /** Returns the number of images the stage dropped without analyzing them. */
+        public long getDroppedCount() {
+            return mDroppedCount;
+        }
+
+        /**
+         * Returns the average time the {@link StageAnalyzer} took to analyze an image, in
+         * nanoseconds, or 0 if the stage has not analyzed any image.
+         */
+        public long getAverageLatencyNanos() {
+            return mProcessedCount == 0 ? 0 : mTotalLatencyNanos / mProcessedCount;
+        }
+
+        /**
+         * Returns the longest time the {@link StageAnalyzer} took to analyze an image, in
+         * nanoseconds.
+         */
+        public long getMaxLatencyNanos() {
+            return mMaxLatencyNanos;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "StageStats{name=" + mName
+                    + ", processed=" + mProcessedCount
+                    + ", forwarded=" + mForwardedCount
+                    + ", dropped=" + mDroppedCount
+                    + ", averageLatencyNanos=" + getAverageLatencyNanos()
+                    + ", maxLatencyNanos=" + mMaxLatencyNanos + "}";
+        }
+    }
+
+    /**
+     * A builder for generating {@link ImageAnalysisPipeline}.
+     */
+    @ExperimentalAnalyzerPipeline
+    public static final class Builder {
+        private final List<Stage> mStages = new ArrayList<>();
+
+        /**
+         * Adds a stage which analyzes one image at a time, keeps the latest incoming image
+         * waiting, and drops older waiting images.
+         *
+         * @param name     The name of the stage, as reported by {@link StageStats#getName()}.
+         * @param executor The executor on which the analyzer is run.
+         * @param analyzer The analyzer of the stage.
+         */
+        @NonNull
+        public Builder addStage(@NonNull String name, @NonNull Executor executor,
+                @NonNull StageAnalyzer analyzer) {
+            return addStage(name, executor, analyzer, DEFAULT_MAX_CONCURRENCY,
+                    DEFAULT_QUEUE_CAPACITY, DEFAULT_DROP_POLICY);
+        }
+
+        /**
+         * Adds a stage after the stages added so far.
+         *
+         * @param name           The name of the stage, as reported by
+         *                       {@link StageStats#getName()}.
+         * @param executor       The executor on which the analyzer is run. It must be able to
+         *                       run {@code maxConcurrency} tasks at once for the stage to reach
+         *                       that concurrency.
+         * @param analyzer       The analyzer of the stage.
+         * @param maxConcurrency The maximum number of images analyzed at the same time. Must be
+         *                       at least 1.
+         * @param queueCapacity  The maximum number of images waiting for the analyzer. Must not
+         *                       be negative.
+         * @param dropPolicy     Which image to drop when the stage is full, either
+         *                       {@link #DROP_NEWEST} or {@link #DROP_OLDEST}.
+         */
+        @NonNull
+        public Builder addStage(@NonNull String name, @NonNull Executor executor,
+                @NonNull StageAnalyzer analyzer, int maxConcurrency, int queueCapacity,
+                @DropPolicy int dropPolicy) {
+            Preconditions.checkArgument(maxConcurrency >= 1,
+                    "maxConcurrency must be at least 1.");
+            Preconditions.checkArgument(queueCapacity >= 0,
+                    "queueCapacity must not be negative.");
+            Preconditions.checkArgument(dropPolicy == DROP_NEWEST || dropPolicy == DROP_OLDEST,
+                    "Invalid drop policy: " + dropPolicy);
+            mStages.add(new Stage(Preconditions.checkNotNull(name),
+                    Preconditions.checkNotNull(executor), Preconditions.checkNotNull(analyzer),
+                    maxConcurrency, queueCapacity, dropPolicy));
+            return this;
+        }
+
+        /**
+         * Builds an {@link ImageAnalysisPipeline} from the current state.
+         */
+        @NonNull
+        public ImageAnalysisPipeline build() {
+            Preconditions.checkArgument(!mStages.isEmpty(), "Stages must not be empty.");
+            List<Stage> stages = new ArrayList<>(mStages);
+            for (int i = 0; i < stages.size(); i++) {
+                // Stages are copied so that the builder can be reused.
+                Stage stage = stages.get(i).copy();
+                stages.set(i, stage);
+                if (i > 0) {
+                    stages.get(i - 1).mNext = stage;
+                }
+            }
+            return new ImageAnalysisPipeline(Collections.unmodifiableList(stages));
+        }
+    }
+
+    /** An image waiting in, or being analyzed by, a stage. */
+    private static final class PendingImage {
+        // The image shared by all the stages, used to acquire a reference for the next stage.
+        @NonNull
+        final ReferenceCountedImageProxy mFrame;
+        // The reference owned by the stage.
+        @NonNull
+        final ImageProxy mImage;
+
+        PendingImage(@NonNull ReferenceCountedImageProxy frame, @NonNull ImageProxy image) {
+            mFrame = frame;
+            mImage = image;
+        }
+    }
+
+    private static final class Stage {
+        @NonNull
+        final String mName;
+        @NonNull
+        final Executor mExecutor;
+        @NonNull
+        final StageAnalyzer mAnalyzer;
+        final int mMaxConcurrency;
+        final int mQueueCapacity;
+        @DropPolicy
+        final int mDropPolicy;
+        @Nullable
+        Stage mNext;
+
+        private final Object mLock = new Object();
+        @GuardedBy("mLock")
+        private final ArrayDeque<PendingImage> mQueue = new ArrayDeque<>();
+        @GuardedBy("mLock")
+        private int mInFlightCount;
+        @GuardedBy("mLock")
+        private long mProcessedCount;
+        @GuardedBy("mLock")
+        private long mForwardedCount;
+        @GuardedBy("mLock")
+        private long mDroppedCount;
+        @GuardedBy("mLock")
+        private long mTotalLatencyNanos;
+        @GuardedBy("mLock")
+        private long mMaxLatencyNanos;
+
+        Stage(@NonNull String name, @NonNull Executor executor, @NonNull StageAnalyzer analyzer,
+                int maxConcurrency, int queueCapacity, @DropPolicy int dropPolicy) {
+            mName = name;
+            mExecutor = executor;
+            mAnalyzer = analyzer;
+            mMaxConcurrency = maxConcurrency;
+            mQueueCapacity = queueCapacity;
+            mDropPolicy = dropPolicy;
+        }
+
+        @NonNull
+        Stage copy() {
+            return new Stage(mName, mExecutor, mAnalyzer, mMaxConcurrency, mQueueCapacity,
+                    mDropPolicy);
+        }
+
+        /**
+         * Acquires a reference to the frame, and either analyzes it, queues it or drops it
+         * depending on how busy the stage is.
+         */
+        void offer(@NonNull ReferenceCountedImageProxy frame) {
+            ImageProxy image = frame.fork();
+            if (image == null) {
+                return;
+            }
+            PendingImage incoming = new PendingImage(frame, image);
+            PendingImage dropped = null;
+            boolean dispatch = false;
+            synchronized (mLock) {
+                if (mInFlightCount < mMaxConcurrency) {
+                    mInFlightCount++;
+                    dispatch = true;
+                } else if (mQueue.size() < mQueueCapacity) {
+                    mQueue.add(incoming);
+                } else if (mDropPolicy == DROP_OLDEST && !mQueue.isEmpty()) {
+                    dropped = mQueue.poll();
+                    mQueue.add(incoming);
+                    mDroppedCount++;
+                } else {
+                    dropped = incoming;
+                    mDroppedCount++;
+                }
+            }
+            if (dropped != null) {
+                dropped.mImage.close();
+            }
+            if (dispatch) {
+                dispatch(incoming);
+            }
+        }
+
+        /**
+         * Runs the image on the stage's executor, using the in-flight slot already taken for it.
+         *
+         * <p>If the executor rejects the image, it is dropped, and the slot is handed to the next
+         * waiting image or released.
+         */
+        private void dispatch(@NonNull PendingImage pending) {
+            PendingImage next = pending;
+            while (next != null) {
+                final PendingImage image = next;
+                try {
+                    mExecutor.execute(() -> run(image));
+                    return;
+                } catch (RejectedExecutionException e) {
+                    Logger.w(TAG, "Executor of stage " + mName + " rejected an image. Dropping.");
+                }
+                synchronized (mLock) {
+                    mDroppedCount++;
+                    next = mQueue.poll();
+                    if (next == null) {
+                        mInFlightCount--;
+                    }
+                }
+                image.mImage.close();
+            }
+        }
+
+        private void run(@NonNull PendingImage pending) {
+            try {
+                process(pending);
+            } finally {
+                PendingImage next;
+                synchronized (mLock) {
+                    next = mQueue.poll();
+                    if (next == null) {
+                        mInFlightCount--;
+                    }
+                }
+                if (next != null) {
+                    dispatch(next);
+                }
+            }
+        }
+
+        private void process(@NonNull PendingImage pending) {
+            long startNanos = System.nanoTime();
+            boolean forward = false;
+            try {
+                forward = mAnalyzer.analyze(pending.mImage);
+            } finally {
+                long latencyNanos = System.nanoTime() - startNanos;
+                forward = forward && mNext != null;
+                synchronized (mLock) {
+                    mProcessedCount++;
+                    if (forward) {
+                        mForwardedCount++;
+                    }
+                    mTotalLatencyNanos += latencyNanos;
+                    mMaxLatencyNanos = Math.max(mMaxLatencyNanos, latencyNanos);
+                }
+                // The next stage acquires its reference before this stage releases its own, so
+                // that the image stays open in between.
+                if (forward) {
+                    mNext.offer(pending.mFrame);
+                }
+                pending.mImage.close();
+            }
+        }
+
+        void clear() {
+            List<PendingImage> dropped;
+            synchronized (mLock) {
+                dropped = new ArrayList<>(mQueue);
+                mQueue.clear();
+                mDroppedCount += dropped.size();
+            }
+            for (PendingImage pending : dropped) {
+                pending.mImage.close();
+            }
+        }
+
+        @NonNull
+        StageStats getStats() {
+            synchronized (mLock) {
+                return new StageStats(mName, mProcessedCount, mForwardedCount, mDroppedCount,
+                        mTotalLatencyNanos, mMaxLatencyNanos);
+            }
+        }
+
+        void resetStats() {
+            synchronized (mLock) {
+                mProcessedCount = 0;
+                mForwardedCount = 0;
+                mDroppedCount = 0;
+                mTotalLatencyNanos = 0;
+                mMaxLatencyNanos = 0;
+            }
+        }
+    }
+}
@@ -19,12 +19,40 @@ package androidx.camera.core;
 import android.graphics.ImageFormat;
 import android.util.Size;
 
+import androidx.annotation.GuardedBy;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.camera.core.impl.utils.executor.CameraXExecutors;
+import androidx.camera.core.internal.utils.ByteArrayPool;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
-/** Utility functions for downsampling an {@link ImageProxy}. */
+/**
+ * Utility functions for downsampling an {@link ImageProxy}.
+ *
+ * <p>Planes are read a row at a time, directly from the backing array of the input buffers when
+ * they have one, and the rows of large planes are split into bands downsampled concurrently. The
+ * output planes are recycled once the downsampled image is closed.
+ */
 final class ImageProxyDownsampler {
+    // Planes with fewer output rows per band than this are not worth splitting across threads.
+    private static final int MIN_ROWS_PER_BAND = 32;
+    private static final int MAX_PARALLELISM = 4;
+    // Enough for the three planes of the image being analyzed and of the next one.
+    private static final int MAX_POOLED_OUTPUT_PLANES = 6;
+
+    private static final ByteArrayPool sOutputPool = new ByteArrayPool(MAX_POOLED_OUTPUT_PLANES);
+    private static final Object sWorkersLock = new Object();
+    @GuardedBy("sWorkersLock")
+    private static Executor sWorkers;
 
     private ImageProxyDownsampler() {
     }
@@ -43,6 +71,35 @@ final class ImageProxyDownsampler {
             int downsampledWidth,
             int downsampledHeight,
             DownsamplingMethod downsamplingMethod) {
+        int parallelism = getDefaultParallelism();
+        Executor workers = parallelism > 1 ? getDefaultWorkers(parallelism - 1)
+                : CameraXExecutors.directExecutor();
+        return downsample(image, downsampledWidth, downsampledHeight, downsamplingMethod,
+                workers, parallelism);
+    }
+
+    /**
+     * Downsamples an {@link ImageProxy}, splitting the rows of each plane into up to
+     * {@code parallelism} bands.
+     *
+     * <p>The calling thread downsamples the first band itself, and waits for the other bands to
+     * be downsampled on {@code workers}.
+     *
+     * @param image              to downsample
+     * @param downsampledWidth   width of the downsampled image
+     * @param downsampledHeight  height of the dowsampled image
+     * @param downsamplingMethod the downsampling method
+     * @param workers            executor running the bands other than the first one
+     * @param parallelism        maximum number of bands each plane is split into
+     * @return the downsampled image
+     */
+    static ForwardingImageProxy downsample(
+            ImageProxy image,
+            int downsampledWidth,
+            int downsampledHeight,
+            DownsamplingMethod downsamplingMethod,
+            @NonNull Executor workers,
+            int parallelism) {
         if (image.getFormat() != ImageFormat.YUV_420_888) {
             throw new UnsupportedOperationException(
                     "Only YUV_420_888 format is currently supported.");
@@ -58,7 +115,7 @@ final class ImageProxyDownsampler {
 
         if (image.getWidth() == downsampledWidth && image.getHeight() == downsampledHeight) {
             return new ForwardingImageProxyImpl(
-                    image, image.getPlanes(), downsampledWidth, downsampledHeight);
+                    image, image.getPlanes(), downsampledWidth, downsampledHeight, null);
         }
 
         int[] inputWidths = {image.getWidth(), image.getWidth() / 2, image.getWidth() / 2};
@@ -67,131 +124,107 @@ final class ImageProxyDownsampler {
         int[] outputHeights = {downsampledHeight, downsampledHeight / 2, downsampledHeight / 2};
 
         ImageProxy.PlaneProxy[] outputPlanes = new ImageProxy.PlaneProxy[3];
+        byte[][] outputs = new byte[3][];
         for (int i = 0; i < 3; ++i) {
-            ImageProxy.PlaneProxy inputPlane = image.getPlanes()[i];
-            ByteBuffer inputBuffer = inputPlane.getBuffer();
-            byte[] output = new byte[outputWidths[i] * outputHeights[i]];
-            switch (downsamplingMethod) {
-                case NEAREST_NEIGHBOR:
-                    resizeNearestNeighbor(
-                            inputBuffer,
-                            inputWidths[i],
-                            inputPlane.getPixelStride(),
-                            inputPlane.getRowStride(),
-                            inputHeights[i],
-                            output,
-                            outputWidths[i],
-                            outputHeights[i]);
-                    break;
-                case AVERAGING:
-                    resizeAveraging(
-                            inputBuffer,
-                            inputWidths[i],
-                            inputPlane.getPixelStride(),
-                            inputPlane.getRowStride(),
-                            inputHeights[i],
-                            output,
-                            outputWidths[i],
-                            outputHeights[i]);
-                    break;
-            }
-            outputPlanes[i] = createPlaneProxy(outputWidths[i], 1, output);
+            int outputSize = outputWidths[i] * outputHeights[i];
+            outputs[i] = sOutputPool.acquire(outputSize);
+            PlaneResizer resizer = new PlaneResizer(
+                    image.getPlanes()[i],
+                    inputWidths[i],
+                    inputHeights[i],
+                    outputs[i],
+                    outputWidths[i],
+                    outputHeights[i],
+                    downsamplingMethod);
+            resizeInBands(resizer, outputHeights[i], workers, parallelism);
+            outputPlanes[i] = createPlaneProxy(outputWidths[i], 1, outputs[i], outputSize);
         }
         return new ForwardingImageProxyImpl(
-                image, outputPlanes, downsampledWidth, downsampledHeight);
+                image, outputPlanes, downsampledWidth, downsampledHeight, outputs);
     }
 
-    private static void resizeNearestNeighbor(
-            ByteBuffer input,
-            int inputWidth,
-            int inputPixelStride,
-            int inputRowStride,
-            int inputHeight,
-            byte[] output,
-            int outputWidth,
-            int outputHeight) {
-        float scaleX = (float) inputWidth / outputWidth;
-        float scaleY = (float) inputHeight / outputHeight;
-        int outputRowStride = outputWidth;
-
-        byte[] row = new byte[inputRowStride];
-        int[] sourceIndices = new int[outputWidth];
-        for (int ix = 0; ix < outputWidth; ++ix) {
-            float sourceX = ix * scaleX;
-            int floorSourceX = (int) sourceX;
-            sourceIndices[ix] = floorSourceX * inputPixelStride;
-        }
-
-        synchronized (input) {
-            input.rewind();
-            for (int iy = 0; iy < outputHeight; ++iy) {
-                float sourceY = iy * scaleY;
-                int floorSourceY = (int) sourceY;
-                int rowOffsetSource = Math.min(floorSourceY, inputHeight - 1) * inputRowStride;
-                int rowOffsetTarget = iy * outputRowStride;
-
-                input.position(rowOffsetSource);
-                input.get(row, 0, Math.min(inputRowStride, input.remaining()));
-
-                for (int ix = 0; ix < outputWidth; ++ix) {
-                    output[rowOffsetTarget + ix] = row[sourceIndices[ix]];
+    /**
+     * Splits the output rows into bands, and resizes the first one on the calling thread while
+     * the other ones are resized on the workers.
+     */
+    private static void resizeInBands(
+            @NonNull PlaneResizer resizer,
+            int outputHeight,
+            @NonNull Executor workers,
+            int parallelism) {
+        int bands = Math.max(1, Math.min(parallelism, outputHeight / MIN_ROWS_PER_BAND));
+        if (bands == 1) {
+            resizer.resizeRows(0, outputHeight);
+            return;
+        }
+
+        CountDownLatch remainingBands = new CountDownLatch(bands - 1);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        for (int band = 1; band < bands; ++band) {
+            int startRow = outputHeight * band / bands;
+            int endRow = outputHeight * (band + 1) / bands;
+            workers.execute(() -> {
+                try {
+                    resizer.resizeRows(startRow, endRow);
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    remainingBands.countDown();
                 }
+            });
+        }
+        resizer.resizeRows(0, outputHeight / bands);
+
+        boolean interrupted = false;
+        while (true) {
+            try {
+                remainingBands.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
             }
         }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
     }
 
-    private static void resizeAveraging(
-            ByteBuffer input,
-            int inputWidth,
-            int inputPixelStride,
-            int inputRowStride,
-            int inputHeight,
-            byte[] output,
-            int outputWidth,
-            int outputHeight) {
-        float scaleX = (float) inputWidth / outputWidth;
-        float scaleY = (float) inputHeight / outputHeight;
-        int outputRowStride = outputWidth;
-
-        byte[] row0 = new byte[inputRowStride];
-        byte[] row1 = new byte[inputRowStride];
-        int[] sourceIndices = new int[outputWidth];
-        for (int ix = 0; ix < outputWidth; ++ix) {
-            float sourceX = ix * scaleX;
-            int floorSourceX = (int) sourceX;
-            sourceIndices[ix] = floorSourceX * inputPixelStride;
-        }
-
-        synchronized (input) {
-            input.rewind();
-            for (int iy = 0; iy < outputHeight; ++iy) {
-                float sourceY = iy * scaleY;
-                int floorSourceY = (int) sourceY;
-                int rowOffsetSource0 = Math.min(floorSourceY, inputHeight - 1) * inputRowStride;
-                int rowOffsetSource1 = Math.min(floorSourceY + 1, inputHeight - 1) * inputRowStride;
-                int rowOffsetTarget = iy * outputRowStride;
-
-                input.position(rowOffsetSource0);
-                input.get(row0, 0, Math.min(inputRowStride, input.remaining()));
-                input.position(rowOffsetSource1);
-                input.get(row1, 0, Math.min(inputRowStride, input.remaining()));
-
-                for (int ix = 0; ix < outputWidth; ++ix) {
-                    int sampleA = row0[sourceIndices[ix]] & 0xFF;
-                    int sampleB = row0[sourceIndices[ix] + inputPixelStride] & 0xFF;
-                    int sampleC = row1[sourceIndices[ix]] & 0xFF;
-                    int sampleD = row1[sourceIndices[ix] + inputPixelStride] & 0xFF;
-                    int mixed = (sampleA + sampleB + sampleC + sampleD) / 4;
-                    output[rowOffsetTarget + ix] = (byte) (mixed & 0xFF);
-                }
+    private static int getDefaultParallelism() {
+        return Math.min(MAX_PARALLELISM, Runtime.getRuntime().availableProcessors());
+    }
+
+    @NonNull
+    private static Executor getDefaultWorkers(int threadCount) {
+        synchronized (sWorkersLock) {
+            if (sWorkers == null) {
+                sWorkers = Executors.newFixedThreadPool(threadCount, new ThreadFactory() {
+                    private static final String THREAD_NAME_STEM =
+                            CameraXThreads.TAG + "camerax_downsampler_%d";
+
+                    private final AtomicInteger mThreadId = new AtomicInteger(0);
+
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread t = new Thread(r);
+                        t.setDaemon(true);
+                        t.setName(String.format(Locale.US, THREAD_NAME_STEM,
+                                mThreadId.getAndIncrement()));
+                        return t;
+                    }
+                });
             }
+            return sWorkers;
         }
     }
 
     private static ImageProxy.PlaneProxy createPlaneProxy(
-            final int rowStride, final int pixelStride, final byte[] data) {
+            final int rowStride, final int pixelStride, final byte[] data, final int size) {
         return new ImageProxy.PlaneProxy() {
-            final ByteBuffer mBuffer = ByteBuffer.wrap(data);
+            // Pooled arrays may be larger than the plane
+            final ByteBuffer mBuffer = ByteBuffer.wrap(data, 0, size).slice();
 
             @Override
             public int getRowStride() {
@@ -216,22 +249,224 @@ final class ImageProxyDownsampler {
         NEAREST_NEIGHBOR,
         // Uses average of 4 nearest samples.
         AVERAGING,
+        // Uses average of all the samples covered by the output sample, for any scale factor.
+        BOX,
+    }
+
+    /** Resizes the rows of a plane, one band of output rows at a time. */
+    private static final class PlaneResizer {
+        private final ByteBuffer mInput;
+        // The backing array of the input, or null if it can only be read through the buffer
+        @Nullable
+        private final byte[] mInputArray;
+        private final int mInputArrayOffset;
+        private final int mInputHeight;
+        private final int mInputRowStride;
+        private final int mInputPixelStride;
+        private final byte[] mOutput;
+        private final int mOutputWidth;
+        private final int mOutputHeight;
+        private final float mScaleY;
+        private final DownsamplingMethod mMethod;
+        // Offsets within an input row of the first sample read for each output column, and of
+        // the second sample for AVERAGING, or of the end of the box for BOX
+        private final int[] mColumnStarts;
+        private final int[] mColumnEnds;
+
+        PlaneResizer(
+                ImageProxy.PlaneProxy inputPlane,
+                int inputWidth,
+                int inputHeight,
+                byte[] output,
+                int outputWidth,
+                int outputHeight,
+                DownsamplingMethod method) {
+            mInput = inputPlane.getBuffer();
+            if (mInput.hasArray()) {
+                mInputArray = mInput.array();
+                mInputArrayOffset = mInput.arrayOffset();
+            } else {
+                mInputArray = null;
+                mInputArrayOffset = 0;
+            }
+            mInputHeight = inputHeight;
+            mInputRowStride = inputPlane.getRowStride();
+            mInputPixelStride = inputPlane.getPixelStride();
+            mOutput = output;
+            mOutputWidth = outputWidth;
+            mOutputHeight = outputHeight;
+            mScaleY = (float) inputHeight / outputHeight;
+            mMethod = method;
+
+            float scaleX = (float) inputWidth / outputWidth;
+            mColumnStarts = new int[outputWidth];
+            mColumnEnds = new int[outputWidth];
+            for (int ix = 0; ix < outputWidth; ++ix) {
+                int start;
+                int end;
+                if (method == DownsamplingMethod.BOX) {
+                    start = (int) ((long) ix * inputWidth / outputWidth);
+                    end = Math.max(start + 1,
+                            (int) ((long) (ix + 1) * inputWidth / outputWidth));
+                } else {
+                    start = (int) (ix * scaleX);
+                    end = Math.min(start + 1, inputWidth - 1);
+                }
+                mColumnStarts[ix] = start * mInputPixelStride;
+                mColumnEnds[ix] = end * mInputPixelStride;
+            }
+        }
+
+        /** Resizes the output rows from {@code startRow} inclusive to {@code endRow} exclusive. */
+        void resizeRows(int startRow, int endRow) {
+            switch (mMethod) {
+                case NEAREST_NEIGHBOR:
+                    resizeNearestNeighbor(startRow, endRow);
+                    break;
+                case AVERAGING:
+                    resizeAveraging(startRow, endRow);
+                    break;
+                case BOX:
+                    resizeBox(startRow, endRow);
+                    break;
+            }
+        }
+
+        private void resizeNearestNeighbor(int startRow, int endRow) {
+            RowReader reader = new RowReader();
+            for (int iy = startRow; iy < endRow; ++iy) {
+                byte[] row = reader.read(Math.min((int) (iy * mScaleY), mInputHeight - 1));
+                int rowOffsetSource = reader.mOffset;
+                int rowOffsetTarget = iy * mOutputWidth;
+                for (int ix = 0; ix < mOutputWidth; ++ix) {
+                    mOutput[rowOffsetTarget + ix] = row[rowOffsetSource + mColumnStarts[ix]];
+                }
+            }
+        }
+
+        private void resizeAveraging(int startRow, int endRow) {
+            RowReader reader0 = new RowReader();
+            RowReader reader1 = new RowReader();
+            for (int iy = startRow; iy < endRow; ++iy) {
+                int floorSourceY = (int) (iy * mScaleY);
+                byte[] row0 = reader0.read(Math.min(floorSourceY, mInputHeight - 1));
+                byte[] row1 = reader1.read(Math.min(floorSourceY + 1, mInputHeight - 1));
+                int rowOffsetSource0 = reader0.mOffset;
+                int rowOffsetSource1 = reader1.mOffset;
+                int rowOffsetTarget = iy * mOutputWidth;
+                for (int ix = 0; ix < mOutputWidth; ++ix) {
+                    int sampleA = row0[rowOffsetSource0 + mColumnStarts[ix]] & 0xFF;
+                    int sampleB = row0[rowOffsetSource0 + mColumnEnds[ix]] & 0xFF;
+                    int sampleC = row1[rowOffsetSource1 + mColumnStarts[ix]] & 0xFF;
+                    int sampleD = row1[rowOffsetSource1 + mColumnEnds[ix]] & 0xFF;
+                    mOutput[rowOffsetTarget + ix] =
+                            (byte) ((sampleA + sampleB + sampleC + sampleD) >> 2);
+                }
+            }
+        }
+
+        private void resizeBox(int startRow, int endRow) {
+            RowReader reader = new RowReader();
+            int[] sums = new int[mOutputWidth];
+            for (int iy = startRow; iy < endRow; ++iy) {
+                int startY = (int) ((long) iy * mInputHeight / mOutputHeight);
+                int endY = Math.max(startY + 1,
+                        (int) ((long) (iy + 1) * mInputHeight / mOutputHeight));
+                Arrays.fill(sums, 0);
+                for (int y = startY; y < endY; ++y) {
+                    byte[] row = reader.read(y);
+                    int rowOffsetSource = reader.mOffset;
+                    for (int ix = 0; ix < mOutputWidth; ++ix) {
+                        int sum = 0;
+                        int end = rowOffsetSource + mColumnEnds[ix];
+                        for (int i = rowOffsetSource + mColumnStarts[ix]; i < end;
+                                i += mInputPixelStride) {
+                            sum += row[i] & 0xFF;
+                        }
+                        sums[ix] += sum;
+                    }
+                }
+                int rowOffsetTarget = iy * mOutputWidth;
+                for (int ix = 0; ix < mOutputWidth; ++ix) {
+                    int count = (mColumnEnds[ix] - mColumnStarts[ix]) / mInputPixelStride
+                            * (endY - startY);
+                    mOutput[rowOffsetTarget + ix] = (byte) ((sums[ix] + count / 2) / count);
+                }
+            }
+        }
+
+        /**
+         * Gives access to the input rows, either within the backing array of the input or copied
+         * in bulk out of the buffer. Each band uses its own readers.
+         */
+        private final class RowReader {
+            @Nullable
+            private final ByteBuffer mBuffer;
+            @Nullable
+            private final byte[] mRow;
+            // Offset of the first sample of the last read row within the returned array
+            int mOffset;
+
+            RowReader() {
+                if (mInputArray != null) {
+                    mBuffer = null;
+                    mRow = null;
+                } else {
+                    mBuffer = mInput.duplicate();
+                    mRow = new byte[mInputRowStride];
+                }
+            }
+
+            @NonNull
+            byte[] read(int y) {
+                if (mInputArray != null) {
+                    mOffset = mInputArrayOffset + y * mInputRowStride;
+                    return mInputArray;
+                }
+                // The last row of a plane may not be padded up to the row stride
+                mBuffer.position(y * mInputRowStride);
+                mBuffer.get(mRow, 0, Math.min(mInputRowStride, mBuffer.remaining()));
+                mOffset = 0;
+                return mRow;
+            }
+        }
     }
 
     private static final class ForwardingImageProxyImpl extends ForwardingImageProxy {
         private final PlaneProxy[] mDownsampledPlanes;
         private final int mDownsampledWidth;
         private final int mDownsampledHeight;
+        // Arrays backing the downsampled planes, returned to the pool on close
+        @GuardedBy("this")
+        @Nullable
+        private byte[][] mPooledOutputs;
 
         ForwardingImageProxyImpl(
                 ImageProxy originalImage,
                 PlaneProxy[] downsampledPlanes,
                 int downsampledWidth,
-                int downsampledHeight) {
+                int downsampledHeight,
+                @Nullable byte[][] pooledOutputs) {
             super(originalImage);
             mDownsampledPlanes = downsampledPlanes;
             mDownsampledWidth = downsampledWidth;
             mDownsampledHeight = downsampledHeight;
+            mPooledOutputs = pooledOutputs;
+        }
+
+        @Override
+        public void close() {
+            byte[][] pooledOutputs;
+            synchronized (this) {
+                pooledOutputs = mPooledOutputs;
+                mPooledOutputs = null;
+            }
+            super.close();
+            if (pooledOutputs != null) {
+                for (byte[] output : pooledOutputs) {
+                    sOutputPool.release(output);
+                }
+            }
         }
 
         @Override
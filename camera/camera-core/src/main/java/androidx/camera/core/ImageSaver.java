@@ -99,7 +99,7 @@ final class ImageSaver implements Runnable {
     private File saveImageToTempFile() {
         File tempFile;
         try {
-            tempFile = File.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX);
+            tempFile = createTempFile();
         } catch (IOException e) {
             postError(SaveError.FILE_IO_FAILED, "Failed to create temp file", e);
             return null;
@@ -110,8 +110,7 @@ final class ImageSaver implements Runnable {
         Exception exception = null;
         try (ImageProxy imageToClose = mImage;
              FileOutputStream output = new FileOutputStream(tempFile)) {
-            byte[] bytes = ImageUtil.imageToJpegByteArray(mImage);
-            output.write(bytes);
+            ImageUtil.writeJpeg(mImage, output);
 
             Exif exif = Exif.createFromFile(tempFile);
             exif.attachTimestamp();
@@ -177,6 +176,26 @@ final class ImageSaver implements Runnable {
         return tempFile;
     }
 
+    /**
+     * Creates the temp file to save the image to. When saving to a file, the temp file is created
+     * next to it when possible, so that it can later be renamed to the destination instead of
+     * being copied to it.
+     */
+    @NonNull
+    private File createTempFile() throws IOException {
+        if (isSaveToFile()) {
+            File parent = mOutputFileOptions.getFile().getParentFile();
+            if (parent != null) {
+                try {
+                    return File.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX, parent);
+                } catch (IOException | SecurityException e) {
+                    Logger.w(TAG, "Failed to create temp file next to the destination file", e);
+                }
+            }
+        }
+        return File.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX);
+    }
+
     /**
      * Copy the temp file to user specified destination.
      *
@@ -210,13 +229,16 @@ final class ImageSaver implements Runnable {
             } else if (isSaveToOutputStream()) {
                 copyTempFileToOutputStream(tempFile, mOutputFileOptions.getOutputStream());
             } else if (isSaveToFile()) {
-                try (FileOutputStream fileOutputStream = new FileOutputStream(
-                        mOutputFileOptions.getFile())) {
-                    // Lock the file as a precaution. If concurrent access happens, it will
-                    // provide a meaningful error.
-                    FileLock fileLock = fileOutputStream.getChannel().lock();
-                    copyTempFileToOutputStream(tempFile, fileOutputStream);
-                    fileLock.release();
+                File destination = mOutputFileOptions.getFile();
+                // A temp file in the same directory can simply be renamed to the destination.
+                if (!isInSameDirectory(tempFile, destination) || !tempFile.renameTo(destination)) {
+                    try (FileOutputStream fileOutputStream = new FileOutputStream(destination)) {
+                        // Lock the file as a precaution. If concurrent access happens, it will
+                        // provide a meaningful error.
+                        FileLock fileLock = fileOutputStream.getChannel().lock();
+                        copyTempFileToOutputStream(tempFile, fileOutputStream);
+                        fileLock.release();
+                    }
                 }
             }
         } catch (IOException | IllegalArgumentException e) {
@@ -233,6 +255,11 @@ final class ImageSaver implements Runnable {
         }
     }
 
+    private static boolean isInSameDirectory(@NonNull File file, @NonNull File other) {
+        File parent = file.getParentFile();
+        return parent != null && parent.equals(other.getParentFile());
+    }
+
     private boolean isSaveToMediaStore() {
         return mOutputFileOptions.getSaveCollection() != null
                 && mOutputFileOptions.getContentResolver() != null
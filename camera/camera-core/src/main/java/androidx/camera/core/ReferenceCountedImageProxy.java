@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.camera.core;
+
+import androidx.annotation.GuardedBy;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * An {@link ImageProxy} which is shared by several consumers and only closes the wrapped image
+ * once all of them are done with it.
+ *
+ * <p>The image starts with a single reference, held by its creator. Each call to {@link #fork()}
+ * adds a reference and returns a new {@link ImageProxy} which releases it when closed. Closing
+ * this image releases the creator's reference.
+ */
+final class ReferenceCountedImageProxy extends ForwardingImageProxy {
+    @GuardedBy("this")
+    private int mReferenceCount = 1;
+
+    /**
+     * Creates a new instance which wraps the given image.
+     *
+     * @param image to wrap
+     */
+    ReferenceCountedImageProxy(@NonNull ImageProxy image) {
+        super(image);
+    }
+
+    /**
+     * Acquires a new reference to the image.
+     *
+     * @return an image whose {@link ImageProxy#close()} releases the acquired reference, or
+     * {@code null} if all the references to the image have already been released.
+     */
+    @Nullable
+    synchronized ImageProxy fork() {
+        if (mReferenceCount <= 0) {
+            return null;
+        }
+        mReferenceCount++;
+        return new SingleCloseImageProxy(this);
+    }
+
+    /** Returns the number of references to the image which have not been released yet. */
+    synchronized int getReferenceCount() {
+        return mReferenceCount;
+    }
+
+    /** Releases one reference, and closes the wrapped image if it was the last one. */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (mReferenceCount <= 0) {
+                return;
+            }
+            mReferenceCount--;
+            if (mReferenceCount > 0) {
+                return;
+            }
+        }
+        super.close();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.camera.core.internal.utils;
+
+import androidx.annotation.GuardedBy;
+import androidx.annotation.NonNull;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A pool of byte arrays, used to reuse the large buffers needed to convert images instead of
+ * allocating new ones for every image.
+ *
+ * <p>Released arrays are only softly referenced, so that an idle pool does not keep full
+ * resolution buffers alive when memory is needed elsewhere.
+ */
+public final class ByteArrayPool {
+    private final Object mLock = new Object();
+    private final int mMaxArrays;
+    @GuardedBy("mLock")
+    private final List<SoftReference<byte[]>> mArrays = new ArrayList<>();
+
+    /**
+     * Creates a pool that keeps at most the given number of released arrays.
+     */
+    public ByteArrayPool(int maxArrays) {
+        mMaxArrays = maxArrays;
+    }
+
+    /**
+     * Returns an array of at least the given size, reusing a released array if one is large
+     * enough. The contents of the returned array are undefined.
+     */
+    @NonNull
+    public byte[] acquire(int size) {
+        synchronized (mLock) {
+            for (int i = mArrays.size() - 1; i >= 0; i--) {
+                byte[] array = mArrays.get(i).get();
+                if (array == null) {
+                    mArrays.remove(i);
+                } else if (array.length >= size) {
+                    mArrays.remove(i);
+                    return array;
+                }
+            }
+        }
+        return new byte[size];
+    }
+
+    /**
+     * Returns an array acquired from this pool, so that it can be reused. The array must not be
+     * used by the caller afterwards.
+     */
+    public void release(@NonNull byte[] array) {
+        synchronized (mLock) {
+            if (mArrays.size() >= mMaxArrays) {
+                // Keep the larger arrays, since they can serve any smaller request
+                int smallest = -1;
+                int smallestLength = array.length;
+                for (int i = 0; i < mArrays.size(); i++) {
+                    byte[] pooled = mArrays.get(i).get();
+                    if (pooled == null) {
+                        smallest = i;
+                        break;
+                    }
+                    if (pooled.length < smallestLength) {
+                        smallest = i;
+                        smallestLength = pooled.length;
+                    }
+                }
+                if (smallest == -1) {
+                    return;
+                }
+                mArrays.remove(smallest);
+            }
+            mArrays.add(new SoftReference<>(array));
+        }
+    }
+}
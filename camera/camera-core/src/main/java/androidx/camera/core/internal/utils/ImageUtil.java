@@ -33,6 +33,7 @@ import androidx.camera.core.Logger;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 
 /**
@@ -40,6 +41,14 @@ import java.nio.ByteBuffer;
  */
 public final class ImageUtil {
     private static final String TAG = "ImageUtil";
+    private static final int JPEG_QUALITY = 100;
+    // A full resolution NV21 buffer is large, so only keep a couple of them around. That is
+    // enough to avoid allocations during a burst, where images are converted one after another.
+    private static final int MAX_POOLED_NV21_BUFFERS = 2;
+    private static final ByteArrayPool sNv21Pool = new ByteArrayPool(MAX_POOLED_NV21_BUFFERS);
+    // Each conversion uses a line buffer for each of the two chroma planes.
+    private static final ByteArrayPool sChromaLinePool =
+            new ByteArrayPool(MAX_POOLED_NV21_BUFFERS * 2);
 
     private ImageUtil() {
     }
@@ -89,9 +98,73 @@ public final class ImageUtil {
         return data;
     }
 
+    /**
+     * Writes an {@link android.media.Image} to the given output stream as JPEG, cropped to the
+     * crop rect of the image. Unlike {@link #imageToJpegByteArray(ImageProxy)}, YUV images are
+     * encoded straight into the output stream, using a pooled buffer for the conversion.
+     */
+    public static void writeJpeg(@NonNull ImageProxy image, @NonNull OutputStream output)
+            throws CodecFailedException, IOException {
+        if (image.getFormat() == ImageFormat.JPEG) {
+            output.write(jpegImageToJpegByteArray(image));
+        } else if (image.getFormat() == ImageFormat.YUV_420_888) {
+            yuvImageToJpeg(image, shouldCropImage(image) ? image.getCropRect() : null,
+                    JPEG_QUALITY, output);
+        } else {
+            Logger.w(TAG, "Unrecognized image format: " + image.getFormat());
+        }
+    }
+
+    /**
+     * Encodes a YUV_420_888 {@link android.media.Image} as JPEG into the given output stream.
+     *
+     * <p>Only the part of the image within the crop rect is converted to NV21, into a buffer
+     * taken from a pool that is shared by all conversions.
+     *
+     * @param cropRect the part of the image to encode, or null to encode the whole image
+     */
+    public static void yuvImageToJpeg(@NonNull ImageProxy image, @Nullable Rect cropRect,
+            @IntRange(from = 1, to = 100) int quality, @NonNull OutputStream output)
+            throws CodecFailedException {
+        Rect region = getNv21Region(image, cropRect);
+        byte[] nv21 = sNv21Pool.acquire(getNv21Size(region.width(), region.height()));
+        try {
+            yuv_420_888toNv21(image, region, nv21);
+            Rect jpegRect = cropRect == null
+                    ? new Rect(0, 0, region.width(), region.height())
+                    : new Rect(cropRect.left - region.left, cropRect.top - region.top,
+                            cropRect.right - region.left, cropRect.bottom - region.top);
+            YuvImage yuv = new YuvImage(nv21, ImageFormat.NV21, region.width(),
+                    region.height(), null);
+            if (!yuv.compressToJpeg(jpegRect, quality, output)) {
+                throw new CodecFailedException("YuvImage failed to encode jpeg.",
+                        CodecFailedException.FailureType.ENCODE_FAILED);
+            }
+        } finally {
+            sNv21Pool.release(nv21);
+        }
+    }
+
     /** {@link android.media.Image} to NV21 byte array. */
     @NonNull
     public static byte[] yuv_420_888toNv21(@NonNull ImageProxy image) {
+        Rect region = new Rect(0, 0, image.getWidth(), image.getHeight());
+        byte[] nv21 = new byte[getNv21Size(image.getWidth(), image.getHeight())];
+        yuv_420_888toNv21(image, region, nv21);
+        return nv21;
+    }
+
+    /**
+     * Converts a region of an {@link android.media.Image} to NV21, writing it to the start of
+     * the given array. The region must start at even coordinates, so that it is aligned with
+     * the subsampled chroma planes.
+     *
+     * @param region the region of the image to convert
+     * @param nv21 the array to write to, at least {@link #getNv21Size} bytes long for the size of
+     *             the region
+     */
+    public static void yuv_420_888toNv21(@NonNull ImageProxy image, @NonNull Rect region,
+            @NonNull byte[] nv21) {
         ImageProxy.PlaneProxy yPlane = image.getPlanes()[0];
         ImageProxy.PlaneProxy uPlane = image.getPlanes()[1];
         ImageProxy.PlaneProxy vPlane = image.getPlanes()[2];
@@ -99,49 +172,67 @@ public final class ImageUtil {
         ByteBuffer yBuffer = yPlane.getBuffer();
         ByteBuffer uBuffer = uPlane.getBuffer();
         ByteBuffer vBuffer = vPlane.getBuffer();
-        yBuffer.rewind();
-        uBuffer.rewind();
-        vBuffer.rewind();
 
-        int ySize = yBuffer.remaining();
+        int width = region.width();
+        int height = region.height();
+        int yRowStride = yPlane.getRowStride();
 
         int position = 0;
-        // TODO(b/115743986): Pull these bytes from a pool instead of allocating for every image.
-        byte[] nv21 = new byte[ySize + (image.getWidth() * image.getHeight() / 2)];
-
-        // Add the full y buffer to the array. If rowStride > 1, some padding may be skipped.
-        for (int row = 0; row < image.getHeight(); row++) {
-            yBuffer.get(nv21, position, image.getWidth());
-            position += image.getWidth();
-            yBuffer.position(
-                    Math.min(ySize, yBuffer.position() - image.getWidth() + yPlane.getRowStride()));
+        // Copy the rows of the region from the y buffer, skipping any row padding. The y plane
+        // of a YUV_420_888 image always has a pixel stride of 1.
+        for (int row = 0; row < height; row++) {
+            yBuffer.position((region.top + row) * yRowStride + region.left);
+            yBuffer.get(nv21, position, width);
+            position += width;
         }
+        yBuffer.rewind();
 
-        int chromaHeight = image.getHeight() / 2;
-        int chromaWidth = image.getWidth() / 2;
+        int chromaLeft = region.left / 2;
+        int chromaTop = region.top / 2;
+        int chromaHeight = height / 2;
+        int chromaWidth = width / 2;
         int vRowStride = vPlane.getRowStride();
         int uRowStride = uPlane.getRowStride();
         int vPixelStride = vPlane.getPixelStride();
         int uPixelStride = uPlane.getPixelStride();
 
-        // Interleave the u and v frames, filling up the rest of the buffer. Use two line buffers to
-        // perform faster bulk gets from the byte buffers.
-        byte[] vLineBuffer = new byte[vRowStride];
-        byte[] uLineBuffer = new byte[uRowStride];
-        for (int row = 0; row < chromaHeight; row++) {
-            vBuffer.get(vLineBuffer, 0, Math.min(vRowStride, vBuffer.remaining()));
-            uBuffer.get(uLineBuffer, 0, Math.min(uRowStride, uBuffer.remaining()));
-            int vLineBufferPosition = 0;
-            int uLineBufferPosition = 0;
-            for (int col = 0; col < chromaWidth; col++) {
-                nv21[position++] = vLineBuffer[vLineBufferPosition];
-                nv21[position++] = uLineBuffer[uLineBufferPosition];
-                vLineBufferPosition += vPixelStride;
-                uLineBufferPosition += uPixelStride;
+        if (chromaWidth == 0) {
+            return;
+        }
+        // Interleave the v and u samples of the region, filling up the rest of the array. Use
+        // two line buffers to perform faster bulk gets from the byte buffers.
+        int vLineLength = (chromaWidth - 1) * vPixelStride + 1;
+        int uLineLength = (chromaWidth - 1) * uPixelStride + 1;
+        byte[] vLineBuffer = sChromaLinePool.acquire(vLineLength);
+        byte[] uLineBuffer = sChromaLinePool.acquire(uLineLength);
+        try {
+            for (int row = 0; row < chromaHeight; row++) {
+                vBuffer.position((chromaTop + row) * vRowStride + chromaLeft * vPixelStride);
+                vBuffer.get(vLineBuffer, 0, vLineLength);
+                uBuffer.position((chromaTop + row) * uRowStride + chromaLeft * uPixelStride);
+                uBuffer.get(uLineBuffer, 0, uLineLength);
+                int vLineBufferPosition = 0;
+                int uLineBufferPosition = 0;
+                for (int col = 0; col < chromaWidth; col++) {
+                    nv21[position++] = vLineBuffer[vLineBufferPosition];
+                    nv21[position++] = uLineBuffer[uLineBufferPosition];
+                    vLineBufferPosition += vPixelStride;
+                    uLineBufferPosition += uPixelStride;
+                }
             }
+        } finally {
+            vBuffer.rewind();
+            uBuffer.rewind();
+            sChromaLinePool.release(vLineBuffer);
+            sChromaLinePool.release(uLineBuffer);
         }
+    }
 
-        return nv21;
+    /**
+     * Returns the number of bytes needed to hold an NV21 image of the given size.
+     */
+    public static int getNv21Size(int width, int height) {
+        return width * height + (width / 2) * (height / 2) * 2;
     }
 
     /** Crops byte array with given {@link android.graphics.Rect}. */
@@ -229,18 +320,18 @@ public final class ImageUtil {
         return new Rect(cropLeft, cropTop, cropLeft + outputWidth, cropTop + outputHeight);
     }
 
-    private static byte[] nv21ToJpeg(byte[] nv21, int width, int height, @Nullable Rect cropRect)
-            throws CodecFailedException {
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        YuvImage yuv = new YuvImage(nv21, ImageFormat.NV21, width, height, null);
-        boolean success =
-                yuv.compressToJpeg(
-                        cropRect == null ? new Rect(0, 0, width, height) : cropRect, 100, out);
-        if (!success) {
-            throw new CodecFailedException("YuvImage failed to encode jpeg.",
-                    CodecFailedException.FailureType.ENCODE_FAILED);
+    /**
+     * Returns the region of the image to convert to NV21 for the given crop rect, which is the
+     * crop rect expanded to even coordinates so that it is aligned with the chroma planes.
+     */
+    @NonNull
+    private static Rect getNv21Region(@NonNull ImageProxy image, @Nullable Rect cropRect) {
+        if (cropRect == null) {
+            return new Rect(0, 0, image.getWidth(), image.getHeight());
         }
-        return out.toByteArray();
+        return new Rect(cropRect.left & ~1, cropRect.top & ~1,
+                Math.min(image.getWidth(), (cropRect.right + 1) & ~1),
+                Math.min(image.getHeight(), (cropRect.bottom + 1) & ~1));
     }
 
     private static boolean isCropAspectRatioHasEffect(Size sourceSize, Rational aspectRatio) {
@@ -283,11 +374,10 @@ public final class ImageUtil {
 
     private static byte[] yuvImageToJpegByteArray(ImageProxy image)
             throws CodecFailedException {
-        return ImageUtil.nv21ToJpeg(
-                ImageUtil.yuv_420_888toNv21(image),
-                image.getWidth(),
-                image.getHeight(),
-                shouldCropImage(image) ? image.getCropRect() : null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        yuvImageToJpeg(image, shouldCropImage(image) ? image.getCropRect() : null, JPEG_QUALITY,
+                out);
+        return out.toByteArray();
     }
 
     /** Exception for error during transcoding image. */
@@ -0,0 +1,341 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.camera.core;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import android.os.Build;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.experimental.UseExperimental;
+import androidx.camera.core.impl.utils.executor.CameraXExecutors;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.internal.DoNotInstrument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+@RunWith(RobolectricTestRunner.class)
+@DoNotInstrument
+@Config(minSdk = Build.VERSION_CODES.LOLLIPOP)
+@UseExperimental(markerClass = ExperimentalAnalyzerPipeline.class)
+public class ImageAnalysisPipelineTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void build_withoutStages_throws() {
+        new ImageAnalysisPipeline.Builder().build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addStage_withZeroConcurrency_throws() {
+        new ImageAnalysisPipeline.Builder().addStage("stage", CameraXExecutors.directExecutor(),
+                image -> true, 0, 1, ImageAnalysisPipeline.DROP_OLDEST);
+    }
+
+    @Test
+    public void imageIsClosedOnceAfterAllStages() {
+        List<String> calls = new ArrayList<>();
+        ImageAnalysisPipeline pipeline = new ImageAnalysisPipeline.Builder()
+                .addStage("filter", CameraXExecutors.directExecutor(), image -> {
+                    calls.add("filter");
+                    return true;
+                })
+                .addStage("model", CameraXExecutors.directExecutor(), image -> {
+                    calls.add("model");
+                    return true;
+                })
+                .build();
+        ImageProxy imageProxy = mock(ImageProxy.class);
+
+        pipeline.analyze(imageProxy);
+
+        assertThat(calls).containsExactly("filter", "model").inOrder();
+        verify(imageProxy, times(1)).close();
+    }
+
+    @Test
+    public void rejectedImageIsNotForwarded() {
+        List<String> calls = new ArrayList<>();
+        ImageAnalysisPipeline pipeline = new ImageAnalysisPipeline.Builder()
+                .addStage("filter", CameraXExecutors.directExecutor(), image -> false)
+                .addStage("model", CameraXExecutors.directExecutor(), image -> {
+                    calls.add("model");
+                    return true;
+                })
+                .build();
+        ImageProxy imageProxy = mock(ImageProxy.class);
+
+        pipeline.analyze(imageProxy);
+
+        assertThat(calls).isEmpty();
+        verify(imageProxy, times(1)).close();
+        ImageAnalysisPipeline.StageStats filterStats = pipeline.getStageStats().get(0);
+        assertThat(filterStats.getProcessedCount()).isEqualTo(1);
+        assertThat(filterStats.getForwardedCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void stagesAnalyzeDifferentImagesConcurrently() {
+        QueuedExecutor filterExecutor = new QueuedExecutor();
+        QueuedExecutor modelExecutor = new QueuedExecutor();
+        ImageAnalysisPipeline pipeline = new ImageAnalysisPipeline.Builder()
+                .addStage("filter", filterExecutor, image -> true)
+                .addStage("model", modelExecutor, image -> true)
+                .build();
+        ImageProxy image1 = mock(ImageProxy.class);
+        ImageProxy image2 = mock(ImageProxy.class);
+
+        pipeline.analyze(image1);
+        filterExecutor.runNext();
+        pipeline.analyze(image2);
+
+        // The model stage holds the first image while the filter stage holds the second one.
+        assertThat(modelExecutor.size()).isEqualTo(1);
+        assertThat(filterExecutor.size()).isEqualTo(1);
+        verify(image1, never()).close();
+        verify(image2, never()).close();
+
+        filterExecutor.runNext();
+        modelExecutor.runAll();
+
+        verify(image1, times(1)).close();
+        verify(image2, times(1)).close();
+    }
+
+    @Test
+    public void dropOldest_replacesWaitingImage() {
+        QueuedExecutor executor = new QueuedExecutor();
+        List<ImageProxy> analyzed = new ArrayList<>();
+        ImageAnalysisPipeline pipeline = new ImageAnalysisPipeline.Builder()
+                .addStage("stage", executor, image -> analyzed.add(image), 1, 1,
+                        ImageAnalysisPipeline.DROP_OLDEST)
+                .build();
+        ImageProxy image1 = mock(ImageProxy.class);
+        ImageProxy image2 = mock(ImageProxy.class);
+        ImageProxy image3 = mock(ImageProxy.class);
+
+        pipeline.analyze(image1);
+        pipeline.analyze(image2);
+        pipeline.analyze(image3);
+
+        verify(image2, times(1)).close();
+        executor.runAll();
+
+        assertThat(analyzed).hasSize(2);
+        verify(image1, times(1)).close();
+        verify(image3, times(1)).close();
+        assertThat(pipeline.getStageStats().get(0).getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void dropNewest_keepsWaitingImage() {
+        QueuedExecutor executor = new QueuedExecutor();
+        ImageAnalysisPipeline pipeline = new ImageAnalysisPipeline.Builder()
+                .addStage("stage", executor, image -> true, 1, 1,
+                        ImageAnalysisPipeline.DROP_NEWEST)
+                .build();
+        ImageProxy image1 = mock(ImageProxy.class);
+        ImageProxy image2 = mock(ImageProxy.class);
+        ImageProxy image3 = mock(ImageProxy.class);
+
+        pipeline.analyze(image1);
+        pipeline.analyze(image2);
+        pipeline.analyze(image3);
+
+        verify(image3, times(1)).close();
+        verify(image2, never()).close();
+        executor.runAll();
+
+        verify(image1, times(1)).close();
+        verify(image2, times(1)).close();
+        ImageAnalysisPipeline.StageStats stats = pipeline.getStageStats().get(0);
+        assertThat(stats.getProcessedCount()).isEqualTo(2);
+        assertThat(stats.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void maxConcurrency_dispatchesImagesInParallel() {
+        QueuedExecutor executor = new QueuedExecutor();
+        ImageAnalysisPipeline pipeline = new ImageAnalysisPipeline.Builder()
+                .addStage("stage", executor, image -> true, 2, 0,
+                        ImageAnalysisPipeline.DROP_NEWEST)
+                .build();
+
+        pipeline.analyze(mock(ImageProxy.class));
+        pipeline.analyze(mock(ImageProxy.class));
+        pipeline.analyze(mock(ImageProxy.class));
+
+        assertThat(executor.size()).isEqualTo(2);
+        assertThat(pipeline.getStageStats().get(0).getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void clear_closesWaitingImages() {
+        QueuedExecutor executor = new QueuedExecutor();
+        ImageAnalysisPipeline pipeline = new ImageAnalysisPipeline.Builder()
+                .addStage("stage", executor, image -> true)
+                .build();
+        ImageProxy image1 = mock(ImageProxy.class);
+        ImageProxy image2 = mock(ImageProxy.class);
+
+        pipeline.analyze(image1);
+        pipeline.analyze(image2);
+        pipeline.clear();
+
+        verify(image1, never()).close();
+        verify(image2, times(1)).close();
+        executor.runAll();
+        verify(image1, times(1)).close();
+    }
+
+    @Test
+    public void throwingAnalyzer_releasesImageAndStage() {
+        QueuedExecutor executor = new QueuedExecutor();
+        boolean[] shouldThrow = {true};
+        ImageAnalysisPipeline pipeline = new ImageAnalysisPipeline.Builder()
+                .addStage("stage", executor, image -> {
+                    if (shouldThrow[0]) {
+                        throw new IllegalStateException();
+                    }
+                    return true;
+                })
+                .build();
+        ImageProxy image1 = mock(ImageProxy.class);
+        ImageProxy image2 = mock(ImageProxy.class);
+
+        pipeline.analyze(image1);
+        try {
+            executor.runNext();
+        } catch (IllegalStateException e) {
+            // Expected.
+        }
+        shouldThrow[0] = false;
+        pipeline.analyze(image2);
+        executor.runAll();
+
+        verify(image1, times(1)).close();
+        verify(image2, times(1)).close();
+        assertThat(pipeline.getStageStats().get(0).getProcessedCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void rejectingExecutor_closesImagesAndReleasesStage() {
+        QueuedExecutor executor = new QueuedExecutor();
+        ImageAnalysisPipeline pipeline = new ImageAnalysisPipeline.Builder()
+                .addStage("stage", executor, image -> true)
+                .build();
+        ImageProxy image1 = mock(ImageProxy.class);
+        ImageProxy image2 = mock(ImageProxy.class);
+        ImageProxy image3 = mock(ImageProxy.class);
+        ImageProxy image4 = mock(ImageProxy.class);
+
+        pipeline.analyze(image1);
+        pipeline.analyze(image2);
+        executor.setRejecting(true);
+        // The waiting image is rejected once the first one is done.
+        executor.runNext();
+        pipeline.analyze(image3);
+
+        verify(image1, times(1)).close();
+        verify(image2, times(1)).close();
+        verify(image3, times(1)).close();
+        assertThat(pipeline.getStageStats().get(0).getDroppedCount()).isEqualTo(2);
+
+        executor.setRejecting(false);
+        pipeline.analyze(image4);
+        assertThat(executor.size()).isEqualTo(1);
+        executor.runAll();
+        verify(image4, times(1)).close();
+    }
+
+    @Test
+    public void resetStageStats_clearsCounters() {
+        ImageAnalysisPipeline pipeline = new ImageAnalysisPipeline.Builder()
+                .addStage("stage", CameraXExecutors.directExecutor(), image -> true)
+                .build();
+        pipeline.analyze(mock(ImageProxy.class));
+
+        pipeline.resetStageStats();
+
+        ImageAnalysisPipeline.StageStats stats = pipeline.getStageStats().get(0);
+        assertThat(stats.getName()).isEqualTo("stage");
+        assertThat(stats.getProcessedCount()).isEqualTo(0);
+        assertThat(stats.getAverageLatencyNanos()).isEqualTo(0);
+    }
+
+    @Test
+    public void referenceCountedImage_closesWrappedImageOnLastRelease() {
+        ImageProxy imageProxy = mock(ImageProxy.class);
+        ReferenceCountedImageProxy frame = new ReferenceCountedImageProxy(imageProxy);
+        ImageProxy first = frame.fork();
+        ImageProxy second = frame.fork();
+
+        frame.close();
+        first.close();
+        // Closing the same reference twice must not release another one.
+        first.close();
+        verify(imageProxy, never()).close();
+
+        second.close();
+        verify(imageProxy, times(1)).close();
+        assertThat(frame.fork()).isNull();
+    }
+
+    /** An executor which runs its tasks only when asked to. */
+    private static final class QueuedExecutor implements Executor {
+        private final ArrayDeque<Runnable> mTasks = new ArrayDeque<>();
+        private boolean mRejecting;
+
+        @Override
+        public void execute(@NonNull Runnable command) {
+            if (mRejecting) {
+                throw new RejectedExecutionException();
+            }
+            mTasks.add(command);
+        }
+
+        void setRejecting(boolean rejecting) {
+            mRejecting = rejecting;
+        }
+
+        int size() {
+            return mTasks.size();
+        }
+
+        void runNext() {
+            mTasks.poll().run();
+        }
+
+        void runAll() {
+            while (!mTasks.isEmpty()) {
+                runNext();
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.camera.core.internal.utils;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import android.os.Build;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.internal.DoNotInstrument;
+
+/**
+ * Unit tests for {@link ByteArrayPool}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@DoNotInstrument
+@Config(minSdk = Build.VERSION_CODES.LOLLIPOP)
+public class ByteArrayPoolTest {
+
+    @Test
+    public void acquire_returnsArrayOfRequestedSize() {
+        ByteArrayPool pool = new ByteArrayPool(2);
+
+        assertThat(pool.acquire(10).length).isEqualTo(10);
+    }
+
+    @Test
+    public void acquire_reusesReleasedArray() {
+        ByteArrayPool pool = new ByteArrayPool(2);
+        byte[] array = pool.acquire(10);
+        pool.release(array);
+
+        assertThat(pool.acquire(8)).isSameInstanceAs(array);
+    }
+
+    @Test
+    public void acquire_doesNotReuseSmallerArray() {
+        ByteArrayPool pool = new ByteArrayPool(2);
+        byte[] array = pool.acquire(10);
+        pool.release(array);
+
+        byte[] larger = pool.acquire(20);
+
+        assertThat(larger).isNotSameInstanceAs(array);
+        assertThat(larger.length).isEqualTo(20);
+    }
+
+    @Test
+    public void acquire_doesNotReturnSameArrayTwice() {
+        ByteArrayPool pool = new ByteArrayPool(2);
+        pool.release(new byte[10]);
+
+        assertThat(pool.acquire(10)).isNotSameInstanceAs(pool.acquire(10));
+    }
+
+    @Test
+    public void release_keepsLargestArraysWhenFull() {
+        ByteArrayPool pool = new ByteArrayPool(2);
+        byte[] small = new byte[10];
+        byte[] medium = new byte[20];
+        byte[] large = new byte[30];
+        pool.release(small);
+        pool.release(medium);
+        pool.release(large);
+
+        assertThat(pool.acquire(5)).isAnyOf(medium, large);
+        assertThat(pool.acquire(5)).isAnyOf(medium, large);
+        assertThat(pool.acquire(5)).isNotSameInstanceAs(small);
+    }
+}
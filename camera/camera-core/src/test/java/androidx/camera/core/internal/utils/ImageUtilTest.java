@@ -46,6 +46,7 @@ import org.robolectric.annotation.Config;
 import org.robolectric.annotation.internal.DoNotInstrument;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 /**
  * Unit tests for {@link ImageUtil}.
@@ -59,6 +60,10 @@ public class ImageUtilTest {
     private static final Rational ASPECT_RATIO = new Rational(WIDTH, HEIGHT);
     private static final int CROP_WIDTH = 100;
     private static final int CROP_HEIGHT = 100;
+    private static final int YUV_WIDTH = 8;
+    private static final int YUV_HEIGHT = 8;
+    // Rows are padded beyond the width of the image
+    private static final int YUV_ROW_STRIDE = 12;
     private static final String JPEG_IMAGE_DATA_BASE_64 =
             "/9j/4AAQSkZJRgABAQAAAQABAAD/2wBDAAEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEB"
                     + "AQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQH/2wBDAQEBAQEBAQEBAQEBAQEBAQEBAQEB"
@@ -162,4 +167,110 @@ public class ImageUtilTest {
             assertEquals(HEIGHT, resultRect.height());
         }
     }
+
+    @Test
+    public void canConvertYuvToNv21() {
+        ImageProxy image = createYuvImage();
+
+        byte[] nv21 = ImageUtil.yuv_420_888toNv21(image);
+
+        assertThat(nv21).isEqualTo(expectedNv21(new Rect(0, 0, YUV_WIDTH, YUV_HEIGHT)));
+    }
+
+    @Test
+    public void canConvertYuvRegionToNv21() {
+        ImageProxy image = createYuvImage();
+        Rect region = new Rect(2, 2, 6, 6);
+        byte[] nv21 = new byte[ImageUtil.getNv21Size(region.width(), region.height()) + 8];
+
+        ImageUtil.yuv_420_888toNv21(image, region, nv21);
+
+        byte[] expected = expectedNv21(region);
+        assertThat(Arrays.copyOf(nv21, expected.length)).isEqualTo(expected);
+    }
+
+    @Test
+    public void yuvToNv21_leavesPlaneBuffersRewound() {
+        ImageProxy image = createYuvImage();
+
+        ImageUtil.yuv_420_888toNv21(image, new Rect(2, 2, 6, 6),
+                new byte[ImageUtil.getNv21Size(4, 4)]);
+
+        for (ImageProxy.PlaneProxy plane : image.getPlanes()) {
+            assertThat(plane.getBuffer().position()).isEqualTo(0);
+        }
+    }
+
+    /**
+     * Creates a YUV_420_888 image with padded rows, whose u and v planes are interleaved with a
+     * pixel stride of 2, the way most camera HALs produce them.
+     */
+    private static ImageProxy createYuvImage() {
+        ByteBuffer yBuffer = ByteBuffer.allocateDirect(YUV_ROW_STRIDE * YUV_HEIGHT);
+        for (int row = 0; row < YUV_HEIGHT; row++) {
+            for (int col = 0; col < YUV_WIDTH; col++) {
+                yBuffer.put(row * YUV_ROW_STRIDE + col, yValue(col, row));
+            }
+        }
+        // The u and v planes share the same interleaved memory, offset by one byte.
+        ByteBuffer chroma = ByteBuffer.allocateDirect(YUV_ROW_STRIDE * YUV_HEIGHT / 2);
+        for (int row = 0; row < YUV_HEIGHT / 2; row++) {
+            for (int col = 0; col < YUV_WIDTH / 2; col++) {
+                chroma.put(row * YUV_ROW_STRIDE + col * 2, uValue(col, row));
+                chroma.put(row * YUV_ROW_STRIDE + col * 2 + 1, vValue(col, row));
+            }
+        }
+        chroma.position(1);
+        ByteBuffer vBuffer = chroma.slice();
+        chroma.position(0);
+        ByteBuffer uBuffer = chroma.slice();
+
+        FakeImageProxy image = new FakeImageProxy(new FakeImageInfo());
+        image.setFormat(ImageFormat.YUV_420_888);
+        image.setWidth(YUV_WIDTH);
+        image.setHeight(YUV_HEIGHT);
+        image.setPlanes(new ImageProxy.PlaneProxy[]{
+                createPlane(yBuffer, YUV_ROW_STRIDE, 1),
+                createPlane(uBuffer, YUV_ROW_STRIDE, 2),
+                createPlane(vBuffer, YUV_ROW_STRIDE, 2)});
+        return image;
+    }
+
+    private static ImageProxy.PlaneProxy createPlane(ByteBuffer buffer, int rowStride,
+            int pixelStride) {
+        ImageProxy.PlaneProxy plane = mock(ImageProxy.PlaneProxy.class);
+        when(plane.getBuffer()).thenReturn(buffer);
+        when(plane.getRowStride()).thenReturn(rowStride);
+        when(plane.getPixelStride()).thenReturn(pixelStride);
+        return plane;
+    }
+
+    private static byte[] expectedNv21(Rect region) {
+        byte[] nv21 = new byte[ImageUtil.getNv21Size(region.width(), region.height())];
+        int position = 0;
+        for (int row = region.top; row < region.bottom; row++) {
+            for (int col = region.left; col < region.right; col++) {
+                nv21[position++] = yValue(col, row);
+            }
+        }
+        for (int row = region.top / 2; row < region.bottom / 2; row++) {
+            for (int col = region.left / 2; col < region.right / 2; col++) {
+                nv21[position++] = vValue(col, row);
+                nv21[position++] = uValue(col, row);
+            }
+        }
+        return nv21;
+    }
+
+    private static byte yValue(int col, int row) {
+        return (byte) (row * YUV_WIDTH + col);
+    }
+
+    private static byte uValue(int col, int row) {
+        return (byte) (100 + row * YUV_WIDTH + col);
+    }
+
+    private static byte vValue(int col, int row) {
+        return (byte) (200 + row * YUV_WIDTH + col);
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.car.app.serialization;
+
+import android.os.Bundle;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.car.app.model.Action;
+import androidx.car.app.model.ActionStrip;
+import androidx.car.app.model.CarIcon;
+import androidx.car.app.model.ItemList;
+import androidx.car.app.model.ListTemplate;
+import androidx.car.app.model.Row;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.filters.LargeTest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Measures bundling and unbundling a {@link ListTemplate} of {@link #ROW_COUNT} rows, with the
+ * cached per-class plans and with the reflective walk they replace.
+ */
+@LargeTest
+@RunWith(AndroidJUnit4.class)
+public class BundlerBenchmark {
+    private static final int ROW_COUNT = 300;
+
+    @Rule
+    public BenchmarkRule mBenchmarkRule = new BenchmarkRule();
+
+    private ListTemplate mTemplate;
+    private Bundle mBundle;
+
+    @Before
+    public void setUp() throws BundlerException {
+        ItemList.Builder itemListBuilder = ItemList.builder();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            itemListBuilder.addItem(
+                    Row.builder()
+                            .setTitle("Row " + i)
+                            .addText("The first line of row " + i)
+                            .addText("The second line of row " + i)
+                            .setImage(CarIcon.ALERT)
+                            .setOnClickListener(() -> {
+                            })
+                            .build());
+        }
+        mTemplate = ListTemplate.builder()
+                .setTitle("Title")
+                .setSingleList(itemListBuilder.build())
+                .setActionStrip(ActionStrip.builder().addAction(Action.APP_ICON).build())
+                .build();
+        mBundle = Bundler.toBundle(mTemplate);
+    }
+
+    @After
+    public void tearDown() {
+        Bundler.setObjectPlansEnabled(true);
+    }
+
+    @Test
+    public void toBundle() throws BundlerException {
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            Bundler.toBundle(mTemplate);
+        }
+    }
+
+    @Test
+    public void toBundle_reflective() throws BundlerException {
+        Bundler.setObjectPlansEnabled(false);
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            Bundler.toBundle(mTemplate);
+        }
+    }
+
+    @Test
+    public void fromBundle() throws BundlerException {
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            Bundler.fromBundle(mBundle);
+        }
+    }
+
+    @Test
+    public void fromBundle_reflective() throws BundlerException {
+        Bundler.setObjectPlansEnabled(false);
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            Bundler.fromBundle(mBundle);
+        }
+    }
+}
@@ -47,6 +47,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class to serialize and deserialize objects to/from {@link Bundle}s.
@@ -107,6 +108,18 @@ public class Bundler {
     private static final int ENUM = 7;
     private static final int CLASS = 8;
 
+    /** The plans of the custom object classes bundled or unbundled so far, by class. */
+    private static final Map<Class<?>, ObjectPlan> OBJECT_PLANS = new ConcurrentHashMap<>();
+
+    /** The plans of the custom object classes bundled or unbundled so far, by class name. */
+    private static final Map<String, ObjectPlan> OBJECT_PLANS_BY_NAME = new ConcurrentHashMap<>();
+
+    /**
+     * Whether to cache {@link ObjectPlan}s. When disabled, objects are bundled and unbundled by
+     * walking them with reflection on every call, which produces the same bundles more slowly.
+     */
+    private static volatile boolean sObjectPlansEnabled = true;
+
     /**
      * Serializes an object into a {@link Bundle} for sending over IPC.
      *
@@ -345,32 +358,29 @@ public class Bundler {
     }
 
     private static Bundle serializeObject(Object obj, Trace trace) throws BundlerException {
-        String className = obj.getClass().getName();
-        try {
-            obj.getClass().getDeclaredConstructor();
-        } catch (NoSuchMethodException e) {
+        ObjectPlan plan = getObjectPlan(obj.getClass());
+        if (plan.mConstructor == null) {
             throw new TracedBundlerException(
-                    "Class to deserialize is missing a no args constructor: " + className, trace,
-                    e);
+                    "Class to deserialize is missing a no args constructor: " + plan.mClassName,
+                    trace, plan.mMissingConstructor);
         }
-        List<Field> fields = getFields(obj.getClass());
-        Bundle bundle = new Bundle(fields.size() + 2);
+        Bundle bundle = new Bundle(plan.mFields.length + 2);
 
         bundle.putInt(TAG_CLASS_TYPE, OBJECT);
-        bundle.putString(TAG_CLASS_NAME, className);
-        for (Field field : fields) {
-            field.setAccessible(true);
-            String fieldName = getFieldName(field);
-
+        bundle.putString(TAG_CLASS_NAME, plan.mClassName);
+        for (FieldPlan field : plan.mFields) {
             Object value = null;
             try {
-                value = field.get(obj);
+                value = field.mField.get(obj);
             } catch (IllegalAccessException e) {
-                throw new TracedBundlerException("Field is not accessible: " + fieldName, trace, e);
+                throw new TracedBundlerException("Field is not accessible: " + field.mKey, trace,
+                        e);
             }
 
             if (value != null) {
-                bundle.putParcelable(fieldName, toBundle(value, field.getName(), trace));
+                bundle.putParcelable(field.mKey, field.mIsPrimitive
+                        ? serializePrimitive(value, trace)
+                        : toBundle(value, field.mName, trace));
             }
         }
 
@@ -529,34 +539,35 @@ public class Bundler {
         }
 
         try {
-            Class<?> clazz = Class.forName(className);
-            Constructor<?> constructor = clazz.getDeclaredConstructor();
-            constructor.setAccessible(true);
-            Object obj = constructor.newInstance();
-
-            for (Field field : getFields(clazz)) {
-                field.setAccessible(true);
-                String fieldName = getFieldName(field);
+            ObjectPlan plan = getObjectPlan(className);
+            if (plan.mConstructor == null) {
+                throw new TracedBundlerException(
+                        "Object missing no args constructor: " + className, trace,
+                        plan.mMissingConstructor);
+            }
+            Object obj = plan.mConstructor.newInstance();
 
-                Object value = bundle.get(fieldName);
+            for (FieldPlan field : plan.mFields) {
+                Object value = bundle.get(field.mKey);
                 if (value == null) {
                     // If we don't find the field in the bundle, try dejetifying it.
-                    value = bundle.get(
-                            fieldName.replaceAll(ICON_COMPAT_ANDROIDX, ICON_COMPAT_SUPPORT));
+                    value = bundle.get(field.mDejetifiedKey);
                 }
 
                 if (value instanceof Bundle) {
-                    field.set(obj, fromBundle((Bundle) value, trace));
-                } else if (value == null) {
-                    Log.d(TAG, "Value is null for field: " + field);
+                    Bundle valueBundle = (Bundle) value;
+                    if (field.mIsPrimitive && valueBundle.getInt(TAG_CLASS_TYPE) == PRIMITIVE) {
+                        field.mField.set(obj, deserializePrimitive(valueBundle, trace));
+                    } else {
+                        field.mField.set(obj, fromBundle(valueBundle, trace));
+                    }
+                } else if (value == null && trace.isLoggable()) {
+                    Log.v(TAG, "Value is null for field: " + field.mField);
                 }
             }
             return obj;
         } catch (ClassNotFoundException e) {
             throw new TracedBundlerException("Object for unknown class: " + className, trace, e);
-        } catch (NoSuchMethodException e) {
-            throw new TracedBundlerException(
-                    "Object missing no args constructor: " + className, trace, e);
         } catch (ReflectiveOperationException e) {
             // Should not happen since we set it as accessible.
             throw new TracedBundlerException(
@@ -567,6 +578,43 @@ public class Bundler {
         }
     }
 
+    /**
+     * Returns the plan to bundle objects of the given class, resolving it the first time the
+     * class is seen.
+     */
+    private static ObjectPlan getObjectPlan(Class<?> clazz) {
+        if (!sObjectPlansEnabled) {
+            return new ObjectPlan(clazz, /* bindKnownTypes= */ false);
+        }
+        ObjectPlan plan = OBJECT_PLANS.get(clazz);
+        if (plan == null) {
+            plan = new ObjectPlan(clazz, /* bindKnownTypes= */ true);
+            OBJECT_PLANS.put(clazz, plan);
+            OBJECT_PLANS_BY_NAME.put(plan.mClassName, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * Returns the plan to unbundle objects of the class with the given name, resolving it the
+     * first time the class is seen.
+     */
+    private static ObjectPlan getObjectPlan(String className) throws ClassNotFoundException {
+        ObjectPlan plan = sObjectPlansEnabled ? OBJECT_PLANS_BY_NAME.get(className) : null;
+        return plan != null ? plan : getObjectPlan(Class.forName(className));
+    }
+
+    /**
+     * Sets whether to cache the plans used to bundle and unbundle custom objects, so that the
+     * reflective path they replace can be compared against them.
+     */
+    @VisibleForTesting
+    static void setObjectPlansEnabled(boolean enabled) {
+        sObjectPlansEnabled = enabled;
+        OBJECT_PLANS.clear();
+        OBJECT_PLANS_BY_NAME.clear();
+    }
+
     @VisibleForTesting
     static String getFieldName(Field field) {
         return getFieldName(field.getDeclaringClass().getName(), field.getName());
@@ -577,7 +625,7 @@ public class Bundler {
         return className + fieldName;
     }
 
-    private static List<Field> getFields(@Nullable Class<?> clazz) {
+    static List<Field> getFields(@Nullable Class<?> clazz) {
         List<Field> fields = new ArrayList<>();
         if (clazz == null || clazz == Object.class) {
             return fields;
@@ -681,6 +729,77 @@ public class Bundler {
                 || obj instanceof String;
     }
 
+    /** Returns whether the values of a field of the given type are all primitives. */
+    static boolean isPrimitiveClass(Class<?> clazz) {
+        return clazz.isPrimitive()
+                || clazz == Boolean.class
+                || clazz == Byte.class
+                || clazz == Character.class
+                || clazz == Short.class
+                || clazz == Integer.class
+                || clazz == Long.class
+                || clazz == Double.class
+                || clazz == Float.class
+                || clazz == String.class;
+    }
+
+    /**
+     * The reflective information needed to bundle and unbundle objects of a custom class, which is
+     * resolved once per class rather than for every object.
+     */
+    private static class ObjectPlan {
+        final String mClassName;
+        @Nullable
+        final Constructor<?> mConstructor;
+        @Nullable
+        final NoSuchMethodException mMissingConstructor;
+        final FieldPlan[] mFields;
+
+        ObjectPlan(Class<?> clazz, boolean bindKnownTypes) {
+            mClassName = clazz.getName();
+
+            Constructor<?> constructor = null;
+            NoSuchMethodException missingConstructor = null;
+            try {
+                constructor = clazz.getDeclaredConstructor();
+                constructor.setAccessible(true);
+            } catch (NoSuchMethodException e) {
+                missingConstructor = e;
+            }
+            mConstructor = constructor;
+            mMissingConstructor = missingConstructor;
+
+            List<Field> fields = getFields(clazz);
+            mFields = new FieldPlan[fields.size()];
+            for (int i = 0; i < mFields.length; i++) {
+                mFields[i] = new FieldPlan(fields.get(i), bindKnownTypes);
+            }
+        }
+    }
+
+    /** A field of a custom class, with the keys it is bundled under. */
+    private static class FieldPlan {
+        final Field mField;
+        final String mName;
+        final String mKey;
+        final String mDejetifiedKey;
+
+        /**
+         * Whether the values of the field are always primitives, which are bundled directly
+         * instead of going through the type dispatch of {@link #toBundle(Object)}.
+         */
+        final boolean mIsPrimitive;
+
+        FieldPlan(Field field, boolean bindKnownTypes) {
+            field.setAccessible(true);
+            mField = field;
+            mName = field.getName();
+            mKey = getFieldName(field);
+            mDejetifiedKey = mKey.replaceAll(ICON_COMPAT_ANDROIDX, ICON_COMPAT_SUPPORT);
+            mIsPrimitive = bindKnownTypes && isPrimitiveClass(field.getType());
+        }
+    }
+
     /** Represents a named frame in the serialization stack tracked by a {@link Trace} instance. */
     private static class Frame {
         private final Object mObj;
@@ -728,13 +847,14 @@ public class Bundler {
 
         private String[] mIndents; // memoized blank lines used for indentation
         private final ArrayDeque<Frame> mFrames;
+        private final boolean mIsLoggable;
 
         static Trace create() {
-            return new Trace(null, "", new ArrayDeque<>());
+            return new Trace(null, "", new ArrayDeque<>(), Log.isLoggable(TAG, Log.VERBOSE));
         }
 
         static Trace fromParent(@Nullable Object obj, String display, Trace parent) {
-            return new Trace(obj, display, parent.mFrames);
+            return new Trace(obj, display, parent.mFrames, parent.mIsLoggable);
         }
 
         static String bundleToString(Bundle bundle) {
@@ -752,6 +872,11 @@ public class Bundler {
             mFrames.removeFirst();
         }
 
+        /** Returns whether the frames and other verbose details should be logged. */
+        boolean isLoggable() {
+            return mIsLoggable;
+        }
+
         boolean find(Object obj) {
             for (Frame frame : mFrames) {
                 if (frame.getObj() == obj) {
@@ -798,12 +923,16 @@ public class Bundler {
         }
 
         @SuppressWarnings("method.invocation.invalid")
-        private Trace(@Nullable Object obj, String display, ArrayDeque<Frame> frames) {
+        private Trace(@Nullable Object obj, String display, ArrayDeque<Frame> frames,
+                boolean isLoggable) {
             mFrames = frames;
+            mIsLoggable = isLoggable;
             if (obj != null) { // not the root
                 Frame frame = new Frame(obj, display);
                 frames.addFirst(frame);
-                Log.v(TAG, getIndent(frames.size()) + frame.toTraceString());
+                if (isLoggable) {
+                    Log.v(TAG, getIndent(frames.size()) + frame.toTraceString());
+                }
             }
         }
     }
@@ -562,6 +562,68 @@ public class BundlerTest {
         assertThat(iconOut).isEqualTo(image);
     }
 
+    @Test
+    public void objectPlans_bundleIdenticallyToReflection() throws BundlerException {
+        CarIcon carIcon = TestUtils.getTestCarIcon(mContext, "ic_test_1");
+        ItemList.Builder itemListBuilder = ItemList.builder();
+        for (int i = 0; i < 10; i++) {
+            itemListBuilder.addItem(
+                    Row.builder()
+                            .setTitle("row" + i)
+                            .addText("subtitle" + i)
+                            .setImage(carIcon)
+                            .build());
+        }
+        ListTemplate template =
+                ListTemplate.builder()
+                        .setTitle("title")
+                        .setSingleList(itemListBuilder.build())
+                        .setActionStrip(ActionStrip.builder().addAction(Action.APP_ICON).build())
+                        .build();
+        HashMap<Integer, Double> map = new HashMap<>();
+        map.put(1, 5.6);
+        Set<String> set = new HashSet<>();
+        set.add("a");
+        TestClassExtended value =
+                new TestClassExtended(
+                        false,
+                        map,
+                        set,
+                        8,
+                        "howdy",
+                        true,
+                        8f,
+                        3432.932,
+                        LatLng.create(23.32, 234.234),
+                        Arrays.asList("rafael", "lima"));
+
+        for (Object object : Arrays.asList(template, value)) {
+            byte[] reflectiveBytes;
+            try {
+                Bundler.setObjectPlansEnabled(false);
+                reflectiveBytes = marshall(Bundler.toBundle(object));
+            } finally {
+                Bundler.setObjectPlansEnabled(true);
+            }
+
+            // Bundle twice, to compare both the plans as they are created and once cached.
+            assertThat(marshall(Bundler.toBundle(object))).isEqualTo(reflectiveBytes);
+            Bundle bundle = Bundler.toBundle(object);
+            assertThat(marshall(bundle)).isEqualTo(reflectiveBytes);
+            assertThat(Bundler.fromBundle(bundle)).isEqualTo(object);
+        }
+    }
+
+    private static byte[] marshall(Bundle bundle) {
+        Parcel parcel = Parcel.obtain();
+        try {
+            parcel.writeBundle(bundle);
+            return parcel.marshall();
+        } finally {
+            parcel.recycle();
+        }
+    }
+
     @SuppressWarnings("unused")
     private static class Click {
         private final Clack mClack;
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.emoji.benchmark
+
+import android.graphics.Typeface
+import androidx.benchmark.junit4.BenchmarkRule
+import androidx.benchmark.junit4.measureRepeated
+import androidx.emoji.text.MetadataRepo
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.filters.LargeTest
+import androidx.test.filters.SdkSuppress
+import androidx.test.platform.app.InstrumentationRegistry
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import java.nio.channels.FileChannel
+
+/**
+ * Measures the time and allocations needed to build a [MetadataRepo] from the bundled font,
+ * which is dominated by building the emoji trie.
+ */
+@LargeTest
+@SdkSuppress(minSdkVersion = 19)
+@RunWith(AndroidJUnit4::class)
+class MetadataRepoBenchmark {
+
+    @get:Rule
+    val benchmarkRule = BenchmarkRule()
+
+    private val assets = InstrumentationRegistry.getInstrumentation().context.assets
+
+    private val typeface = Typeface.createFromAsset(assets, FONT_FILE)
+
+    @Test
+    fun createFromInputStream() {
+        benchmarkRule.measureRepeated {
+            val inputStream = runWithTimingDisabled { assets.open(FONT_FILE) }
+            inputStream.use {
+                MetadataRepo.create(typeface, it)
+            }
+        }
+    }
+
+    @Test
+    fun createFromMappedBuffer() {
+        val buffer = assets.openFd(FONT_FILE).use { fd ->
+            fd.createInputStream().channel.use { channel ->
+                channel.map(FileChannel.MapMode.READ_ONLY, fd.startOffset, fd.length)
+            }
+        }
+        benchmarkRule.measureRepeated {
+            MetadataRepo.create(typeface, buffer)
+        }
+    }
+
+    @Test
+    fun createFromAsset() {
+        benchmarkRule.measureRepeated {
+            MetadataRepo.create(assets, FONT_FILE)
+        }
+    }
+
+    companion object {
+        private const val FONT_FILE = "NotoColorEmojiCompat.ttf"
+    }
+}
@@ -19,6 +19,7 @@ import static androidx.emoji.util.Emoji.CHAR_DEFAULT_EMOJI_STYLE;
 import static androidx.emoji.util.Emoji.CHAR_DEFAULT_TEXT_STYLE;
 import static androidx.emoji.util.Emoji.CHAR_DIGIT;
 import static androidx.emoji.util.Emoji.CHAR_FITZPATRICK;
+import static androidx.emoji.util.Emoji.CHAR_MAN;
 import static androidx.emoji.util.Emoji.CHAR_VS_EMOJI;
 import static androidx.emoji.util.Emoji.CHAR_VS_TEXT;
 import static androidx.emoji.util.Emoji.DEFAULT_TEXT_STYLE;
@@ -371,6 +372,63 @@ public class EmojiCompatTest {
         assertThat(editable, hasEmojiAt(EMOJI_SINGLE_CODEPOINT, start, end));
     }
 
+    @Test
+    @SdkSuppress(minSdkVersion = 19)
+    public void testProcessEdit_widensToEmojiBeforeEdit() {
+        final Editable editable = new SpannableStringBuilder(new TestString(CHAR_MAN)
+                .withPrefix().withSuffix().toString());
+        EmojiCompat.get().process(editable);
+        final int start = editable.toString().indexOf(new String(Character.toChars(CHAR_MAN)));
+        final int end = start + EMOJI_SKIN_MODIFIER.charCount();
+        final int insertStart = start + Character.charCount(CHAR_MAN);
+        editable.insert(insertStart, new TestString(CHAR_FITZPATRICK).toString());
+
+        EmojiCompat.get().processEdit(editable, insertStart, Character.charCount(CHAR_FITZPATRICK));
+
+        assertThat(editable, hasEmojiCount(1));
+        assertThat(editable, hasEmojiAt(EMOJI_SKIN_MODIFIER, start, end));
+    }
+
+    @Test
+    @SdkSuppress(minSdkVersion = 19)
+    public void testProcessEdit_keepsSpansOutsideOfEdit() {
+        final Editable editable = new SpannableStringBuilder(new TestString(EMOJI_SINGLE_CODEPOINT)
+                .append('a', 'b').append(EMOJI_SINGLE_CODEPOINT).toString());
+        EmojiCompat.get().process(editable);
+        final EmojiSpan[] spans = editable.getSpans(0, editable.length(), EmojiSpan.class);
+        final int insertStart = EMOJI_SINGLE_CODEPOINT.charCount() + 1;
+        editable.insert(insertStart, new TestString(EMOJI_FLAG).toString());
+
+        EmojiCompat.get().processEdit(editable, insertStart, EMOJI_FLAG.charCount());
+
+        assertThat(editable, hasEmojiCount(3));
+        assertThat(editable, hasEmojiAt(EMOJI_FLAG, insertStart,
+                insertStart + EMOJI_FLAG.charCount()));
+        for (EmojiSpan span : spans) {
+            assertTrue(editable.getSpanStart(span) >= 0);
+        }
+    }
+
+    @Test
+    @SdkSuppress(minSdkVersion = 19)
+    public void testProcessEdit_withDeletion() {
+        final Editable editable = new SpannableStringBuilder(new TestString(CHAR_MAN).append('a')
+                .append(CHAR_FITZPATRICK).toString());
+        final int deleteStart = Character.charCount(CHAR_MAN);
+
+        editable.delete(deleteStart, deleteStart + 1);
+        EmojiCompat.get().processEdit(editable, deleteStart, 0);
+
+        assertThat(editable, hasEmojiCount(1));
+        assertThat(editable, hasEmojiAt(EMOJI_SKIN_MODIFIER, 0, EMOJI_SKIN_MODIFIER.charCount()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @SdkSuppress(minSdkVersion = 19)
+    public void testProcessEdit_withCountGreaterThanLength() {
+        EmojiCompat.get().processEdit(new SpannableString("abc"), 1, 3);
+    }
+
     @Test
     public void testProcess_doesNotCreateSpannable_ifNoEmoji() {
         CharSequence processed = EmojiCompat.get().process("abc");
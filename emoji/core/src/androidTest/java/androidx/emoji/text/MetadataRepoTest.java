@@ -92,16 +92,41 @@ public class MetadataRepoTest {
         assertEquals(null, getNode(new int[]{1, 2, 3, 4, 5}));
     }
 
-    final EmojiMetadata getNode(final int[] codepoints) {
-        return getNode(mMetadataRepo.getRootNode(), codepoints, 0);
+    @Test
+    public void testPut_siblingsInAnyOrder() {
+        final int[][] codePoints = new int[][]{{5}, {3, 9}, {7}, {3, 1}, {3}, {1, 2}};
+        final EmojiMetadata[] metadata = new EmojiMetadata[codePoints.length];
+        for (int i = 0; i < codePoints.length; i++) {
+            metadata[i] = new TestEmojiMetadata(codePoints[i]);
+            mMetadataRepo.put(metadata[i]);
+        }
+
+        for (int i = 0; i < codePoints.length; i++) {
+            assertSame(metadata[i], getNode(codePoints[i]));
+        }
+        assertEquals(null, getNode(new int[]{1}));
+        assertEquals(null, getNode(new int[]{3, 5}));
+        assertEquals(null, getNode(new int[]{4}));
     }
 
-    final EmojiMetadata getNode(MetadataRepo.Node node, final int[] codepoints, int start) {
-        if (codepoints.length < start) return null;
-        if (codepoints.length == start) return node.getData();
+    @Test
+    public void testPut_sameCodePointsReplacesMetadata() {
+        final int[] codePoint = new int[]{1, 2};
+        mMetadataRepo.put(new TestEmojiMetadata(codePoint));
+        final TestEmojiMetadata metadata = new TestEmojiMetadata(codePoint);
+        mMetadataRepo.put(metadata);
+
+        assertSame(metadata, getNode(codePoint));
+    }
 
-        final MetadataRepo.Node childNode = node.get(codepoints[start]);
-        if (childNode == null) return null;
-        return getNode(childNode, codepoints, start + 1);
+    final EmojiMetadata getNode(final int[] codepoints) {
+        final MetadataRepo.Trie trie = mMetadataRepo.getTrie();
+        int node = MetadataRepo.Trie.ROOT;
+        for (int codepoint : codepoints) {
+            node = trie.getChild(node, codepoint);
+            if (node == MetadataRepo.Trie.NO_NODE) return null;
+        }
+        final int index = trie.getMetadataIndex(node);
+        return index == MetadataRepo.Trie.NO_NODE ? null : mMetadataRepo.getMetadata(index);
     }
 }
@@ -23,6 +23,7 @@ import android.os.Build;
 import android.os.Handler;
 import android.os.Looper;
 import android.text.Editable;
+import android.text.Spannable;
 import android.text.method.KeyListener;
 import android.view.KeyEvent;
 import android.view.inputmethod.EditorInfo;
@@ -758,21 +759,90 @@ public class EmojiCompat {
             return charSequence;
         }
 
-        final boolean replaceAll;
+        return mHelper.process(charSequence, start, end, maxEmojiCount,
+                isReplaceAll(replaceStrategy));
+    }
+
+    /**
+     * Updates the EmojiSpans of a Spannable after {@code count} characters starting at
+     * {@code start} were inserted or replaced, without checking the rest of the text again. The
+     * range is widened to the boundaries of the emoji sequences it touches, so that e.g. a skin
+     * tone modifier typed after an existing emoji updates the EmojiSpan of that emoji. Can be
+     * called with the arguments of {@link android.text.TextWatcher#onTextChanged}, which makes
+     * processing an edit proportional to the size of the edit rather than to the size of the
+     * text.
+     * <p>
+     * When used on devices running API 18 or below, does nothing.
+     *
+     * @param spannable Spannable that was edited, cannot be {@code null}
+     * @param start start index of the new text in the spannable, should be greater than or equal
+     *              to {@code 0}, also less than or equal to {@code spannable.length()}
+     * @param count length of the new text, should be greater than or equal to {@code 0}, and
+     *              {@code start + count} should be less than or equal to
+     *              {@code spannable.length()}
+     *
+     * @throws IllegalStateException if not initialized yet
+     * @throws IllegalArgumentException if the edited range is out of the bounds of the spannable
+     * @see #processEdit(Spannable, int, int, int, int)
+     */
+    public void processEdit(@NonNull final Spannable spannable,
+            @IntRange(from = 0) final int start, @IntRange(from = 0) final int count) {
+        processEdit(spannable, start, count, EMOJI_COUNT_UNLIMITED, REPLACE_STRATEGY_DEFAULT);
+    }
+
+    /**
+     * Updates the EmojiSpans of a Spannable after {@code count} characters starting at
+     * {@code start} were inserted or replaced, without checking the rest of the text again.
+     * <p>
+     * When used on devices running API 18 or below, does nothing.
+     *
+     * @param spannable Spannable that was edited, cannot be {@code null}
+     * @param start start index of the new text in the spannable, should be greater than or equal
+     *              to {@code 0}, also less than or equal to {@code spannable.length()}
+     * @param count length of the new text, should be greater than or equal to {@code 0}, and
+     *              {@code start + count} should be less than or equal to
+     *              {@code spannable.length()}
+     * @param maxEmojiCount maximum number of emojis in the {@code spannable}, should be greater
+     *                      than or equal to {@code 0}
+     * @param replaceStrategy whether to replace all emoji with {@link EmojiSpan}s, should be one of
+     *                        {@link #REPLACE_STRATEGY_DEFAULT},
+     *                        {@link #REPLACE_STRATEGY_NON_EXISTENT},
+     *                        {@link #REPLACE_STRATEGY_ALL}
+     *
+     * @throws IllegalStateException if not initialized yet
+     * @throws IllegalArgumentException if the edited range is out of the bounds of the spannable,
+     *                                  or {@code maxEmojiCount < 0}
+     * @see #processEdit(Spannable, int, int)
+     */
+    public void processEdit(@NonNull final Spannable spannable,
+            @IntRange(from = 0) final int start, @IntRange(from = 0) final int count,
+            @IntRange(from = 0) final int maxEmojiCount, @ReplaceStrategy int replaceStrategy) {
+        Preconditions.checkState(isInitialized(), "Not initialized yet");
+        Preconditions.checkNotNull(spannable, "spannable cannot be null");
+        Preconditions.checkArgumentNonnegative(start, "start cannot be negative");
+        Preconditions.checkArgumentNonnegative(count, "count cannot be negative");
+        Preconditions.checkArgumentNonnegative(maxEmojiCount, "maxEmojiCount cannot be negative");
+        Preconditions.checkArgument(start + count <= spannable.length(),
+                "start + count should be <= than spannable length");
+
+        if (spannable.length() == 0) {
+            return;
+        }
+
+        mHelper.processEdit(spannable, start, start + count, maxEmojiCount,
+                isReplaceAll(replaceStrategy));
+    }
+
+    private boolean isReplaceAll(@ReplaceStrategy int replaceStrategy) {
         switch (replaceStrategy) {
             case REPLACE_STRATEGY_ALL:
-                replaceAll = true;
-                break;
+                return true;
             case REPLACE_STRATEGY_NON_EXISTENT:
-                replaceAll = false;
-                break;
+                return false;
             case REPLACE_STRATEGY_DEFAULT:
             default:
-                replaceAll = mReplaceAll;
-                break;
+                return mReplaceAll;
         }
-
-        return mHelper.process(charSequence, start, end, maxEmojiCount, replaceAll);
     }
 
     /**
@@ -1232,6 +1302,12 @@ public class EmojiCompat {
             return charSequence;
         }
 
+        void processEdit(@NonNull final Spannable spannable,
+                @IntRange(from = 0) final int start, @IntRange(from = 0) final int end,
+                @IntRange(from = 0) final int maxEmojiCount, boolean replaceAll) {
+            // Leaves the given spannable as it is.
+        }
+
         void updateEditorInfoAttrs(@NonNull final EditorInfo outAttrs) {
             // Does not add any EditorInfo attributes.
         }
@@ -1316,6 +1392,12 @@ public class EmojiCompat {
             return mProcessor.process(charSequence, start, end, maxEmojiCount, replaceAll);
         }
 
+        @Override
+        void processEdit(@NonNull Spannable spannable, int start, int end, int maxEmojiCount,
+                boolean replaceAll) {
+            mProcessor.processEdit(spannable, start, end, maxEmojiCount, replaceAll);
+        }
+
         @Override
         void updateEditorInfoAttrs(@NonNull EditorInfo outAttrs) {
             outAttrs.extras.putInt(EDITOR_INFO_METAVERSION_KEY, mMetadataRepo.getMetadataVersion());
@@ -78,6 +78,20 @@ final class EmojiProcessor {
      */
     private static final int ACTION_FLUSH = 3;
 
+    /**
+     * Codepoints used to find the boundaries of emoji sequences around an edit.
+     */
+    private static final int CHAR_ZWJ = 0x200D;
+    private static final int CHAR_VS_TEXT = 0xFE0E;
+    private static final int CHAR_VS_EMOJI = 0xFE0F;
+    private static final int CHAR_KEYCAP = 0x20E3;
+    private static final int CHAR_SKIN_TONE_FIRST = 0x1F3FB;
+    private static final int CHAR_SKIN_TONE_LAST = 0x1F3FF;
+    private static final int CHAR_TAG_FIRST = 0xE0020;
+    private static final int CHAR_TAG_LAST = 0xE007F;
+    private static final int CHAR_REGIONAL_INDICATOR_FIRST = 0x1F1E6;
+    private static final int CHAR_REGIONAL_INDICATOR_LAST = 0x1F1FF;
+
     /**
      * Factory used to create EmojiSpans.
      */
@@ -118,7 +132,7 @@ final class EmojiProcessor {
     }
 
     EmojiMetadata getEmojiMetadata(@NonNull final CharSequence charSequence) {
-        final ProcessorSm sm = new ProcessorSm(mMetadataRepo.getRootNode(),
+        final ProcessorSm sm = new ProcessorSm(mMetadataRepo,
                 mUseEmojiAsDefaultStyle, mEmojiAsDefaultStyleExceptions);
         final int end = charSequence.length();
         int currentOffset = 0;
@@ -220,7 +234,7 @@ final class EmojiProcessor {
             }
             // add new ones
             int addedCount = 0;
-            final ProcessorSm sm = new ProcessorSm(mMetadataRepo.getRootNode(),
+            final ProcessorSm sm = new ProcessorSm(mMetadataRepo,
                     mUseEmojiAsDefaultStyle, mEmojiAsDefaultStyleExceptions);
 
             int currentOffset = start;
@@ -279,6 +293,85 @@ final class EmojiProcessor {
         }
     }
 
+    /**
+     * Checks the text around an edit of a Spannable for emojis, updating only the EmojiSpans that
+     * the edit can affect. The edited range is widened to the boundaries of the emoji sequences it
+     * touches, e.g. a skin tone modifier typed after an emoji is processed together with that
+     * emoji. EmojiSpans outside of the widened range are kept as they are.
+     *
+     * @param spannable Spannable that was edited
+     * @param start start index of the new text in the spannable
+     * @param end end index of the new text in the spannable
+     * @param maxEmojiCount maximum number of emojis in the {@code spannable}
+     * @param replaceAll whether to replace all emoji with {@link EmojiSpan}s
+     */
+    void processEdit(@NonNull final Spannable spannable, @IntRange(from = 0) final int start,
+            @IntRange(from = 0) final int end, @IntRange(from = 0) final int maxEmojiCount,
+            final boolean replaceAll) {
+        final int sequenceStart = getSequenceStart(spannable, start);
+        final int sequenceEnd = getSequenceEnd(spannable, end);
+        if (sequenceStart < sequenceEnd) {
+            process(spannable, sequenceStart, sequenceEnd, maxEmojiCount, replaceAll);
+        }
+    }
+
+    /**
+     * @return the start of the emoji sequence that {@code offset} is in, or {@code offset} if it
+     * is already at a sequence boundary
+     */
+    static int getSequenceStart(@NonNull final CharSequence charSequence, int offset) {
+        while (!isSequenceBoundary(charSequence, offset)) {
+            offset -= Character.charCount(Character.codePointBefore(charSequence, offset));
+        }
+        return offset;
+    }
+
+    /**
+     * @return the end of the emoji sequence that {@code offset} is in, or {@code offset} if it
+     * is already at a sequence boundary
+     */
+    static int getSequenceEnd(@NonNull final CharSequence charSequence, int offset) {
+        while (!isSequenceBoundary(charSequence, offset)) {
+            offset += Character.charCount(Character.codePointAt(charSequence, offset));
+        }
+        return offset;
+    }
+
+    /**
+     * @return {@code false} if the codepoints before and after {@code offset} can be a part of
+     * the same emoji sequence
+     */
+    private static boolean isSequenceBoundary(@NonNull final CharSequence charSequence,
+            final int offset) {
+        if (offset <= 0 || offset >= charSequence.length()) {
+            return true;
+        }
+        final int before = Character.codePointBefore(charSequence, offset);
+        final int after = Character.codePointAt(charSequence, offset);
+        if (before == CHAR_ZWJ || isSequenceContinuation(after)) {
+            return false;
+        }
+        return !(isRegionalIndicator(before) && isRegionalIndicator(after));
+    }
+
+    /**
+     * @return {@code true} if the codepoint can only appear after another codepoint of an emoji
+     * sequence, such as a variation selector, a skin tone modifier or a keycap
+     */
+    private static boolean isSequenceContinuation(final int codePoint) {
+        return codePoint == CHAR_ZWJ
+                || codePoint == CHAR_VS_TEXT
+                || codePoint == CHAR_VS_EMOJI
+                || codePoint == CHAR_KEYCAP
+                || (codePoint >= CHAR_SKIN_TONE_FIRST && codePoint <= CHAR_SKIN_TONE_LAST)
+                || (codePoint >= CHAR_TAG_FIRST && codePoint <= CHAR_TAG_LAST);
+    }
+
+    private static boolean isRegionalIndicator(final int codePoint) {
+        return codePoint >= CHAR_REGIONAL_INDICATOR_FIRST
+                && codePoint <= CHAR_REGIONAL_INDICATOR_LAST;
+    }
+
     /**
      * Handles onKeyDown commands from a {@link KeyListener} and if {@code keyCode} is one of
      * {@link KeyEvent#KEYCODE_DEL} or {@link KeyEvent#KEYCODE_FORWARD_DEL} it tries to delete an
@@ -476,20 +569,25 @@ final class EmojiProcessor {
         private int mState = STATE_DEFAULT;
 
         /**
-         * Root of the trie
+         * Repo that owns the metadata the trie points to
+         */
+        private final MetadataRepo mMetadataRepo;
+
+        /**
+         * The trie to walk
          */
-        private final MetadataRepo.Node mRootNode;
+        private final MetadataRepo.Trie mTrie;
 
         /**
          * Pointer to the node after last codepoint.
          */
-        private MetadataRepo.Node mCurrentNode;
+        private int mCurrentNode = MetadataRepo.Trie.ROOT;
 
         /**
          * The node where ACTION_FLUSH is called. Required since after flush action is
          * returned mCurrentNode is reset to be the root.
          */
-        private MetadataRepo.Node mFlushNode;
+        private int mFlushNode = MetadataRepo.Trie.NO_NODE;
 
         /**
          * The code point that was checked.
@@ -511,10 +609,10 @@ final class EmojiProcessor {
          */
         private final int[] mEmojiAsDefaultStyleExceptions;
 
-        ProcessorSm(MetadataRepo.Node rootNode, boolean useEmojiAsDefaultStyle,
+        ProcessorSm(MetadataRepo metadataRepo, boolean useEmojiAsDefaultStyle,
                 int[] emojiAsDefaultStyleExceptions) {
-            mRootNode = rootNode;
-            mCurrentNode = rootNode;
+            mMetadataRepo = metadataRepo;
+            mTrie = metadataRepo.getTrie();
             mUseEmojiAsDefaultStyle = useEmojiAsDefaultStyle;
             mEmojiAsDefaultStyleExceptions = emojiAsDefaultStyleExceptions;
         }
@@ -522,10 +620,10 @@ final class EmojiProcessor {
         @Action
         int check(final int codePoint) {
             final int action;
-            MetadataRepo.Node node = mCurrentNode.get(codePoint);
+            final int node = mTrie.getChild(mCurrentNode, codePoint);
             switch (mState) {
                 case STATE_WALKING:
-                    if (node != null) {
+                    if (node != MetadataRepo.Trie.NO_NODE) {
                         mCurrentNode = node;
                         mCurrentDepth += 1;
                         action = ACTION_ADVANCE_END;
@@ -534,7 +632,7 @@ final class EmojiProcessor {
                             action = reset();
                         } else if (isEmojiStyle(codePoint)) {
                             action = ACTION_ADVANCE_END;
-                        } else if (mCurrentNode.getData() != null) {
+                        } else if (getData(mCurrentNode) != null) {
                             if (mCurrentDepth == 1) {
                                 if (shouldUseEmojiPresentationStyleForSingleCodepoint()) {
                                     mFlushNode = mCurrentNode;
@@ -555,7 +653,7 @@ final class EmojiProcessor {
                     break;
                 case STATE_DEFAULT:
                 default:
-                    if (node == null) {
+                    if (node == MetadataRepo.Trie.NO_NODE) {
                         action = reset();
                     } else {
                         mState = STATE_WALKING;
@@ -573,7 +671,7 @@ final class EmojiProcessor {
         @Action
         private int reset() {
             mState = STATE_DEFAULT;
-            mCurrentNode = mRootNode;
+            mCurrentNode = MetadataRepo.Trie.ROOT;
             mCurrentDepth = 0;
             return ACTION_ADVANCE_BOTH;
         }
@@ -582,14 +680,25 @@ final class EmojiProcessor {
          * @return the metadata node when ACTION_FLUSH is returned
          */
         EmojiMetadata getFlushMetadata() {
-            return mFlushNode.getData();
+            return getData(mFlushNode);
         }
 
         /**
          * @return current pointer to the metadata node in the trie
          */
         EmojiMetadata getCurrentMetadata() {
-            return mCurrentNode.getData();
+            return getData(mCurrentNode);
+        }
+
+        /**
+         * @return the metadata that ends at the given node of the trie, or {@code null}
+         */
+        private EmojiMetadata getData(final int node) {
+            if (node == MetadataRepo.Trie.NO_NODE) {
+                return null;
+            }
+            final int index = mTrie.getMetadataIndex(node);
+            return index == MetadataRepo.Trie.NO_NODE ? null : mMetadataRepo.getMetadata(index);
         }
 
         /**
@@ -600,12 +709,12 @@ final class EmojiProcessor {
          * @return whether the current state requires an emoji to be added
          */
         boolean isInFlushableState() {
-            return mState == STATE_WALKING && mCurrentNode.getData() != null
+            return mState == STATE_WALKING && getData(mCurrentNode) != null
                     && (mCurrentDepth > 1 || shouldUseEmojiPresentationStyleForSingleCodepoint());
         }
 
         private boolean shouldUseEmojiPresentationStyleForSingleCodepoint() {
-            if (mCurrentNode.getData().isDefaultEmoji()) {
+            if (getData(mCurrentNode).isDefaultEmoji()) {
                 // The codepoint is emoji style by default.
                 return true;
             }
@@ -619,7 +728,7 @@ final class EmojiProcessor {
                 if (mEmojiAsDefaultStyleExceptions == null) {
                     return true;
                 }
-                final int codepoint = mCurrentNode.getData().getCodepointAt(0);
+                final int codepoint = getData(mCurrentNode).getCodepointAt(0);
                 final int index = Arrays.binarySearch(mEmojiAsDefaultStyleExceptions, codepoint);
                 if (index < 0) {
                     // Index is negative, so the codepoint was not found in the array of exceptions.
@@ -17,9 +17,9 @@ package androidx.emoji.text;
 
 import static androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP_PREFIX;
 
+import android.content.res.AssetFileDescriptor;
 import android.content.res.AssetManager;
 import android.graphics.Typeface;
-import android.util.SparseArray;
 
 import androidx.annotation.AnyThread;
 import androidx.annotation.NonNull;
@@ -29,9 +29,13 @@ import androidx.annotation.VisibleForTesting;
 import androidx.core.util.Preconditions;
 import androidx.text.emoji.flatbuffer.MetadataList;
 
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Comparator;
 
 /**
  * Class to hold the emoji metadata required to process and draw emojis.
@@ -39,11 +43,6 @@ import java.nio.ByteBuffer;
 @AnyThread
 @RequiresApi(19)
 public final class MetadataRepo {
-    /**
-     * The default children size of the root node.
-     */
-    private static final int DEFAULT_ROOT_SIZE = 1024;
-
     /**
      * MetadataList that contains the emoji metadata.
      */
@@ -56,9 +55,14 @@ public final class MetadataRepo {
     private final char[] mEmojiCharArray;
 
     /**
-     * Empty root node of the trie.
+     * All EmojiMetadata's in the repo, indexed the same way as the MetadataList.
      */
-    private final Node mRootNode;
+    private EmojiMetadata[] mMetadata;
+
+    /**
+     * Trie that maps emoji codepoint(s) to an index in {@link #mMetadata}.
+     */
+    private volatile Trie mTrie;
 
     /**
      * Typeface to be used to render emojis.
@@ -74,7 +78,8 @@ public final class MetadataRepo {
     MetadataRepo() {
         mTypeface = null;
         mMetadataList = null;
-        mRootNode = new Node(DEFAULT_ROOT_SIZE);
+        mMetadata = new EmojiMetadata[0];
+        mTrie = Trie.build(mMetadata);
         mEmojiCharArray = new char[0];
     }
 
@@ -88,7 +93,7 @@ public final class MetadataRepo {
             @NonNull final MetadataList metadataList) {
         mTypeface = typeface;
         mMetadataList = metadataList;
-        mRootNode = new Node(DEFAULT_ROOT_SIZE);
+        mMetadata = new EmojiMetadata[mMetadataList.listLength()];
         mEmojiCharArray = new char[mMetadataList.listLength() * 2];
         constructIndex(mMetadataList);
     }
@@ -118,7 +123,8 @@ public final class MetadataRepo {
     }
 
     /**
-     * Construct MetadataRepo from an asset.
+     * Construct MetadataRepo from an asset. Uncompressed assets are memory mapped, so that the
+     * metadata is read in place instead of being copied to the heap.
      *
      * @param assetManager AssetManager instance
      * @param assetPath asset manager path of the file that the Typeface and metadata will be
@@ -127,9 +133,29 @@ public final class MetadataRepo {
     public static MetadataRepo create(@NonNull final AssetManager assetManager,
             final String assetPath) throws IOException {
         final Typeface typeface = Typeface.createFromAsset(assetManager, assetPath);
+        final ByteBuffer buffer = mmap(assetManager, assetPath);
+        if (buffer != null) {
+            return new MetadataRepo(typeface, MetadataListReader.read(buffer));
+        }
         return new MetadataRepo(typeface, MetadataListReader.read(assetManager, assetPath));
     }
 
+    /**
+     * Maps an asset into memory, or returns {@code null} if the asset is compressed and therefore
+     * cannot be mapped.
+     */
+    private static ByteBuffer mmap(@NonNull final AssetManager assetManager,
+            final String assetPath) {
+        try (AssetFileDescriptor fd = assetManager.openFd(assetPath);
+             FileInputStream inputStream = fd.createInputStream();
+             FileChannel channel = inputStream.getChannel()) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, fd.getStartOffset(),
+                    fd.getLength());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
     /**
      * Read emoji metadata list and construct the trie.
      */
@@ -141,8 +167,9 @@ public final class MetadataRepo {
             //chars wide
             //noinspection ResultOfMethodCallIgnored
             Character.toChars(metadata.getId(), mEmojiCharArray, i * 2);
-            put(metadata);
+            mMetadata[i] = metadata;
         }
+        mTrie = Trie.build(mMetadata);
     }
 
     /**
@@ -165,8 +192,16 @@ public final class MetadataRepo {
      * @hide
      */
     @RestrictTo(LIBRARY_GROUP_PREFIX)
-    Node getRootNode() {
-        return mRootNode;
+    Trie getTrie() {
+        return mTrie;
+    }
+
+    /**
+     * @hide
+     */
+    @RestrictTo(LIBRARY_GROUP_PREFIX)
+    EmojiMetadata getMetadata(final int index) {
+        return mMetadata[index];
     }
 
     /**
@@ -186,7 +221,8 @@ public final class MetadataRepo {
     }
 
     /**
-     * Add an EmojiMetadata to the index.
+     * Add an EmojiMetadata to the index. Rebuilds the whole trie, therefore only meant to be
+     * used by tests.
      *
      * @hide
      */
@@ -197,50 +233,161 @@ public final class MetadataRepo {
         Preconditions.checkArgument(data.getCodepointsLength() > 0,
                 "invalid metadata codepoint length");
 
-        mRootNode.put(data, 0, data.getCodepointsLength() - 1);
+        mMetadata = Arrays.copyOf(mMetadata, mMetadata.length + 1);
+        mMetadata[mMetadata.length - 1] = data;
+        mTrie = Trie.build(mMetadata);
     }
 
     /**
-     * Trie node that holds mapping from emoji codepoint(s) to EmojiMetadata. A single codepoint
-     * emoji is represented by a child of the root node.
+     * Trie that holds mapping from emoji codepoint(s) to EmojiMetadata, flattened into a few
+     * arrays instead of a tree of objects. A single codepoint emoji is represented by a child of
+     * the root node.
+     * <p>
+     * Nodes are numbered in breadth first order starting from {@link #ROOT}, which places the
+     * children of every node next to each other, sorted by codepoint. The children of node
+     * {@code n} are therefore the nodes in {@code [mFirstChild[n], mFirstChild[n + 1])}, and the
+     * child for a codepoint is found with a binary search on {@code mCodepoints}.
      *
      * @hide
      */
     @RestrictTo(LIBRARY_GROUP_PREFIX)
-    static class Node {
-        private final SparseArray<Node> mChildren;
-        private EmojiMetadata mData;
+    static final class Trie {
+        /**
+         * The root node of the trie.
+         */
+        static final int ROOT = 0;
 
-        private Node() {
-            this(1);
-        }
+        /**
+         * Returned when a node does not exist.
+         */
+        static final int NO_NODE = -1;
+
+        /**
+         * Index of the first child of each node. Has an extra trailing element so that the end
+         * of the children of the last node can be read the same way.
+         */
+        private final int[] mFirstChild;
+
+        /**
+         * The codepoint on the edge from the parent to each node.
+         */
+        private final int[] mCodepoints;
 
-        @SuppressWarnings("WeakerAccess") /* synthetic access */
-        Node(final int defaultChildrenSize) {
-            mChildren = new SparseArray<>(defaultChildrenSize);
+        /**
+         * The index of the EmojiMetadata that ends at each node, or {@link #NO_NODE}.
+         */
+        private final int[] mMetadataIndices;
+
+        private Trie(final int[] firstChild, final int[] codepoints,
+                final int[] metadataIndices) {
+            mFirstChild = firstChild;
+            mCodepoints = codepoints;
+            mMetadataIndices = metadataIndices;
         }
 
-        Node get(final int key) {
-            return mChildren == null ? null : mChildren.get(key);
+        /**
+         * @return the child of {@code node} for {@code codePoint}, or {@link #NO_NODE}
+         */
+        int getChild(final int node, final int codePoint) {
+            int low = mFirstChild[node];
+            int high = mFirstChild[node + 1] - 1;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                final int midCodepoint = mCodepoints[mid];
+                if (midCodepoint < codePoint) {
+                    low = mid + 1;
+                } else if (midCodepoint > codePoint) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return NO_NODE;
         }
 
-        final EmojiMetadata getData() {
-            return mData;
+        /**
+         * @return the index of the EmojiMetadata that ends at {@code node}, or {@link #NO_NODE}
+         */
+        int getMetadataIndex(final int node) {
+            return mMetadataIndices[node];
         }
 
-        @SuppressWarnings("WeakerAccess") /* synthetic access */
-        void put(@NonNull final EmojiMetadata data, final int start, final int end) {
-            Node node = get(data.getCodepointAt(start));
-            if (node == null) {
-                node = new Node();
-                mChildren.put(data.getCodepointAt(start), node);
+        /**
+         * Builds the trie for the given metadata. When more than one metadata has the same
+         * codepoints, the one with the highest index is used.
+         */
+        static Trie build(@NonNull final EmojiMetadata[] metadata) {
+            // copy the codepoints out of the metadata once, reading them is not free
+            final int[][] sequences = new int[metadata.length][];
+            int maxNodes = 1;
+            for (int i = 0; i < metadata.length; i++) {
+                final int length = metadata[i].getCodepointsLength();
+                sequences[i] = new int[length];
+                for (int j = 0; j < length; j++) {
+                    sequences[i][j] = metadata[i].getCodepointAt(j);
+                }
+                maxNodes += length;
             }
+            // sort lexicographically so that each node covers a contiguous range of sequences
+            final Integer[] order = new Integer[metadata.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, new Comparator<Integer>() {
+                @Override
+                public int compare(Integer a, Integer b) {
+                    return compareSequences(sequences[a], sequences[b]);
+                }
+            });
+
+            final int[] firstChild = new int[maxNodes + 1];
+            final int[] codepoints = new int[maxNodes];
+            final int[] metadataIndices = new int[maxNodes];
+            Arrays.fill(metadataIndices, NO_NODE);
+            // range of sorted sequences under each node, only needed while building
+            final int[] rangeStart = new int[maxNodes];
+            final int[] rangeEnd = new int[maxNodes];
+            final int[] depth = new int[maxNodes];
+            rangeEnd[ROOT] = order.length;
+            int nodeCount = 1;
+            for (int node = 0; node < nodeCount; node++) {
+                firstChild[node] = nodeCount;
+                final int nodeDepth = depth[node];
+                final int end = rangeEnd[node];
+                int i = rangeStart[node];
+                // sequences that end at this node are sorted before the longer ones
+                while (i < end && sequences[order[i]].length == nodeDepth) {
+                    metadataIndices[node] = Math.max(metadataIndices[node], order[i]);
+                    i++;
+                }
+                while (i < end) {
+                    final int codepoint = sequences[order[i]][nodeDepth];
+                    final int start = i;
+                    while (i < end && sequences[order[i]][nodeDepth] == codepoint) {
+                        i++;
+                    }
+                    codepoints[nodeCount] = codepoint;
+                    rangeStart[nodeCount] = start;
+                    rangeEnd[nodeCount] = i;
+                    depth[nodeCount] = nodeDepth + 1;
+                    nodeCount++;
+                }
+            }
+            firstChild[nodeCount] = nodeCount;
+
+            return new Trie(Arrays.copyOf(firstChild, nodeCount + 1),
+                    Arrays.copyOf(codepoints, nodeCount),
+                    Arrays.copyOf(metadataIndices, nodeCount));
+        }
 
-            if (end > start) {
-                node.put(data, start + 1, end);
-            } else {
-                node.mData = data;
+        static int compareSequences(final int[] a, final int[] b) {
+            final int length = Math.min(a.length, b.length);
+            for (int i = 0; i < length; i++) {
+                if (a[i] != b[i]) {
+                    return a[i] < b[i] ? -1 : 1;
+                }
             }
+            return a.length - b.length;
         }
     }
 }
@@ -17,6 +17,7 @@
 package androidx.leanback.widget;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -43,8 +44,11 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 @SuppressWarnings("unchecked")
 @SmallTest
@@ -1065,6 +1069,121 @@ public class ObjectAdapterTest {
         });
     }
 
+    /**
+     * Test that the difference computed on the diff executor is dispatched on the main thread.
+     */
+    @Test
+    public void testSetItemsWithExecutor() {
+        QueuedExecutor executor = new QueuedExecutor();
+        mItems.add(new AdapterItem(1, "a"));
+        mItems.add(new AdapterItem(2, "b"));
+
+        mAdapter.setItems(mItems, mCallbackWithoutPayload, executor);
+        // The adapter keeps its items until the difference is dispatched.
+        assertEquals(0, mAdapter.size());
+
+        executor.runAll();
+        InstrumentationRegistry.getInstrumentation().waitForIdleSync();
+        Mockito.verify(mObserver).onItemRangeInserted(0, 2);
+        assertAdapterContent(mAdapter, mItems.toArray());
+    }
+
+    /**
+     * Test that the difference from items which have been changed since is discarded.
+     */
+    @Test
+    public void testSetItemsWithExecutorDiscardsSupersededDifference() {
+        QueuedExecutor executor = new QueuedExecutor();
+        List<AdapterItem> first = new ArrayList<>();
+        first.add(new AdapterItem(1, "a"));
+        List<AdapterItem> second = new ArrayList<>();
+        second.add(new AdapterItem(2, "b"));
+        second.add(new AdapterItem(3, "c"));
+
+        mAdapter.setItems(first, mCallbackWithoutPayload, executor);
+        mAdapter.setItems(second, mCallbackWithoutPayload, executor);
+        executor.runAll();
+        InstrumentationRegistry.getInstrumentation().waitForIdleSync();
+        Mockito.verify(mObserver, times(1)).onItemRangeInserted(anyInt(), anyInt());
+        assertAdapterContent(mAdapter, second.toArray());
+
+        mAdapter.setItems(first, mCallbackWithoutPayload, executor);
+        mAdapter.add("d");
+        executor.runAll();
+        InstrumentationRegistry.getInstrumentation().waitForIdleSync();
+        assertAdapterContent(mAdapter, new Object[]{second.get(0), second.get(1), "d"});
+    }
+
+    /**
+     * Test that the identity index finds the items after every kind of change.
+     */
+    @Test
+    public void testIdentityIndex() {
+        Object a = new Object();
+        Object b = new Object();
+        Object c = new Object();
+        Object d = new Object();
+        mAdapter.add(a);
+        mAdapter.add(b);
+        mAdapter.setIdentityIndexEnabled(true);
+        assertTrue(mAdapter.isIdentityIndexEnabled());
+
+        mAdapter.add(0, c);
+        assertIndexed(mAdapter, c, a, b);
+        mAdapter.add(a);
+        assertIndexed(mAdapter, c, a, b, a);
+        mAdapter.move(1, 3);
+        assertIndexed(mAdapter, c, b, a, a);
+        mAdapter.replace(2, d);
+        assertIndexed(mAdapter, c, b, d, a);
+        mAdapter.replace(0, a);
+        assertIndexed(mAdapter, a, b, d, a);
+        assertTrue(mAdapter.remove(a));
+        assertIndexed(mAdapter, b, d, a);
+        assertEquals(-1, mAdapter.indexOf(c));
+        mAdapter.removeItems(0, 2);
+        assertIndexed(mAdapter, a);
+        mAdapter.setItems(Arrays.asList(d, c), null);
+        assertIndexed(mAdapter, d, c);
+        mAdapter.clear();
+        assertEquals(-1, mAdapter.indexOf(d));
+
+        mAdapter.setIdentityIndexEnabled(false);
+        assertFalse(mAdapter.isIdentityIndexEnabled());
+    }
+
+    /**
+     * Helper function to test the content of the adapter and its identity index.
+     */
+    private static void assertIndexed(ArrayObjectAdapter adapter, Object... data) {
+        assertAdapterContent(adapter, data);
+        for (int i = 0; i < data.length; i++) {
+            int firstIndex = 0;
+            while (data[firstIndex] != data[i]) {
+                firstIndex++;
+            }
+            assertEquals(firstIndex, adapter.indexOf(data[i]));
+        }
+    }
+
+    /**
+     * An executor which runs its tasks only when asked to.
+     */
+    private static final class QueuedExecutor implements Executor {
+        private final ArrayDeque<Runnable> mTasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            mTasks.add(command);
+        }
+
+        void runAll() {
+            while (!mTasks.isEmpty()) {
+                mTasks.poll().run();
+            }
+        }
+    }
+
     /**
      * Helper function to layout recycler view
      * So the recycler view will execute the getView() method then the onBindViewHolder() method
@@ -13,8 +13,11 @@
  */
 package androidx.leanback.widget;
 
+import android.os.Handler;
+import android.os.Looper;
 import android.util.Log;
 
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.ListUpdateCallback;
@@ -22,7 +25,9 @@ import androidx.recyclerview.widget.ListUpdateCallback;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * An {@link ObjectAdapter} implemented with an {@link ArrayList}.
@@ -41,6 +46,17 @@ public class ArrayObjectAdapter extends ObjectAdapter {
     // Un modifiable version of mItems;
     private List mUnmodifiableItems;
 
+    // First position of each item by identity, or null when the index is disabled.
+    private IdentityHashMap<Object, Integer> mIndex;
+    // True if an item has been found more than once while indexing.
+    private boolean mIndexHasDuplicates;
+
+    // Incremented by every change of the items, to discard the differences computed
+    // asynchronously from previous items.
+    @SuppressWarnings("WeakerAccess") /* synthetic access */
+    int mItemsVersion;
+    private Handler mMainHandler;
+
     /**
      * Constructs an adapter with the given {@link PresenterSelector}.
      */
@@ -81,9 +97,46 @@ public class ArrayObjectAdapter extends ObjectAdapter {
      * if not found.
      */
     public int indexOf(Object item) {
+        if (mIndex != null) {
+            Integer index = mIndex.get(item);
+            return index == null ? -1 : index;
+        }
         return mItems.indexOf(item);
     }
 
+    /**
+     * Enables an index of the items by identity, so that {@link #indexOf(Object)} and
+     * {@link #remove(Object)} find an item in constant time instead of searching the whole
+     * adapter. Adding, removing or moving items reindexes the items after the first changed
+     * position, and replacing an item only reindexes that item.
+     * <p>
+     * When the index is enabled, items are compared by identity instead of
+     * {@link Object#equals(Object)}. It is disabled by default.
+     *
+     * @param enabled True to index the items by identity, false otherwise.
+     */
+    public void setIdentityIndexEnabled(boolean enabled) {
+        if (enabled == (mIndex != null)) {
+            return;
+        }
+        if (enabled) {
+            mIndex = new IdentityHashMap<>();
+            mIndexHasDuplicates = false;
+            indexFrom(0);
+        } else {
+            mIndex = null;
+        }
+    }
+
+    /**
+     * Returns true if the items are indexed by identity.
+     *
+     * @see #setIdentityIndexEnabled(boolean)
+     */
+    public boolean isIdentityIndexEnabled() {
+        return mIndex != null;
+    }
+
     /**
      * Notify that the content of a range of items changed. Note that this is
      * not same as items being added or removed.
@@ -112,7 +165,10 @@ public class ArrayObjectAdapter extends ObjectAdapter {
      * @param item  The item to insert into the adapter.
      */
     public void add(int index, Object item) {
+        mItemsVersion++;
+        unindexFrom(index);
         mItems.add(index, item);
+        indexFrom(index);
         notifyItemRangeInserted(index, 1);
     }
 
@@ -129,7 +185,10 @@ public class ArrayObjectAdapter extends ObjectAdapter {
         if (itemsCount == 0) {
             return;
         }
+        mItemsVersion++;
+        unindexFrom(index);
         mItems.addAll(index, items);
+        indexFrom(index);
         notifyItemRangeInserted(index, itemsCount);
     }
 
@@ -140,9 +199,12 @@ public class ArrayObjectAdapter extends ObjectAdapter {
      * @return True if the item was found and thus removed from the adapter.
      */
     public boolean remove(Object item) {
-        int index = mItems.indexOf(item);
+        int index = indexOf(item);
         if (index >= 0) {
+            mItemsVersion++;
+            unindexFrom(index);
             mItems.remove(index);
+            indexFrom(index);
             notifyItemRangeRemoved(index, 1);
         }
         return index >= 0;
@@ -159,8 +221,12 @@ public class ArrayObjectAdapter extends ObjectAdapter {
             // no-op
             return;
         }
+        mItemsVersion++;
+        int firstChangedPosition = Math.min(fromPosition, toPosition);
+        unindexFrom(firstChangedPosition);
         Object item = mItems.remove(fromPosition);
         mItems.add(toPosition, item);
+        indexFrom(firstChangedPosition);
         notifyItemMoved(fromPosition, toPosition);
     }
 
@@ -173,7 +239,9 @@ public class ArrayObjectAdapter extends ObjectAdapter {
      * @param item     The new item to be placed at given position.
      */
     public void replace(int position, Object item) {
-        mItems.set(position, item);
+        mItemsVersion++;
+        Object oldItem = mItems.set(position, item);
+        reindexReplaced(position, oldItem, item);
         notifyItemRangeChanged(position, 1);
     }
 
@@ -191,9 +259,10 @@ public class ArrayObjectAdapter extends ObjectAdapter {
             return 0;
         }
 
-        for (int i = 0; i < itemsToRemove; i++) {
-            mItems.remove(position);
-        }
+        mItemsVersion++;
+        unindexFrom(position);
+        mItems.subList(position, position + itemsToRemove).clear();
+        indexFrom(position);
         notifyItemRangeRemoved(position, itemsToRemove);
         return itemsToRemove;
     }
@@ -206,7 +275,9 @@ public class ArrayObjectAdapter extends ObjectAdapter {
         if (itemCount == 0) {
             return;
         }
+        mItemsVersion++;
         mItems.clear();
+        reindexAll();
         notifyItemRangeRemoved(0, itemCount);
     }
 
@@ -241,50 +312,112 @@ public class ArrayObjectAdapter extends ObjectAdapter {
      */
     @SuppressWarnings("unchecked")
     public void setItems(final List itemList, final DiffCallback callback) {
+        mItemsVersion++;
         if (callback == null) {
             // shortcut when DiffCallback is not provided
             mItems.clear();
             mItems.addAll(itemList);
+            reindexAll();
             notifyChanged();
             return;
         }
         mOldItems.clear();
         mOldItems.addAll(mItems);
 
-        DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(new DiffUtil.Callback() {
+        DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(
+                createDiffUtilCallback(mOldItems, itemList, callback));
+
+        applyItems(itemList, diffResult);
+        mOldItems.clear();
+    }
+
+    /**
+     * Set a new item list to adapter like {@link #setItems(List, DiffCallback)}, but compute the
+     * difference on the given executor instead of the calling thread. The difference is then
+     * dispatched on the main thread.
+     * <p>
+     * The adapter keeps its current items until the difference is dispatched. If the adapter is
+     * changed in the meantime, including by another call to setItems, the difference is discarded.
+     *
+     * @param itemList     List of new Items
+     * @param callback     DiffCallback Object to compute the difference between the old data set
+     *                     and new data set, which is called on the executor.
+     * @param diffExecutor Executor to compute the difference on.
+     */
+    @SuppressWarnings("unchecked")
+    public void setItems(@NonNull List itemList, @NonNull final DiffCallback callback,
+            @NonNull Executor diffExecutor) {
+        final int itemsVersion = ++mItemsVersion;
+        final List<Object> oldItems = new ArrayList<>(mItems);
+        final List<Object> newItems = new ArrayList<>(itemList);
+        if (mMainHandler == null) {
+            mMainHandler = new Handler(Looper.getMainLooper());
+        }
+        final Handler mainHandler = mMainHandler;
+        diffExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                final DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(
+                        createDiffUtilCallback(oldItems, newItems, callback));
+                mainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (itemsVersion != mItemsVersion) {
+                            if (DEBUG) {
+                                Log.d(TAG, "Discarding the difference from previous items");
+                            }
+                            return;
+                        }
+                        applyItems(newItems, diffResult);
+                    }
+                });
+            }
+        });
+    }
+
+    static DiffUtil.Callback createDiffUtilCallback(final List oldItems, final List newItems,
+            final DiffCallback callback) {
+        return new DiffUtil.Callback() {
             @Override
             public int getOldListSize() {
-                return mOldItems.size();
+                return oldItems.size();
             }
 
             @Override
             public int getNewListSize() {
-                return itemList.size();
+                return newItems.size();
             }
 
             @Override
+            @SuppressWarnings("unchecked")
             public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
-                return callback.areItemsTheSame(mOldItems.get(oldItemPosition),
-                        itemList.get(newItemPosition));
+                return callback.areItemsTheSame(oldItems.get(oldItemPosition),
+                        newItems.get(newItemPosition));
             }
 
             @Override
+            @SuppressWarnings("unchecked")
             public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
-                return callback.areContentsTheSame(mOldItems.get(oldItemPosition),
-                        itemList.get(newItemPosition));
+                return callback.areContentsTheSame(oldItems.get(oldItemPosition),
+                        newItems.get(newItemPosition));
             }
 
             @Nullable
             @Override
+            @SuppressWarnings("unchecked")
             public Object getChangePayload(int oldItemPosition, int newItemPosition) {
-                return callback.getChangePayload(mOldItems.get(oldItemPosition),
-                        itemList.get(newItemPosition));
+                return callback.getChangePayload(oldItems.get(oldItemPosition),
+                        newItems.get(newItemPosition));
             }
-        });
+        };
+    }
 
+    @SuppressWarnings({"WeakerAccess", "unchecked"}) /* synthetic access */
+    void applyItems(List itemList, DiffUtil.DiffResult diffResult) {
         // update items.
         mItems.clear();
         mItems.addAll(itemList);
+        reindexAll();
 
         // dispatch diff result
         if (mListUpdateCallback == null) {
@@ -324,6 +457,74 @@ public class ArrayObjectAdapter extends ObjectAdapter {
             };
         }
         diffResult.dispatchUpdatesTo(mListUpdateCallback);
-        mOldItems.clear();
+    }
+
+    /**
+     * Removes from the index the items at or after the given position, before they are moved.
+     */
+    private void unindexFrom(int position) {
+        if (mIndex == null) {
+            return;
+        }
+        for (int i = position; i < mItems.size(); i++) {
+            Object item = mItems.get(i);
+            Integer index = mIndex.get(item);
+            if (index != null && index == i) {
+                mIndex.remove(item);
+            }
+        }
+    }
+
+    /**
+     * Indexes the items at or after the given position, which are not already indexed at a
+     * lower position.
+     */
+    private void indexFrom(int position) {
+        if (mIndex == null) {
+            return;
+        }
+        for (int i = position; i < mItems.size(); i++) {
+            Object item = mItems.get(i);
+            if (mIndex.containsKey(item)) {
+                mIndexHasDuplicates = true;
+            } else {
+                mIndex.put(item, i);
+            }
+        }
+    }
+
+    private void reindexAll() {
+        if (mIndex == null) {
+            return;
+        }
+        mIndex.clear();
+        mIndexHasDuplicates = false;
+        indexFrom(0);
+    }
+
+    private void reindexReplaced(int position, Object oldItem, Object newItem) {
+        if (mIndex == null || oldItem == newItem) {
+            return;
+        }
+        Integer index = mIndex.get(oldItem);
+        if (index != null && index == position) {
+            mIndex.remove(oldItem);
+            if (mIndexHasDuplicates) {
+                // The old item may still be found after the replaced position.
+                for (int i = position + 1; i < mItems.size(); i++) {
+                    if (mItems.get(i) == oldItem) {
+                        mIndex.put(oldItem, i);
+                        break;
+                    }
+                }
+            }
+        }
+        index = mIndex.get(newItem);
+        if (index != null) {
+            mIndexHasDuplicates = true;
+        }
+        if (index == null || index > position) {
+            mIndex.put(newItem, position);
+        }
     }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.lifecycle;
+
+import static org.junit.Assert.assertTrue;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.filters.LargeTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Measures the cost of adding the first observer of a class, with every Lifecycling cache
+ * cleared before each iteration.
+ */
+@LargeTest
+@RunWith(AndroidJUnit4.class)
+public class LifecyclingBenchmark {
+    @Rule
+    public BenchmarkRule mBenchmarkRule = new BenchmarkRule();
+
+    @Test
+    public void firstObserverReflective() {
+        // lifecycle-compiler can't generate adapters for anonymous classes
+        Object observer = new LifecycleObserver() {
+            @OnLifecycleEvent(Lifecycle.Event.ON_START)
+            public void onStart() {
+            }
+
+            @OnLifecycleEvent(Lifecycle.Event.ON_STOP)
+            public void onStop(LifecycleOwner owner) {
+            }
+        };
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            state.pauseTiming();
+            Lifecycling.reset();
+            state.resumeTiming();
+            assertTrue(Lifecycling.lifecycleEventObserver(observer)
+                    instanceof ReflectiveGenericLifecycleObserver);
+        }
+    }
+
+    @Test
+    public void firstObserverGeneratedAdapter() {
+        Object observer = new StartStopObserver();
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            state.pauseTiming();
+            Lifecycling.reset();
+            state.resumeTiming();
+            assertTrue(Lifecycling.lifecycleEventObserver(observer)
+                    instanceof SingleGeneratedAdapterObserver);
+        }
+    }
+
+    @Test
+    public void firstObserverAdapterIndex() {
+        Object observer = new StartStopObserver();
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            state.pauseTiming();
+            Lifecycling.reset();
+            BenchmarkAdapterIndex.register();
+            state.resumeTiming();
+            assertTrue(Lifecycling.lifecycleEventObserver(observer)
+                    instanceof SingleGeneratedAdapterObserver);
+        }
+    }
+
+    static class StartStopObserver implements LifecycleObserver {
+        @OnLifecycleEvent(Lifecycle.Event.ON_START)
+        public void onStart() {
+        }
+
+        @OnLifecycleEvent(Lifecycle.Event.ON_STOP)
+        public void onStop(LifecycleOwner owner) {
+        }
+    }
+}
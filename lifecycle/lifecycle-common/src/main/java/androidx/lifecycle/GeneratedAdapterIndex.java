@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.lifecycle;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RestrictTo;
+
+/**
+ * An index of the {@link GeneratedAdapter}s of a module, generated by lifecycle-compiler when
+ * the <code>lifecycle.adapterIndex</code> annotation processor option is set.
+ * <p>
+ * Once registered with {@link Lifecycling#addGeneratedAdapterIndex(GeneratedAdapterIndex)},
+ * adapters of indexed observers are created without any reflection.
+ *
+ * @hide
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY_GROUP_PREFIX)
+public interface GeneratedAdapterIndex {
+
+    /**
+     * Creates the generated adapter for the given observer.
+     *
+     * @param observer The observer to create an adapter for
+     * @return the adapter, or null if the exact class of the observer is not in this index
+     */
+    @Nullable
+    GeneratedAdapter createAdapter(@NonNull Object observer);
+}
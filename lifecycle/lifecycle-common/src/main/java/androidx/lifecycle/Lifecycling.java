@@ -19,6 +19,7 @@ package androidx.lifecycle;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.RestrictTo;
+import androidx.annotation.VisibleForTesting;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
@@ -27,6 +28,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Internal class to handle lifecycle conversion etc.
@@ -42,6 +44,8 @@ public class Lifecycling {
     private static Map<Class<?>, Integer> sCallbackCache = new HashMap<>();
     private static Map<Class<?>, List<Constructor<? extends GeneratedAdapter>>> sClassToAdapters =
             new HashMap<>();
+    private static final List<GeneratedAdapterIndex> sAdapterIndices =
+            new CopyOnWriteArrayList<>();
 
     // Left for binary compatibility when lifecycle-common goes up 2.1 as transitive dep
     // but lifecycle-runtime stays 2.0
@@ -79,6 +83,13 @@ public class Lifecycling {
             return (LifecycleEventObserver) object;
         }
 
+        for (GeneratedAdapterIndex index : sAdapterIndices) {
+            GeneratedAdapter generatedAdapter = index.createAdapter(object);
+            if (generatedAdapter != null) {
+                return new SingleGeneratedAdapterObserver(generatedAdapter);
+            }
+        }
+
         final Class<?> klass = object.getClass();
         int type = getObserverConstructorType(klass);
         if (type == GENERATED_CALLBACK) {
@@ -200,6 +211,29 @@ public class Lifecycling {
         return klass != null && LifecycleObserver.class.isAssignableFrom(klass);
     }
 
+    /**
+     * Registers an index of generated adapters, so that adapters of the observers it contains
+     * are created without looking their constructors up by reflection.
+     *
+     * @param index The index generated by lifecycle-compiler
+     */
+    public static void addGeneratedAdapterIndex(@NonNull GeneratedAdapterIndex index) {
+        sAdapterIndices.add(index);
+    }
+
+    /**
+     * Resets Lifecycling to its initial state, dropping every registered index, cached adapter
+     * constructor and reflective callback info, so that the next observer of each class is
+     * resolved from scratch.
+     */
+    @VisibleForTesting
+    static void reset() {
+        sAdapterIndices.clear();
+        sCallbackCache.clear();
+        sClassToAdapters.clear();
+        ClassesInfoCache.sInstance = new ClassesInfoCache();
+    }
+
     /**
      * Create a name for an adapter class.
      */
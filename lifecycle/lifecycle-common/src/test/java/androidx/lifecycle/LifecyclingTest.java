@@ -33,6 +33,7 @@ import androidx.lifecycle.observers.InterfaceImpl1;
 import androidx.lifecycle.observers.InterfaceImpl2;
 import androidx.lifecycle.observers.InterfaceImpl3;
 
+import org.junit.After;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -40,6 +41,12 @@ import org.junit.runners.JUnit4;
 @RunWith(JUnit4.class)
 public class LifecyclingTest {
 
+    @After
+    public void tearDown() {
+        // generatedAdapterIndex registers an index, which must not leak into other tests
+        Lifecycling.reset();
+    }
+
     @Test
     public void testDerivedWithNewLfMethodsNoGeneratedAdapter() {
         LifecycleEventObserver callback = lifecycleEventObserver(new DerivedWithNewMethods());
@@ -191,6 +198,42 @@ public class LifecyclingTest {
         callback.onStateChanged(new DefaultLifecycleOwner(), Lifecycle.Event.ON_DESTROY);
     }
 
+    @Test
+    public void generatedAdapterIndex() {
+        class IndexedObserver implements LifecycleObserver {
+            int mCalls;
+
+            @OnLifecycleEvent(ON_ANY)
+            public void onAny() {
+            }
+        }
+
+        Lifecycling.addGeneratedAdapterIndex(new GeneratedAdapterIndex() {
+            @Override
+            public GeneratedAdapter createAdapter(@NonNull Object observer) {
+                if (observer.getClass() != IndexedObserver.class) {
+                    return null;
+                }
+                final IndexedObserver receiver = (IndexedObserver) observer;
+                return new GeneratedAdapter() {
+                    @Override
+                    public void callMethods(LifecycleOwner source, Lifecycle.Event event,
+                            boolean onAny, MethodCallsLogger logger) {
+                        receiver.mCalls++;
+                    }
+                };
+            }
+        });
+        IndexedObserver observer = new IndexedObserver();
+        LifecycleEventObserver callback = lifecycleEventObserver(observer);
+        assertThat(callback, instanceOf(SingleGeneratedAdapterObserver.class));
+        callback.onStateChanged(new DefaultLifecycleOwner(), Lifecycle.Event.ON_CREATE);
+        assertThat(observer.mCalls, is(2));
+        // observers missing from the index still go through the regular lookup
+        assertThat(lifecycleEventObserver(new DerivedWithNewMethods()),
+                instanceOf(ReflectiveGenericLifecycleObserver.class));
+    }
+
 
     static class DefaultLifecycleOwner implements LifecycleOwner {
         @NonNull
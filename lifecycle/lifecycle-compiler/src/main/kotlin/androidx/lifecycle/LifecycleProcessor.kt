@@ -16,6 +16,7 @@
 
 package androidx.lifecycle
 
+import androidx.lifecycle.model.AdapterClass
 import javax.annotation.processing.AbstractProcessor
 import javax.annotation.processing.RoundEnvironment
 import javax.annotation.processing.SupportedAnnotationTypes
@@ -24,16 +25,53 @@ import javax.lang.model.element.TypeElement
 
 @SupportedAnnotationTypes("androidx.lifecycle.OnLifecycleEvent")
 class LifecycleProcessor : AbstractProcessor() {
+    private val indexedAdapters = mutableListOf<AdapterClass>()
+    private var indexWritten = false
+
     override fun process(
         annotations: MutableSet<out TypeElement>,
         roundEnv: RoundEnvironment
     ): Boolean {
         val input = collectAndVerifyInput(processingEnv, roundEnv)
-        writeModels(transformToOutput(processingEnv, input), processingEnv)
+        val adapters = transformToOutput(processingEnv, input)
+        writeModels(adapters, processingEnv)
+        val indexName = processingEnv.options[ADAPTER_INDEX_OPTION]
+        if (indexName != null && !indexWritten) {
+            indexedAdapters.addAll(adapters)
+            // Write the index in the first round without new adapters rather than in the last
+            // round, as javac warns about files created in the last round.
+            if (adapters.isEmpty() || roundEnv.processingOver()) {
+                writeAdapterIndex(indexName, indexedAdapters, processingEnv)
+                indexWritten = true
+            }
+        }
         return true
     }
 
+    override fun getSupportedOptions(): Set<String> {
+        // The index depends on every observer of the compilation, so it can only be updated
+        // incrementally by an aggregating processor.
+        val incrementalType = if (processingEnv.options.containsKey(ADAPTER_INDEX_OPTION)) {
+            GRADLE_AGGREGATING_OPTION
+        } else {
+            GRADLE_ISOLATING_OPTION
+        }
+        return setOf(ADAPTER_INDEX_OPTION, incrementalType)
+    }
+
     override fun getSupportedSourceVersion(): SourceVersion {
         return SourceVersion.latest()
     }
+
+    companion object {
+        /**
+         * Fully qualified name of the [GeneratedAdapterIndex] to generate for the observers of
+         * the compilation. No index is generated when this option is not set.
+         */
+        const val ADAPTER_INDEX_OPTION = "lifecycle.adapterIndex"
+
+        private const val GRADLE_ISOLATING_OPTION = "org.gradle.annotation.processing.isolating"
+        private const val GRADLE_AGGREGATING_OPTION =
+            "org.gradle.annotation.processing.aggregating"
+    }
 }
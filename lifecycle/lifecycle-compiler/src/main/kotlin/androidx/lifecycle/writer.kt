@@ -28,6 +28,8 @@ import com.squareup.javapoet.ParameterSpec
 import com.squareup.javapoet.TypeName
 import com.squareup.javapoet.TypeSpec
 import javax.annotation.processing.ProcessingEnvironment
+import javax.lang.model.element.Element
+import javax.lang.model.element.ElementKind
 import javax.lang.model.element.Modifier
 import javax.lang.model.element.TypeElement
 import javax.tools.StandardLocation
@@ -36,6 +38,139 @@ fun writeModels(infos: List<AdapterClass>, processingEnv: ProcessingEnvironment)
     infos.forEach({ writeAdapter(it, processingEnv) })
 }
 
+/**
+ * Writes a [GeneratedAdapterIndex] that creates the adapters of the given observers without
+ * reflection.
+ *
+ * Adapter constructors are package private, so the index delegates to one helper class per
+ * package of observers. Only concrete classes can be the runtime class of an observer, and
+ * observers in the unnamed package can't be referenced from a helper, so the remaining adapters
+ * are still looked up reflectively by [Lifecycling].
+ */
+fun writeAdapterIndex(
+    indexName: String,
+    adapters: List<AdapterClass>,
+    processingEnv: ProcessingEnvironment
+) {
+    val indexClassName = ClassName.bestGuess(indexName)
+    val indexedAdapters = adapters.filter { isIndexable(it.type) }
+    val helperName = indexName.replace(".", "_") + "_LifecycleAdapters"
+    val adaptersByPackage = indexedAdapters.groupBy { it.type.getPackageQName() }
+    adaptersByPackage.forEach { (packageName, packageAdapters) ->
+        writeAdapterIndexHelper(
+            ClassName.get(packageName, helperName), packageAdapters,
+            processingEnv
+        )
+    }
+
+    val observerParam = ParameterSpec.builder(TypeName.OBJECT, "observer").build()
+    val createAdapter = MethodSpec.methodBuilder("createAdapter")
+        .returns(ClassName.get(GeneratedAdapter::class.java))
+        .addParameter(observerParam)
+        .addModifiers(Modifier.PUBLIC)
+        .addAnnotation(Override::class.java)
+        .addStatement("$T $L = $N.getClass().getName()", String::class.java, CLASS_NAME_VAR,
+            observerParam)
+        .beginControlFlow("switch ($L)", CLASS_NAME_VAR).apply {
+            adaptersByPackage.forEach { (packageName, packageAdapters) ->
+                packageAdapters.forEach { addCode("case $S:\n", binaryName(it, processingEnv)) }
+                addCode("$>")
+                addStatement(
+                    "return $T.create($L, $N)", ClassName.get(packageName, helperName),
+                    CLASS_NAME_VAR, observerParam
+                )
+                addCode("$<")
+            }
+            addCode("default:\n$>")
+            addStatement("return null")
+            addCode("$<")
+        }.endControlFlow()
+        .build()
+
+    val register = MethodSpec.methodBuilder("register")
+        .returns(TypeName.VOID)
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .addStatement("$T.addGeneratedAdapterIndex(new $T())", Lifecycling::class.java,
+            indexClassName)
+        .build()
+
+    val indexTypeSpecBuilder = TypeSpec.classBuilder(indexClassName)
+        .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+        .addSuperinterface(ClassName.get(GeneratedAdapterIndex::class.java))
+        .addMethod(register)
+        .addMethod(createAdapter)
+    indexedAdapters.forEach { indexTypeSpecBuilder.addOriginatingElement(it.type) }
+
+    addGeneratedAnnotationIfAvailable(indexTypeSpecBuilder, processingEnv)
+
+    JavaFile.builder(indexClassName.packageName(), indexTypeSpecBuilder.build())
+        .build().writeTo(processingEnv.filer)
+}
+
+private fun writeAdapterIndexHelper(
+    helperClassName: ClassName,
+    adapters: List<AdapterClass>,
+    processingEnv: ProcessingEnvironment
+) {
+    val classNameParam = ParameterSpec.builder(String::class.java, CLASS_NAME_VAR).build()
+    val observerParam = ParameterSpec.builder(TypeName.OBJECT, "observer").build()
+    val create = MethodSpec.methodBuilder("create")
+        .returns(ClassName.get(GeneratedAdapter::class.java))
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .addParameter(classNameParam)
+        .addParameter(observerParam)
+        .beginControlFlow("switch ($N)", classNameParam).apply {
+            adapters.forEach {
+                val adapterClassName = ClassName.get(
+                    it.type.getPackageQName(),
+                    getAdapterName(it.type)
+                )
+                addCode("case $S:\n$>", binaryName(it, processingEnv))
+                addStatement(
+                    "return new $T(($T) $N)", adapterClassName, ClassName.get(it.type),
+                    observerParam
+                )
+                addCode("$<")
+            }
+            addCode("default:\n$>")
+            addStatement("return null")
+            addCode("$<")
+        }.endControlFlow()
+        .build()
+
+    val helperTypeSpecBuilder = TypeSpec.classBuilder(helperClassName)
+        .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+        .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build())
+        .addMethod(create)
+    adapters.forEach { helperTypeSpecBuilder.addOriginatingElement(it.type) }
+
+    addGeneratedAnnotationIfAvailable(helperTypeSpecBuilder, processingEnv)
+
+    JavaFile.builder(helperClassName.packageName(), helperTypeSpecBuilder.build())
+        .build().writeTo(processingEnv.filer)
+}
+
+private fun isIndexable(type: TypeElement): Boolean {
+    if (type.kind != ElementKind.CLASS || type.modifiers.contains(Modifier.ABSTRACT) ||
+        type.getPackage().isUnnamed
+    ) {
+        return false
+    }
+    var element: Element? = type
+    while (element is TypeElement) {
+        if (element.modifiers.contains(Modifier.PRIVATE)) {
+            return false
+        }
+        element = element.enclosingElement
+    }
+    return true
+}
+
+private fun binaryName(adapter: AdapterClass, processingEnv: ProcessingEnvironment) =
+    processingEnv.elementUtils.getBinaryName(adapter.type).toString()
+
+private const val CLASS_NAME_VAR = "className"
+
 private val GENERATED_PACKAGE = "javax.annotation"
 private val GENERATED_NAME = "Generated"
 private val LIFECYCLE_EVENT = Lifecycle.Event::class.java
@@ -114,6 +114,26 @@ class ValidCasesTest {
             .and().generatesProGuardRule("bar.DifferentPackagesDerived2.pro")
     }
 
+    @Test
+    fun testAdapterIndex() {
+        JavaSourcesSubject.assertThat(load("foo.OnAnyMethod", ""))
+            .withCompilerOptions(
+                "-A${LifecycleProcessor.ADAPTER_INDEX_OPTION}=bar.LifecycleAdapterIndex"
+            )
+            .processedWith(LifecycleProcessor())
+            .compilesWithoutError().and().generatesSources(
+                load("foo.OnAnyMethod_LifecycleAdapter", "expected"),
+                load("bar.LifecycleAdapterIndex", "expected"),
+                load("foo.bar_LifecycleAdapterIndex_LifecycleAdapters", "expected")
+            )
+    }
+
+    @Test
+    fun testNoAdapterIndexByDefault() {
+        val compileTester = processClass("foo.OnAnyMethod").compilesWithoutError()
+        doesntGenerateClass(compileTester, "bar", "LifecycleAdapterIndex")
+    }
+
     private fun <T> CompileTester.GeneratedPredicateClause<T>.generatesProGuardRule(name: String):
         CompileTester.SuccessfulFileClause<T> {
             return generatesFileNamed(StandardLocation.CLASS_OUTPUT, "", "META-INF/proguard/$name")
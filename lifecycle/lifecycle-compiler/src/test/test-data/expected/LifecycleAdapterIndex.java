@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package bar;
+
+import androidx.lifecycle.GeneratedAdapter;
+import androidx.lifecycle.GeneratedAdapterIndex;
+import androidx.lifecycle.Lifecycling;
+import foo.bar_LifecycleAdapterIndex_LifecycleAdapters;
+import java.lang.Object;
+import java.lang.Override;
+import java.lang.String;
+import javax.annotation.Generated;
+
+@Generated("androidx.lifecycle.LifecycleProcessor")
+public final class LifecycleAdapterIndex implements GeneratedAdapterIndex {
+  public static void register() {
+    Lifecycling.addGeneratedAdapterIndex(new LifecycleAdapterIndex());
+  }
+
+  @Override
+  public GeneratedAdapter createAdapter(Object observer) {
+    String className = observer.getClass().getName();
+    switch (className) {
+      case "foo.OnAnyMethod":
+        return bar_LifecycleAdapterIndex_LifecycleAdapters.create(className, observer);
+      default:
+        return null;
+    }
+  }
+}
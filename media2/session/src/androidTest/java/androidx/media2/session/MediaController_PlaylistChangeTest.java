@@ -0,0 +1,208 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.media2.session;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import android.os.Parcel;
+import android.os.Process;
+
+import androidx.annotation.NonNull;
+import androidx.media2.common.MediaItem;
+import androidx.media2.common.MediaParcelUtils;
+import androidx.media2.common.SessionPlayer;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.filters.LargeTest;
+import androidx.testutils.PollingCheck;
+import androidx.versionedparcelable.ParcelImpl;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests sending the playlist changes from {@link MediaSession} to {@link MediaController}, with
+ * both of them in the same process.
+ */
+@RunWith(AndroidJUnit4.class)
+@LargeTest
+public class MediaController_PlaylistChangeTest extends MediaSessionTestBase {
+    private static final String TAG = "MC_PlaylistChangeTest";
+    private static final int PLAYLIST_SIZE = 100;
+
+    private MockPlayer mPlayer;
+    private MediaSession mSession;
+    private MediaController mController1;
+    private MediaController mController2;
+
+    @Before
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        mPlayer = new MockPlayer(0);
+        mSession = new MediaSession.Builder(mContext, mPlayer)
+                .setSessionCallback(sHandlerExecutor, new MediaSession.SessionCallback() {
+                    @Override
+                    public SessionCommandGroup onConnect(@NonNull MediaSession session,
+                            @NonNull MediaSession.ControllerInfo controller) {
+                        if (Process.myUid() == controller.getUid()) {
+                            return super.onConnect(session, controller);
+                        }
+                        return null;
+                    }
+                })
+                .setId(TAG)
+                .build();
+        mController1 = createController(mSession.getToken());
+        mController2 = createController(mSession.getToken());
+    }
+
+    @After
+    @Override
+    public void cleanUp() throws Exception {
+        super.cleanUp();
+        mSession.close();
+    }
+
+    @Test
+    public void insertRemoveMoveAndReplace() throws Exception {
+        List<MediaItem> playlist = TestUtils.createMediaItems(PLAYLIST_SIZE);
+        updatePlaylist(playlist);
+
+        playlist = new ArrayList<>(playlist);
+        playlist.add(10, TestUtils.createMediaItem("inserted"));
+        updatePlaylist(playlist);
+
+        playlist = new ArrayList<>(playlist);
+        playlist.subList(20, 23).clear();
+        updatePlaylist(playlist);
+
+        playlist = new ArrayList<>(playlist);
+        playlist.add(50, playlist.remove(5));
+        updatePlaylist(playlist);
+
+        playlist = new ArrayList<>(playlist);
+        playlist.set(PLAYLIST_SIZE / 2, TestUtils.createMediaItem("replaced"));
+        updatePlaylist(playlist);
+
+        playlist = new ArrayList<>(playlist);
+        Collections.reverse(playlist);
+        updatePlaylist(playlist);
+    }
+
+    @Test
+    public void divergedController_receivesWholePlaylist() throws Exception {
+        List<MediaItem> playlist = TestUtils.createMediaItems(PLAYLIST_SIZE);
+        updatePlaylist(playlist);
+
+        // Pretends that the first controller has missed a change.
+        MediaControllerImplBase impl = (MediaControllerImplBase) mController1.getImpl();
+        impl.notifyPlaylistChanges(TestUtils.createMediaItems(1), null,
+                PlaylistChange.NO_VERSION, 0, SessionPlayer.INVALID_ITEM_INDEX,
+                SessionPlayer.INVALID_ITEM_INDEX);
+
+        playlist = new ArrayList<>(playlist);
+        playlist.remove(0);
+        updatePlaylist(playlist);
+    }
+
+    @Test
+    public void playlistChange_parceled() {
+        List<MediaItem> oldPlaylist = TestUtils.createMediaItems(PLAYLIST_SIZE);
+        List<MediaItem> newPlaylist = new ArrayList<>(oldPlaylist);
+        newPlaylist.add(3, TestUtils.createMediaItem("inserted"));
+
+        PlaylistChange change = PlaylistChange.create(oldPlaylist, newPlaylist,
+                SessionPlayer.INVALID_ITEM_INDEX, 1, 2);
+        assertNotNull(change);
+        PlaylistChange parceled = writeToParcelAndCreatePlaylistChange(change);
+
+        assertEquals(PlaylistChange.TYPE_INSERT, parceled.getType());
+        assertEquals(1, parceled.getBaseVersion());
+        assertEquals(2, parceled.getVersion());
+        TestUtils.assertMediaItemListEquals(newPlaylist, parceled.apply(oldPlaylist));
+        // The change doesn't fit a shorter playlist.
+        assertNull(parceled.apply(oldPlaylist.subList(0, 2)));
+    }
+
+    @Test
+    public void playlistChange_withChangedItem_replacesItem() {
+        List<MediaItem> playlist = TestUtils.createMediaItems(PLAYLIST_SIZE);
+
+        PlaylistChange change = PlaylistChange.create(playlist, playlist, 7, 1, 2);
+
+        assertNotNull(change);
+        assertEquals(PlaylistChange.TYPE_REPLACE, change.getType());
+        TestUtils.assertMediaItemListEquals(playlist, change.apply(playlist));
+    }
+
+    @Test
+    public void playlistChange_withMostItemsChanged_returnsNull() {
+        List<MediaItem> oldPlaylist = TestUtils.createMediaItems(PLAYLIST_SIZE);
+        List<MediaItem> newPlaylist = new ArrayList<>(oldPlaylist);
+        Collections.reverse(newPlaylist);
+
+        assertNull(PlaylistChange.create(oldPlaylist, newPlaylist,
+                SessionPlayer.INVALID_ITEM_INDEX, 1, 2));
+    }
+
+    private void updatePlaylist(final List<MediaItem> playlist) {
+        mPlayer.mPlaylist = playlist;
+        mPlayer.notifyPlaylistChanged();
+        for (final MediaController controller : new MediaController[]{mController1,
+                mController2}) {
+            PollingCheck.waitFor(TIMEOUT_MS, new PollingCheck.PollingCheckCondition() {
+                @Override
+                public boolean canProceed() {
+                    return hasSameMediaIds(playlist, controller.getPlaylist());
+                }
+            });
+        }
+    }
+
+    private static PlaylistChange writeToParcelAndCreatePlaylistChange(PlaylistChange change) {
+        ParcelImpl parcelImpl = MediaParcelUtils.toParcelable(change);
+        Parcel parcel = Parcel.obtain();
+        try {
+            parcelImpl.writeToParcel(parcel, 0);
+            parcel.setDataPosition(0);
+            ParcelImpl newParcelImpl = ParcelImpl.CREATOR.createFromParcel(parcel);
+            return MediaParcelUtils.fromParcelable(newParcelImpl);
+        } finally {
+            parcel.recycle();
+        }
+    }
+
+    private static boolean hasSameMediaIds(List<MediaItem> expected, List<MediaItem> actual) {
+        if (actual == null || expected.size() != actual.size()) {
+            return false;
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            if (!expected.get(i).getMediaId().equals(actual.get(i).getMediaId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -123,6 +123,11 @@ class MediaControllerImplBase implements MediaControllerImpl {
     private boolean mIsReleased;
     @GuardedBy("mLock")
     private List<MediaItem> mPlaylist;
+    // Version of mPlaylist, which the changes sent by the session apply to.
+    @GuardedBy("mLock")
+    private int mPlaylistVersion = PlaylistChange.NO_VERSION;
+    @GuardedBy("mLock")
+    private boolean mPlaylistResyncRequested;
     @GuardedBy("mLock")
     private MediaMetadata mPlaylistMetadata;
     @GuardedBy("mLock")
@@ -966,8 +971,17 @@ class MediaControllerImplBase implements MediaControllerImpl {
 
     void notifyPlaylistChanges(final List<MediaItem> playlist, final MediaMetadata metadata,
             int currentMediaItemIndex, int previousMediaItemIndex, int nextMediaItemIndex) {
+        notifyPlaylistChanges(playlist, metadata, PlaylistChange.NO_VERSION, currentMediaItemIndex,
+                previousMediaItemIndex, nextMediaItemIndex);
+    }
+
+    void notifyPlaylistChanges(final List<MediaItem> playlist, final MediaMetadata metadata,
+            int playlistVersion, int currentMediaItemIndex, int previousMediaItemIndex,
+            int nextMediaItemIndex) {
         synchronized (mLock) {
             mPlaylist = playlist;
+            mPlaylistVersion = playlistVersion;
+            mPlaylistResyncRequested = false;
             mPlaylistMetadata = metadata;
             mCurrentMediaItemIndex = currentMediaItemIndex;
             mPreviousMediaItemIndex = previousMediaItemIndex;
@@ -988,6 +1002,39 @@ class MediaControllerImplBase implements MediaControllerImpl {
         });
     }
 
+    void notifyPlaylistChange(@NonNull PlaylistChange change, final MediaMetadata metadata,
+            int currentMediaItemIndex, int previousMediaItemIndex, int nextMediaItemIndex) {
+        final List<MediaItem> playlist;
+        final IMediaSession iSession;
+        synchronized (mLock) {
+            if (mPlaylistResyncRequested) {
+                // The whole playlist is coming.
+                return;
+            }
+            playlist = mPlaylist != null && mPlaylistVersion == change.getBaseVersion()
+                    ? change.apply(mPlaylist) : null;
+            if (playlist == null) {
+                // Changes were missed, for instance before the connection was completed.
+                mPlaylistResyncRequested = true;
+            }
+            iSession = mISession;
+        }
+        if (playlist != null) {
+            notifyPlaylistChanges(playlist, metadata, change.getVersion(), currentMediaItemIndex,
+                    previousMediaItemIndex, nextMediaItemIndex);
+            return;
+        }
+        if (iSession == null) {
+            return;
+        }
+        try {
+            iSession.resyncPlaylist(mControllerStub,
+                    mSequencedFutureManager.obtainNextSequenceNumber());
+        } catch (RemoteException e) {
+            Log.w(TAG, "Cannot request the playlist", e);
+        }
+    }
+
     void notifyPlaylistMetadataChanges(final MediaMetadata metadata) {
         synchronized (mLock) {
             mPlaylistMetadata = metadata;
@@ -160,6 +160,47 @@ class MediaControllerStub extends IMediaController.Stub {
         });
     }
 
+    @Override
+    public void onPlaylistSnapshot(int seq, final int playlistVersion,
+            final ParcelImplListSlice listSlice, final ParcelImpl metadata, final int currentIdx,
+            final int previousIdx, final int nextIdx) {
+        if (metadata == null) {
+            return;
+        }
+        dispatchControllerTask(new ControllerTask() {
+            @Override
+            public void run(MediaControllerImplBase controller) {
+                List<MediaItem> playlist =
+                        MediaUtils.convertParcelImplListSliceToMediaItemList(listSlice);
+                controller.notifyPlaylistChanges(playlist,
+                        (MediaMetadata) MediaParcelUtils.fromParcelable(metadata), playlistVersion,
+                        currentIdx, previousIdx, nextIdx);
+            }
+        });
+    }
+
+    @Override
+    public void onPlaylistChange(int seq, final ParcelImpl playlistChange,
+            final ParcelImpl metadata, final int currentIdx, final int previousIdx,
+            final int nextIdx) {
+        if (playlistChange == null || metadata == null) {
+            return;
+        }
+        dispatchControllerTask(new ControllerTask() {
+            @Override
+            public void run(MediaControllerImplBase controller) {
+                PlaylistChange change = MediaParcelUtils.fromParcelable(playlistChange);
+                if (change == null) {
+                    Log.w(TAG, "onPlaylistChange(): Ignoring null change");
+                    return;
+                }
+                controller.notifyPlaylistChange(change,
+                        (MediaMetadata) MediaParcelUtils.fromParcelable(metadata), currentIdx,
+                        previousIdx, nextIdx);
+            }
+        });
+    }
+
     @Override
     public void onPlaylistMetadataChanged(int seq, final ParcelImpl metadata)
             throws RuntimeException {
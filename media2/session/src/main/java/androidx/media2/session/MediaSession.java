@@ -864,7 +864,6 @@ public class MediaSession implements Closeable {
      * Information of a controller.
      */
     public static final class ControllerInfo {
-        @SuppressWarnings("UnusedVariable")
         private final int mControllerVersion;
         private final RemoteUserInfo mRemoteUserInfo;
         private final boolean mIsTrusted;
@@ -900,6 +899,10 @@ public class MediaSession implements Closeable {
             return mRemoteUserInfo;
         }
 
+        int getControllerVersion() {
+            return mControllerVersion;
+        }
+
         /**
          * Gets the package name. Can be
          * {@link androidx.media.MediaSessionManager.RemoteUserInfo#LEGACY_CONTROLLER} for
@@ -1206,6 +1209,12 @@ public class MediaSession implements Closeable {
         abstract void onPlaylistChanged(int seq, @NonNull List<MediaItem> playlist,
                 @Nullable MediaMetadata metadata, int currentIdx, int previousIdx,
                 int nextIdx) throws RemoteException;
+        // Controllers which have the base version of the playlist may only be sent the change.
+        void onPlaylistChanged(int seq, @NonNull List<MediaItem> playlist, int playlistVersion,
+                @Nullable PlaylistChange change, @Nullable MediaMetadata metadata,
+                int currentIdx, int previousIdx, int nextIdx) throws RemoteException {
+            onPlaylistChanged(seq, playlist, metadata, currentIdx, previousIdx, nextIdx);
+        }
         abstract void onPlaylistMetadataChanged(int seq, @Nullable MediaMetadata metadata)
                 throws RemoteException;
         abstract void onShuffleModeChanged(int seq, @SessionPlayer.ShuffleMode int shuffleMode,
@@ -1270,6 +1279,7 @@ public class MediaSession implements Closeable {
         IBinder getLegacyBrowserServiceBinder();
         void connectFromService(IMediaController caller, int controllerVersion, String packageName,
                 int pid, int uid, @Nullable Bundle connectionHints);
+        void resyncPlaylist(@NonNull ControllerInfo controller);
     }
 
     /**
@@ -147,6 +147,14 @@ class MediaSessionImplBase implements MediaSession.MediaSessionImpl {
     @GuardedBy("mLock")
     private MediaBrowserServiceCompat mBrowserServiceLegacyStub;
 
+    // The last playlist notified to the controllers and its version, which is the base of the
+    // change sent with the next playlist.
+    @GuardedBy("mLock")
+    private int mPlaylistVersion;
+
+    @GuardedBy("mLock")
+    private List<MediaItem> mNotifiedPlaylist;
+
     MediaSessionImplBase(MediaSession instance, Context context, String id, SessionPlayer player,
             PendingIntent sessionActivity, Executor callbackExecutor, SessionCallback callback,
             Bundle tokenExtras) {
@@ -1041,6 +1049,24 @@ class MediaSessionImplBase implements MediaSession.MediaSessionImpl {
         mSessionStub.connect(caller, controllerVersion, packageName, pid, uid, connectionHints);
     }
 
+    @Override
+    public void resyncPlaylist(@NonNull ControllerInfo controller) {
+        final List<MediaItem> playlist;
+        final int playlistVersion;
+        synchronized (mLock) {
+            playlist = mNotifiedPlaylist;
+            playlistVersion = mPlaylistVersion;
+        }
+        dispatchRemoteControllerTaskWithoutReturn(controller, new RemoteControllerTask() {
+            @Override
+            public void run(ControllerCb callback, int seq) throws RemoteException {
+                callback.onPlaylistChanged(seq, playlist, playlistVersion, null,
+                        getPlaylistMetadata(), getCurrentMediaItemIndex(),
+                        getPreviousMediaItemIndex(), getNextMediaItemIndex());
+            }
+        });
+    }
+
     /**
      * Gets the service binder from the MediaBrowserServiceCompat. Should be only called by the
      * thread with a Looper.
@@ -1124,14 +1150,8 @@ class MediaSessionImplBase implements MediaSession.MediaSessionImpl {
         List<MediaItem> oldPlaylist = oldPlayer.getPlaylist();
         final List<MediaItem> newPlaylist = getPlaylistOrNull();
         if (!ObjectsCompat.equals(oldPlaylist, newPlaylist)) {
-            dispatchRemoteControllerTaskWithoutReturn(new RemoteControllerTask() {
-                @Override
-                public void run(ControllerCb callback, int seq) throws RemoteException {
-                    callback.onPlaylistChanged(seq,
-                            newPlaylist, getPlaylistMetadata(), getCurrentMediaItemIndex(),
-                            getPreviousMediaItemIndex(), getNextMediaItemIndex());
-                }
-            });
+            notifyPlaylistChangedNotLocked(newPlaylist, getPlaylistMetadata(),
+                    INVALID_ITEM_INDEX);
         } else {
             MediaMetadata oldMetadata = oldPlayer.getPlaylistMetadata();
             final MediaMetadata newMetadata = getPlaylistMetadata();
@@ -1222,6 +1242,37 @@ class MediaSessionImplBase implements MediaSession.MediaSessionImpl {
         });
     }
 
+    /**
+     * Notifies the playlist to the connected controllers. The controllers which have the
+     * previously notified playlist are only sent the change from it.
+     *
+     * @param playlist the new playlist
+     * @param metadata the playlist metadata
+     * @param changedIndex index of an item whose metadata has changed in place, or
+     *                     {@link SessionPlayer#INVALID_ITEM_INDEX}
+     */
+    void notifyPlaylistChangedNotLocked(@Nullable final List<MediaItem> playlist,
+            @Nullable final MediaMetadata metadata, int changedIndex) {
+        final int playlistVersion;
+        final PlaylistChange change;
+        synchronized (mLock) {
+            int baseVersion = mPlaylistVersion++;
+            playlistVersion = mPlaylistVersion;
+            change = PlaylistChange.create(mNotifiedPlaylist, playlist, changedIndex, baseVersion,
+                    playlistVersion);
+            // Copied, as the player may change its playlist in place.
+            mNotifiedPlaylist = playlist == null ? null : new ArrayList<>(playlist);
+        }
+        dispatchRemoteControllerTaskWithoutReturn(new RemoteControllerTask() {
+            @Override
+            public void run(ControllerCb callback, int seq) throws RemoteException {
+                callback.onPlaylistChanged(seq, playlist, playlistVersion, change, metadata,
+                        getCurrentMediaItemIndex(), getPreviousMediaItemIndex(),
+                        getNextMediaItemIndex());
+            }
+        });
+    }
+
     void dispatchRemoteControllerTaskWithoutReturn(@NonNull RemoteControllerTask task) {
         List<ControllerInfo> controllers =
                 mSessionStub.getConnectedControllersManager().getConnectedControllers();
@@ -1474,14 +1525,7 @@ class MediaSessionImplBase implements MediaSession.MediaSessionImpl {
             }
             mPlaylist = list;
 
-            dispatchRemoteControllerTask(player, new RemoteControllerTask() {
-                @Override
-                public void run(ControllerCb callback, int seq) throws RemoteException {
-                    callback.onPlaylistChanged(seq, list, metadata,
-                            session.getCurrentMediaItemIndex(), session.getPreviousMediaItemIndex(),
-                            session.getNextMediaItemIndex());
-                }
-            });
+            session.notifyPlaylistChangedNotLocked(list, metadata, INVALID_ITEM_INDEX);
         }
 
         @Override
@@ -1799,16 +1843,7 @@ class MediaSessionImplBase implements MediaSession.MediaSessionImpl {
             }
             for (int i = 0; i < list.size(); i++) {
                 if (item.equals(list.get(i))) {
-                    session.dispatchRemoteControllerTaskWithoutReturn(new RemoteControllerTask() {
-                        @Override
-                        public void run(ControllerCb callback, int seq) throws RemoteException {
-                            callback.onPlaylistChanged(seq, list,
-                                    session.getPlaylistMetadata(),
-                                    session.getCurrentMediaItemIndex(),
-                                    session.getPreviousMediaItemIndex(),
-                                    session.getNextMediaItemIndex());
-                        }
-                    });
+                    session.notifyPlaylistChangedNotLocked(list, session.getPlaylistMetadata(), i);
                     return;
                 }
             }
@@ -36,6 +36,7 @@ import android.util.Log;
 import android.util.SparseArray;
 import android.view.Surface;
 
+import androidx.annotation.GuardedBy;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.core.util.ObjectsCompat;
@@ -477,6 +478,32 @@ class MediaSessionStub extends IMediaSession.Stub {
         }
     }
 
+    @Override
+    public void resyncPlaylist(final IMediaController caller, int seq) {
+        if (caller == null) {
+            return;
+        }
+        final long token = Binder.clearCallingIdentity();
+        try {
+            final ControllerInfo controller = mConnectedControllersManager.getController(
+                    caller.asBinder());
+            if (controller == null) {
+                return;
+            }
+            mSessionImpl.getCallbackExecutor().execute(new Runnable() {
+                @Override
+                public void run() {
+                    if (mSessionImpl.isClosed()) {
+                        return;
+                    }
+                    mSessionImpl.resyncPlaylist(controller);
+                }
+            });
+        } finally {
+            Binder.restoreCallingIdentity(token);
+        }
+    }
+
     @Override
     public void setVolumeTo(final IMediaController caller, int seq, final int value,
             final int flags) throws RuntimeException {
@@ -1177,6 +1204,9 @@ class MediaSessionStub extends IMediaSession.Stub {
     final class Controller2Cb extends ControllerCb {
         // TODO: Drop 'Callback' from the name.
         private final IMediaController mIControllerCallback;
+        // Version of the playlist which the controller has.
+        @GuardedBy("this")
+        private int mPlaylistVersion = PlaylistChange.NO_VERSION;
 
         Controller2Cb(@NonNull IMediaController callback) {
             mIControllerCallback = callback;
@@ -1281,6 +1311,45 @@ class MediaSessionStub extends IMediaSession.Stub {
             }
         }
 
+        @Override
+        void onPlaylistChanged(int seq, @NonNull List<MediaItem> playlist, int playlistVersion,
+                @Nullable PlaylistChange change, MediaMetadata metadata, int currentIdx,
+                int previousIdx, int nextIdx) throws RemoteException {
+            ControllerInfo controller = mConnectedControllersManager.getController(
+                    getCallbackBinder());
+            if (controller == null || controller.getControllerVersion() < MediaUtils.VERSION_1) {
+                onPlaylistChanged(seq, playlist, metadata, currentIdx, previousIdx, nextIdx);
+                return;
+            }
+            if (!mConnectedControllersManager.isAllowedCommand(controller,
+                    SessionCommand.COMMAND_CODE_PLAYER_GET_PLAYLIST)) {
+                synchronized (this) {
+                    mPlaylistVersion = PlaylistChange.NO_VERSION;
+                }
+                onPlaylistChanged(seq, playlist, metadata, currentIdx, previousIdx, nextIdx);
+                return;
+            }
+            boolean sendChange;
+            synchronized (this) {
+                if (playlistVersion < mPlaylistVersion) {
+                    // A newer playlist has already been sent.
+                    return;
+                }
+                sendChange = change != null && change.getBaseVersion() == mPlaylistVersion;
+                mPlaylistVersion = playlistVersion;
+            }
+            if (sendChange) {
+                mIControllerCallback.onPlaylistChange(seq, MediaParcelUtils.toParcelable(change),
+                        MediaParcelUtils.toParcelable(metadata), currentIdx, previousIdx,
+                        nextIdx);
+            } else {
+                mIControllerCallback.onPlaylistSnapshot(seq, playlistVersion,
+                        MediaUtils.convertMediaItemListToParcelImplListSlice(playlist),
+                        MediaParcelUtils.toParcelable(metadata), currentIdx, previousIdx,
+                        nextIdx);
+            }
+        }
+
         @Override
         void onPlaylistMetadataChanged(int seq, MediaMetadata metadata) throws RemoteException {
             ControllerInfo controller = mConnectedControllersManager.getController(
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.media2.session;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.media2.common.MediaItem;
+import androidx.media2.common.ParcelImplListSlice;
+import androidx.versionedparcelable.ParcelField;
+import androidx.versionedparcelable.VersionedParcelable;
+import androidx.versionedparcelable.VersionedParcelize;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Created by {@link MediaSession} to send a change of its playlist to the {@link MediaController}s
+ * which already have the previous version of the playlist, instead of the whole playlist.
+ * <p>
+ * Each playlist notified by the session has a version. A change can only be applied to the
+ * playlist of its base version. Otherwise the controller should ask the session for the whole
+ * playlist again.
+ * <p>
+ * All fields here are effectively final. Do not modify.
+ */
+@VersionedParcelize
+class PlaylistChange implements VersionedParcelable {
+    // Version of a playlist which isn't known, or wasn't sent with a version.
+    static final int NO_VERSION = -1;
+
+    static final int TYPE_INSERT = 0;
+    static final int TYPE_REMOVE = 1;
+    static final int TYPE_MOVE = 2;
+    static final int TYPE_REPLACE = 3;
+
+    @ParcelField(0)
+    int mBaseVersion;
+    @ParcelField(1)
+    int mVersion;
+    @ParcelField(2)
+    int mType;
+    @ParcelField(3)
+    int mIndex;
+    // Number of removed items for TYPE_REMOVE and TYPE_REPLACE.
+    @ParcelField(4)
+    int mCount;
+    // Index of the moved item after the move for TYPE_MOVE.
+    @ParcelField(5)
+    int mToIndex;
+    // Inserted items for TYPE_INSERT and TYPE_REPLACE.
+    @ParcelField(6)
+    ParcelImplListSlice mItemSlice;
+
+    // For versioned parcelable.
+    PlaylistChange() {
+        // no-op
+    }
+
+    private PlaylistChange(int baseVersion, int version, int type, int index, int count,
+            int toIndex, @Nullable List<MediaItem> items) {
+        mBaseVersion = baseVersion;
+        mVersion = version;
+        mType = type;
+        mIndex = index;
+        mCount = count;
+        mToIndex = toIndex;
+        mItemSlice = MediaUtils.convertMediaItemListToParcelImplListSlice(items);
+    }
+
+    /**
+     * Finds the change between two versions of a playlist.
+     * <p>
+     * Items are compared by identity, because a {@link MediaItem} can be updated in place.
+     * The item at {@code changedIndex}, if any, is always sent again.
+     *
+     * @param oldPlaylist playlist of the base version
+     * @param newPlaylist playlist of the new version
+     * @param changedIndex index of an item of the new playlist whose metadata has changed, or
+     *                     {@link androidx.media2.common.SessionPlayer#INVALID_ITEM_INDEX}
+     * @param baseVersion version of the old playlist
+     * @param version version of the new playlist
+     * @return the change, or {@code null} if the new playlist should be sent as a whole
+     */
+    @Nullable
+    static PlaylistChange create(@Nullable List<MediaItem> oldPlaylist,
+            @Nullable List<MediaItem> newPlaylist, int changedIndex, int baseVersion,
+            int version) {
+        if (oldPlaylist == null || newPlaylist == null || newPlaylist.contains(null)) {
+            // Null items are skipped when sending a playlist, which would shift the indices.
+            return null;
+        }
+        int oldSize = oldPlaylist.size();
+        int newSize = newPlaylist.size();
+        int minSize = Math.min(oldSize, newSize);
+        int prefix = 0;
+        while (prefix < minSize && oldPlaylist.get(prefix) == newPlaylist.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < minSize - prefix
+                && oldPlaylist.get(oldSize - 1 - suffix) == newPlaylist.get(newSize - 1 - suffix)) {
+            suffix++;
+        }
+        if (changedIndex >= 0 && changedIndex < newSize) {
+            prefix = Math.min(prefix, changedIndex);
+            suffix = Math.min(suffix, newSize - 1 - changedIndex);
+        }
+        int removedCount = oldSize - suffix - prefix;
+        List<MediaItem> items = newPlaylist.subList(prefix, newSize - suffix);
+        if (items.size() > newSize / 2) {
+            // Sending most of the playlist as a change wouldn't save anything.
+            return null;
+        }
+        if (removedCount == 0) {
+            return new PlaylistChange(baseVersion, version, TYPE_INSERT, prefix, 0, 0, items);
+        }
+        if (items.isEmpty()) {
+            return new PlaylistChange(baseVersion, version, TYPE_REMOVE, prefix, removedCount, 0,
+                    null);
+        }
+        if (removedCount == items.size() && removedCount > 1 && changedIndex < 0) {
+            int last = prefix + removedCount - 1;
+            if (oldPlaylist.get(prefix) == newPlaylist.get(last)
+                    && isSameRange(oldPlaylist, prefix + 1, newPlaylist, prefix,
+                    removedCount - 1)) {
+                return new PlaylistChange(baseVersion, version, TYPE_MOVE, prefix, 0, last, null);
+            }
+            if (oldPlaylist.get(last) == newPlaylist.get(prefix)
+                    && isSameRange(oldPlaylist, prefix, newPlaylist, prefix + 1,
+                    removedCount - 1)) {
+                return new PlaylistChange(baseVersion, version, TYPE_MOVE, last, 0, prefix, null);
+            }
+        }
+        return new PlaylistChange(baseVersion, version, TYPE_REPLACE, prefix, removedCount, 0,
+                items);
+    }
+
+    private static boolean isSameRange(List<MediaItem> list, int start, List<MediaItem> other,
+            int otherStart, int count) {
+        for (int i = 0; i < count; i++) {
+            if (list.get(start + i) != other.get(otherStart + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getBaseVersion() {
+        return mBaseVersion;
+    }
+
+    public int getVersion() {
+        return mVersion;
+    }
+
+    public int getType() {
+        return mType;
+    }
+
+    /**
+     * Applies this change to the playlist of the base version.
+     *
+     * @param playlist playlist of the base version, which isn't modified
+     * @return the playlist of the new version, or {@code null} if the change doesn't fit the
+     *         given playlist
+     */
+    @Nullable
+    public List<MediaItem> apply(@NonNull List<MediaItem> playlist) {
+        int size = playlist.size();
+        List<MediaItem> result = new ArrayList<>(playlist);
+        switch (mType) {
+            case TYPE_INSERT:
+                if (mIndex < 0 || mIndex > size) {
+                    return null;
+                }
+                result.addAll(mIndex, getItems());
+                return result;
+            case TYPE_REMOVE:
+            case TYPE_REPLACE:
+                if (mIndex < 0 || mCount < 0 || mIndex > size - mCount) {
+                    return null;
+                }
+                result.subList(mIndex, mIndex + mCount).clear();
+                result.addAll(mIndex, getItems());
+                return result;
+            case TYPE_MOVE:
+                if (mIndex < 0 || mIndex >= size || mToIndex < 0 || mToIndex >= size) {
+                    return null;
+                }
+                result.add(mToIndex, result.remove(mIndex));
+                return result;
+            default:
+                return null;
+        }
+    }
+
+    @NonNull
+    private List<MediaItem> getItems() {
+        List<MediaItem> items = MediaUtils.convertParcelImplListSliceToMediaItemList(mItemSlice);
+        return items == null ? Collections.<MediaItem>emptyList() : items;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.navigation
+
+import android.net.Uri
+import androidx.benchmark.junit4.BenchmarkRule
+import androidx.benchmark.junit4.measureRepeated
+import androidx.test.filters.LargeTest
+import org.junit.Assert.assertTrue
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.Parameterized
+
+@LargeTest
+@RunWith(Parameterized::class)
+class NavDeepLinkBenchmark(private val deepLinkCount: Int) {
+
+    @get:Rule
+    val benchmarkRule = BenchmarkRule()
+
+    private val navigatorProvider = NavigatorProvider().apply {
+        addNavigator(NavGraphNavigator(this))
+        addNavigator(NoOpNavigator())
+    }
+
+    /**
+     * Builds a graph of [deepLinkCount] destinations, spread across nested graphs of
+     * [DESTINATIONS_PER_GRAPH] destinations each, with a mix of http and custom scheme deep links.
+     */
+    private fun createGraph(): NavGraph {
+        val graph = navigatorProvider.getNavigator(NavGraphNavigator::class.java)
+            .createDestination()
+        var nestedGraph: NavGraph? = null
+        for (i in 0 until deepLinkCount) {
+            if (i % DESTINATIONS_PER_GRAPH == 0) {
+                nestedGraph = navigatorProvider.getNavigator(NavGraphNavigator::class.java)
+                    .createDestination()
+                nestedGraph.id = deepLinkCount + i + 1
+                graph.addDestination(nestedGraph)
+            }
+            val destination = navigatorProvider.getNavigator(NoOpNavigator::class.java)
+                .createDestination()
+            destination.id = i + 1
+            if (i % 2 == 0) {
+                destination.addDeepLink("www.example.com/section$i/{id}")
+            } else {
+                destination.addDeepLink("example://section$i/items/{id}?filter={filter}")
+            }
+            nestedGraph!!.addDestination(destination)
+        }
+        return graph
+    }
+
+    @Test
+    fun matchDeepLinkFirst() {
+        val graph = createGraph()
+        val request = NavDeepLinkRequest(Uri.parse("https://www.example.com/section0/42"),
+            null, null)
+        benchmarkRule.measureRepeated {
+            assertTrue(graph.hasDeepLink(request))
+        }
+    }
+
+    @Test
+    fun matchDeepLinkLast() {
+        val graph = createGraph()
+        val last = deepLinkCount - 1
+        val uri = if (last % 2 == 0) {
+            "https://www.example.com/section$last/42"
+        } else {
+            "example://section$last/items/42?filter=all"
+        }
+        val request = NavDeepLinkRequest(Uri.parse(uri), null, null)
+        benchmarkRule.measureRepeated {
+            assertTrue(graph.hasDeepLink(request))
+        }
+    }
+
+    @Test
+    fun matchDeepLinkColdGraph() {
+        val request = NavDeepLinkRequest(Uri.parse("https://www.example.com/section0/42"),
+            null, null)
+        benchmarkRule.measureRepeated {
+            val graph = runWithTimingDisabled { createGraph() }
+            assertTrue(graph.hasDeepLink(request))
+        }
+    }
+
+    companion object {
+        private const val DESTINATIONS_PER_GRAPH = 50
+
+        @JvmStatic
+        @Parameterized.Parameters(name = "deepLinkCount={0}")
+        fun data() = arrayOf(100, 300, 1000)
+    }
+}
@@ -18,6 +18,7 @@ package androidx.navigation
 
 import androidx.benchmark.junit4.BenchmarkRule
 import androidx.benchmark.junit4.measureRepeated
+import androidx.navigation.benchmark.test.NavLargeFactory
 import androidx.test.core.app.ApplicationProvider
 import androidx.test.ext.junit.runners.AndroidJUnit4
 import androidx.test.filters.LargeTest
@@ -37,6 +38,12 @@ class NavInflaterBenchmark {
 
     private var navInflater: NavInflater = NavInflater(context, TestNavigatorProvider())
 
+    // The safe args graph factories only support the navigators of the navigation libraries
+    private val activityNavigatorProvider = NavigatorProvider().apply {
+        addNavigator(NavGraphNavigator(this))
+        addNavigator(ActivityNavigator(context))
+    }
+
     @Test
     fun inflateSimple() {
         benchmarkRule.measureRepeated {
@@ -50,4 +57,23 @@ class NavInflaterBenchmark {
             navInflater.inflate(androidx.navigation.benchmark.test.R.navigation.nav_deep_link)
         }
     }
+
+    @Test
+    fun inflateLarge() {
+        val activityNavInflater = NavInflater(context, activityNavigatorProvider)
+        benchmarkRule.measureRepeated {
+            activityNavInflater.inflate(androidx.navigation.benchmark.test.R.navigation.nav_large)
+        }
+    }
+
+    /**
+     * Creates the graph of nav_large.xml with the factory safe args generates for it, to compare
+     * against [inflateLarge].
+     */
+    @Test
+    fun createLargeFromFactory() {
+        benchmarkRule.measureRepeated {
+            NavLargeFactory.create(context, activityNavigatorProvider)
+        }
+    }
 }
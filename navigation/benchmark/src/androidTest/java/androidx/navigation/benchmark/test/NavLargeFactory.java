@@ -0,0 +1,9052 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.navigation.benchmark.test;
+
+import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.navigation.ActivityNavigator;
+import androidx.navigation.NavAction;
+import androidx.navigation.NavArgument;
+import androidx.navigation.NavDeepLink;
+import androidx.navigation.NavDestination;
+import androidx.navigation.NavGraph;
+import androidx.navigation.NavOptions;
+import androidx.navigation.NavType;
+import androidx.navigation.Navigator;
+import androidx.navigation.NavigatorProvider;
+
+/**
+ * The class generated by safe args with androidx.navigation.safeargs.generateNavGraph for
+ * nav_large.xml, checked in as the benchmark module does not apply the plugin. Long statements
+ * are wrapped, the generated code is otherwise unchanged, which JavaNavGraphWriterTest checks.
+ */
+public final class NavLargeFactory {
+    private NavLargeFactory() {
+    }
+
+    @NonNull
+    public static NavGraph create(Context context, NavigatorProvider provider) {
+        return (NavGraph) createDestination(context, provider);
+    }
+
+    private static NavDestination createLarge0(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_0);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(0).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_0/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_1);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_0_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge1(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_1);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(1).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_1/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_2);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_1_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge2(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_2);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(2).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_2/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_3);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_2_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge3(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_3);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(3).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_3/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_4);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_3_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge4(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_4);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(4).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_4/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_5);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_4_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge5(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_5);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(5).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_5/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_6);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_5_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge6(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_6);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(6).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_6/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_7);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_6_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge7(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_7);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(7).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_7/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_8);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_7_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge8(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_8);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(8).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_8/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_9);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_8_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge9(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_9);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(9).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_9/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_10);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_9_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge10(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_10);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(10).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_10/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_11);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_10_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge11(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_11);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(11).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_11/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_12);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_11_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge12(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_12);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(12).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_12/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_13);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_12_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge13(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_13);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(13).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_13/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_14);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_13_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge14(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_14);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(14).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_14/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_15);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_14_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge15(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_15);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(15).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_15/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_16);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_15_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge16(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_16);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(16).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_16/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_17);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_16_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge17(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_17);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(17).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_17/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_18);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_17_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge18(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_18);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(18).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_18/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_19);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_18_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge19(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_19);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(19).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_19/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_20);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_19_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge20(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_20);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(20).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_20/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_21);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_20_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge21(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_21);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(21).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_21/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_22);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_21_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge22(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_22);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(22).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_22/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_23);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_22_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge23(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_23);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(23).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_23/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_24);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_23_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge24(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_24);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(24).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_24/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_25);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_24_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge25(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_25);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(25).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_25/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_26);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_25_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge26(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_26);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(26).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_26/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_27);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_26_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge27(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_27);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(27).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_27/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_28);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_27_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge28(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_28);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(28).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_28/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_29);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_28_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge29(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_29);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(29).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_29/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_30);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_29_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge30(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_30);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(30).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_30/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_31);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_30_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge31(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_31);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(31).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_31/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_32);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_31_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge32(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_32);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(32).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_32/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_33);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_32_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge33(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_33);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(33).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_33/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_34);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_33_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge34(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_34);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(34).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_34/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_35);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_34_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge35(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_35);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(35).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_35/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_36);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_35_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge36(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_36);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(36).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_36/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_37);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_36_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge37(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_37);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(37).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_37/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_38);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_37_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge38(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_38);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(38).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_38/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_39);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_38_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge39(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_39);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(39).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_39/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_40);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_39_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge40(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_40);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(40).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_40/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_41);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_40_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge41(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_41);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(41).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_41/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_42);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_41_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge42(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_42);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(42).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_42/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_43);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_42_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge43(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_43);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(43).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_43/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_44);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_43_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge44(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_44);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(44).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_44/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_45);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_44_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge45(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_45);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(45).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_45/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_46);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_45_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge46(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_46);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(46).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_46/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_47);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_46_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge47(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_47);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(47).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_47/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_48);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_47_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge48(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_48);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(48).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_48/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_49);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_48_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge49(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_49);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(49).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_49/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_50);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_49_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge50(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_50);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(50).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_50/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_51);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_50_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge51(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_51);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(51).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_51/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_52);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_51_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge52(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_52);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(52).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_52/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_53);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_52_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge53(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_53);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(53).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_53/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_54);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_53_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge54(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_54);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(54).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_54/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_55);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_54_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge55(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_55);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(55).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_55/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_56);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_55_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge56(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_56);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(56).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_56/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_57);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_56_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge57(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_57);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(57).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_57/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_58);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_57_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge58(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_58);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(58).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_58/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_59);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_58_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge59(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_59);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(59).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_59/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_60);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_59_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge60(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_60);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(60).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_60/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_61);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_60_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge61(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_61);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(61).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_61/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_62);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_61_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge62(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_62);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(62).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_62/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_63);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_62_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge63(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_63);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(63).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_63/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_64);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_63_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge64(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_64);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(64).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_64/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_65);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_64_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge65(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_65);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(65).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_65/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_66);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_65_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge66(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_66);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(66).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_66/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_67);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_66_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge67(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_67);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(67).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_67/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_68);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_67_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge68(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_68);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(68).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_68/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_69);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_68_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge69(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_69);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(69).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_69/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_70);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_69_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge70(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_70);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(70).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_70/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_71);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_70_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge71(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_71);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(71).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_71/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_72);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_71_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge72(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_72);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(72).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_72/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_73);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_72_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge73(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_73);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(73).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_73/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_74);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_73_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge74(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_74);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(74).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_74/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_75);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_74_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge75(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_75);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(75).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_75/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_76);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_75_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge76(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_76);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(76).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_76/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_77);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_76_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge77(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_77);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(77).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_77/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_78);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_77_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge78(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_78);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(78).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_78/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_79);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_78_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge79(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_79);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(79).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_79/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_80);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_79_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge80(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_80);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(80).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_80/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_81);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_80_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge81(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_81);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(81).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_81/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_82);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_81_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge82(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_82);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(82).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_82/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_83);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_82_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge83(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_83);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(83).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_83/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_84);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_83_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge84(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_84);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(84).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_84/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_85);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_84_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge85(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_85);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(85).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_85/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_86);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_85_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge86(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_86);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(86).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_86/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_87);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_86_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge87(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_87);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(87).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_87/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_88);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_87_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge88(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_88);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(88).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_88/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_89);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_88_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge89(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_89);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(89).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_89/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_90);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_89_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge90(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_90);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(90).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_90/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_91);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_90_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge91(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_91);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(91).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_91/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_92);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_91_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge92(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_92);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(92).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_92/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_93);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_92_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge93(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_93);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(93).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_93/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_94);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_93_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge94(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_94);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(94).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_94/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_95);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_94_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge95(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_95);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(95).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_95/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_96);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_95_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge96(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_96);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(96).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_96/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_97);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_96_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge97(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_97);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(97).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_97/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_98);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_97_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge98(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_98);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(98).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_98/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_99);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_98_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge99(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_99);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(99).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_99/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_100);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_99_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge100(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_100);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(100).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_100/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_101);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_100_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge101(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_101);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(101).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_101/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_102);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_101_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge102(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_102);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(102).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_102/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_103);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_102_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge103(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_103);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(103).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_103/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_104);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_103_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge104(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_104);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(104).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_104/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_105);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_104_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge105(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_105);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(105).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_105/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_106);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_105_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge106(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_106);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(106).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_106/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_107);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_106_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge107(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_107);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(107).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_107/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_108);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_107_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge108(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_108);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(108).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_108/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_109);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_108_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge109(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_109);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(109).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_109/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_110);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_109_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge110(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_110);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(110).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_110/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_111);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_110_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge111(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_111);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(111).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_111/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_112);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_111_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge112(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_112);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(112).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_112/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_113);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_112_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge113(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_113);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(113).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_113/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_114);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_113_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge114(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_114);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(114).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_114/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_115);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_114_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge115(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_115);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(115).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_115/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_116);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_115_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge116(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_116);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(116).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_116/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_117);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_116_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge117(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_117);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(117).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_117/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_118);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_117_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge118(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_118);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(118).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_118/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_119);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_118_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge119(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_119);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(119).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_119/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_120);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_119_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge120(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_120);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(120).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_120/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_121);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_120_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge121(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_121);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(121).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_121/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_122);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_121_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge122(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_122);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(122).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_122/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_123);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_122_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge123(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_123);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(123).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_123/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_124);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_123_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge124(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_124);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(124).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_124/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_125);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_124_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge125(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_125);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(125).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_125/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_126);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_125_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge126(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_126);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(126).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_126/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_127);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_126_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge127(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_127);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(127).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_127/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_128);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_127_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge128(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_128);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(128).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_128/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_129);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_128_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge129(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_129);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(129).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_129/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_130);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_129_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge130(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_130);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(130).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_130/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_131);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_130_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge131(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_131);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(131).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_131/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_132);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_131_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge132(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_132);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(132).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_132/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_133);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_132_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge133(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_133);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(133).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_133/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_134);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_133_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge134(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_134);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(134).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_134/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_135);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_134_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge135(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_135);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(135).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_135/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_136);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_135_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge136(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_136);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(136).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_136/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_137);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_136_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge137(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_137);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(137).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_137/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_138);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_137_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge138(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_138);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(138).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_138/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_139);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_138_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge139(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_139);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(139).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_139/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_140);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_139_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge140(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_140);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(140).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_140/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_141);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_140_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge141(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_141);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(141).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_141/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_142);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_141_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge142(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_142);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(142).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_142/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_143);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_142_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge143(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_143);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(143).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_143/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_144);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_143_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge144(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_144);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(144).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_144/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_145);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_144_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge145(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_145);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(145).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_145/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_146);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_145_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge146(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_146);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(146).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_146/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_147);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_146_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge147(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_147);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(147).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_147/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_148);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_147_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge148(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_148);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(148).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_148/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_149);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_148_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge149(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_149);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(149).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_149/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_150);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_149_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge150(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_150);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(150).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_150/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_151);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_150_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge151(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_151);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(151).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_151/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_152);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_151_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge152(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_152);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(152).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_152/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_153);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_152_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge153(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_153);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(153).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_153/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_154);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_153_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge154(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_154);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(154).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_154/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_155);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_154_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge155(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_155);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(155).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_155/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_156);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_155_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge156(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_156);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(156).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_156/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_157);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_156_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge157(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_157);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(157).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_157/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_158);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_157_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge158(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_158);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(158).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_158/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_159);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_158_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge159(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_159);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(159).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_159/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_160);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_159_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge160(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_160);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(160).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_160/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_161);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_160_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge161(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_161);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(161).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_161/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_162);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_161_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge162(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_162);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(162).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_162/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_163);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_162_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge163(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_163);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(163).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_163/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_164);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_163_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge164(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_164);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(164).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_164/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_165);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_164_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge165(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_165);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(165).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_165/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_166);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_165_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge166(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_166);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(166).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_166/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_167);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_166_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge167(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_167);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(167).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_167/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_168);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_167_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge168(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_168);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(168).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_168/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_169);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_168_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge169(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_169);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(169).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_169/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_170);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_169_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge170(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_170);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(170).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_170/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_171);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_170_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge171(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_171);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(171).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_171/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_172);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_171_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge172(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_172);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(172).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_172/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_173);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_172_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge173(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_173);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(173).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_173/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_174);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_173_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge174(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_174);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(174).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_174/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_175);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_174_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge175(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_175);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(175).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_175/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_176);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_175_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge176(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_176);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(176).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_176/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_177);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_176_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge177(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_177);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(177).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_177/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_178);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_177_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge178(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_178);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(178).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_178/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_179);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_178_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge179(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_179);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(179).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_179/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_180);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_179_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge180(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_180);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(180).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_180/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_181);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_180_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge181(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_181);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(181).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_181/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_182);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_181_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge182(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_182);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(182).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_182/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_183);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_182_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge183(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_183);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(183).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_183/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_184);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_183_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge184(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_184);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(184).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_184/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_185);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_184_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge185(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_185);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(185).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_185/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_186);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_185_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge186(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_186);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(186).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_186/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_187);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_186_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge187(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_187);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(187).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_187/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_188);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_187_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge188(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_188);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(188).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_188/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_189);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_188_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge189(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_189);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(189).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_189/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_190);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_189_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge190(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_190);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(190).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_190/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_191);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_190_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge191(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_191);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(191).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_191/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_192);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_191_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge192(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_192);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(192).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_192/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_193);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_192_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge193(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_193);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(193).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_193/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_194);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_193_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge194(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_194);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(194).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_194/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_195);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_194_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge195(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_195);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(195).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_195/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_196);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_195_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge196(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_196);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(196).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_196/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_197);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_196_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge197(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_197);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(197).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_197/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_198);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_197_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge198(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_198);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(198).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_198/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_199);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_198_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge199(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_199);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(199).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_199/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_200);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_199_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge200(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_200);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(200).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_200/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_201);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_200_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge201(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_201);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(201).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_201/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_202);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_201_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge202(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_202);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(202).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_202/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_203);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_202_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge203(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_203);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(203).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_203/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_204);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_203_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge204(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_204);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(204).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_204/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_205);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_204_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge205(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_205);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(205).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_205/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_206);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_205_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge206(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_206);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(206).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_206/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_207);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_206_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge207(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_207);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(207).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_207/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_208);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_207_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge208(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_208);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(208).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_208/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_209);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_208_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge209(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_209);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(209).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_209/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_210);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_209_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge210(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_210);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(210).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_210/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_211);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_210_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge211(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_211);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(211).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_211/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_212);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_211_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge212(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_212);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(212).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_212/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_213);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_212_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge213(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_213);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(213).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_213/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_214);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_213_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge214(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_214);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(214).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_214/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_215);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_214_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge215(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_215);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(215).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_215/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_216);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_215_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge216(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_216);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(216).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_216/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_217);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_216_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge217(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_217);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(217).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_217/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_218);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_217_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge218(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_218);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(218).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_218/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_219);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_218_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge219(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_219);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(219).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_219/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_220);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_219_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge220(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_220);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(220).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_220/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_221);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_220_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge221(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_221);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(221).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_221/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_222);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_221_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge222(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_222);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(222).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_222/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_223);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_222_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge223(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_223);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(223).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_223/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_224);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_223_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge224(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_224);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(224).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_224/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_225);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_224_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge225(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_225);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(225).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_225/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_226);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_225_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge226(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_226);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(226).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_226/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_227);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_226_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge227(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_227);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(227).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_227/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_228);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_227_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge228(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_228);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(228).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_228/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_229);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_228_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge229(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_229);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(229).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_229/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_230);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_229_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge230(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_230);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(230).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_230/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_231);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_230_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge231(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_231);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(231).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_231/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_232);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_231_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge232(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_232);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(232).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_232/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_233);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_232_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge233(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_233);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(233).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_233/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_234);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_233_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge234(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_234);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(234).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_234/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_235);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_234_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge235(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_235);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(235).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_235/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_236);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_235_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge236(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_236);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(236).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_236/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_237);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_236_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge237(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_237);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(237).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_237/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_238);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_237_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge238(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_238);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(238).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_238/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_239);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_238_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge239(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_239);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(239).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_239/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_240);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_239_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge240(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_240);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(240).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_240/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_241);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_240_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge241(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_241);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(241).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_241/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_242);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_241_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge242(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_242);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(242).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_242/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_243);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_242_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge243(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_243);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(243).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_243/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_244);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_243_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge244(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_244);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(244).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_244/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_245);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_244_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge245(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_245);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(245).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_245/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_246);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_245_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge246(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_246);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(246).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_246/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_247);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_246_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge247(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_247);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(247).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_247/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_248);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_247_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge248(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_248);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(248).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_248/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_249);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_248_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge249(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_249);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(249).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_249/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_250);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_249_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge250(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_250);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(250).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_250/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_251);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_250_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge251(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_251);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(251).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_251/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_252);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_251_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge252(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_252);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(252).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_252/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_253);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_252_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge253(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_253);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(253).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_253/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_254);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_253_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge254(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_254);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(254).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_254/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_255);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_254_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge255(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_255);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(255).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_255/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_256);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_255_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge256(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_256);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(256).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_256/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_257);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_256_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge257(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_257);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(257).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_257/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_258);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_257_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge258(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_258);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(258).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_258/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_259);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_258_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge259(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_259);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(259).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_259/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_260);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_259_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge260(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_260);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(260).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_260/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_261);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_260_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge261(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_261);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(261).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_261/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_262);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_261_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge262(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_262);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(262).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_262/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_263);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_262_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge263(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_263);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(263).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_263/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_264);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_263_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge264(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_264);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(264).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_264/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_265);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_264_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge265(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_265);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(265).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_265/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_266);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_265_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge266(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_266);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(266).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_266/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_267);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_266_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge267(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_267);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(267).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_267/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_268);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_267_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge268(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_268);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(268).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_268/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_269);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_268_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge269(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_269);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(269).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_269/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_270);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_269_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge270(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_270);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(270).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_270/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_271);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_270_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge271(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_271);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(271).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_271/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_272);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_271_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge272(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_272);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(272).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_272/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_273);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_272_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge273(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_273);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(273).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_273/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_274);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_273_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge274(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_274);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(274).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_274/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_275);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_274_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge275(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_275);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(275).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_275/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_276);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_275_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge276(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_276);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(276).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_276/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_277);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_276_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge277(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_277);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(277).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_277/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_278);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_277_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge278(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_278);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(278).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_278/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_279);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_278_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge279(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_279);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(279).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_279/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_280);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_279_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge280(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_280);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(280).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_280/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_281);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_280_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge281(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_281);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(281).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_281/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_282);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_281_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge282(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_282);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(282).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_282/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_283);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_282_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge283(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_283);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(283).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_283/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_284);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_283_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge284(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_284);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(284).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_284/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_285);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_284_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge285(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_285);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(285).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_285/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_286);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_285_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge286(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_286);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(286).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_286/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_287);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_286_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge287(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_287);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(287).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_287/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_288);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_287_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge288(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_288);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(288).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_288/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_289);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_288_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge289(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_289);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(289).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_289/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_290);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_289_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge290(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_290);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(290).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_290/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_291);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_290_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge291(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_291);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(291).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_291/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_292);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_291_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge292(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_292);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(292).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_292/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_293);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_292_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge293(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_293);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(293).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_293/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_294);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_293_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge294(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_294);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(294).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_294/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_295);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_294_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge295(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_295);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(295).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_295/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_296);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_295_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge296(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_296);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(296).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_296/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_297);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_296_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge297(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_297);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(297).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_297/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_298);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_297_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge298(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_298);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(298).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_298/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_299);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_298_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge299(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_299);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(299).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_299/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_300);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_299_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge300(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_300);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(300).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_300/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_301);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_300_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge301(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_301);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(301).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_301/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_302);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_301_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge302(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_302);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(302).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_302/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_303);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_302_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge303(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_303);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(303).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_303/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_304);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_303_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge304(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_304);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(304).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_304/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_305);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_304_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge305(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_305);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(305).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_305/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_306);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_305_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge306(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_306);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(306).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_306/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_307);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_306_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge307(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_307);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(307).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_307/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_308);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_307_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge308(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_308);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(308).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_308/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_309);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_308_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge309(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_309);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(309).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_309/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_310);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_309_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge310(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_310);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(310).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_310/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_311);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_310_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge311(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_311);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(311).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_311/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_312);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_311_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge312(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_312);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(312).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_312/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_313);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_312_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge313(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_313);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(313).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_313/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_314);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_313_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge314(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_314);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(314).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_314/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_315);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_314_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge315(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_315);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(315).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_315/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_316);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_315_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge316(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_316);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(316).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_316/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_317);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_316_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge317(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_317);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(317).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_317/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_318);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_317_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge318(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_318);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(318).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_318/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_319);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_318_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge319(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_319);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(319).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_319/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_320);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_319_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge320(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_320);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(320).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_320/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_321);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_320_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge321(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_321);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(321).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_321/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_322);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_321_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge322(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_322);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(322).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_322/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_323);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_322_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge323(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_323);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(323).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_323/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_324);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_323_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge324(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_324);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(324).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_324/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_325);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_324_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge325(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_325);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(325).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_325/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_326);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_325_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge326(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_326);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(326).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_326/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_327);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_326_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge327(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_327);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(327).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_327/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_328);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_327_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge328(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_328);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(328).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_328/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_329);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_328_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge329(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_329);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(329).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_329/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_330);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_329_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge330(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_330);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(330).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_330/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_331);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_330_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge331(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_331);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(331).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_331/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_332);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_331_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge332(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_332);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(332).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_332/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_333);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_332_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge333(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_333);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(333).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_333/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_334);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_333_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge334(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_334);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(334).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_334/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_335);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_334_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge335(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_335);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(335).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_335/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_336);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_335_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge336(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_336);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(336).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_336/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_337);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_336_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge337(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_337);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(337).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_337/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_338);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_337_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge338(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_338);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(338).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_338/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_339);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_338_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge339(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_339);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(339).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_339/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_340);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_339_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge340(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_340);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(340).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_340/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_341);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_340_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge341(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_341);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(341).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_341/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_342);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_341_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge342(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_342);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(342).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_342/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_343);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_342_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge343(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_343);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(343).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_343/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_344);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_343_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge344(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_344);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(344).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_344/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_345);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_344_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge345(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_345);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(345).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_345/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_346);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_345_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge346(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_346);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(346).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_346/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_347);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_346_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge347(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_347);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(347).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_347/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_348);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_347_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge348(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_348);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(348).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_348/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_349);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_348_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge349(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_349);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(349).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_349/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_350);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_349_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge350(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_350);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(350).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_350/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_351);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_350_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge351(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_351);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(351).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_351/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_352);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_351_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge352(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_352);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(352).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_352/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_353);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_352_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge353(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_353);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(353).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_353/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_354);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_353_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge354(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_354);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(354).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_354/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_355);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_354_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge355(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_355);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(355).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_355/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_356);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_355_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge356(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_356);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(356).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_356/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_357);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_356_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge357(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_357);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(357).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_357/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_358);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_357_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge358(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_358);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(358).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_358/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_359);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_358_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge359(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_359);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(359).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_359/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_360);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_359_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge360(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_360);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(360).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_360/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_361);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_360_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge361(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_361);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(361).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_361/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_362);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_361_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge362(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_362);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(362).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_362/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_363);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_362_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge363(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_363);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(363).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_363/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_364);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_363_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge364(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_364);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(364).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_364/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_365);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_364_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge365(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_365);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(365).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_365/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_366);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_365_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge366(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_366);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(366).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_366/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_367);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_366_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge367(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_367);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(367).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_367/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_368);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_367_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge368(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_368);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(368).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_368/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_369);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_368_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge369(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_369);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(369).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_369/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_370);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_369_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge370(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_370);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(370).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_370/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_371);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_370_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge371(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_371);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(371).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_371/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_372);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_371_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge372(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_372);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(372).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_372/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_373);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_372_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge373(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_373);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(373).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_373/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_374);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_373_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge374(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_374);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(374).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_374/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_375);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_374_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge375(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_375);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(375).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_375/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_376);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_375_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge376(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_376);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(376).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_376/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_377);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_376_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge377(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_377);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(377).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_377/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_378);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_377_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge378(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_378);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(378).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_378/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_379);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_378_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge379(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_379);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(379).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_379/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_380);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_379_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge380(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_380);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(380).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_380/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_381);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_380_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge381(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_381);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(381).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_381/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_382);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_381_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge382(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_382);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(382).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_382/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_383);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_382_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge383(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_383);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(383).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_383/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_384);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_383_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge384(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_384);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(384).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_384/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_385);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_384_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge385(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_385);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(385).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_385/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_386);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_385_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge386(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_386);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(386).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_386/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_387);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_386_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge387(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_387);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(387).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_387/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_388);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_387_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge388(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_388);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(388).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_388/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_389);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_388_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge389(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_389);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(389).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_389/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_390);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_389_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge390(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_390);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(390).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_390/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_391);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_390_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge391(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_391);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(391).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_391/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_392);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_391_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge392(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_392);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(392).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_392/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_393);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_392_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge393(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_393);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(393).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_393/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_394);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_393_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge394(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_394);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(394).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_394/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_395);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_394_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge395(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_395);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(395).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_395/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_396);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_395_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge396(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_396);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(396).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_396/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_397);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_396_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge397(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_397);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(397).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_397/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_398);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_397_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge398(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_398);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(398).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_398/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_399);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_398_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge399(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_399);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(399).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_399/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_400);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_399_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge400(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_400);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(400).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_400/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_401);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_400_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge401(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_401);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(401).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_401/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_402);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_401_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge402(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_402);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(402).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_402/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_403);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_402_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge403(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_403);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(403).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_403/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_404);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_403_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge404(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_404);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(404).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_404/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_405);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_404_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge405(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_405);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(405).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_405/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_406);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_405_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge406(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_406);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(406).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_406/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_407);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_406_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge407(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_407);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(407).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_407/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_408);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_407_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge408(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_408);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(408).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_408/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_409);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_408_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge409(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_409);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(409).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_409/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_410);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_409_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge410(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_410);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(410).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_410/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_411);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_410_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge411(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_411);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(411).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_411/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_412);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_411_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge412(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_412);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(412).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_412/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_413);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_412_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge413(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_413);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(413).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_413/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_414);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_413_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge414(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_414);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(414).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_414/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_415);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_414_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge415(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_415);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(415).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_415/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_416);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_415_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge416(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_416);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(416).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_416/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_417);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_416_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge417(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_417);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(417).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_417/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_418);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_417_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge418(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_418);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(418).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_418/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_419);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_418_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge419(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_419);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(419).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_419/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_420);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_419_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge420(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_420);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(420).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_420/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_421);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_420_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge421(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_421);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(421).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_421/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_422);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_421_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge422(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_422);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(422).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_422/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_423);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_422_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge423(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_423);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(423).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_423/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_424);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_423_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge424(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_424);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(424).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_424/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_425);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_424_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge425(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_425);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(425).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_425/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_426);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_425_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge426(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_426);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(426).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_426/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_427);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_426_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge427(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_427);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(427).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_427/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_428);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_427_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge428(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_428);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(428).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_428/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_429);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_428_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge429(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_429);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(429).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_429/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_430);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_429_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge430(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_430);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(430).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_430/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_431);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_430_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge431(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_431);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(431).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_431/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_432);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_431_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge432(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_432);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(432).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_432/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_433);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_432_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge433(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_433);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(433).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_433/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_434);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_433_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge434(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_434);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(434).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_434/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_435);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_434_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge435(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_435);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(435).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_435/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_436);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_435_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge436(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_436);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(436).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_436/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_437);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_436_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge437(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_437);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(437).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_437/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_438);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_437_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge438(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_438);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(438).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_438/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_439);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_438_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge439(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_439);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(439).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_439/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_440);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_439_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge440(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_440);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(440).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_440/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_441);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_440_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge441(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_441);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(441).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_441/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_442);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_441_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge442(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_442);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(442).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_442/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_443);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_442_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge443(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_443);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(443).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_443/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_444);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_443_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge444(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_444);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(444).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_444/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_445);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_444_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge445(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_445);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(445).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_445/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_446);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_445_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge446(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_446);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(446).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_446/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_447);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_446_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge447(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_447);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(447).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_447/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_448);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_447_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge448(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_448);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(448).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_448/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_449);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_448_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge449(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_449);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(449).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_449/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_450);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_449_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge450(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_450);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(450).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_450/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_451);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_450_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge451(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_451);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(451).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_451/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_452);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_451_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge452(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_452);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(452).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_452/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_453);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_452_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge453(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_453);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(453).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_453/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_454);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_453_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge454(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_454);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(454).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_454/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_455);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_454_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge455(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_455);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(455).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_455/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_456);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_455_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge456(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_456);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(456).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_456/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_457);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_456_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge457(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_457);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(457).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_457/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_458);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_457_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge458(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_458);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(458).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_458/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_459);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_458_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge459(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_459);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(459).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_459/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_460);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_459_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge460(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_460);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(460).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_460/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_461);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_460_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge461(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_461);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(461).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_461/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_462);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_461_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge462(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_462);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(462).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_462/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_463);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_462_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge463(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_463);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(463).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_463/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_464);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_463_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge464(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_464);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(464).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_464/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_465);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_464_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge465(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_465);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(465).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_465/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_466);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_465_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge466(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_466);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(466).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_466/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_467);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_466_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge467(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_467);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(467).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_467/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_468);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_467_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge468(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_468);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(468).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_468/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_469);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_468_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge469(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_469);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(469).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_469/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_470);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_469_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge470(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_470);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(470).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_470/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_471);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_470_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge471(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_471);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(471).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_471/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_472);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_471_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge472(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_472);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(472).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_472/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_473);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_472_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge473(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_473);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(473).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_473/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_474);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_473_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge474(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_474);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(474).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_474/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_475);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_474_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge475(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_475);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(475).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_475/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_476);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_475_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge476(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_476);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(476).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_476/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_477);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_476_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge477(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_477);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(477).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_477/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_478);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_477_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge478(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_478);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(478).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_478/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_479);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_478_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge479(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_479);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(479).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_479/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_480);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_479_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge480(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_480);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(480).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_480/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_481);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_480_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge481(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_481);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(481).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_481/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_482);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_481_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge482(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_482);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(482).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_482/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_483);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_482_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge483(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_483);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(483).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_483/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_484);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_483_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge484(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_484);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(484).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_484/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_485);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_484_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge485(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_485);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(485).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_485/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_486);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_485_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge486(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_486);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(486).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_486/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_487);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_486_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge487(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_487);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(487).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_487/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_488);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_487_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge488(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_488);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(488).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_488/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_489);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_488_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge489(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_489);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(489).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_489/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_490);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_489_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge490(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_490);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(490).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_490/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_491);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_490_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge491(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_491);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(491).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_491/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_492);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_491_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge492(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_492);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(492).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_492/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_493);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_492_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge493(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_493);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(493).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_493/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_494);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_493_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge494(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_494);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(494).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_494/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_495);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_494_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge495(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_495);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(495).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_495/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_496);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_495_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge496(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_496);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(496).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_496/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_497);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_496_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge497(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_497);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(497).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_497/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_498);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_497_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge498(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_498);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(498).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_498/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_499);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_498_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createLarge499(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination =
+                (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.large_499);
+        destination.addArgument("arg", new NavArgument.Builder().setType(NavType.IntType)
+                .setIsNullable(false).setDefaultValue(499).build());
+        destination.addDeepLink(
+                NavDeepLink.Builder.fromUriPattern("www.example.com/large_499/{arg}").build());
+        NavAction action0 = new NavAction(R.id.large_0);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true)
+                .setPopUpTo(-1, false).setEnterAnim(-1).setExitAnim(-1).setPopEnterAnim(-1)
+                .setPopExitAnim(-1).build());
+        destination.putAction(R.id.large_499_next, action0);
+        return destination;
+    }
+
+    private static NavDestination createDestination(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("navigation");
+        NavGraph destination = (NavGraph) navigator.createDestination();
+        destination.addDestination(createLarge0(context, provider));
+        destination.addDestination(createLarge1(context, provider));
+        destination.addDestination(createLarge2(context, provider));
+        destination.addDestination(createLarge3(context, provider));
+        destination.addDestination(createLarge4(context, provider));
+        destination.addDestination(createLarge5(context, provider));
+        destination.addDestination(createLarge6(context, provider));
+        destination.addDestination(createLarge7(context, provider));
+        destination.addDestination(createLarge8(context, provider));
+        destination.addDestination(createLarge9(context, provider));
+        destination.addDestination(createLarge10(context, provider));
+        destination.addDestination(createLarge11(context, provider));
+        destination.addDestination(createLarge12(context, provider));
+        destination.addDestination(createLarge13(context, provider));
+        destination.addDestination(createLarge14(context, provider));
+        destination.addDestination(createLarge15(context, provider));
+        destination.addDestination(createLarge16(context, provider));
+        destination.addDestination(createLarge17(context, provider));
+        destination.addDestination(createLarge18(context, provider));
+        destination.addDestination(createLarge19(context, provider));
+        destination.addDestination(createLarge20(context, provider));
+        destination.addDestination(createLarge21(context, provider));
+        destination.addDestination(createLarge22(context, provider));
+        destination.addDestination(createLarge23(context, provider));
+        destination.addDestination(createLarge24(context, provider));
+        destination.addDestination(createLarge25(context, provider));
+        destination.addDestination(createLarge26(context, provider));
+        destination.addDestination(createLarge27(context, provider));
+        destination.addDestination(createLarge28(context, provider));
+        destination.addDestination(createLarge29(context, provider));
+        destination.addDestination(createLarge30(context, provider));
+        destination.addDestination(createLarge31(context, provider));
+        destination.addDestination(createLarge32(context, provider));
+        destination.addDestination(createLarge33(context, provider));
+        destination.addDestination(createLarge34(context, provider));
+        destination.addDestination(createLarge35(context, provider));
+        destination.addDestination(createLarge36(context, provider));
+        destination.addDestination(createLarge37(context, provider));
+        destination.addDestination(createLarge38(context, provider));
+        destination.addDestination(createLarge39(context, provider));
+        destination.addDestination(createLarge40(context, provider));
+        destination.addDestination(createLarge41(context, provider));
+        destination.addDestination(createLarge42(context, provider));
+        destination.addDestination(createLarge43(context, provider));
+        destination.addDestination(createLarge44(context, provider));
+        destination.addDestination(createLarge45(context, provider));
+        destination.addDestination(createLarge46(context, provider));
+        destination.addDestination(createLarge47(context, provider));
+        destination.addDestination(createLarge48(context, provider));
+        destination.addDestination(createLarge49(context, provider));
+        destination.addDestination(createLarge50(context, provider));
+        destination.addDestination(createLarge51(context, provider));
+        destination.addDestination(createLarge52(context, provider));
+        destination.addDestination(createLarge53(context, provider));
+        destination.addDestination(createLarge54(context, provider));
+        destination.addDestination(createLarge55(context, provider));
+        destination.addDestination(createLarge56(context, provider));
+        destination.addDestination(createLarge57(context, provider));
+        destination.addDestination(createLarge58(context, provider));
+        destination.addDestination(createLarge59(context, provider));
+        destination.addDestination(createLarge60(context, provider));
+        destination.addDestination(createLarge61(context, provider));
+        destination.addDestination(createLarge62(context, provider));
+        destination.addDestination(createLarge63(context, provider));
+        destination.addDestination(createLarge64(context, provider));
+        destination.addDestination(createLarge65(context, provider));
+        destination.addDestination(createLarge66(context, provider));
+        destination.addDestination(createLarge67(context, provider));
+        destination.addDestination(createLarge68(context, provider));
+        destination.addDestination(createLarge69(context, provider));
+        destination.addDestination(createLarge70(context, provider));
+        destination.addDestination(createLarge71(context, provider));
+        destination.addDestination(createLarge72(context, provider));
+        destination.addDestination(createLarge73(context, provider));
+        destination.addDestination(createLarge74(context, provider));
+        destination.addDestination(createLarge75(context, provider));
+        destination.addDestination(createLarge76(context, provider));
+        destination.addDestination(createLarge77(context, provider));
+        destination.addDestination(createLarge78(context, provider));
+        destination.addDestination(createLarge79(context, provider));
+        destination.addDestination(createLarge80(context, provider));
+        destination.addDestination(createLarge81(context, provider));
+        destination.addDestination(createLarge82(context, provider));
+        destination.addDestination(createLarge83(context, provider));
+        destination.addDestination(createLarge84(context, provider));
+        destination.addDestination(createLarge85(context, provider));
+        destination.addDestination(createLarge86(context, provider));
+        destination.addDestination(createLarge87(context, provider));
+        destination.addDestination(createLarge88(context, provider));
+        destination.addDestination(createLarge89(context, provider));
+        destination.addDestination(createLarge90(context, provider));
+        destination.addDestination(createLarge91(context, provider));
+        destination.addDestination(createLarge92(context, provider));
+        destination.addDestination(createLarge93(context, provider));
+        destination.addDestination(createLarge94(context, provider));
+        destination.addDestination(createLarge95(context, provider));
+        destination.addDestination(createLarge96(context, provider));
+        destination.addDestination(createLarge97(context, provider));
+        destination.addDestination(createLarge98(context, provider));
+        destination.addDestination(createLarge99(context, provider));
+        destination.addDestination(createLarge100(context, provider));
+        destination.addDestination(createLarge101(context, provider));
+        destination.addDestination(createLarge102(context, provider));
+        destination.addDestination(createLarge103(context, provider));
+        destination.addDestination(createLarge104(context, provider));
+        destination.addDestination(createLarge105(context, provider));
+        destination.addDestination(createLarge106(context, provider));
+        destination.addDestination(createLarge107(context, provider));
+        destination.addDestination(createLarge108(context, provider));
+        destination.addDestination(createLarge109(context, provider));
+        destination.addDestination(createLarge110(context, provider));
+        destination.addDestination(createLarge111(context, provider));
+        destination.addDestination(createLarge112(context, provider));
+        destination.addDestination(createLarge113(context, provider));
+        destination.addDestination(createLarge114(context, provider));
+        destination.addDestination(createLarge115(context, provider));
+        destination.addDestination(createLarge116(context, provider));
+        destination.addDestination(createLarge117(context, provider));
+        destination.addDestination(createLarge118(context, provider));
+        destination.addDestination(createLarge119(context, provider));
+        destination.addDestination(createLarge120(context, provider));
+        destination.addDestination(createLarge121(context, provider));
+        destination.addDestination(createLarge122(context, provider));
+        destination.addDestination(createLarge123(context, provider));
+        destination.addDestination(createLarge124(context, provider));
+        destination.addDestination(createLarge125(context, provider));
+        destination.addDestination(createLarge126(context, provider));
+        destination.addDestination(createLarge127(context, provider));
+        destination.addDestination(createLarge128(context, provider));
+        destination.addDestination(createLarge129(context, provider));
+        destination.addDestination(createLarge130(context, provider));
+        destination.addDestination(createLarge131(context, provider));
+        destination.addDestination(createLarge132(context, provider));
+        destination.addDestination(createLarge133(context, provider));
+        destination.addDestination(createLarge134(context, provider));
+        destination.addDestination(createLarge135(context, provider));
+        destination.addDestination(createLarge136(context, provider));
+        destination.addDestination(createLarge137(context, provider));
+        destination.addDestination(createLarge138(context, provider));
+        destination.addDestination(createLarge139(context, provider));
+        destination.addDestination(createLarge140(context, provider));
+        destination.addDestination(createLarge141(context, provider));
+        destination.addDestination(createLarge142(context, provider));
+        destination.addDestination(createLarge143(context, provider));
+        destination.addDestination(createLarge144(context, provider));
+        destination.addDestination(createLarge145(context, provider));
+        destination.addDestination(createLarge146(context, provider));
+        destination.addDestination(createLarge147(context, provider));
+        destination.addDestination(createLarge148(context, provider));
+        destination.addDestination(createLarge149(context, provider));
+        destination.addDestination(createLarge150(context, provider));
+        destination.addDestination(createLarge151(context, provider));
+        destination.addDestination(createLarge152(context, provider));
+        destination.addDestination(createLarge153(context, provider));
+        destination.addDestination(createLarge154(context, provider));
+        destination.addDestination(createLarge155(context, provider));
+        destination.addDestination(createLarge156(context, provider));
+        destination.addDestination(createLarge157(context, provider));
+        destination.addDestination(createLarge158(context, provider));
+        destination.addDestination(createLarge159(context, provider));
+        destination.addDestination(createLarge160(context, provider));
+        destination.addDestination(createLarge161(context, provider));
+        destination.addDestination(createLarge162(context, provider));
+        destination.addDestination(createLarge163(context, provider));
+        destination.addDestination(createLarge164(context, provider));
+        destination.addDestination(createLarge165(context, provider));
+        destination.addDestination(createLarge166(context, provider));
+        destination.addDestination(createLarge167(context, provider));
+        destination.addDestination(createLarge168(context, provider));
+        destination.addDestination(createLarge169(context, provider));
+        destination.addDestination(createLarge170(context, provider));
+        destination.addDestination(createLarge171(context, provider));
+        destination.addDestination(createLarge172(context, provider));
+        destination.addDestination(createLarge173(context, provider));
+        destination.addDestination(createLarge174(context, provider));
+        destination.addDestination(createLarge175(context, provider));
+        destination.addDestination(createLarge176(context, provider));
+        destination.addDestination(createLarge177(context, provider));
+        destination.addDestination(createLarge178(context, provider));
+        destination.addDestination(createLarge179(context, provider));
+        destination.addDestination(createLarge180(context, provider));
+        destination.addDestination(createLarge181(context, provider));
+        destination.addDestination(createLarge182(context, provider));
+        destination.addDestination(createLarge183(context, provider));
+        destination.addDestination(createLarge184(context, provider));
+        destination.addDestination(createLarge185(context, provider));
+        destination.addDestination(createLarge186(context, provider));
+        destination.addDestination(createLarge187(context, provider));
+        destination.addDestination(createLarge188(context, provider));
+        destination.addDestination(createLarge189(context, provider));
+        destination.addDestination(createLarge190(context, provider));
+        destination.addDestination(createLarge191(context, provider));
+        destination.addDestination(createLarge192(context, provider));
+        destination.addDestination(createLarge193(context, provider));
+        destination.addDestination(createLarge194(context, provider));
+        destination.addDestination(createLarge195(context, provider));
+        destination.addDestination(createLarge196(context, provider));
+        destination.addDestination(createLarge197(context, provider));
+        destination.addDestination(createLarge198(context, provider));
+        destination.addDestination(createLarge199(context, provider));
+        destination.addDestination(createLarge200(context, provider));
+        destination.addDestination(createLarge201(context, provider));
+        destination.addDestination(createLarge202(context, provider));
+        destination.addDestination(createLarge203(context, provider));
+        destination.addDestination(createLarge204(context, provider));
+        destination.addDestination(createLarge205(context, provider));
+        destination.addDestination(createLarge206(context, provider));
+        destination.addDestination(createLarge207(context, provider));
+        destination.addDestination(createLarge208(context, provider));
+        destination.addDestination(createLarge209(context, provider));
+        destination.addDestination(createLarge210(context, provider));
+        destination.addDestination(createLarge211(context, provider));
+        destination.addDestination(createLarge212(context, provider));
+        destination.addDestination(createLarge213(context, provider));
+        destination.addDestination(createLarge214(context, provider));
+        destination.addDestination(createLarge215(context, provider));
+        destination.addDestination(createLarge216(context, provider));
+        destination.addDestination(createLarge217(context, provider));
+        destination.addDestination(createLarge218(context, provider));
+        destination.addDestination(createLarge219(context, provider));
+        destination.addDestination(createLarge220(context, provider));
+        destination.addDestination(createLarge221(context, provider));
+        destination.addDestination(createLarge222(context, provider));
+        destination.addDestination(createLarge223(context, provider));
+        destination.addDestination(createLarge224(context, provider));
+        destination.addDestination(createLarge225(context, provider));
+        destination.addDestination(createLarge226(context, provider));
+        destination.addDestination(createLarge227(context, provider));
+        destination.addDestination(createLarge228(context, provider));
+        destination.addDestination(createLarge229(context, provider));
+        destination.addDestination(createLarge230(context, provider));
+        destination.addDestination(createLarge231(context, provider));
+        destination.addDestination(createLarge232(context, provider));
+        destination.addDestination(createLarge233(context, provider));
+        destination.addDestination(createLarge234(context, provider));
+        destination.addDestination(createLarge235(context, provider));
+        destination.addDestination(createLarge236(context, provider));
+        destination.addDestination(createLarge237(context, provider));
+        destination.addDestination(createLarge238(context, provider));
+        destination.addDestination(createLarge239(context, provider));
+        destination.addDestination(createLarge240(context, provider));
+        destination.addDestination(createLarge241(context, provider));
+        destination.addDestination(createLarge242(context, provider));
+        destination.addDestination(createLarge243(context, provider));
+        destination.addDestination(createLarge244(context, provider));
+        destination.addDestination(createLarge245(context, provider));
+        destination.addDestination(createLarge246(context, provider));
+        destination.addDestination(createLarge247(context, provider));
+        destination.addDestination(createLarge248(context, provider));
+        destination.addDestination(createLarge249(context, provider));
+        destination.addDestination(createLarge250(context, provider));
+        destination.addDestination(createLarge251(context, provider));
+        destination.addDestination(createLarge252(context, provider));
+        destination.addDestination(createLarge253(context, provider));
+        destination.addDestination(createLarge254(context, provider));
+        destination.addDestination(createLarge255(context, provider));
+        destination.addDestination(createLarge256(context, provider));
+        destination.addDestination(createLarge257(context, provider));
+        destination.addDestination(createLarge258(context, provider));
+        destination.addDestination(createLarge259(context, provider));
+        destination.addDestination(createLarge260(context, provider));
+        destination.addDestination(createLarge261(context, provider));
+        destination.addDestination(createLarge262(context, provider));
+        destination.addDestination(createLarge263(context, provider));
+        destination.addDestination(createLarge264(context, provider));
+        destination.addDestination(createLarge265(context, provider));
+        destination.addDestination(createLarge266(context, provider));
+        destination.addDestination(createLarge267(context, provider));
+        destination.addDestination(createLarge268(context, provider));
+        destination.addDestination(createLarge269(context, provider));
+        destination.addDestination(createLarge270(context, provider));
+        destination.addDestination(createLarge271(context, provider));
+        destination.addDestination(createLarge272(context, provider));
+        destination.addDestination(createLarge273(context, provider));
+        destination.addDestination(createLarge274(context, provider));
+        destination.addDestination(createLarge275(context, provider));
+        destination.addDestination(createLarge276(context, provider));
+        destination.addDestination(createLarge277(context, provider));
+        destination.addDestination(createLarge278(context, provider));
+        destination.addDestination(createLarge279(context, provider));
+        destination.addDestination(createLarge280(context, provider));
+        destination.addDestination(createLarge281(context, provider));
+        destination.addDestination(createLarge282(context, provider));
+        destination.addDestination(createLarge283(context, provider));
+        destination.addDestination(createLarge284(context, provider));
+        destination.addDestination(createLarge285(context, provider));
+        destination.addDestination(createLarge286(context, provider));
+        destination.addDestination(createLarge287(context, provider));
+        destination.addDestination(createLarge288(context, provider));
+        destination.addDestination(createLarge289(context, provider));
+        destination.addDestination(createLarge290(context, provider));
+        destination.addDestination(createLarge291(context, provider));
+        destination.addDestination(createLarge292(context, provider));
+        destination.addDestination(createLarge293(context, provider));
+        destination.addDestination(createLarge294(context, provider));
+        destination.addDestination(createLarge295(context, provider));
+        destination.addDestination(createLarge296(context, provider));
+        destination.addDestination(createLarge297(context, provider));
+        destination.addDestination(createLarge298(context, provider));
+        destination.addDestination(createLarge299(context, provider));
+        destination.addDestination(createLarge300(context, provider));
+        destination.addDestination(createLarge301(context, provider));
+        destination.addDestination(createLarge302(context, provider));
+        destination.addDestination(createLarge303(context, provider));
+        destination.addDestination(createLarge304(context, provider));
+        destination.addDestination(createLarge305(context, provider));
+        destination.addDestination(createLarge306(context, provider));
+        destination.addDestination(createLarge307(context, provider));
+        destination.addDestination(createLarge308(context, provider));
+        destination.addDestination(createLarge309(context, provider));
+        destination.addDestination(createLarge310(context, provider));
+        destination.addDestination(createLarge311(context, provider));
+        destination.addDestination(createLarge312(context, provider));
+        destination.addDestination(createLarge313(context, provider));
+        destination.addDestination(createLarge314(context, provider));
+        destination.addDestination(createLarge315(context, provider));
+        destination.addDestination(createLarge316(context, provider));
+        destination.addDestination(createLarge317(context, provider));
+        destination.addDestination(createLarge318(context, provider));
+        destination.addDestination(createLarge319(context, provider));
+        destination.addDestination(createLarge320(context, provider));
+        destination.addDestination(createLarge321(context, provider));
+        destination.addDestination(createLarge322(context, provider));
+        destination.addDestination(createLarge323(context, provider));
+        destination.addDestination(createLarge324(context, provider));
+        destination.addDestination(createLarge325(context, provider));
+        destination.addDestination(createLarge326(context, provider));
+        destination.addDestination(createLarge327(context, provider));
+        destination.addDestination(createLarge328(context, provider));
+        destination.addDestination(createLarge329(context, provider));
+        destination.addDestination(createLarge330(context, provider));
+        destination.addDestination(createLarge331(context, provider));
+        destination.addDestination(createLarge332(context, provider));
+        destination.addDestination(createLarge333(context, provider));
+        destination.addDestination(createLarge334(context, provider));
+        destination.addDestination(createLarge335(context, provider));
+        destination.addDestination(createLarge336(context, provider));
+        destination.addDestination(createLarge337(context, provider));
+        destination.addDestination(createLarge338(context, provider));
+        destination.addDestination(createLarge339(context, provider));
+        destination.addDestination(createLarge340(context, provider));
+        destination.addDestination(createLarge341(context, provider));
+        destination.addDestination(createLarge342(context, provider));
+        destination.addDestination(createLarge343(context, provider));
+        destination.addDestination(createLarge344(context, provider));
+        destination.addDestination(createLarge345(context, provider));
+        destination.addDestination(createLarge346(context, provider));
+        destination.addDestination(createLarge347(context, provider));
+        destination.addDestination(createLarge348(context, provider));
+        destination.addDestination(createLarge349(context, provider));
+        destination.addDestination(createLarge350(context, provider));
+        destination.addDestination(createLarge351(context, provider));
+        destination.addDestination(createLarge352(context, provider));
+        destination.addDestination(createLarge353(context, provider));
+        destination.addDestination(createLarge354(context, provider));
+        destination.addDestination(createLarge355(context, provider));
+        destination.addDestination(createLarge356(context, provider));
+        destination.addDestination(createLarge357(context, provider));
+        destination.addDestination(createLarge358(context, provider));
+        destination.addDestination(createLarge359(context, provider));
+        destination.addDestination(createLarge360(context, provider));
+        destination.addDestination(createLarge361(context, provider));
+        destination.addDestination(createLarge362(context, provider));
+        destination.addDestination(createLarge363(context, provider));
+        destination.addDestination(createLarge364(context, provider));
+        destination.addDestination(createLarge365(context, provider));
+        destination.addDestination(createLarge366(context, provider));
+        destination.addDestination(createLarge367(context, provider));
+        destination.addDestination(createLarge368(context, provider));
+        destination.addDestination(createLarge369(context, provider));
+        destination.addDestination(createLarge370(context, provider));
+        destination.addDestination(createLarge371(context, provider));
+        destination.addDestination(createLarge372(context, provider));
+        destination.addDestination(createLarge373(context, provider));
+        destination.addDestination(createLarge374(context, provider));
+        destination.addDestination(createLarge375(context, provider));
+        destination.addDestination(createLarge376(context, provider));
+        destination.addDestination(createLarge377(context, provider));
+        destination.addDestination(createLarge378(context, provider));
+        destination.addDestination(createLarge379(context, provider));
+        destination.addDestination(createLarge380(context, provider));
+        destination.addDestination(createLarge381(context, provider));
+        destination.addDestination(createLarge382(context, provider));
+        destination.addDestination(createLarge383(context, provider));
+        destination.addDestination(createLarge384(context, provider));
+        destination.addDestination(createLarge385(context, provider));
+        destination.addDestination(createLarge386(context, provider));
+        destination.addDestination(createLarge387(context, provider));
+        destination.addDestination(createLarge388(context, provider));
+        destination.addDestination(createLarge389(context, provider));
+        destination.addDestination(createLarge390(context, provider));
+        destination.addDestination(createLarge391(context, provider));
+        destination.addDestination(createLarge392(context, provider));
+        destination.addDestination(createLarge393(context, provider));
+        destination.addDestination(createLarge394(context, provider));
+        destination.addDestination(createLarge395(context, provider));
+        destination.addDestination(createLarge396(context, provider));
+        destination.addDestination(createLarge397(context, provider));
+        destination.addDestination(createLarge398(context, provider));
+        destination.addDestination(createLarge399(context, provider));
+        destination.addDestination(createLarge400(context, provider));
+        destination.addDestination(createLarge401(context, provider));
+        destination.addDestination(createLarge402(context, provider));
+        destination.addDestination(createLarge403(context, provider));
+        destination.addDestination(createLarge404(context, provider));
+        destination.addDestination(createLarge405(context, provider));
+        destination.addDestination(createLarge406(context, provider));
+        destination.addDestination(createLarge407(context, provider));
+        destination.addDestination(createLarge408(context, provider));
+        destination.addDestination(createLarge409(context, provider));
+        destination.addDestination(createLarge410(context, provider));
+        destination.addDestination(createLarge411(context, provider));
+        destination.addDestination(createLarge412(context, provider));
+        destination.addDestination(createLarge413(context, provider));
+        destination.addDestination(createLarge414(context, provider));
+        destination.addDestination(createLarge415(context, provider));
+        destination.addDestination(createLarge416(context, provider));
+        destination.addDestination(createLarge417(context, provider));
+        destination.addDestination(createLarge418(context, provider));
+        destination.addDestination(createLarge419(context, provider));
+        destination.addDestination(createLarge420(context, provider));
+        destination.addDestination(createLarge421(context, provider));
+        destination.addDestination(createLarge422(context, provider));
+        destination.addDestination(createLarge423(context, provider));
+        destination.addDestination(createLarge424(context, provider));
+        destination.addDestination(createLarge425(context, provider));
+        destination.addDestination(createLarge426(context, provider));
+        destination.addDestination(createLarge427(context, provider));
+        destination.addDestination(createLarge428(context, provider));
+        destination.addDestination(createLarge429(context, provider));
+        destination.addDestination(createLarge430(context, provider));
+        destination.addDestination(createLarge431(context, provider));
+        destination.addDestination(createLarge432(context, provider));
+        destination.addDestination(createLarge433(context, provider));
+        destination.addDestination(createLarge434(context, provider));
+        destination.addDestination(createLarge435(context, provider));
+        destination.addDestination(createLarge436(context, provider));
+        destination.addDestination(createLarge437(context, provider));
+        destination.addDestination(createLarge438(context, provider));
+        destination.addDestination(createLarge439(context, provider));
+        destination.addDestination(createLarge440(context, provider));
+        destination.addDestination(createLarge441(context, provider));
+        destination.addDestination(createLarge442(context, provider));
+        destination.addDestination(createLarge443(context, provider));
+        destination.addDestination(createLarge444(context, provider));
+        destination.addDestination(createLarge445(context, provider));
+        destination.addDestination(createLarge446(context, provider));
+        destination.addDestination(createLarge447(context, provider));
+        destination.addDestination(createLarge448(context, provider));
+        destination.addDestination(createLarge449(context, provider));
+        destination.addDestination(createLarge450(context, provider));
+        destination.addDestination(createLarge451(context, provider));
+        destination.addDestination(createLarge452(context, provider));
+        destination.addDestination(createLarge453(context, provider));
+        destination.addDestination(createLarge454(context, provider));
+        destination.addDestination(createLarge455(context, provider));
+        destination.addDestination(createLarge456(context, provider));
+        destination.addDestination(createLarge457(context, provider));
+        destination.addDestination(createLarge458(context, provider));
+        destination.addDestination(createLarge459(context, provider));
+        destination.addDestination(createLarge460(context, provider));
+        destination.addDestination(createLarge461(context, provider));
+        destination.addDestination(createLarge462(context, provider));
+        destination.addDestination(createLarge463(context, provider));
+        destination.addDestination(createLarge464(context, provider));
+        destination.addDestination(createLarge465(context, provider));
+        destination.addDestination(createLarge466(context, provider));
+        destination.addDestination(createLarge467(context, provider));
+        destination.addDestination(createLarge468(context, provider));
+        destination.addDestination(createLarge469(context, provider));
+        destination.addDestination(createLarge470(context, provider));
+        destination.addDestination(createLarge471(context, provider));
+        destination.addDestination(createLarge472(context, provider));
+        destination.addDestination(createLarge473(context, provider));
+        destination.addDestination(createLarge474(context, provider));
+        destination.addDestination(createLarge475(context, provider));
+        destination.addDestination(createLarge476(context, provider));
+        destination.addDestination(createLarge477(context, provider));
+        destination.addDestination(createLarge478(context, provider));
+        destination.addDestination(createLarge479(context, provider));
+        destination.addDestination(createLarge480(context, provider));
+        destination.addDestination(createLarge481(context, provider));
+        destination.addDestination(createLarge482(context, provider));
+        destination.addDestination(createLarge483(context, provider));
+        destination.addDestination(createLarge484(context, provider));
+        destination.addDestination(createLarge485(context, provider));
+        destination.addDestination(createLarge486(context, provider));
+        destination.addDestination(createLarge487(context, provider));
+        destination.addDestination(createLarge488(context, provider));
+        destination.addDestination(createLarge489(context, provider));
+        destination.addDestination(createLarge490(context, provider));
+        destination.addDestination(createLarge491(context, provider));
+        destination.addDestination(createLarge492(context, provider));
+        destination.addDestination(createLarge493(context, provider));
+        destination.addDestination(createLarge494(context, provider));
+        destination.addDestination(createLarge495(context, provider));
+        destination.addDestination(createLarge496(context, provider));
+        destination.addDestination(createLarge497(context, provider));
+        destination.addDestination(createLarge498(context, provider));
+        destination.addDestination(createLarge499(context, provider));
+        destination.setStartDestination(R.id.large_0);
+        return destination;
+    }
+}
@@ -230,6 +230,64 @@ class NavGraphAndroidTest {
             .isEqualTo(99)
     }
 
+    @Test
+    fun matchDeepLinkNestedGraph() {
+        val navigatorProvider = NavigatorProvider().apply {
+            addNavigator(NavGraphNavigator(this))
+            addNavigator(NoOpNavigator())
+        }
+        val graph = navigatorProvider.getNavigator(NavGraphNavigator::class.java)
+            .createDestination()
+        val nestedGraph = navigatorProvider.getNavigator(NavGraphNavigator::class.java)
+            .createDestination()
+        nestedGraph.id = 1
+        graph.addDestination(nestedGraph)
+
+        val userDestination = navigatorProvider.getNavigator(NoOpNavigator::class.java)
+            .createDestination()
+        userDestination.id = 2
+        userDestination.addDeepLink("myapp://example/users/{id}")
+        nestedGraph.addDestination(userDestination)
+
+        val match = graph.matchDeepLink(Uri.parse("myapp://example/users/43"))
+
+        assertWithMessage("Deep link should point to the destination in the nested graph")
+            .that(match?.destination)
+            .isSameInstanceAs(userDestination)
+        assertWithMessage("Deep link with a different scheme should not match")
+            .that(graph.matchDeepLink(Uri.parse("https://example/users/43")))
+            .isNull()
+    }
+
+    @Test
+    fun matchDeepLinkAfterGraphChanged() {
+        val navigatorProvider = NavigatorProvider().apply {
+            addNavigator(NavGraphNavigator(this))
+            addNavigator(NoOpNavigator())
+        }
+        val graph = navigatorProvider.getNavigator(NavGraphNavigator::class.java)
+            .createDestination()
+        val destination = navigatorProvider.getNavigator(NoOpNavigator::class.java)
+            .createDestination()
+        destination.id = 1
+        graph.addDestination(destination)
+        val uri = Uri.parse("https://www.example.com/users/43")
+
+        assertWithMessage("Deep link should not match before it is added")
+            .that(graph.matchDeepLink(uri))
+            .isNull()
+
+        destination.addDeepLink("www.example.com/users/{id}")
+        assertWithMessage("Deep link added after matching should match")
+            .that(graph.matchDeepLink(uri)?.destination)
+            .isSameInstanceAs(destination)
+
+        graph.remove(destination)
+        assertWithMessage("Deep link of a removed destination should not match")
+            .that(graph.matchDeepLink(uri))
+            .isNull()
+    }
+
     @Test
     fun toStringStartDestIdOnly() {
         val navigatorProvider = NavigatorProvider().apply {
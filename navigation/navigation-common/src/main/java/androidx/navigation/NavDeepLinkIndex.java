@@ -0,0 +1,224 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.navigation;
+
+import android.net.Uri;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.regex.Matcher;
+
+/**
+ * A prefix trie over the scheme, host and literal path segments of every deep link within a
+ * {@link NavGraph}, used to narrow down the set of {@link NavDeepLink}s whose regular expression
+ * needs to be run against an incoming {@link NavDeepLinkRequest}.
+ *
+ * <p>Each deep link is stored at the deepest node whose key sequence is a literal prefix of its
+ * uri pattern: the first segment containing an argument placeholder or a <code>.*</code>
+ * wildcard ends the prefix. Looking up a uri collects the deep links stored along its path, so
+ * every deep link that could possibly match the uri is returned as a candidate.</p>
+ *
+ * <p>Candidates are returned in the same order in which {@link NavGraph#matchDeepLink} would
+ * visit them, which keeps the choice between equally good matches identical to a linear scan.</p>
+ */
+final class NavDeepLinkIndex {
+    private static final List<String> DEFAULT_SCHEMES = Arrays.asList("http", "https");
+
+    private final Node mRoot = new Node();
+    // Deep links that can match on action or mimeType alone, without a matching uri
+    private final ArrayList<Entry> mNonUriEntries = new ArrayList<>();
+    private int mSize;
+
+    NavDeepLinkIndex(@NonNull NavGraph graph) {
+        addDestination(graph);
+    }
+
+    private void addDestination(@NonNull NavDestination destination) {
+        for (NavDeepLink deepLink : destination.getDeepLinks()) {
+            Entry entry = new Entry(destination, deepLink, mSize++);
+            if (deepLink.getUriPattern() != null) {
+                addUriPattern(deepLink.getUriPattern(), entry);
+            }
+            if (deepLink.getAction() != null || deepLink.getMimeType() != null) {
+                mNonUriEntries.add(entry);
+            }
+        }
+        if (destination instanceof NavGraph) {
+            for (NavDestination child : (NavGraph) destination) {
+                addDestination(child);
+            }
+        }
+    }
+
+    private void addUriPattern(@NonNull String uriPattern, @NonNull Entry entry) {
+        Matcher schemeMatcher = NavDeepLink.SCHEME_PATTERN.matcher(uriPattern);
+        List<String> schemes;
+        String remainder;
+        if (schemeMatcher.find()) {
+            schemes = Collections.singletonList(
+                    uriPattern.substring(0, schemeMatcher.end() - 1));
+            remainder = stripHierarchicalPrefix(uriPattern.substring(schemeMatcher.end()));
+        } else {
+            // NavDeepLink prepends http[s]?:// to uri patterns without a scheme
+            schemes = DEFAULT_SCHEMES;
+            remainder = uriPattern;
+        }
+        List<String> literalSegments = remainder != null
+                ? literalPrefix(splitSegments(remainder)) : Collections.<String>emptyList();
+        for (String scheme : schemes) {
+            Node node = mRoot.getOrCreateChild(scheme);
+            for (String segment : literalSegments) {
+                node = node.getOrCreateChild(segment);
+            }
+            node.mEntries.add(entry);
+        }
+    }
+
+    /**
+     * Returns the number of deep links within the indexed graph.
+     */
+    int size() {
+        return mSize;
+    }
+
+    /**
+     * Returns every deep link that could match the given request, ordered as they would be
+     * visited by {@link NavGraph#matchDeepLink(NavDeepLinkRequest)}.
+     */
+    @NonNull
+    List<Entry> getCandidates(@NonNull NavDeepLinkRequest request) {
+        ArrayList<Entry> candidates = new ArrayList<>();
+        Uri uri = request.getUri();
+        if (uri != null) {
+            collectUriCandidates(uri.toString(), candidates);
+        }
+        if (request.getAction() != null || request.getMimeType() != null) {
+            candidates.addAll(mNonUriEntries);
+        }
+        Collections.sort(candidates);
+        // Remove the duplicates between uri and non-uri candidates
+        int last = 0;
+        for (int i = 1; i < candidates.size(); i++) {
+            if (candidates.get(i).mOrder != candidates.get(last).mOrder) {
+                candidates.set(++last, candidates.get(i));
+            }
+        }
+        if (!candidates.isEmpty()) {
+            candidates.subList(last + 1, candidates.size()).clear();
+        }
+        return candidates;
+    }
+
+    private void collectUriCandidates(@NonNull String uri, @NonNull List<Entry> candidates) {
+        Matcher schemeMatcher = NavDeepLink.SCHEME_PATTERN.matcher(uri);
+        if (!schemeMatcher.find()) {
+            return;
+        }
+        Node node = mRoot.mChildren.get(uri.substring(0, schemeMatcher.end() - 1));
+        if (node == null) {
+            return;
+        }
+        candidates.addAll(node.mEntries);
+        String remainder = stripHierarchicalPrefix(uri.substring(schemeMatcher.end()));
+        if (remainder == null) {
+            return;
+        }
+        for (String segment : splitSegments(remainder)) {
+            node = node.mChildren.get(segment);
+            if (node == null) {
+                return;
+            }
+            candidates.addAll(node.mEntries);
+        }
+    }
+
+    /**
+     * Returns the part of a uri after the "//" following its scheme, or null for opaque uris.
+     */
+    @Nullable
+    private static String stripHierarchicalPrefix(@NonNull String afterScheme) {
+        return afterScheme.startsWith("//") ? afterScheme.substring(2) : null;
+    }
+
+    /**
+     * Splits the authority and path of a uri into segments, ignoring any query.
+     */
+    @NonNull
+    private static List<String> splitSegments(@NonNull String authorityAndPath) {
+        int queryStart = authorityAndPath.indexOf('?');
+        String path = queryStart >= 0
+                ? authorityAndPath.substring(0, queryStart) : authorityAndPath;
+        // Using split with a limit of -1 to avoid errorprone issues
+        // https://errorprone.info/bugpattern/StringSplitter
+        return Arrays.asList(path.split("/", -1));
+    }
+
+    /**
+     * Returns the leading segments of a uri pattern that contain neither an argument
+     * placeholder nor a wildcard, and therefore must appear verbatim in a matching uri.
+     */
+    @NonNull
+    private static List<String> literalPrefix(@NonNull List<String> segments) {
+        for (int i = 0; i < segments.size(); i++) {
+            String segment = segments.get(i);
+            if (segment.contains("{") || segment.contains(".*")) {
+                return segments.subList(0, i);
+            }
+        }
+        return segments;
+    }
+
+    static final class Entry implements Comparable<Entry> {
+        @NonNull
+        final NavDestination mDestination;
+        @NonNull
+        final NavDeepLink mDeepLink;
+        final int mOrder;
+
+        Entry(@NonNull NavDestination destination, @NonNull NavDeepLink deepLink, int order) {
+            mDestination = destination;
+            mDeepLink = deepLink;
+            mOrder = order;
+        }
+
+        @Override
+        public int compareTo(@NonNull Entry other) {
+            return Integer.compare(mOrder, other.mOrder);
+        }
+    }
+
+    private static final class Node {
+        final HashMap<String, Node> mChildren = new HashMap<>();
+        final ArrayList<Entry> mEntries = new ArrayList<>();
+
+        @NonNull
+        Node getOrCreateChild(@NonNull String key) {
+            Node child = mChildren.get(key);
+            if (child == null) {
+                child = new Node();
+                mChildren.put(key, child);
+            }
+            return child;
+        }
+    }
+}
@@ -41,6 +41,7 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -259,7 +260,23 @@ public class NavDestination {
     }
 
     final void setParent(NavGraph parent) {
+        if (mParent != null) {
+            mParent.invalidateDeepLinkIndex();
+        }
         mParent = parent;
+        if (parent != null) {
+            parent.invalidateDeepLinkIndex();
+        }
+    }
+
+    /**
+     * Drops any deep link index cached by this destination or its parents so that it is rebuilt
+     * to reflect the current set of deep links the next time a deep link is matched.
+     */
+    void invalidateDeepLinkIndex() {
+        if (mParent != null) {
+            mParent.invalidateDeepLinkIndex();
+        }
     }
 
     /**
@@ -453,6 +470,7 @@ public class NavDestination {
             mDeepLinks = new ArrayList<>();
         }
         mDeepLinks.add(navDeepLink);
+        invalidateDeepLinkIndex();
     }
 
     /**
@@ -469,28 +487,49 @@ public class NavDestination {
         }
         DeepLinkMatch bestMatch = null;
         for (NavDeepLink deepLink : mDeepLinks) {
-            Uri uri = navDeepLinkRequest.getUri();
-            Bundle matchingArguments = uri != null
-                    ? deepLink.getMatchingArguments(uri, getArguments()) : null;
-
-            String requestAction = navDeepLinkRequest.getAction();
-            boolean matchingAction = requestAction != null && requestAction.equals(
-                    deepLink.getAction());
-
-            String mimeType = navDeepLinkRequest.getMimeType();
-            int mimeTypeMatchLevel = mimeType != null
-                    ? deepLink.getMimeTypeMatchRating(mimeType) : -1;
-            if (matchingArguments != null || matchingAction || mimeTypeMatchLevel > -1) {
-                DeepLinkMatch newMatch = new DeepLinkMatch(this, matchingArguments,
-                        deepLink.isExactDeepLink(), matchingAction, mimeTypeMatchLevel);
-                if (bestMatch == null || newMatch.compareTo(bestMatch) > 0) {
-                    bestMatch = newMatch;
-                }
+            DeepLinkMatch newMatch = matchDeepLink(deepLink, navDeepLinkRequest);
+            if (newMatch != null && (bestMatch == null || newMatch.compareTo(bestMatch) > 0)) {
+                bestMatch = newMatch;
             }
         }
         return bestMatch;
     }
 
+    /**
+     * Determines if a single deep link added to this NavDestination matches the given request.
+     * @param deepLink One of the deep links added in {@link #addDeepLink(NavDeepLink)}
+     * @param navDeepLinkRequest The request to match against the deep link
+     * @return The match for this destination, or null if the deep link does not match.
+     */
+    @Nullable
+    DeepLinkMatch matchDeepLink(@NonNull NavDeepLink deepLink,
+            @NonNull NavDeepLinkRequest navDeepLinkRequest) {
+        Uri uri = navDeepLinkRequest.getUri();
+        Bundle matchingArguments = uri != null
+                ? deepLink.getMatchingArguments(uri, getArguments()) : null;
+
+        String requestAction = navDeepLinkRequest.getAction();
+        boolean matchingAction = requestAction != null && requestAction.equals(
+                deepLink.getAction());
+
+        String mimeType = navDeepLinkRequest.getMimeType();
+        int mimeTypeMatchLevel = mimeType != null
+                ? deepLink.getMimeTypeMatchRating(mimeType) : -1;
+        if (matchingArguments != null || matchingAction || mimeTypeMatchLevel > -1) {
+            return new DeepLinkMatch(this, matchingArguments,
+                    deepLink.isExactDeepLink(), matchingAction, mimeTypeMatchLevel);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the deep links added to this destination, in the order they were added.
+     */
+    @NonNull
+    List<NavDeepLink> getDeepLinks() {
+        return mDeepLinks != null ? mDeepLinks : Collections.<NavDeepLink>emptyList();
+    }
+
     /**
      * Build an array containing the hierarchy from the root down to this destination.
      *
@@ -43,6 +43,10 @@ public class NavGraph extends NavDestination implements Iterable<NavDestination>
     final SparseArrayCompat<NavDestination> mNodes = new SparseArrayCompat<>();
     private int mStartDestId;
     private String mStartDestIdName;
+    // Lazily built on the first call to matchDeepLink and dropped whenever a deep link or
+    // destination is added to or removed from this graph or any nested graph
+    @Nullable
+    private NavDeepLinkIndex mDeepLinkIndex;
 
     /**
      * Construct a new NavGraph. This NavGraph is not valid until you
@@ -72,19 +76,28 @@ public class NavGraph extends NavDestination implements Iterable<NavDestination>
     @Override
     @Nullable
     DeepLinkMatch matchDeepLink(@NonNull NavDeepLinkRequest request) {
-        // First search through any deep links directly added to this NavGraph
-        DeepLinkMatch bestMatch = super.matchDeepLink(request);
-        // Then search through all child destinations for a matching deep link
-        for (NavDestination child : this) {
-            DeepLinkMatch childBestMatch = child.matchDeepLink(request);
-            if (childBestMatch != null && (bestMatch == null
-                    || childBestMatch.compareTo(bestMatch) > 0)) {
-                bestMatch = childBestMatch;
+        // The index visits the deep links of this NavGraph first, then those of each child
+        // destination, only skipping deep links that cannot possibly match the request
+        if (mDeepLinkIndex == null) {
+            mDeepLinkIndex = new NavDeepLinkIndex(this);
+        }
+        DeepLinkMatch bestMatch = null;
+        for (NavDeepLinkIndex.Entry candidate : mDeepLinkIndex.getCandidates(request)) {
+            DeepLinkMatch match = candidate.mDestination.matchDeepLink(candidate.mDeepLink,
+                    request);
+            if (match != null && (bestMatch == null || match.compareTo(bestMatch) > 0)) {
+                bestMatch = match;
             }
         }
         return bestMatch;
     }
 
+    @Override
+    void invalidateDeepLinkIndex() {
+        mDeepLinkIndex = null;
+        super.invalidateDeepLinkIndex();
+    }
+
     /**
      * Adds a destination to this NavGraph. The destination must have an
      * {@link NavDestination#getId()} id} set.
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package androidx.navigation.safe.args.generator
+
+import androidx.navigation.safe.args.generator.models.Argument
+import androidx.navigation.safe.args.generator.models.DeepLink
+import androidx.navigation.safe.args.generator.models.GraphAction
+import androidx.navigation.safe.args.generator.models.GraphDestination
+import androidx.navigation.safe.args.generator.models.ResReference
+import java.io.File
+import java.io.FileReader
+
+private const val TAG_DEEP_LINK = "deepLink"
+
+private const val ATTRIBUTE_LABEL = "label"
+private const val ATTRIBUTE_START_DESTINATION = "startDestination"
+private const val ATTRIBUTE_URI = "uri"
+private const val ATTRIBUTE_ACTION = "action"
+private const val ATTRIBUTE_MIME_TYPE = "mimeType"
+private const val ATTRIBUTE_LAUNCH_SINGLE_TOP = "launchSingleTop"
+private const val ATTRIBUTE_POP_UP_TO = "popUpTo"
+private const val ATTRIBUTE_POP_UP_TO_INCLUSIVE = "popUpToInclusive"
+private const val ATTRIBUTE_ENTER_ANIM = "enterAnim"
+private const val ATTRIBUTE_EXIT_ANIM = "exitAnim"
+private const val ATTRIBUTE_POP_ENTER_ANIM = "popEnterAnim"
+private const val ATTRIBUTE_POP_EXIT_ANIM = "popExitAnim"
+
+// Navigator specific attributes in the res-auto namespace, see ActivityNavigator.Destination
+private val NAVIGATOR_ATTRIBUTES = listOf("targetPackage", "action", "data", "dataPattern")
+
+/**
+ * Parses a navigation XML file into a [GraphDestination] tree holding everything needed to
+ * construct the graph at runtime. Arguments are parsed by [NavParser] so that their types and
+ * default values are resolved exactly as they are for the generated Args and Directions classes.
+ */
+internal class NavGraphParser(
+    private val parser: XmlPositionParser,
+    private val context: Context,
+    private val rFilePackage: String,
+    applicationId: String
+) {
+    private val navParser = NavParser(parser, context, rFilePackage, applicationId)
+
+    companion object {
+        fun parseNavigationFile(
+            navigationXml: File,
+            rFilePackage: String,
+            applicationId: String,
+            context: Context
+        ): GraphDestination {
+            FileReader(navigationXml).use { reader ->
+                val parser = XmlPositionParser(navigationXml.path, reader, context.logger)
+                parser.traverseStartTags { true }
+                return NavGraphParser(parser, context, rFilePackage, applicationId)
+                    .parseDestination()
+            }
+        }
+    }
+
+    internal fun parseDestination(): GraphDestination {
+        val position = parser.xmlPosition()
+        val type = parser.name()
+        val id = parser.attrValue(NAMESPACE_ANDROID, ATTRIBUTE_ID)?.let {
+            navParser.parseId(it, rFilePackage, position)
+        }
+        val label = parser.attrValue(NAMESPACE_ANDROID, ATTRIBUTE_LABEL)
+        val startDestination = parser.attrValue(NAMESPACE_RES_AUTO, ATTRIBUTE_START_DESTINATION)
+            ?.let { navParser.parseId(it, rFilePackage, position) }
+        val attrs = mutableMapOf<String, String>()
+        parser.attrValue(NAMESPACE_ANDROID, ATTRIBUTE_NAME)?.let { attrs[ATTRIBUTE_NAME] = it }
+        NAVIGATOR_ATTRIBUTES.forEach { attr ->
+            parser.attrValue(NAMESPACE_RES_AUTO, attr)?.let { attrs[attr] = it }
+        }
+        val args = mutableListOf<Argument>()
+        val actions = mutableListOf<GraphAction>()
+        val deepLinks = mutableListOf<DeepLink>()
+        val nested = mutableListOf<GraphDestination>()
+        val included = mutableListOf<ResReference>()
+        parser.traverseInnerStartTags {
+            when {
+                parser.name() == TAG_ACTION -> actions.add(parseAction())
+                parser.name() == TAG_ARGUMENT -> args.add(navParser.parseArgument())
+                parser.name() == TAG_DEEP_LINK -> deepLinks.add(parseDeepLink())
+                parser.name() == TAG_INCLUDE -> parseInclude()?.let { included.add(it) }
+                type == TAG_NAVIGATION -> nested.add(parseDestination())
+            }
+        }
+        return GraphDestination(
+            id, type, label, attrs, startDestination, args, actions, deepLinks, nested, included
+        )
+    }
+
+    private fun parseDeepLink() = DeepLink(
+        parser.attrValue(NAMESPACE_RES_AUTO, ATTRIBUTE_URI),
+        parser.attrValue(NAMESPACE_RES_AUTO, ATTRIBUTE_ACTION),
+        parser.attrValue(NAMESPACE_RES_AUTO, ATTRIBUTE_MIME_TYPE)
+    )
+
+    private fun parseInclude(): ResReference? {
+        val graphValue = parser.attrValue(NAMESPACE_RES_AUTO, ATTRIBUTE_GRAPH) ?: return null
+        return parseReference(graphValue, rFilePackage)
+    }
+
+    private fun parseAction(): GraphAction {
+        val position = parser.xmlPosition()
+        val id = parser.attrValueOrError(NAMESPACE_ANDROID, ATTRIBUTE_ID)?.let {
+            navParser.parseId(it, rFilePackage, position)
+        } ?: context.createStubId()
+        val destination = parser.attrValue(NAMESPACE_RES_AUTO, ATTRIBUTE_DESTINATION)?.let {
+            navParser.parseId(it, rFilePackage, position)
+        }
+        val launchSingleTop = parser.attrValue(NAMESPACE_RES_AUTO, ATTRIBUTE_LAUNCH_SINGLE_TOP)
+        val popUpTo = parser.attrValue(NAMESPACE_RES_AUTO, ATTRIBUTE_POP_UP_TO)?.let {
+            navParser.parseId(it, rFilePackage, position)
+        }
+        val popUpToInclusive = parser.attrValue(NAMESPACE_RES_AUTO, ATTRIBUTE_POP_UP_TO_INCLUSIVE)
+        fun anim(attr: String) = parser.attrValue(NAMESPACE_RES_AUTO, attr)?.let {
+            parseReference(it, rFilePackage)
+        }
+        val enterAnim = anim(ATTRIBUTE_ENTER_ANIM)
+        val exitAnim = anim(ATTRIBUTE_EXIT_ANIM)
+        val popEnterAnim = anim(ATTRIBUTE_POP_ENTER_ANIM)
+        val popExitAnim = anim(ATTRIBUTE_POP_EXIT_ANIM)
+        val args = mutableListOf<Argument>()
+        parser.traverseInnerStartTags {
+            if (parser.name() == TAG_ARGUMENT) {
+                args.add(navParser.parseArgument())
+            }
+        }
+        return GraphAction(
+            id, destination, args,
+            launchSingleTop = launchSingleTop == VALUE_TRUE,
+            popUpTo = popUpTo,
+            popUpToInclusive = popUpToInclusive == VALUE_TRUE,
+            enterAnim = enterAnim,
+            exitAnim = exitAnim,
+            popEnterAnim = popEnterAnim,
+            popExitAnim = popExitAnim
+        )
+    }
+}
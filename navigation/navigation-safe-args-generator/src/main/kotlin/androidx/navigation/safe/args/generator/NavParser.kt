@@ -27,26 +27,26 @@ import androidx.navigation.safe.args.generator.models.ResReference
 import java.io.File
 import java.io.FileReader
 
-private const val TAG_NAVIGATION = "navigation"
-private const val TAG_ACTION = "action"
-private const val TAG_ARGUMENT = "argument"
-private const val TAG_INCLUDE = "include"
+internal const val TAG_NAVIGATION = "navigation"
+internal const val TAG_ACTION = "action"
+internal const val TAG_ARGUMENT = "argument"
+internal const val TAG_INCLUDE = "include"
 
-private const val ATTRIBUTE_ID = "id"
-private const val ATTRIBUTE_DESTINATION = "destination"
+internal const val ATTRIBUTE_ID = "id"
+internal const val ATTRIBUTE_DESTINATION = "destination"
 private const val ATTRIBUTE_DEFAULT_VALUE = "defaultValue"
-private const val ATTRIBUTE_NAME = "name"
+internal const val ATTRIBUTE_NAME = "name"
 private const val ATTRIBUTE_TYPE = "argType"
 private const val ATTRIBUTE_TYPE_DEPRECATED = "type"
 private const val ATTRIBUTE_NULLABLE = "nullable"
-private const val ATTRIBUTE_GRAPH = "graph"
+internal const val ATTRIBUTE_GRAPH = "graph"
 
 const val VALUE_NULL = "@null"
-private const val VALUE_TRUE = "true"
+internal const val VALUE_TRUE = "true"
 private const val VALUE_FALSE = "false"
 
-private const val NAMESPACE_RES_AUTO = "http://schemas.android.com/apk/res-auto"
-private const val NAMESPACE_ANDROID = "http://schemas.android.com/apk/res/android"
+internal const val NAMESPACE_RES_AUTO = "http://schemas.android.com/apk/res-auto"
+internal const val NAMESPACE_ANDROID = "http://schemas.android.com/apk/res/android"
 
 internal class NavParser(
     private val parser: XmlPositionParser,
@@ -128,7 +128,7 @@ internal class NavParser(
         return IncludedDestination(graphRef)
     }
 
-    private fun parseArgument(): Argument {
+    internal fun parseArgument(): Argument {
         val xmlPosition = parser.xmlPosition()
         val name = parser.attrValueOrError(NAMESPACE_ANDROID, ATTRIBUTE_NAME)
         val defaultValue = parser.attrValue(NAMESPACE_ANDROID, ATTRIBUTE_DEFAULT_VALUE)
@@ -250,7 +250,7 @@ internal class NavParser(
         return Action(id, destination, args)
     }
 
-    private fun parseId(
+    internal fun parseId(
         xmlId: String,
         rFilePackage: String,
         xmlPosition: XmlPosition
@@ -16,6 +16,7 @@
 
 package androidx.navigation.safe.args.generator
 
+import androidx.navigation.safe.args.generator.java.JavaNavGraphWriter
 import androidx.navigation.safe.args.generator.java.JavaNavWriter
 import androidx.navigation.safe.args.generator.kotlin.KotlinNavWriter
 import androidx.navigation.safe.args.generator.models.Destination
@@ -27,7 +28,8 @@ fun SafeArgsGenerator(
     navigationXml: File,
     outputDir: File,
     useAndroidX: Boolean = true,
-    generateKotlin: Boolean
+    generateKotlin: Boolean,
+    generateNavGraph: Boolean = false
 ) = NavSafeArgsGenerator(
     rFilePackage,
     applicationId,
@@ -37,6 +39,11 @@ fun SafeArgsGenerator(
         KotlinNavWriter(useAndroidX)
     } else {
         JavaNavWriter(useAndroidX)
+    },
+    if (generateNavGraph) {
+        JavaNavGraphWriter(rFilePackage, useAndroidX)
+    } else {
+        null
     }
 )
 
@@ -45,7 +52,8 @@ class NavSafeArgsGenerator<T : CodeFile> internal constructor(
     private val applicationId: String,
     private val navigationXml: File,
     private val outputDir: File,
-    private val writer: NavWriter<T>
+    private val writer: NavWriter<T>,
+    private val navGraphWriter: JavaNavGraphWriter? = null
 ) {
     fun generate(): GeneratorOutput {
         val context = Context()
@@ -80,7 +88,21 @@ class NavSafeArgsGenerator<T : CodeFile> internal constructor(
             }
         }
         writeCodeFiles(resolvedDestination, emptyList())
+        if (navGraphWriter != null && context.logger.allMessages().isEmpty()) {
+            generateNavGraphCodeFile(navGraphWriter)?.let { codeFiles.add(it) }
+        }
         codeFiles.forEach { it.writeTo(outputDir) }
         return GeneratorOutput(codeFiles.toList(), context.logger.allMessages())
     }
+
+    private fun generateNavGraphCodeFile(navGraphWriter: JavaNavGraphWriter): CodeFile? {
+        // Errors are already reported by the directions and args parsing of the same file
+        val graph = NavGraphParser.parseNavigationFile(
+            navigationXml,
+            rFilePackage,
+            applicationId,
+            Context()
+        )
+        return navGraphWriter.generateNavGraphCodeFile(navigationXml.nameWithoutExtension, graph)
+    }
 }
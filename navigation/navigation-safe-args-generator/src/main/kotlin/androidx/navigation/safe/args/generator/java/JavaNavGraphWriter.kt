@@ -0,0 +1,340 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package androidx.navigation.safe.args.generator.java
+
+import androidx.navigation.safe.args.generator.BoolArrayType
+import androidx.navigation.safe.args.generator.BoolType
+import androidx.navigation.safe.args.generator.FloatArrayType
+import androidx.navigation.safe.args.generator.FloatType
+import androidx.navigation.safe.args.generator.IntArrayType
+import androidx.navigation.safe.args.generator.IntType
+import androidx.navigation.safe.args.generator.LongArrayType
+import androidx.navigation.safe.args.generator.LongType
+import androidx.navigation.safe.args.generator.NullValue
+import androidx.navigation.safe.args.generator.ObjectArrayType
+import androidx.navigation.safe.args.generator.ObjectType
+import androidx.navigation.safe.args.generator.ReferenceArrayType
+import androidx.navigation.safe.args.generator.ReferenceType
+import androidx.navigation.safe.args.generator.ReferenceValue
+import androidx.navigation.safe.args.generator.StringArrayType
+import androidx.navigation.safe.args.generator.StringType
+import androidx.navigation.safe.args.generator.TAG_NAVIGATION
+import androidx.navigation.safe.args.generator.ext.toCamelCase
+import androidx.navigation.safe.args.generator.models.Argument
+import androidx.navigation.safe.args.generator.models.GraphAction
+import androidx.navigation.safe.args.generator.models.GraphDestination
+import androidx.navigation.safe.args.generator.models.ResReference
+import androidx.navigation.safe.args.generator.parseReference
+import com.squareup.javapoet.ClassName
+import com.squareup.javapoet.CodeBlock
+import com.squareup.javapoet.JavaFile
+import com.squareup.javapoet.MethodSpec
+import com.squareup.javapoet.ParameterizedTypeName
+import com.squareup.javapoet.TypeSpec
+import com.squareup.javapoet.WildcardTypeName
+import javax.lang.model.element.Modifier
+
+private val NAV_GRAPH_CLASSNAME = ClassName.get("androidx.navigation", "NavGraph")
+private val NAV_DESTINATION_CLASSNAME = ClassName.get("androidx.navigation", "NavDestination")
+private val NAVIGATOR_CLASSNAME = ClassName.get("androidx.navigation", "Navigator")
+private val NAVIGATOR_PROVIDER_CLASSNAME = ClassName.get("androidx.navigation", "NavigatorProvider")
+private val NAV_ARGUMENT_CLASSNAME = ClassName.get("androidx.navigation", "NavArgument")
+private val NAV_TYPE_CLASSNAME = ClassName.get("androidx.navigation", "NavType")
+private val NAV_DEEP_LINK_CLASSNAME = ClassName.get("androidx.navigation", "NavDeepLink")
+private val NAV_ACTION_CLASSNAME = ClassName.get("androidx.navigation", "NavAction")
+private val NAV_OPTIONS_CLASSNAME = ClassName.get("androidx.navigation", "NavOptions")
+private val NAV_INFLATER_CLASSNAME = ClassName.get("androidx.navigation", "NavInflater")
+private val CONTEXT_CLASSNAME = ClassName.get("android.content", "Context")
+private val COMPONENT_NAME_CLASSNAME = ClassName.get("android.content", "ComponentName")
+private val URI_CLASSNAME = ClassName.get("android.net", "Uri")
+
+private const val APPLICATION_ID_PLACEHOLDER = "\${applicationId}"
+
+/**
+ * The destination classes of the navigators whose attributes can be set without inflating them,
+ * keyed by navigator name. Graphs using any other navigator are left to NavInflater, as their
+ * destinations may read arbitrary attributes in onInflate.
+ */
+private val DESTINATION_CLASSNAMES = mapOf(
+    TAG_NAVIGATION to NAV_GRAPH_CLASSNAME,
+    "fragment" to ClassName.get("androidx.navigation.fragment", "FragmentNavigator", "Destination"),
+    "dialog" to
+        ClassName.get("androidx.navigation.fragment", "DialogFragmentNavigator", "Destination"),
+    "activity" to ClassName.get("androidx.navigation", "ActivityNavigator", "Destination")
+)
+
+/**
+ * Generates a class constructing a [GraphDestination] tree directly through the NavGraph APIs,
+ * so that apps can call `setGraph(XFactory.create(context, navigatorProvider))` instead of
+ * having NavInflater parse the navigation XML at runtime.
+ */
+class JavaNavGraphWriter(
+    private val rFilePackage: String,
+    private val useAndroidX: Boolean = true
+) {
+
+    /**
+     * Returns the generated class for the graph of the navigation file [graphName], or null if
+     * the graph uses navigators whose destinations can only be constructed by inflation.
+     */
+    fun generateNavGraphCodeFile(graphName: String, graph: GraphDestination): JavaCodeFile? {
+        if (!graph.isSupported()) {
+            return null
+        }
+        val className = ClassName.get(rFilePackage, "${graphName.toCamelCase()}Factory")
+        val annotations = Annotations.getInstance(useAndroidX)
+        val methods = mutableListOf<MethodSpec>()
+        val rootMethod = generateDestinationMethods(graph, methods, mutableSetOf())
+        val createMethod = MethodSpec.methodBuilder("create")
+            .addAnnotation(annotations.NONNULL_CLASSNAME)
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .addParameter(CONTEXT_CLASSNAME, "context")
+            .addParameter(NAVIGATOR_PROVIDER_CLASSNAME, "provider")
+            .returns(NAV_GRAPH_CLASSNAME)
+            .addStatement("return ($T) $N(context, provider)", NAV_GRAPH_CLASSNAME, rootMethod)
+            .build()
+        val typeSpec = TypeSpec.classBuilder(className)
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build())
+            .addMethod(createMethod)
+            .addMethods(methods)
+            .build()
+        return JavaFile.builder(className.packageName(), typeSpec).build().toCodeFile()
+    }
+
+    private fun GraphDestination.isSupported(): Boolean =
+        type in DESTINATION_CLASSNAMES && nested.all { it.isSupported() }
+
+    /**
+     * Generates one method per destination, so that large graphs do not exceed the method size
+     * limit, and returns the method constructing [destination].
+     */
+    private fun generateDestinationMethods(
+        destination: GraphDestination,
+        methods: MutableList<MethodSpec>,
+        usedNames: MutableSet<String>
+    ): MethodSpec {
+        val nestedMethods = destination.nested.map { nested ->
+            generateDestinationMethods(nested, methods, usedNames)
+        }
+        val baseName = "create" + (destination.id?.javaIdentifier?.toCamelCase() ?: "Destination")
+        var methodName = baseName
+        var suffix = 1
+        while (!usedNames.add(methodName)) {
+            methodName = baseName + suffix++
+        }
+        val destinationClassName = DESTINATION_CLASSNAMES.getValue(destination.type)
+        val method = MethodSpec.methodBuilder(methodName)
+            .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+            .addParameter(CONTEXT_CLASSNAME, "context")
+            .addParameter(NAVIGATOR_PROVIDER_CLASSNAME, "provider")
+            .returns(NAV_DESTINATION_CLASSNAME)
+            .addStatement(
+                "$T navigator = provider.getNavigator($S)",
+                ParameterizedTypeName.get(
+                    NAVIGATOR_CLASSNAME, WildcardTypeName.subtypeOf(Any::class.java)
+                ),
+                destination.type
+            )
+            .addStatement(
+                "$T destination = ($T) navigator.createDestination()",
+                destinationClassName, destinationClassName
+            )
+            .apply {
+                destination.id?.let { addStatement("destination.setId($L)", it.accessor()) }
+                destination.label?.let { addStatement("destination.setLabel($L)", text(it)) }
+                addNavigatorAttributes(this, destination)
+                destination.args.forEach { arg ->
+                    addStatement("destination.addArgument($S, $L)", arg.name, navArgument(arg))
+                }
+                destination.deepLinks.forEach { deepLink ->
+                    // NavDeepLink.Builder can only be created through its static factories
+                    val parts = listOfNotNull(
+                        deepLink.uri?.let { "UriPattern" to it },
+                        deepLink.action?.takeIf { it.isNotEmpty() }?.let { "Action" to it },
+                        deepLink.mimeType?.let { "MimeType" to it }
+                    )
+                    if (parts.isNotEmpty()) {
+                        val builder = CodeBlock.builder()
+                        parts.forEachIndexed { index, (part, value) ->
+                            if (index == 0) {
+                                builder.add(
+                                    "$T.Builder.from$part($L)",
+                                    NAV_DEEP_LINK_CLASSNAME, placeholder(value)
+                                )
+                            } else {
+                                builder.add(".set$part($L)", placeholder(value))
+                            }
+                        }
+                        addStatement("destination.addDeepLink($L.build())", builder.build())
+                    }
+                }
+                destination.actions.forEachIndexed { index, action ->
+                    addAction(this, action, "action$index")
+                }
+                nestedMethods.forEach { nestedMethod ->
+                    addStatement("destination.addDestination($N(context, provider))", nestedMethod)
+                }
+                destination.included.forEach { graph ->
+                    addStatement(
+                        "destination.addDestination(new $T(context, provider).inflate($L))",
+                        NAV_INFLATER_CLASSNAME, graph.accessor()
+                    )
+                }
+                destination.startDestination?.let {
+                    addStatement("destination.setStartDestination($L)", it.accessor())
+                }
+            }
+            .addStatement("return destination")
+            .build()
+        methods.add(method)
+        return method
+    }
+
+    private fun addNavigatorAttributes(builder: MethodSpec.Builder, destination: GraphDestination) {
+        val name = destination.attrs["name"]
+        when (destination.type) {
+            "fragment", "dialog" -> name?.let {
+                builder.addStatement("destination.setClassName($S)", it)
+            }
+            "activity" -> {
+                destination.attrs["targetPackage"]?.let {
+                    builder.addStatement("destination.setTargetPackage($L)", placeholder(it))
+                }
+                name?.let {
+                    val className = if (it.startsWith(".")) {
+                        CodeBlock.of("context.getPackageName() + $S", it)
+                    } else {
+                        CodeBlock.of(S, it)
+                    }
+                    builder.addStatement(
+                        "destination.setComponentName(new $T(context, $L))",
+                        COMPONENT_NAME_CLASSNAME, className
+                    )
+                }
+                destination.attrs["action"]?.let {
+                    builder.addStatement("destination.setAction($S)", it)
+                }
+                destination.attrs["data"]?.let {
+                    builder.addStatement("destination.setData($T.parse($S))", URI_CLASSNAME, it)
+                }
+                destination.attrs["dataPattern"]?.let {
+                    builder.addStatement("destination.setDataPattern($S)", it)
+                }
+            }
+        }
+    }
+
+    private fun addAction(builder: MethodSpec.Builder, action: GraphAction, name: String) {
+        builder.addStatement(
+            "$T $N = new $T($L)",
+            NAV_ACTION_CLASSNAME, name, NAV_ACTION_CLASSNAME, action.destination.accessor()
+        )
+        builder.addStatement(
+            "$N.setNavOptions(new $T.Builder()" +
+                ".setLaunchSingleTop($L)" +
+                ".setPopUpTo($L, $L)" +
+                ".setEnterAnim($L).setExitAnim($L)" +
+                ".setPopEnterAnim($L).setPopExitAnim($L)" +
+                ".build())",
+            name, NAV_OPTIONS_CLASSNAME,
+            action.launchSingleTop,
+            action.popUpTo.accessorOrUnset(), action.popUpToInclusive,
+            action.enterAnim.accessorOrUnset(), action.exitAnim.accessorOrUnset(),
+            action.popEnterAnim.accessorOrUnset(), action.popExitAnim.accessorOrUnset()
+        )
+        // NavInflater only keeps the arguments that have a non null default value
+        val defaultArgs = action.args.filter {
+            it.defaultValue != null && it.defaultValue != NullValue
+        }
+        if (defaultArgs.isNotEmpty()) {
+            val bundle = "${name}Args"
+            builder.addStatement("$T $N = new $T()", BUNDLE_CLASSNAME, bundle, BUNDLE_CLASSNAME)
+            defaultArgs.forEach { arg ->
+                val defaultValue = arg.defaultValue!!
+                if (defaultValue is ReferenceValue) {
+                    builder.addStatement(
+                        "$N.putInt($S, $L)", bundle, arg.name, defaultValue.write()
+                    )
+                } else {
+                    arg.type.addBundlePutStatement(builder, arg, bundle, defaultValue.write())
+                }
+            }
+            builder.addStatement("$N.setDefaultArguments($N)", name, bundle)
+        }
+        builder.addStatement("destination.putAction($L, $N)", action.id.accessor(), name)
+    }
+
+    private fun navArgument(arg: Argument): CodeBlock {
+        val defaultValue = arg.defaultValue
+        val navType = when {
+            // NavInflater always treats resource references as reference arguments
+            defaultValue is ReferenceValue -> "ReferenceType"
+            arg.type == IntType -> "IntType"
+            arg.type == IntArrayType -> "IntArrayType"
+            arg.type == LongType -> "LongType"
+            arg.type == LongArrayType -> "LongArrayType"
+            arg.type == FloatType -> "FloatType"
+            arg.type == FloatArrayType -> "FloatArrayType"
+            arg.type == BoolType -> "BoolType"
+            arg.type == BoolArrayType -> "BoolArrayType"
+            arg.type == StringType -> "StringType"
+            arg.type == StringArrayType -> "StringArrayType"
+            arg.type == ReferenceType -> "ReferenceType"
+            else -> null
+        }
+        val typeCode = if (navType != null) {
+            CodeBlock.of("$T.$N", NAV_TYPE_CLASSNAME, navType)
+        } else {
+            val argType = when (val type = arg.type) {
+                ReferenceArrayType -> "reference[]"
+                is ObjectType -> type.canonicalName
+                is ObjectArrayType -> "${type.canonicalName}[]"
+                else -> throw IllegalStateException("Unknown type: $type")
+            }
+            CodeBlock.of("$T.fromArgType($S, null)", NAV_TYPE_CLASSNAME, argType)
+        }
+        return CodeBlock.builder()
+            .add("new $T.Builder().setType($L)", NAV_ARGUMENT_CLASSNAME, typeCode)
+            .add(".setIsNullable($L)", arg.isNullable)
+            .apply {
+                // NavInflater does not set null default values
+                if (defaultValue != null && defaultValue != NullValue) {
+                    add(".setDefaultValue($L)", defaultValue.write())
+                }
+            }
+            .add(".build()")
+            .build()
+    }
+
+    private fun text(value: String): CodeBlock =
+        parseReference(value, rFilePackage)?.let {
+            CodeBlock.of("context.getText($L)", it.accessor())
+        } ?: CodeBlock.of(S, value)
+
+    private fun placeholder(value: String): CodeBlock =
+        if (value.contains(APPLICATION_ID_PLACEHOLDER)) {
+            CodeBlock.of(
+                "$S.replace($S, context.getPackageName())", value, APPLICATION_ID_PLACEHOLDER
+            )
+        } else {
+            CodeBlock.of(S, value)
+        }
+
+    private fun ResReference?.accessorOrUnset() = this?.accessor() ?: CodeBlock.of("-1")
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package androidx.navigation.safe.args.generator.models
+
+/**
+ * An [Action] together with the navigation options needed to construct it at runtime.
+ */
+data class GraphAction(
+    val id: ResReference,
+    val destination: ResReference?,
+    val args: List<Argument> = emptyList(),
+    val launchSingleTop: Boolean = false,
+    val popUpTo: ResReference? = null,
+    val popUpToInclusive: Boolean = false,
+    val enterAnim: ResReference? = null,
+    val exitAnim: ResReference? = null,
+    val popEnterAnim: ResReference? = null,
+    val popExitAnim: ResReference? = null
+)
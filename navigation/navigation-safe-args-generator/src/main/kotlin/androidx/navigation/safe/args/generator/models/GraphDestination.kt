@@ -0,0 +1,39 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package androidx.navigation.safe.args.generator.models
+
+/**
+ * A destination with every attribute required to construct it at runtime without inflating
+ * the navigation XML, as opposed to [Destination] which only holds what is needed to generate
+ * directions and arguments classes.
+ *
+ * [attrs] holds the navigator specific attributes of the destination, such as `android:name`
+ * or `app:targetPackage`, keyed by their local name.
+ */
+data class GraphDestination(
+    val id: ResReference?,
+    val type: String,
+    val label: String? = null,
+    val attrs: Map<String, String> = emptyMap(),
+    val startDestination: ResReference? = null,
+    val args: List<Argument> = emptyList(),
+    val actions: List<GraphAction> = emptyList(),
+    val deepLinks: List<DeepLink> = emptyList(),
+    val nested: List<GraphDestination> = emptyList(),
+    val included: List<ResReference> = emptyList()
+)
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package androidx.navigation.safe.args.generator
+
+import androidx.navigation.safe.args.generator.java.JavaNavGraphWriter
+import androidx.navigation.safe.args.generator.models.Argument
+import androidx.navigation.safe.args.generator.models.DeepLink
+import androidx.navigation.safe.args.generator.models.GraphAction
+import androidx.navigation.safe.args.generator.models.ResReference
+import com.google.common.truth.Truth.assertThat
+import com.google.testing.compile.JavaFileObjects
+import com.google.testing.compile.JavaSourcesSubject
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.JUnit4
+import java.io.File
+import javax.tools.JavaFileObject
+
+@RunWith(JUnit4::class)
+class JavaNavGraphWriterTest {
+
+    private fun id(id: String) = ResReference("a.b", "id", id)
+
+    // navigation-runtime and navigation-fragment are not on the test classpath
+    private fun navigatorStub(fullClassName: String) =
+        loadSourceFileObject(fullClassName, "navigator_stubs")
+
+    private fun assertCompilesWithoutError(javaFileObject: JavaFileObject) {
+        JavaSourcesSubject.assertThat(
+            loadSourceFileObject("a.b.R", "a/b"),
+            navigatorStub("androidx.navigation.ActivityNavigator"),
+            navigatorStub("androidx.navigation.fragment.FragmentNavigator"),
+            navigatorStub("androidx.navigation.fragment.DialogFragmentNavigator"),
+            JavaFileObjects.forSourceString(
+                "androidx.annotation.NonNull",
+                "package androidx.annotation; public @interface NonNull {}"
+            ),
+            javaFileObject
+        ).compilesWithoutError()
+    }
+
+    private fun parse(fileName: String) = NavGraphParser.parseNavigationFile(
+        testData(fileName),
+        "a.b", "foo.app", Context()
+    )
+
+    @Test
+    fun testParseGraph() {
+        val graph = parse("nav_graph_test.xml")
+
+        assertThat(graph.id).isEqualTo(id("main_graph"))
+        assertThat(graph.startDestination).isEqualTo(id("first_screen"))
+        assertThat(graph.nested.map { it.type })
+            .containsExactly("fragment", "activity", "navigation").inOrder()
+
+        val first = graph.nested[0]
+        assertThat(first.label).isEqualTo("@string/first_label")
+        assertThat(first.attrs).containsExactly(
+            "name", "androidx.navigation.testapp.MainFragment"
+        )
+        assertThat(first.args).containsExactly(
+            Argument("myarg1", StringType, StringValue("one")),
+            Argument("count", IntType, IntValue("3"))
+        )
+        assertThat(first.deepLinks).containsExactly(
+            DeepLink("www.example.com/first/{myarg1}", null, null)
+        )
+        assertThat(first.actions).containsExactly(
+            GraphAction(
+                id("next"), id("next_activity"),
+                listOf(Argument("intArgument", IntType, IntValue("261"))),
+                launchSingleTop = true,
+                popUpTo = id("first_screen"),
+                popUpToInclusive = true,
+                enterAnim = ResReference("a.b", "anim", "slide_in")
+            )
+        )
+
+        val next = graph.nested[1]
+        assertThat(next.attrs).containsExactly(
+            "name", ".NextActivity",
+            "targetPackage", "\${applicationId}"
+        )
+        assertThat(next.deepLinks).containsExactly(
+            DeepLink(null, "android.intent.action.VIEW", "image/*")
+        )
+
+        val nested = graph.nested[2]
+        assertThat(nested.startDestination).isEqualTo(id("nested_dialog"))
+        assertThat(nested.nested.single().id).isEqualTo(id("nested_dialog"))
+    }
+
+    @Test
+    fun testGenerateGraphFactory() {
+        val codeFile = JavaNavGraphWriter("a.b")
+            .generateNavGraphCodeFile("nav_graph_test", parse("nav_graph_test.xml"))!!
+        val actual = codeFile.toJavaFileObject()
+
+        assertThat(codeFile.fileName()).isEqualTo("a.b.NavGraphTestFactory")
+        JavaSourcesSubject.assertThat(actual)
+            .parsesAs("a.b.NavGraphTestFactory", "expected/java_nav_graph_writer_test")
+        assertCompilesWithoutError(actual)
+    }
+
+    @Test
+    fun testBenchmarkGraphFactoryUpToDate() {
+        // The navigation benchmark checks in the factory generated for its nav_large.xml, as it
+        // does not apply the safe args plugin.
+        val benchmark = File("../benchmark/src/androidTest")
+        val rFilePackage = "androidx.navigation.benchmark.test"
+        val graph = NavGraphParser.parseNavigationFile(
+            File(benchmark, "res/navigation/nav_large.xml"),
+            rFilePackage, rFilePackage, Context()
+        )
+        val codeFile = JavaNavGraphWriter(rFilePackage)
+            .generateNavGraphCodeFile("nav_large", graph)!!
+        val checkedIn = File(
+            benchmark, "java/androidx/navigation/benchmark/test/NavLargeFactory.java"
+        )
+
+        assertThat(codeFile.fileName()).isEqualTo("$rFilePackage.NavLargeFactory")
+        JavaSourcesSubject.assertThat(codeFile.toJavaFileObject()).parsesAs(
+            JavaFileObjects.forSourceString(codeFile.fileName(), checkedIn.readText())
+        )
+    }
+
+    @Test
+    fun testCustomNavigatorNotGenerated() {
+        val codeFile = JavaNavGraphWriter("a.b").generateNavGraphCodeFile(
+            "nav_graph_custom_navigator_test", parse("nav_graph_custom_navigator_test.xml")
+        )
+
+        assertThat(codeFile).isNull()
+    }
+}
@@ -26,6 +26,19 @@ public class R {
         public static final int previous_action = 0x7f060003;
         public static final int next_action = 0x7f060004;
         public static final int nextAction = 0x7f060004;
+        public static final int main_graph = 0x7f060005;
+        public static final int first_screen = 0x7f060006;
+        public static final int next_activity = 0x7f060007;
+        public static final int nested_graph = 0x7f060008;
+        public static final int nested_dialog = 0x7f060009;
+    }
+
+    public static final class string {
+        public static final int first_label = 0x7f0a0000;
+    }
+
+    public static final class anim {
+        public static final int slide_in = 0x7f010000;
     }
 
     public static final class drawable {
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package a.b;
+
+import android.content.ComponentName;
+import android.content.Context;
+import android.os.Bundle;
+import androidx.annotation.NonNull;
+import androidx.navigation.ActivityNavigator;
+import androidx.navigation.NavAction;
+import androidx.navigation.NavArgument;
+import androidx.navigation.NavDeepLink;
+import androidx.navigation.NavDestination;
+import androidx.navigation.NavGraph;
+import androidx.navigation.NavOptions;
+import androidx.navigation.NavType;
+import androidx.navigation.Navigator;
+import androidx.navigation.NavigatorProvider;
+import androidx.navigation.fragment.DialogFragmentNavigator;
+import androidx.navigation.fragment.FragmentNavigator;
+
+public final class NavGraphTestFactory {
+    private NavGraphTestFactory() {
+    }
+
+    @NonNull
+    public static NavGraph create(Context context, NavigatorProvider provider) {
+        return (NavGraph) createMainGraph(context, provider);
+    }
+
+    private static NavDestination createFirstScreen(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("fragment");
+        FragmentNavigator.Destination destination = (FragmentNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.first_screen);
+        destination.setLabel(context.getText(R.string.first_label));
+        destination.setClassName("androidx.navigation.testapp.MainFragment");
+        destination.addArgument("myarg1", new NavArgument.Builder().setType(NavType.StringType).setIsNullable(false).setDefaultValue("one").build());
+        destination.addArgument("count", new NavArgument.Builder().setType(NavType.IntType).setIsNullable(false).setDefaultValue(3).build());
+        destination.addDeepLink(NavDeepLink.Builder.fromUriPattern("www.example.com/first/{myarg1}").build());
+        NavAction action0 = new NavAction(R.id.next_activity);
+        action0.setNavOptions(new NavOptions.Builder().setLaunchSingleTop(true).setPopUpTo(R.id.first_screen, true).setEnterAnim(R.anim.slide_in).setExitAnim(-1).setPopEnterAnim(-1).setPopExitAnim(-1).build());
+        Bundle action0Args = new Bundle();
+        action0Args.putInt("intArgument", 261);
+        action0.setDefaultArguments(action0Args);
+        destination.putAction(R.id.next, action0);
+        return destination;
+    }
+
+    private static NavDestination createNextActivity(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("activity");
+        ActivityNavigator.Destination destination = (ActivityNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.next_activity);
+        destination.setLabel("Next");
+        destination.setTargetPackage("${applicationId}".replace("${applicationId}", context.getPackageName()));
+        destination.setComponentName(new ComponentName(context, context.getPackageName() + ".NextActivity"));
+        destination.addDeepLink(NavDeepLink.Builder.fromAction("android.intent.action.VIEW").setMimeType("image/*").build());
+        return destination;
+    }
+
+    private static NavDestination createNestedDialog(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("dialog");
+        DialogFragmentNavigator.Destination destination = (DialogFragmentNavigator.Destination) navigator.createDestination();
+        destination.setId(R.id.nested_dialog);
+        destination.setClassName(".NestedDialog");
+        return destination;
+    }
+
+    private static NavDestination createNestedGraph(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("navigation");
+        NavGraph destination = (NavGraph) navigator.createDestination();
+        destination.setId(R.id.nested_graph);
+        destination.addDestination(createNestedDialog(context, provider));
+        destination.setStartDestination(R.id.nested_dialog);
+        return destination;
+    }
+
+    private static NavDestination createMainGraph(Context context, NavigatorProvider provider) {
+        Navigator<?> navigator = provider.getNavigator("navigation");
+        NavGraph destination = (NavGraph) navigator.createDestination();
+        destination.setId(R.id.main_graph);
+        destination.addDestination(createFirstScreen(context, provider));
+        destination.addDestination(createNextActivity(context, provider));
+        destination.addDestination(createNestedGraph(context, provider));
+        destination.setStartDestination(R.id.first_screen);
+        return destination;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.navigation;
+
+import android.content.ComponentName;
+import android.net.Uri;
+
+// fake navigator to compile generated graph factories against for JavaNavGraphWriterTest
+public class ActivityNavigator {
+
+    public static class Destination extends NavDestination {
+        public Destination() {
+            super("activity");
+        }
+
+        public final Destination setTargetPackage(String packageName) {
+            return this;
+        }
+
+        public final Destination setComponentName(ComponentName name) {
+            return this;
+        }
+
+        public final Destination setAction(String action) {
+            return this;
+        }
+
+        public final Destination setData(Uri data) {
+            return this;
+        }
+
+        public final Destination setDataPattern(String dataPattern) {
+            return this;
+        }
+    }
+}
@@ -56,6 +56,13 @@ open class ArgumentsGenerationTask @Inject constructor(private val projectLayout
     @get:Input
     var generateKotlin: Boolean = false
 
+    /**
+     * Whether to also generate a factory constructing each navigation graph without inflating
+     * its XML. Graph factories are always generated in Java.
+     */
+    @get:Input
+    var generateNavGraph: Boolean = false
+
     @get:OutputDirectory
     lateinit var outputDir: File
 
@@ -81,7 +88,8 @@ open class ArgumentsGenerationTask @Inject constructor(private val projectLayout
             navigationXml = file,
             outputDir = out,
             useAndroidX = useAndroidX,
-            generateKotlin = generateKotlin
+            generateKotlin = generateKotlin,
+            generateNavGraph = generateNavGraph
         ).generate()
         Mapping(
             file.relativeTo(
@@ -148,12 +156,14 @@ open class ArgumentsGenerationTask @Inject constructor(private val projectLayout
         modified.flatMap { it.javaFiles }
             .filter { name -> name !in newJavaFiles }
             .forEach { javaName ->
-                val fileExtension = if (generateKotlin) { ".kt" } else { ".java" }
-                val fileName =
-                    "${javaName.replace('.', File.separatorChar)}$fileExtension"
-                val file = File(outputDir, fileName)
-                if (file.exists()) {
-                    file.delete()
+                // Graph factories are generated in Java even when generating Kotlin
+                listOf(".kt", ".java").forEach { fileExtension ->
+                    val fileName =
+                        "${javaName.replace('.', File.separatorChar)}$fileExtension"
+                    val file = File(outputDir, fileName)
+                    if (file.exists()) {
+                        file.delete()
+                    }
                 }
             }
         writeMappings(unmodified + newMapping)
@@ -33,6 +33,7 @@ import javax.inject.Inject
 private const val PLUGIN_DIRNAME = "navigation-args"
 internal const val GENERATED_PATH = "generated/source/$PLUGIN_DIRNAME"
 internal const val INCREMENTAL_PATH = "intermediates/incremental"
+internal const val GENERATE_NAV_GRAPH_PROPERTY = "androidx.navigation.safeargs.generateNavGraph"
 
 abstract class SafeArgsPlugin protected constructor(
     val providerFactory: ProviderFactory
@@ -81,6 +82,8 @@ abstract class SafeArgsPlugin protected constructor(
                     }
                 }
                 task.generateKotlin = generateKotlin
+                task.generateNavGraph =
+                    project.findProperty(GENERATE_NAV_GRAPH_PROPERTY) == "true"
             }
             task.applicationIdResource?.let { task.dependsOn(it) }
             variant.registerJavaGeneratingTask(task, task.outputDir)
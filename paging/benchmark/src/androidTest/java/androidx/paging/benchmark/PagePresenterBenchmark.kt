@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.paging.benchmark
+
+import androidx.benchmark.junit4.BenchmarkRule
+import androidx.benchmark.junit4.measureRepeated
+import androidx.paging.AsyncPagingDataDiffer
+import androidx.paging.Pager
+import androidx.paging.PagingConfig
+import androidx.paging.PagingSource
+import androidx.recyclerview.widget.DiffUtil
+import androidx.recyclerview.widget.ListUpdateCallback
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.filters.LargeTest
+import kotlinx.coroutines.asCoroutineDispatcher
+import kotlinx.coroutines.flow.collectLatest
+import kotlinx.coroutines.flow.first
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.runBlocking
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import java.util.concurrent.Executors
+import kotlin.random.Random
+
+/**
+ * Measures positional access into the list presented by a paging differ holding [PAGE_COUNT]
+ * pages, which is served by the presenter's page lookup.
+ */
+@LargeTest
+@RunWith(AndroidJUnit4::class)
+class PagePresenterBenchmark {
+
+    @get:Rule
+    val benchmarkRule = BenchmarkRule()
+
+    private val executor = Executors.newSingleThreadExecutor()
+    private val dispatcher = executor.asCoroutineDispatcher()
+
+    private val differ = AsyncPagingDataDiffer(
+        diffCallback = object : DiffUtil.ItemCallback<Int>() {
+            override fun areItemsTheSame(oldItem: Int, newItem: Int) = oldItem == newItem
+            override fun areContentsTheSame(oldItem: Int, newItem: Int) = oldItem == newItem
+        },
+        updateCallback = object : ListUpdateCallback {
+            override fun onInserted(position: Int, count: Int) {}
+            override fun onRemoved(position: Int, count: Int) {}
+            override fun onMoved(fromPosition: Int, toPosition: Int) {}
+            override fun onChanged(position: Int, count: Int, payload: Any?) {}
+        },
+        mainDispatcher = dispatcher,
+        workerDispatcher = dispatcher
+    )
+
+    private val randomIndices = Random(0).let { random ->
+        IntArray(ACCESS_COUNT) { random.nextInt(PAGE_COUNT * PAGE_SIZE) }
+    }
+
+    @Before
+    fun setUp() = runBlocking {
+        val pager = Pager(
+            config = PagingConfig(
+                pageSize = PAGE_SIZE,
+                // Prefetch the whole source from the initial load
+                prefetchDistance = PAGE_COUNT * PAGE_SIZE,
+                enablePlaceholders = false,
+                initialLoadSize = PAGE_SIZE
+            ),
+            pagingSourceFactory = { PageSource() }
+        )
+        val job = launch(dispatcher) {
+            pager.flow.collectLatest { differ.submitData(it) }
+        }
+        differ.loadStateFlow.first { it.source.append.endOfPaginationReached }
+        job.cancel()
+        assertEquals(PAGE_COUNT * PAGE_SIZE, differ.itemCount)
+    }
+
+    @After
+    fun tearDown() {
+        executor.shutdown()
+    }
+
+    @Test
+    fun peekRandom() {
+        benchmarkRule.measureRepeated {
+            for (index in randomIndices) {
+                differ.peek(index)
+            }
+        }
+    }
+
+    @Test
+    fun peekSequential() {
+        benchmarkRule.measureRepeated {
+            for (index in 0 until ACCESS_COUNT) {
+                differ.peek(index)
+            }
+        }
+    }
+
+    @Test
+    fun snapshot() {
+        benchmarkRule.measureRepeated {
+            differ.snapshot()
+        }
+    }
+
+    @Test
+    fun snapshotGetRandom() {
+        val snapshot = differ.snapshot()
+        benchmarkRule.measureRepeated {
+            for (index in randomIndices) {
+                snapshot[index]
+            }
+        }
+    }
+
+    private class PageSource : PagingSource<Int, Int>() {
+        override suspend fun load(params: LoadParams<Int>): LoadResult<Int, Int> {
+            val page = params.key ?: 0
+            return LoadResult.Page(
+                data = List(PAGE_SIZE) { page * PAGE_SIZE + it },
+                prevKey = if (page > 0) page - 1 else null,
+                nextKey = if (page < PAGE_COUNT - 1) page + 1 else null
+            )
+        }
+    }
+
+    companion object {
+        private const val PAGE_COUNT = 1000
+        private const val PAGE_SIZE = 20
+        private const val ACCESS_COUNT = 1000
+    }
+}
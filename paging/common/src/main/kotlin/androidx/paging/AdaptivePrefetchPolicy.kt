@@ -0,0 +1,212 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package androidx.paging
+
+import androidx.paging.LoadType.APPEND
+import androidx.paging.LoadType.PREPEND
+import androidx.paging.LoadType.REFRESH
+import kotlin.math.abs
+import kotlin.math.ceil
+
+/**
+ * Scales the prefetch distance used by [PageFetcherSnapshot] between
+ * [PagingConfig.prefetchDistance] and [PagingConfig.maxPrefetchDistance], based on scroll
+ * velocity estimated from [ViewportHint.Access] and the observed latency of
+ * [PagingSource.load].
+ *
+ * At rest, the configured [PagingConfig.prefetchDistance] is used. While scrolling, the distance
+ * in the direction of scroll grows by the number of items the user is expected to scroll past
+ * while pages load, so that loads start early enough to keep up with a fling.
+ */
+internal class AdaptivePrefetchPolicy(
+    private val config: PagingConfig,
+    internal val nanoTime: () -> Long = System::nanoTime
+) {
+    private val isAdaptive = config.maxPrefetchDistance > config.prefetchDistance
+
+    private var lastPosition = 0
+    private var lastHintTimeNs = NO_TIME
+
+    /**
+     * Smoothed scroll velocity in items per second, positive towards [APPEND].
+     */
+    private var velocity = 0f
+
+    /**
+     * Smoothed duration of [PagingSource.load] calls in nanoseconds.
+     */
+    private var loadLatencyNs = NO_TIME
+
+    /**
+     * Absolute position of the first item of each loaded page, and its item count, by page offset.
+     */
+    private val pagePositions = mutableMapOf<Int, PagePosition>()
+
+    private var prependDistance = config.prefetchDistance
+    private var appendDistance = config.prefetchDistance
+
+    @Synchronized
+    fun onHint(hint: ViewportHint.Access) {
+        if (!isAdaptive) return
+
+        val now = nanoTime()
+        val position = positionOf(hint)
+        if (lastHintTimeNs != NO_TIME) {
+            val elapsedNs = now - lastHintTimeNs
+            if (elapsedNs <= 0) {
+                // Wait for time to pass, so the next update measures this movement too.
+                return
+            }
+            if (elapsedNs > VELOCITY_TIMEOUT_NS) {
+                velocity = 0f
+            } else {
+                val instantVelocity = (position - lastPosition) * NANOS_PER_SECOND / elapsedNs
+                velocity += (instantVelocity - velocity) * SMOOTHING
+            }
+        }
+        lastPosition = position
+        lastHintTimeNs = now
+    }
+
+    /**
+     * Records the item count of a page inserted at [pageOffset], so that hints in it can be
+     * mapped to absolute positions.
+     */
+    @Synchronized
+    fun onPageInserted(loadType: LoadType, pageOffset: Int, itemCount: Int) {
+        if (!isAdaptive) return
+
+        val start = when (loadType) {
+            REFRESH -> 0
+            PREPEND -> pagePositions[pageOffset + 1]?.let { it.start - itemCount } ?: 0
+            APPEND -> pagePositions[pageOffset - 1]?.let { it.start + it.itemCount } ?: 0
+        }
+        if (loadType == REFRESH) pagePositions.clear()
+        pagePositions[pageOffset] = PagePosition(start, itemCount)
+    }
+
+    /**
+     * Page offsets are stable across inserts and drops within a generation, so an absolute
+     * position is computed from the item counts of the pages loaded so far rather than from
+     * presented item counts, which shift as pages are dropped.
+     */
+    private fun positionOf(hint: ViewportHint.Access): Int {
+        val page = pagePositions[hint.pageOffset]
+        if (page != null) return page.start + hint.indexInPage
+
+        // The page is unknown, e.g. if its insert has not been recorded yet, so extrapolate
+        // from the nearest known page using the configured page size.
+        val nearestOffset = pagePositions.keys.minByOrNull { abs(it - hint.pageOffset) }
+            ?: return hint.pageOffset * config.pageSize + hint.indexInPage
+        val nearest = pagePositions.getValue(nearestOffset)
+        val start = if (hint.pageOffset > nearestOffset) {
+            nearest.start + nearest.itemCount +
+                (hint.pageOffset - nearestOffset - 1) * config.pageSize
+        } else {
+            nearest.start - (nearestOffset - hint.pageOffset) * config.pageSize
+        }
+        return start + hint.indexInPage
+    }
+
+    /**
+     * Measures the duration of [load] to estimate load latency.
+     */
+    inline fun <R> measureLoad(load: () -> R): R {
+        val startNs = nanoTime()
+        try {
+            return load()
+        } finally {
+            onLoadFinished(nanoTime() - startNs)
+        }
+    }
+
+    @Synchronized
+    internal fun onLoadFinished(durationNs: Long) {
+        loadLatencyNs = when (loadLatencyNs) {
+            NO_TIME -> durationNs
+            else -> loadLatencyNs + ((durationNs - loadLatencyNs) * SMOOTHING).toLong()
+        }
+    }
+
+    /**
+     * @return The number of items that should be presented beyond the most recent access in the
+     * [loadType] direction before loading stops.
+     */
+    fun prefetchDistance(loadType: LoadType): Int {
+        if (!isAdaptive) return config.prefetchDistance
+
+        val change = synchronized(this) { updatePrefetchDistance(loadType) }
+        // Notify outside of the lock, so listeners may call back into paging without blocking
+        // hints and loads.
+        if (change.changed) {
+            config.prefetchListener?.onPrefetchDistanceChanged(
+                loadType,
+                change.distance,
+                change.velocity
+            )
+        }
+        return change.distance
+    }
+
+    private fun updatePrefetchDistance(loadType: LoadType): DistanceChange {
+        val now = nanoTime()
+        val currentVelocity = when {
+            lastHintTimeNs == NO_TIME || now - lastHintTimeNs > VELOCITY_TIMEOUT_NS -> 0f
+            else -> velocity
+        }
+        val speed = when (loadType) {
+            PREPEND -> -currentVelocity
+            APPEND -> currentVelocity
+            REFRESH -> throw IllegalArgumentException("Cannot prefetch for loadType: REFRESH")
+        }.coerceAtLeast(0f)
+        val latencyNs = if (loadLatencyNs == NO_TIME) 0L else loadLatencyNs
+
+        // Items scrolled past while a load is in flight, with headroom for jittery loads.
+        val lookahead = ceil(speed * latencyNs / NANOS_PER_SECOND * LATENCY_HEADROOM).toInt()
+        val distance = (config.prefetchDistance + lookahead).coerceAtMost(
+            config.maxPrefetchDistance
+        )
+
+        val previousDistance = if (loadType == PREPEND) prependDistance else appendDistance
+        if (distance != previousDistance) {
+            if (loadType == PREPEND) prependDistance = distance else appendDistance = distance
+        }
+        return DistanceChange(distance, distance != previousDistance, currentVelocity)
+    }
+
+    private class DistanceChange(val distance: Int, val changed: Boolean, val velocity: Float)
+
+    private class PagePosition(val start: Int, val itemCount: Int)
+
+    private companion object {
+        const val NO_TIME = -1L
+        const val NANOS_PER_SECOND = 1_000_000_000f
+
+        /**
+         * Hints further apart than this are treated as the user having come to rest in between.
+         */
+        const val VELOCITY_TIMEOUT_NS = 1_000_000_000L
+
+        /**
+         * Weight of the newest sample in the exponentially smoothed velocity and latency.
+         */
+        const val SMOOTHING = 0.5f
+
+        const val LATENCY_HEADROOM = 2f
+    }
+}
@@ -22,11 +22,17 @@ import androidx.paging.ActiveFlowTracker.FlowType.PAGED_DATA_FLOW
 import androidx.paging.ActiveFlowTracker.FlowType.PAGE_EVENT_FLOW
 import androidx.paging.multicast.Multicaster
 import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.channels.SendChannel
 import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.emitAll
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.flow.flowOf
 import kotlinx.coroutines.flow.map
 import kotlinx.coroutines.flow.onCompletion
 import kotlinx.coroutines.flow.onEach
 import kotlinx.coroutines.flow.onStart
+import kotlinx.coroutines.launch
 
 private class MulticastedPagingData<T : Any>(
     val scope: CoroutineScope,
@@ -80,6 +86,73 @@ fun <T : Any> Flow<PagingData<T>>.cachedIn(
     scope: CoroutineScope
 ) = cachedIn(scope, null)
 
+/**
+ * Caches the [PagingData] like [cachedIn], and additionally persists its loaded pages to
+ * [diskCache] under [key].
+ *
+ * When collected for the first time, pages persisted by a previous process are emitted as a
+ * [PagingData] of their own, before the [PagingData] from this flow. This lets them be presented
+ * immediately, while the [PagingSource] of the first generation refreshes and then replaces them.
+ * Loads triggered by accessing the persisted pages are ignored.
+ *
+ * Pages are written to [diskCache] in the background whenever pages are loaded or dropped. Use
+ * a different [key] for each list persisted in the same [diskCache].
+ *
+ * @param scope The coroutine scope where this page cache will be kept alive.
+ * @param diskCache The [PagingDiskCache] to persist pages in.
+ * @param key Identifies the list of this flow within [diskCache].
+ */
+@CheckResult
+fun <T : Any> Flow<PagingData<T>>.cachedIn(
+    scope: CoroutineScope,
+    diskCache: PagingDiskCache<T>,
+    key: String
+): Flow<PagingData<T>> = flow {
+    diskCache.read(key)?.let { insert ->
+        emit(PagingData(flowOf(insert), PagingData.NOOP_RECEIVER))
+    }
+
+    // Conflated, so that the writer only persists the latest pages when it falls behind. Pages
+    // are only copied once the writer takes a snapshot, rather than on every loaded page.
+    val snapshots = Channel<() -> PageEvent.Insert<T>?>(Channel.CONFLATED)
+    scope.launch {
+        for (snapshot in snapshots) {
+            snapshot()?.let { diskCache.write(key, it) }
+        }
+    }
+    try {
+        emitAll(this@cachedIn.map { it.recordingTo(snapshots) })
+    } finally {
+        snapshots.close()
+    }
+}.cachedIn(scope)
+
+/**
+ * Sends a way to snapshot the pages presented by this [PagingData] to [snapshots] whenever they
+ * change.
+ */
+private fun <T : Any> PagingData<T>.recordingTo(
+    snapshots: SendChannel<() -> PageEvent.Insert<T>?>
+): PagingData<T> {
+    val storage = FlattenedPageEventStorage<T>()
+    val snapshot = {
+        synchronized(storage) {
+            storage.getAsEvents().firstOrNull() as? PageEvent.Insert<T>
+        }
+    }
+    return PagingData(
+        flow = flow.onEach { event ->
+            synchronized(storage) {
+                storage.add(event)
+            }
+            if (event !is PageEvent.LoadStateUpdate) {
+                snapshots.offer(snapshot)
+            }
+        },
+        receiver = receiver
+    )
+}
+
 internal fun <T : Any> Flow<PagingData<T>>.cachedIn(
     scope: CoroutineScope,
     // used in tests
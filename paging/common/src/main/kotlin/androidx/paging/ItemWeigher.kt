@@ -0,0 +1,35 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package androidx.paging
+
+/**
+ * Computes the weight of a single loaded item, used together with [PagingConfig.maxWeight] to
+ * bound the memory held by [PagingData] when items vary widely in size.
+ *
+ * Weights are typically an estimate of an item's size in bytes, but may use any unit as long as
+ * it matches [PagingConfig.maxWeight]. An item's weight is computed once when its page is
+ * loaded, so it must not change while the item is held.
+ *
+ * @see PagingConfig.itemWeigher
+ */
+fun interface ItemWeigher<in T : Any> {
+    /**
+     * Returns the weight of [item], which must not be negative.
+     */
+    fun weigh(item: T): Int
+}
@@ -61,7 +61,8 @@ internal class PageFetcherSnapshot<Key : Any, Value : Any>(
     private val retryFlow: Flow<Unit>,
     private val triggerRemoteRefresh: Boolean = false,
     val remoteMediatorConnection: RemoteMediatorConnection<Key, Value>? = null,
-    private val invalidate: () -> Unit = {}
+    private val invalidate: () -> Unit = {},
+    private val prefetchPolicy: AdaptivePrefetchPolicy = AdaptivePrefetchPolicy(config)
 ) {
     init {
         require(config.jumpThreshold == COUNT_UNDEFINED || pagingSource.jumpingSupported) {
@@ -188,6 +189,7 @@ internal class PageFetcherSnapshot<Key : Any, Value : Any>(
     fun accessHint(viewportHint: ViewportHint) {
         if (viewportHint is ViewportHint.Access) {
             lastHint = viewportHint
+            prefetchPolicy.onHint(viewportHint)
         }
 
         hintSharedFlow.tryEmit(viewportHint)
@@ -283,11 +285,14 @@ internal class PageFetcherSnapshot<Key : Any, Value : Any>(
         stateHolder.withLock { state -> state.setLoading(REFRESH) }
 
         val params = loadParams(REFRESH, initialKey)
-        when (val result = pagingSource.load(params)) {
+        when (val result = prefetchPolicy.measureLoad { pagingSource.load(params) }) {
             is Page<Key, Value> -> {
                 val insertApplied = stateHolder.withLock { state ->
                     state.insert(0, REFRESH, result)
                 }
+                if (insertApplied) {
+                    prefetchPolicy.onPageInserted(REFRESH, 0, result.data.size)
+                }
 
                 // Update loadStates which are sent along with this load's Insert PageEvent.
                 stateHolder.withLock { state ->
@@ -386,7 +391,9 @@ internal class PageFetcherSnapshot<Key : Any, Value : Any>(
         var endOfPaginationReached = false
         loop@ while (loadKey != null) {
             val params = loadParams(loadType, loadKey)
-            val result: LoadResult<Key, Value> = pagingSource.load(params)
+            val result: LoadResult<Key, Value> = prefetchPolicy.measureLoad {
+                pagingSource.load(params)
+            }
             when (result) {
                 is Page<Key, Value> -> {
                     // First, check for common error case where the same key is re-used to load
@@ -409,7 +416,17 @@ internal class PageFetcherSnapshot<Key : Any, Value : Any>(
                     }
 
                     val insertApplied = stateHolder.withLock { state ->
-                        state.insert(generationalHint.generationId, loadType, result)
+                        state.insert(generationalHint.generationId, loadType, result).also {
+                            if (it) {
+                                val pageOffset = when (loadType) {
+                                    PREPEND -> -state.initialPageIndex
+                                    else -> state.pages.lastIndex - state.initialPageIndex
+                                }
+                                prefetchPolicy.onPageInserted(
+                                    loadType, pageOffset, result.data.size
+                                )
+                            }
+                        }
                     }
 
                     // Break if insert was skipped due to cancellation
@@ -445,8 +462,15 @@ internal class PageFetcherSnapshot<Key : Any, Value : Any>(
                 else -> PREPEND
             }
 
+            // Keep the items that loads in the dropped direction would prefetch again.
+            val dropPrefetchDistance = prefetchPolicy.prefetchDistance(dropType)
+
             stateHolder.withLock { state ->
-                state.dropEventOrNull(dropType, generationalHint.hint)?.let { event ->
+                state.dropEventOrNull(
+                    loadType = dropType,
+                    hint = generationalHint.hint,
+                    prefetchDistance = dropPrefetchDistance
+                )?.let { event ->
                     state.drop(event)
                     pageEventCh.send(event)
                 }
@@ -516,7 +540,7 @@ internal class PageFetcherSnapshot<Key : Any, Value : Any>(
         if (sourceLoadStates.get(loadType) is Error) return null
 
         // Skip loading if prefetchDistance has been fulfilled.
-        if (presentedItemsBeyondAnchor >= config.prefetchDistance) return null
+        if (presentedItemsBeyondAnchor >= prefetchPolicy.prefetchDistance(loadType)) return null
 
         return if (loadType == PREPEND) {
             pages.first().prevKey
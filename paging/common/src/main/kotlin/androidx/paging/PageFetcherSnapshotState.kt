@@ -50,6 +50,19 @@ internal class PageFetcherSnapshotState<Key : Any, Value : Any> private construc
     internal val storageCount
         get() = pages.sumBy { it.data.size }
 
+    /**
+     * Total weight of each page in [pages], as computed by [PagingConfig.itemWeigher], or empty
+     * if no [PagingConfig.itemWeigher] is set. A [Long], as a page of items weighed in bytes can
+     * exceed [Int.MAX_VALUE].
+     */
+    private val pageWeights = mutableListOf<Long>()
+
+    /**
+     * Sum of [pageWeights], kept up to date as pages are inserted and dropped.
+     */
+    internal var totalWeight = 0L
+        private set
+
     private var _placeholdersBefore = 0
 
     /**
@@ -181,6 +194,35 @@ internal class PageFetcherSnapshotState<Key : Any, Value : Any> private construc
         }
     }
 
+    // PagingConfig is not generic over the item type, so its ItemWeigher can't be typed by it. As
+    // documented on PagingConfig.itemWeigher, it must accept the items of the PagingSource it is
+    // used with, and weigh() fails with a ClassCastException at the first page otherwise.
+    @Suppress("UNCHECKED_CAST")
+    private val itemWeigher = config.itemWeigher as ItemWeigher<Value>?
+
+    private fun Page<Key, Value>.weigh(): Long {
+        val weigher = itemWeigher ?: return 0
+        var weight = 0L
+        for (item in data) {
+            val itemWeight = weigher.weigh(item)
+            check(itemWeight >= 0) { "ItemWeigher returned negative weight $itemWeight for $item" }
+            weight += itemWeight
+        }
+        return weight
+    }
+
+    private fun addPageWeight(index: Int, page: Page<Key, Value>) {
+        if (itemWeigher == null) return
+        val weight = page.weigh()
+        pageWeights.add(index, weight)
+        totalWeight += weight
+    }
+
+    private fun removePageWeight(index: Int) {
+        if (itemWeigher == null) return
+        totalWeight -= pageWeights.removeAt(index)
+    }
+
     /**
      * @return true if insert was applied, false otherwise.
      */
@@ -192,6 +234,7 @@ internal class PageFetcherSnapshotState<Key : Any, Value : Any> private construc
                 check(loadId == 0) { "init loadId must be the initial value, 0" }
 
                 _pages.add(page)
+                addPageWeight(0, page)
                 initialPageIndex = 0
                 placeholdersAfter = page.itemsAfter
                 placeholdersBefore = page.itemsBefore
@@ -203,6 +246,7 @@ internal class PageFetcherSnapshotState<Key : Any, Value : Any> private construc
                 if (loadId != prependGenerationId) return false
 
                 _pages.add(0, page)
+                addPageWeight(0, page)
                 initialPageIndex++
                 placeholdersBefore = if (page.itemsBefore == COUNT_UNDEFINED) {
                     (placeholdersBefore - page.data.size).coerceAtLeast(0)
@@ -220,6 +264,7 @@ internal class PageFetcherSnapshotState<Key : Any, Value : Any> private construc
                 if (loadId != appendGenerationId) return false
 
                 _pages.add(page)
+                addPageWeight(pages.lastIndex, page)
                 placeholdersAfter = if (page.itemsAfter == COUNT_UNDEFINED) {
                     (placeholdersAfter - page.data.size).coerceAtLeast(0)
                 } else {
@@ -245,7 +290,10 @@ internal class PageFetcherSnapshotState<Key : Any, Value : Any> private construc
 
         when (event.loadType) {
             PREPEND -> {
-                repeat(event.pageCount) { _pages.removeAt(0) }
+                repeat(event.pageCount) {
+                    _pages.removeAt(0)
+                    removePageWeight(0)
+                }
                 initialPageIndex -= event.pageCount
 
                 placeholdersBefore = event.placeholdersRemaining
@@ -254,7 +302,10 @@ internal class PageFetcherSnapshotState<Key : Any, Value : Any> private construc
                 prependGenerationIdCh.offer(prependGenerationId)
             }
             APPEND -> {
-                repeat(event.pageCount) { _pages.removeAt(pages.size - 1) }
+                repeat(event.pageCount) {
+                    _pages.removeAt(pages.size - 1)
+                    removePageWeight(pages.size)
+                }
 
                 placeholdersAfter = event.placeholdersRemaining
 
@@ -267,17 +318,33 @@ internal class PageFetcherSnapshotState<Key : Any, Value : Any> private construc
 
     /**
      * @return [PageEvent.Drop] for [loadType] that would allow this [PageFetcherSnapshotState] to
-     * respect [PagingConfig.maxSize], `null` if no pages should be dropped for the provided
-     * [loadType].
+     * respect [PagingConfig.maxSize] and [PagingConfig.maxWeight], `null` if no pages should be
+     * dropped for the provided [loadType].
+     *
+     * @param prefetchDistance The number of items beyond [hint] in the [loadType] direction that
+     * must remain loaded, which may be larger than [PagingConfig.prefetchDistance] while the
+     * prefetch distance is scaled by [AdaptivePrefetchPolicy].
      */
-    fun dropEventOrNull(loadType: LoadType, hint: ViewportHint): PageEvent.Drop<Value>? {
-        if (config.maxSize == MAX_SIZE_UNBOUNDED) return null
+    fun dropEventOrNull(
+        loadType: LoadType,
+        hint: ViewportHint,
+        prefetchDistance: Int
+    ): PageEvent.Drop<Value>? {
+        if (config.maxSize == MAX_SIZE_UNBOUNDED && config.maxWeight == MAX_SIZE_UNBOUNDED) {
+            return null
+        }
         // Never drop below 2 pages as this can cause UI flickering with certain configs and it's
         // much more important to protect against this behaviour over respecting a config where
         // maxSize is set unusually (probably incorrectly) strict.
         if (pages.size <= 2) return null
 
-        if (storageCount <= config.maxSize) return null
+        val itemCount = storageCount
+        // Both limits default to MAX_SIZE_UNBOUNDED, which can never be exceeded.
+        fun exceedsLimits(itemsToDrop: Int, weightToDrop: Long) =
+            itemCount - itemsToDrop > config.maxSize ||
+                totalWeight - weightToDrop > config.maxWeight
+
+        if (!exceedsLimits(0, 0)) return null
 
         require(loadType != REFRESH) {
             "Drop LoadType must be PREPEND or APPEND, but got $loadType"
@@ -286,19 +353,24 @@ internal class PageFetcherSnapshotState<Key : Any, Value : Any> private construc
         // Compute pageCount and itemsToDrop
         var pagesToDrop = 0
         var itemsToDrop = 0
-        while (pagesToDrop < pages.size && storageCount - itemsToDrop > config.maxSize) {
-            val pageSize = when (loadType) {
-                PREPEND -> pages[pagesToDrop].data.size
-                else -> pages[pages.lastIndex - pagesToDrop].data.size
+        var weightToDrop = 0L
+        while (pagesToDrop < pages.size && exceedsLimits(itemsToDrop, weightToDrop)) {
+            val pageIndex = when (loadType) {
+                PREPEND -> pagesToDrop
+                else -> pages.lastIndex - pagesToDrop
             }
+            val pageSize = pages[pageIndex].data.size
             val itemsAfterDrop = when (loadType) {
                 PREPEND -> hint.presentedItemsBefore - itemsToDrop - pageSize
                 else -> hint.presentedItemsAfter - itemsToDrop - pageSize
             }
             // Do not drop pages that would fulfill prefetchDistance.
-            if (itemsAfterDrop < config.prefetchDistance) break
+            if (itemsAfterDrop < prefetchDistance) break
 
             itemsToDrop += pageSize
+            if (itemWeigher != null) {
+                weightToDrop += pageWeights[pageIndex]
+            }
             pagesToDrop++
         }
 
@@ -40,6 +40,53 @@ internal class PagePresenter<T : Any>(
     override var placeholdersAfter: Int = insertEvent.placeholdersAfter
         private set
 
+    /**
+     * Storage index of the first item of each page in [pages], kept up to date as pages are
+     * inserted and dropped so positional lookups can binary search for their page.
+     *
+     * This array is replaced rather than mutated whenever [pages] changes, which lets snapshots
+     * share it without copying.
+     */
+    private var pageStartIndices: IntArray = computePageStartIndices()
+
+    /**
+     * Index in [pages] of the page that served the most recent lookup, checked first as
+     * consecutive lookups most often land on the same page.
+     */
+    private var lastPageIndex: Int = 0
+
+    private fun computePageStartIndices(): IntArray {
+        val starts = IntArray(pages.size)
+        var start = 0
+        pages.forEachIndexed { index, page ->
+            starts[index] = start
+            start += page.data.size
+        }
+        return starts
+    }
+
+    private fun updatePageStartIndices() {
+        pageStartIndices = computePageStartIndices()
+        lastPageIndex = 0
+    }
+
+    /**
+     * Returns the index in [pages] of the page containing [localIndex]. Indices before the first
+     * page map to the first page, and indices past the end of storage map to the last page.
+     */
+    private fun pageIndexForStorageIndex(localIndex: Int): Int {
+        val starts = pageStartIndices
+        val last = lastPageIndex
+        if (last < starts.size && localIndex >= starts[last] &&
+            localIndex < starts[last] + pages[last].data.size
+        ) {
+            return last
+        }
+        val pageIndex = starts.pageIndexFor(localIndex)
+        lastPageIndex = pageIndex
+        return pageIndex
+    }
+
     private fun checkIndex(index: Int) {
         if (index < 0 || index >= size) {
             throw IndexOutOfBoundsException("Index: $index, Size: $size")
@@ -65,26 +112,13 @@ internal class PagePresenter<T : Any>(
         return ItemSnapshotList(
             placeholdersBefore,
             placeholdersAfter,
-            pages.flatMap { it.data }
+            PagedItems(pages.toList(), pageStartIndices, storageCount)
         )
     }
 
     override fun getFromStorage(localIndex: Int): T {
-        var pageIndex = 0
-        var indexInPage = localIndex
-
-        // Since we don't know if page sizes are regular, we walk to correct page.
-        val localPageCount = pages.size
-        while (pageIndex < localPageCount) {
-            val pageSize = pages[pageIndex].data.size
-            if (pageSize > indexInPage) {
-                // stop, found the page
-                break
-            }
-            indexInPage -= pageSize
-            pageIndex++
-        }
-        return pages[pageIndex].data[indexInPage]
+        val pageIndex = pageIndexForStorageIndex(localIndex)
+        return pages[pageIndex].data[localIndex - pageStartIndices[pageIndex]]
     }
 
     override val size: Int
@@ -117,16 +151,11 @@ internal class PagePresenter<T : Any>(
     }
 
     fun accessHintForPresenterIndex(index: Int): ViewportHint.Access {
-        var pageIndex = 0
-        var indexInPage = index - placeholdersBefore
-        while (indexInPage >= pages[pageIndex].data.size && pageIndex < pages.lastIndex) {
-            // index doesn't appear in current page, keep looking!
-            indexInPage -= pages[pageIndex].data.size
-            pageIndex++
-        }
+        val localIndex = index - placeholdersBefore
+        val pageIndex = pageIndexForStorageIndex(localIndex)
 
         return pages[pageIndex].viewportHintFor(
-            index = indexInPage,
+            index = localIndex - pageStartIndices[pageIndex],
             presentedItemsBefore = index - placeholdersBefore,
             presentedItemsAfter = size - index - placeholdersAfter - 1,
             originalPageOffsetFirst = originalPageOffsetFirst,
@@ -166,6 +195,7 @@ internal class PagePresenter<T : Any>(
 
                 // first update all state...
                 pages.addAll(0, insert.pages)
+                updatePageStartIndices()
                 storageCount += count
                 placeholdersBefore = insert.placeholdersBefore
 
@@ -188,6 +218,7 @@ internal class PagePresenter<T : Any>(
 
                 // first update all state...
                 pages.addAll(pages.size, insert.pages)
+                updatePageStartIndices()
                 storageCount += count
                 placeholdersAfter = insert.placeholdersAfter
 
@@ -224,6 +255,7 @@ internal class PagePresenter<T : Any>(
                 pageIterator.remove()
             }
         }
+        updatePageStartIndices()
 
         return removeCount
     }
@@ -325,6 +357,27 @@ internal class PagePresenter<T : Any>(
         }
     }
 
+    /**
+     * Read-only view over the items of [pages], used by [snapshot] to avoid flattening every
+     * page into a new list.
+     *
+     * [pages] must be a copy that is never mutated, and [pageStartIndices] its matching start
+     * indices, so the view stays valid after the presenter moves on to later generations.
+     */
+    private class PagedItems<T : Any>(
+        private val pages: List<TransformablePage<T>>,
+        private val pageStartIndices: IntArray,
+        override val size: Int
+    ) : AbstractList<T>() {
+        override fun get(index: Int): T {
+            if (index < 0 || index >= size) {
+                throw IndexOutOfBoundsException("Index: $index, Size: $size")
+            }
+            val pageIndex = pageStartIndices.pageIndexFor(index)
+            return pages[pageIndex].data[index - pageStartIndices[pageIndex]]
+        }
+    }
+
     internal companion object {
         private val INITIAL = PagePresenter<Any>(PageEvent.Insert.EMPTY_REFRESH_LOCAL)
 
@@ -342,3 +395,22 @@ internal class PagePresenter<T : Any>(
         fun onStateUpdate(loadType: LoadType, fromMediator: Boolean, loadState: LoadState)
     }
 }
+
+/**
+ * Binary searches page start indices for the last page starting at or before
+ * [localIndex], which skips over any empty pages sharing that start index. Returns 0 for
+ * a negative [localIndex].
+ */
+private fun IntArray.pageIndexFor(localIndex: Int): Int {
+    var low = 0
+    var high = size - 1
+    while (low < high) {
+        val mid = (low + high + 1) ushr 1
+        if (this[mid] <= localIndex) {
+            low = mid
+        } else {
+            high = mid - 1
+        }
+    }
+    return low
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package androidx.paging
+
+import java.io.DataInput
+import java.io.DataOutput
+import java.io.IOException
+
+/**
+ * Converts items to and from bytes, so that pages of [PagingData] can be persisted by a
+ * [PagingDiskCache].
+ *
+ * Implementations must read back exactly what they wrote, and are encouraged to write a version
+ * or type tag of their own if the item format may change between app versions. Any exception
+ * thrown while reading causes the cached entry to be discarded.
+ */
+interface PageSerializer<T : Any> {
+    /**
+     * Writes [item] to [output].
+     */
+    @Throws(IOException::class)
+    fun writeItem(item: T, output: DataOutput)
+
+    /**
+     * Reads an item previously written by [writeItem] from [input].
+     */
+    @Throws(IOException::class)
+    fun readItem(input: DataInput): T
+}
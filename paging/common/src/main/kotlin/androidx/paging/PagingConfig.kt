@@ -99,8 +99,9 @@ class PagingConfig @JvmOverloads constructor(
      * This can be used to cap the number of items kept in memory by dropping pages. This value is
      * typically many pages so old pages are cached in case the user scrolls back.
      *
-     * This value must be at least two times the [prefetchDistance] plus the [pageSize]). This
-     * constraint prevent loads from being continuously fetched and discarded due to prefetching.
+     * This value must be at least two times the [prefetchDistance] plus the [pageSize]), using
+     * [maxPrefetchDistance] in place of [prefetchDistance] if it is larger. This constraint
+     * prevent loads from being continuously fetched and discarded due to prefetching.
      *
      * [maxSize] is best effort, not a guarantee. In practice, if [maxSize] is many times
      * [pageSize], the number of items held by [PagingData] will not grow above this number.
@@ -131,7 +132,61 @@ class PagingConfig @JvmOverloads constructor(
      * @see PagingSource.jumpingSupported
      */
     @JvmField
-    val jumpThreshold: Int = COUNT_UNDEFINED
+    val jumpThreshold: Int = COUNT_UNDEFINED,
+
+    /**
+     * Defines the maximum total weight, as computed by [itemWeigher], of the items that may be
+     * loaded into [PagingData] before pages should be dropped.
+     *
+     * If set to [MAX_SIZE_UNBOUNDED], pages will never be dropped due to their weight. Must be
+     * set together with [itemWeigher].
+     *
+     * This can be used instead of, or in addition to [maxSize] to cap the memory used by loaded
+     * pages when items vary widely in size, in which case a limit on the number of items either
+     * holds on to too much memory or drops pages too eagerly.
+     *
+     * Like [maxSize], [maxWeight] is best effort, not a guarantee: pages are never dropped until
+     * there are more than two pages loaded, and pages within [prefetchDistance] of the most recent
+     * access are never dropped.
+     *
+     * @see ItemWeigher
+     */
+    @JvmField
+    @IntRange(from = 1)
+    val maxWeight: Int = MAX_SIZE_UNBOUNDED,
+
+    /**
+     * Computes the weight of each loaded item, which is totaled per page and compared against
+     * [maxWeight] to decide when pages should be dropped.
+     *
+     * Its item type must match the type of items loaded by the [PagingSource] this config is
+     * used with. Must be set together with [maxWeight].
+     */
+    @JvmField
+    val itemWeigher: ItemWeigher<*>? = null,
+
+    /**
+     * Defines the largest prefetch distance that may be used while scrolling quickly.
+     *
+     * When greater than [prefetchDistance], the prefetch distance adapts to scroll velocity:
+     * [prefetchDistance] is used at rest, and the distance in the direction of scroll grows with
+     * the number of items the user is expected to pass while pages load, up to
+     * [maxPrefetchDistance]. This lets a small [prefetchDistance] avoid loading pages the user
+     * never reaches, without falling behind during a fling.
+     *
+     * Defaults to [prefetchDistance], which disables adaptive prefetching.
+     *
+     * @see prefetchListener
+     */
+    @JvmField
+    @IntRange(from = 0)
+    val maxPrefetchDistance: Int = prefetchDistance,
+
+    /**
+     * Notified whenever the adaptive prefetch distance, enabled by [maxPrefetchDistance], changes.
+     */
+    @JvmField
+    val prefetchListener: PrefetchListener? = null
 ) {
     init {
         if (!enablePlaceholders && prefetchDistance == 0) {
@@ -141,10 +196,14 @@ class PagingConfig @JvmOverloads constructor(
                     " must be enabled, or prefetch distance must be > 0."
             )
         }
-        if (maxSize != MAX_SIZE_UNBOUNDED && maxSize < pageSize + prefetchDistance * 2) {
+        require(maxPrefetchDistance >= prefetchDistance) {
+            "maxPrefetchDistance must be at least prefetchDistance" +
+                ", prefetchDist=$prefetchDistance, maxPrefetchDist=$maxPrefetchDistance"
+        }
+        if (maxSize != MAX_SIZE_UNBOUNDED && maxSize < pageSize + maxPrefetchDistance * 2) {
             throw IllegalArgumentException(
-                "Maximum size must be at least pageSize + 2*prefetchDist" +
-                    ", pageSize=$pageSize, prefetchDist=$prefetchDistance" +
+                "Maximum size must be at least pageSize + 2*maxPrefetchDist" +
+                    ", pageSize=$pageSize, maxPrefetchDist=$maxPrefetchDistance" +
                     ", maxSize=$maxSize"
             )
         }
@@ -152,6 +211,11 @@ class PagingConfig @JvmOverloads constructor(
         require(jumpThreshold == COUNT_UNDEFINED || jumpThreshold > 0) {
             "jumpThreshold must be positive to enable jumps or COUNT_UNDEFINED to disable jumping."
         }
+
+        require(maxWeight > 0) { "maxWeight must be positive, but was $maxWeight" }
+        require((maxWeight == MAX_SIZE_UNBOUNDED) == (itemWeigher == null)) {
+            "maxWeight and itemWeigher must either both be set or both be left unset."
+        }
     }
 
     companion object {
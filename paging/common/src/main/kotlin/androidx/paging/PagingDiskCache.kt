@@ -0,0 +1,232 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package androidx.paging
+
+import androidx.annotation.IntRange
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.withContext
+import java.io.BufferedInputStream
+import java.io.BufferedOutputStream
+import java.io.ByteArrayOutputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.File
+import java.io.FileInputStream
+import java.io.FileOutputStream
+import java.io.IOException
+import java.security.MessageDigest
+
+/**
+ * A size-bounded cache of [PagingData] on local storage, which lets a list presented before
+ * process death be shown again immediately on relaunch, while its [PagingSource] refreshes.
+ *
+ * Each entry holds the pages of one list, identified by a key passed to
+ * [cachedIn][androidx.paging.cachedIn], and is written through [serializer] whenever pages are
+ * loaded or dropped. When the total size of all entries exceeds [maxSizeBytes], the least
+ * recently read or written entries are evicted. A single list larger than [maxSizeBytes] is
+ * cached up to its last page that fits.
+ *
+ * A [directory] should only be used by a single [PagingDiskCache] at a time.
+ *
+ * @param directory Directory to store entries in, created if it does not exist.
+ * @param serializer Converts items to and from bytes.
+ * @param maxSizeBytes Maximum total size of all entries on disk.
+ */
+class PagingDiskCache<T : Any> internal constructor(
+    private val directory: File,
+    private val serializer: PageSerializer<T>,
+    @IntRange(from = 1)
+    private val maxSizeBytes: Long,
+    // used in tests
+    private val currentTimeMillis: () -> Long
+) {
+    constructor(
+        directory: File,
+        serializer: PageSerializer<T>,
+        @IntRange(from = 1)
+        maxSizeBytes: Long
+    ) : this(directory, serializer, maxSizeBytes, System::currentTimeMillis)
+
+    init {
+        require(maxSizeBytes > 0) { "maxSizeBytes must be positive, but was $maxSizeBytes" }
+    }
+
+    private val lock = Any()
+
+    /**
+     * Removes the entry for [key], if any.
+     */
+    fun remove(key: String) {
+        synchronized(lock) {
+            entryFile(key).delete()
+        }
+    }
+
+    /**
+     * Removes every entry in this cache.
+     */
+    fun clear() {
+        synchronized(lock) {
+            entryFiles().forEach { it.delete() }
+        }
+    }
+
+    /**
+     * @return The cached pages for [key] as a [PageEvent.Insert] of [LoadType.REFRESH], or `null`
+     * if there are none or they could not be read.
+     */
+    internal suspend fun read(key: String): PageEvent.Insert<T>? = withContext(Dispatchers.IO) {
+        synchronized(lock) {
+            readEntry(key)
+        }
+    }
+
+    /**
+     * Replaces the entry for [key] with the pages of [insert], then evicts entries until the
+     * cache fits within [maxSizeBytes]. Failures to write, including exceptions thrown by
+     * [serializer], are ignored, leaving no entry behind.
+     */
+    internal suspend fun write(key: String, insert: PageEvent.Insert<T>) {
+        withContext(Dispatchers.IO) {
+            synchronized(lock) {
+                writeEntry(key, insert)
+                trimToSize()
+            }
+        }
+    }
+
+    private fun readEntry(key: String): PageEvent.Insert<T>? {
+        val file = entryFile(key)
+        if (!file.exists()) return null
+
+        val insert = try {
+            DataInputStream(BufferedInputStream(FileInputStream(file))).use { input ->
+                if (input.readInt() != FORMAT_VERSION) {
+                    throw IOException("Unknown format version")
+                }
+                // Guard against hash collisions between keys, dropping the other key's entry.
+                if (input.readUTF() != key) {
+                    throw IOException("Entry was written for another key")
+                }
+
+                val placeholdersBefore = input.readInt()
+                val placeholdersAfter = input.readInt()
+                val pages = List(input.readInt()) { pageIndex ->
+                    TransformablePage(
+                        originalPageOffset = pageIndex,
+                        data = List(input.readInt()) { serializer.readItem(input) }
+                    )
+                }
+                if (pages.isEmpty()) {
+                    null
+                } else {
+                    PageEvent.Insert.Refresh(
+                        pages = pages,
+                        placeholdersBefore = placeholdersBefore,
+                        placeholdersAfter = placeholdersAfter,
+                        combinedLoadStates = CombinedLoadStates.IDLE_SOURCE
+                    )
+                }
+            }
+        } catch (e: Exception) {
+            // The entry is corrupt, stale, or was written in a format the serializer no longer
+            // reads.
+            file.delete()
+            return null
+        }
+        file.setLastModified(currentTimeMillis())
+        return insert
+    }
+
+    private fun writeEntry(key: String, insert: PageEvent.Insert<T>) {
+        val file = entryFile(key)
+        val tempFile = File(directory, file.name + TEMP_SUFFIX)
+        try {
+            // Serialize pages up front, so that only as many leading pages as fit are written.
+            val keyBytes = ByteArrayOutputStream().also { DataOutputStream(it).writeUTF(key) }
+            var size = 4L * Int.SIZE_BYTES + keyBytes.size()
+            val pages = mutableListOf<ByteArray>()
+            for (page in insert.pages) {
+                val pageBytes = ByteArrayOutputStream()
+                DataOutputStream(pageBytes).let { pageOutput ->
+                    pageOutput.writeInt(page.data.size)
+                    page.data.forEach { serializer.writeItem(it, pageOutput) }
+                }
+                if (size + pageBytes.size() > maxSizeBytes) break
+                size += pageBytes.size()
+                pages.add(pageBytes.toByteArray())
+            }
+            if (pages.isEmpty()) {
+                file.delete()
+                return
+            }
+            // Items of the trailing pages which don't fit become placeholders.
+            val droppedItemCount = insert.pages.subList(pages.size, insert.pages.size)
+                .sumBy { it.data.size }
+
+            directory.mkdirs()
+            DataOutputStream(BufferedOutputStream(FileOutputStream(tempFile))).use { output ->
+                output.writeInt(FORMAT_VERSION)
+                keyBytes.writeTo(output)
+                output.writeInt(insert.placeholdersBefore)
+                output.writeInt(insert.placeholdersAfter + droppedItemCount)
+                output.writeInt(pages.size)
+                pages.forEach { output.write(it) }
+            }
+            if (!tempFile.renameTo(file)) {
+                throw IOException("Failed to rename $tempFile to $file")
+            }
+            file.setLastModified(currentTimeMillis())
+        } catch (e: Exception) {
+            // Also catches failures of the serializer, which is not limited to IOExceptions.
+            tempFile.delete()
+            file.delete()
+        }
+    }
+
+    /**
+     * Evicts the least recently used entries until the total size of all entries fits within
+     * [maxSizeBytes].
+     */
+    private fun trimToSize() {
+        val files = entryFiles().sortedBy { it.lastModified() }
+        var size = files.fold(0L) { sum, file -> sum + file.length() }
+        for (file in files) {
+            if (size <= maxSizeBytes) break
+            size -= file.length()
+            file.delete()
+        }
+    }
+
+    private fun entryFiles(): List<File> {
+        return directory.listFiles { file -> file.name.endsWith(ENTRY_SUFFIX) }?.toList()
+            ?: emptyList()
+    }
+
+    private fun entryFile(key: String): File {
+        val digest = MessageDigest.getInstance("SHA-256").digest(key.toByteArray())
+        val name = digest.joinToString(separator = "") { "%02x".format(it) }
+        return File(directory, name + ENTRY_SUFFIX)
+    }
+
+    private companion object {
+        const val FORMAT_VERSION = 1
+        const val ENTRY_SUFFIX = ".page"
+        const val TEMP_SUFFIX = ".tmp"
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package androidx.paging
+
+/**
+ * Receives the prefetch distances chosen by [Pager] when
+ * [PagingConfig.maxPrefetchDistance] allows prefetching to adapt to scroll velocity.
+ *
+ * @see PagingConfig.prefetchListener
+ */
+fun interface PrefetchListener {
+    /**
+     * Called when the prefetch distance used to trigger loads in the [loadType] direction
+     * changes.
+     *
+     * This is called on the thread loading pages, and should return quickly.
+     *
+     * @param loadType [LoadType.PREPEND] or [LoadType.APPEND].
+     * @param prefetchDistance The new prefetch distance, between [PagingConfig.prefetchDistance]
+     * and [PagingConfig.maxPrefetchDistance].
+     * @param velocity Estimated scroll velocity in items per second, positive when scrolling
+     * towards the end of the list.
+     */
+    fun onPrefetchDistanceChanged(loadType: LoadType, prefetchDistance: Int, velocity: Float)
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package androidx.paging
+
+import androidx.paging.LoadType.APPEND
+import androidx.paging.LoadType.PREPEND
+import androidx.paging.LoadType.REFRESH
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.JUnit4
+import java.util.concurrent.TimeUnit
+import kotlin.concurrent.thread
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+
+@RunWith(JUnit4::class)
+class AdaptivePrefetchPolicyTest {
+    private var nowMs = 0L
+    private val decisions = mutableListOf<Pair<LoadType, Int>>()
+    private val config = PagingConfig(
+        pageSize = 10,
+        prefetchDistance = 5,
+        maxPrefetchDistance = 50,
+        prefetchListener = { loadType, prefetchDistance, _ ->
+            decisions.add(loadType to prefetchDistance)
+        }
+    )
+    private val policy = AdaptivePrefetchPolicy(config) { TimeUnit.MILLISECONDS.toNanos(nowMs) }
+
+    private fun hint(position: Int) = ViewportHint.Access(
+        pageOffset = position / config.pageSize,
+        indexInPage = position % config.pageSize,
+        presentedItemsBefore = position,
+        presentedItemsAfter = 0,
+        originalPageOffsetFirst = 0,
+        originalPageOffsetLast = 0
+    )
+
+    private fun pageHint(pageOffset: Int, indexInPage: Int) = ViewportHint.Access(
+        pageOffset = pageOffset,
+        indexInPage = indexInPage,
+        presentedItemsBefore = 0,
+        presentedItemsAfter = 0,
+        originalPageOffsetFirst = 0,
+        originalPageOffsetLast = 0
+    )
+
+    private fun load(durationMs: Long) {
+        policy.measureLoad { nowMs += durationMs }
+    }
+
+    /**
+     * Scrolls [count] items with one hint every [intervalMs], starting from [from].
+     */
+    private fun scroll(from: Int, count: Int, intervalMs: Long, step: Int = 1) {
+        for (i in 0..count) {
+            policy.onHint(hint(from + i * step))
+            nowMs += intervalMs
+        }
+        nowMs -= intervalMs
+    }
+
+    @Test
+    fun atRest() {
+        load(durationMs = 100)
+        policy.onHint(hint(20))
+
+        assertEquals(5, policy.prefetchDistance(PREPEND))
+        assertEquals(5, policy.prefetchDistance(APPEND))
+        assertThat(decisions).isEmpty()
+    }
+
+    @Test
+    fun scrollTowardsEnd() {
+        load(durationMs = 100)
+        // 100 items per second, with 100ms loads that's 10 items per load, doubled for headroom.
+        scroll(from = 0, count = 20, intervalMs = 10)
+
+        assertEquals(5, policy.prefetchDistance(PREPEND))
+        assertThat(policy.prefetchDistance(APPEND)).isIn(24..25)
+        assertThat(decisions.map { it.first }).containsExactly(APPEND)
+    }
+
+    @Test
+    fun scrollTowardsStart() {
+        load(durationMs = 100)
+        scroll(from = 100, count = 20, intervalMs = 10, step = -1)
+
+        assertThat(policy.prefetchDistance(PREPEND)).isIn(24..25)
+        assertEquals(5, policy.prefetchDistance(APPEND))
+    }
+
+    @Test
+    fun scrollTowardsEnd_initialPageLargerThanLaterPages() {
+        load(durationMs = 100)
+        // The initial load is 3 * pageSize by default, later pages hold pageSize items.
+        policy.onPageInserted(REFRESH, pageOffset = 0, itemCount = 30)
+        policy.onPageInserted(APPEND, pageOffset = 1, itemCount = 10)
+        policy.onPageInserted(APPEND, pageOffset = 2, itemCount = 10)
+
+        // Scroll from the initial page into the appended ones at 100 items per second.
+        for (position in 20..40) {
+            val pageOffset = if (position < 30) 0 else 1 + (position - 30) / 10
+            val indexInPage = if (position < 30) position else (position - 30) % 10
+            policy.onHint(pageHint(pageOffset, indexInPage))
+            nowMs += 10
+        }
+        nowMs -= 10
+
+        assertEquals(5, policy.prefetchDistance(PREPEND))
+        assertThat(policy.prefetchDistance(APPEND)).isIn(24..25)
+        assertThat(decisions.map { it.first }).containsExactly(APPEND)
+    }
+
+    @Test
+    fun scrollTowardsStart_prependedPagesSmallerThanInitialPage() {
+        load(durationMs = 100)
+        policy.onPageInserted(REFRESH, pageOffset = 0, itemCount = 30)
+        policy.onPageInserted(PREPEND, pageOffset = -1, itemCount = 10)
+        policy.onPageInserted(PREPEND, pageOffset = -2, itemCount = 10)
+
+        // Scroll from the initial page into the prepended ones at 100 items per second.
+        for (position in 10 downTo -10) {
+            val pageOffset = if (position >= 0) 0 else -1 - (-position - 1) / 10
+            val indexInPage = if (position >= 0) position else position - pageOffset * 10
+            policy.onHint(pageHint(pageOffset, indexInPage))
+            nowMs += 10
+        }
+        nowMs -= 10
+
+        assertThat(policy.prefetchDistance(PREPEND)).isIn(24..25)
+        assertEquals(5, policy.prefetchDistance(APPEND))
+    }
+
+    @Test
+    fun clampedToMaxPrefetchDistance() {
+        load(durationMs = 500)
+        scroll(from = 0, count = 20, intervalMs = 10)
+
+        assertEquals(50, policy.prefetchDistance(APPEND))
+        assertEquals(listOf(APPEND to 50), decisions)
+    }
+
+    @Test
+    fun noLoadLatencyYet() {
+        scroll(from = 0, count = 20, intervalMs = 10)
+
+        assertEquals(5, policy.prefetchDistance(APPEND))
+    }
+
+    @Test
+    fun returnsToRest() {
+        load(durationMs = 100)
+        scroll(from = 0, count = 20, intervalMs = 10)
+        assertThat(policy.prefetchDistance(APPEND)).isGreaterThan(5)
+
+        // No hints for a while means the user stopped scrolling.
+        nowMs += 2000
+        assertEquals(5, policy.prefetchDistance(APPEND))
+        assertThat(decisions.map { it.second }.last()).isEqualTo(5)
+
+        // Slow scrolling after a pause is measured from scratch.
+        scroll(from = 20, count = 2, intervalMs = 500)
+        assertThat(policy.prefetchDistance(APPEND)).isIn(5..6)
+    }
+
+    @Test
+    fun notAdaptive() {
+        val policy = AdaptivePrefetchPolicy(PagingConfig(pageSize = 10, prefetchDistance = 5)) {
+            TimeUnit.MILLISECONDS.toNanos(nowMs)
+        }
+        policy.measureLoad { nowMs += 100 }
+        for (i in 0..20) {
+            policy.onHint(hint(i))
+            nowMs += 10
+        }
+
+        assertEquals(5, policy.prefetchDistance(APPEND))
+    }
+
+    @Test
+    fun listenerCalledOutsideLock() {
+        lateinit var policy: AdaptivePrefetchPolicy
+        var hintedFromListener = false
+        val config = PagingConfig(
+            pageSize = 10,
+            prefetchDistance = 5,
+            maxPrefetchDistance = 50,
+            prefetchListener = { _, _, _ ->
+                // Blocks if the listener is called while holding the policy's lock.
+                val hintThread = thread { policy.onHint(hint(30)) }
+                hintThread.join(TimeUnit.SECONDS.toMillis(5))
+                hintedFromListener = !hintThread.isAlive
+            }
+        )
+        policy = AdaptivePrefetchPolicy(config) { TimeUnit.MILLISECONDS.toNanos(nowMs) }
+        policy.measureLoad { nowMs += 100 }
+        for (i in 0..20) {
+            policy.onHint(hint(i))
+            nowMs += 10
+        }
+
+        assertFalse(hintedFromListener)
+        policy.prefetchDistance(APPEND)
+        assertThat(hintedFromListener).isTrue()
+    }
+}
@@ -29,6 +29,8 @@ import org.junit.Test
 import org.junit.runner.RunWith
 import org.junit.runners.JUnit4
 import kotlin.test.assertEquals
+import kotlin.test.assertNull
+import kotlin.test.assertTrue
 
 @OptIn(ExperimentalCoroutinesApi::class)
 @RunWith(JUnit4::class)
@@ -456,6 +458,148 @@ class PageFetcherSnapshotStateTest {
         )
     }
 
+    private suspend fun weightedState(
+        maxWeight: Int,
+        vararg pages: List<Int>
+    ): PageFetcherSnapshotState<Int, Int> {
+        val state = PageFetcherSnapshotState.Holder<Int, Int>(
+            config = PagingConfig(
+                pageSize = 2,
+                prefetchDistance = 1,
+                enablePlaceholders = false,
+                maxWeight = maxWeight,
+                itemWeigher = ItemWeigher<Int> { it }
+            )
+        ).withLock { it }
+        pages.forEachIndexed { index, data ->
+            assertTrue(
+                state.insert(
+                    loadId = 0,
+                    loadType = if (index == 0) REFRESH else APPEND,
+                    page = Page(data = data, prevKey = index - 1, nextKey = index + 1)
+                )
+            )
+        }
+        return state
+    }
+
+    private fun accessHint(presentedItemsBefore: Int, presentedItemsAfter: Int) =
+        ViewportHint.Access(
+            pageOffset = 0,
+            indexInPage = 0,
+            presentedItemsBefore = presentedItemsBefore,
+            presentedItemsAfter = presentedItemsAfter,
+            originalPageOffsetFirst = 0,
+            originalPageOffsetLast = 2
+        )
+
+    @Test
+    fun dropEventOrNull_underMaxWeight() = testScope.runBlockingTest {
+        val state = weightedState(14, listOf(1, 1), listOf(5, 5), listOf(1, 1))
+
+        assertEquals(14L, state.totalWeight)
+        assertNull(state.dropEventOrNull(PREPEND, accessHint(6, 0), prefetchDistance = 1))
+        assertNull(state.dropEventOrNull(APPEND, accessHint(0, 6), prefetchDistance = 1))
+    }
+
+    @Test
+    fun dropEventOrNull_overMaxWeight() = testScope.runBlockingTest {
+        val state = weightedState(10, listOf(1, 1), listOf(5, 5), listOf(1, 1))
+
+        // Dropping only the first page still leaves 12 > 10, so the second is dropped too even
+        // though only 6 items are loaded.
+        assertEquals(
+            PageEvent.Drop<Int>(
+                loadType = PREPEND,
+                minPageOffset = 0,
+                maxPageOffset = 1,
+                placeholdersRemaining = 0
+            ),
+            state.dropEventOrNull(PREPEND, accessHint(5, 0), prefetchDistance = 1)
+        )
+        assertEquals(
+            PageEvent.Drop<Int>(
+                loadType = APPEND,
+                minPageOffset = 1,
+                maxPageOffset = 2,
+                placeholdersRemaining = 0
+            ),
+            state.dropEventOrNull(APPEND, accessHint(0, 5), prefetchDistance = 1)
+        )
+    }
+
+    @Test
+    fun dropEventOrNull_maxWeightRespectsPrefetchDistance() = testScope.runBlockingTest {
+        val state = weightedState(10, listOf(1, 1), listOf(5, 5), listOf(1, 1))
+
+        // The second page is within prefetchDistance of the hint, so only the first is dropped.
+        assertEquals(
+            PageEvent.Drop<Int>(
+                loadType = PREPEND,
+                minPageOffset = 0,
+                maxPageOffset = 0,
+                placeholdersRemaining = 0
+            ),
+            state.dropEventOrNull(PREPEND, accessHint(3, 2), prefetchDistance = 1)
+        )
+        assertNull(state.dropEventOrNull(PREPEND, accessHint(2, 3), prefetchDistance = 1))
+    }
+
+    @Test
+    fun dropEventOrNull_respectsAdaptivePrefetchDistance() = testScope.runBlockingTest {
+        val state = weightedState(10, listOf(1, 1), listOf(5, 5), listOf(1, 1))
+
+        // Dropping the second page would leave fewer than the scaled prefetchDistance of items
+        // before the hint, so only the first is dropped even though the weight is still exceeded.
+        assertEquals(
+            PageEvent.Drop<Int>(
+                loadType = PREPEND,
+                minPageOffset = 0,
+                maxPageOffset = 0,
+                placeholdersRemaining = 0
+            ),
+            state.dropEventOrNull(PREPEND, accessHint(5, 0), prefetchDistance = 3)
+        )
+    }
+
+    @Test
+    fun dropEventOrNull_maxWeightBeyondIntRange() = testScope.runBlockingTest {
+        val state = weightedState(
+            Int.MAX_VALUE - 1,
+            listOf(Int.MAX_VALUE, Int.MAX_VALUE), listOf(1, 1), listOf(1, 1)
+        )
+
+        // The weight of the first page alone doesn't fit in an Int.
+        assertEquals(2L * Int.MAX_VALUE + 4, state.totalWeight)
+        assertEquals(
+            PageEvent.Drop<Int>(
+                loadType = PREPEND,
+                minPageOffset = 0,
+                maxPageOffset = 0,
+                placeholdersRemaining = 0
+            ),
+            state.dropEventOrNull(PREPEND, accessHint(5, 0), prefetchDistance = 1)
+        )
+    }
+
+    @Test
+    fun drop_updatesTotalWeight() = testScope.runBlockingTest {
+        val state = weightedState(10, listOf(1, 1), listOf(5, 5), listOf(1, 1), listOf(2, 2))
+
+        state.drop(state.dropEventOrNull(PREPEND, accessHint(8, 0), prefetchDistance = 1)!!)
+        assertEquals(listOf(listOf(1, 1), listOf(2, 2)), state.pages.map { it.data })
+        assertEquals(6L, state.totalWeight)
+
+        assertTrue(
+            state.insert(
+                loadId = 1,
+                loadType = PREPEND,
+                page = Page(data = listOf(3), prevKey = 0, nextKey = 2)
+            )
+        )
+        assertEquals(9L, state.totalWeight)
+    }
+
     private fun List<Page<Int, Int>>.toPresenter(initialPageIndex: Int): PagePresenter<Int> {
         val pageSize = 2
         val initialPage = get(initialPageIndex)
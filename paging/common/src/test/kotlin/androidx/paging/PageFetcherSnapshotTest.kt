@@ -1234,6 +1234,74 @@ class PageFetcherSnapshotTest {
         }
     }
 
+    private suspend fun TestCoroutineScope.adaptivePrefetchLoadedItems(
+        warmUp: Boolean
+    ): List<Int> {
+        val prefetchDistances = mutableListOf<Int>()
+        val config = PagingConfig(
+            pageSize = 2,
+            prefetchDistance = 2,
+            enablePlaceholders = true,
+            initialLoadSize = 2,
+            maxPrefetchDistance = 10,
+            prefetchListener = { loadType, prefetchDistance, _ ->
+                if (loadType == APPEND) prefetchDistances.add(prefetchDistance)
+            }
+        )
+        // Loads take 100ms of virtual time, which the policy measures as load latency.
+        val pageSource = TestPagingSource(loadDelay = 100)
+        val prefetchPolicy = AdaptivePrefetchPolicy(config) { currentTime * 1_000_000 }
+        val pager = PageFetcherSnapshot(
+            initialKey = 50,
+            pagingSource = pageSource,
+            config = config,
+            retryFlow = retryBus.flow,
+            prefetchPolicy = prefetchPolicy
+        )
+        fun accessHint(indexInPage: Int) = ViewportHint.Access(
+            pageOffset = 0,
+            indexInPage = indexInPage,
+            presentedItemsBefore = indexInPage,
+            presentedItemsAfter = 1 - indexInPage,
+            originalPageOffsetFirst = 0,
+            originalPageOffsetLast = 0
+        )
+
+        pauseDispatcher {
+            collectSnapshotData(pager) { _, _ ->
+                advanceUntilIdle()
+
+                if (warmUp) {
+                    // Scroll one item in 10ms, or 100 items per second, before accessing the
+                    // last loaded item.
+                    prefetchPolicy.onHint(accessHint(indexInPage = 0))
+                    advanceTimeBy(10)
+                }
+                pager.accessHint(accessHint(indexInPage = 1))
+                advanceUntilIdle()
+            }
+        }
+        if (warmUp) {
+            assertThat(prefetchDistances).isNotEmpty()
+            assertThat(prefetchDistances.first()).isEqualTo(10)
+        } else {
+            assertThat(prefetchDistances).isEmpty()
+        }
+        return pageSource.loadedPages.flatMap { it.data }.filter { it >= 50 }.sorted()
+    }
+
+    @Test
+    fun adaptivePrefetch_atRest() = testScope.runBlockingTest {
+        assertThat(adaptivePrefetchLoadedItems(warmUp = false)).isEqualTo((50..53).toList())
+    }
+
+    @Test
+    fun adaptivePrefetch_scrolling() = testScope.runBlockingTest {
+        // The append prefetch distance grows from 2 to its maximum of 10, since 100 items per
+        // second are scrolled past during each 100ms load, doubled for headroom.
+        assertThat(adaptivePrefetchLoadedItems(warmUp = true)).isEqualTo((50..61).toList())
+    }
+
     @Test
     fun retry() = testScope.runBlockingTest {
         pauseDispatcher {
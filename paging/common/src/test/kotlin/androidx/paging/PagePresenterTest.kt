@@ -547,6 +547,98 @@ class PagePresenterTest {
         assertEquals(listOf(null, 'a', null, null, null), pagePresenter.snapshot())
     }
 
+    @Test
+    fun get_emptyPages() {
+        val presenter = PagePresenter(
+            pages = listOf(
+                listOf(),
+                listOf('a', 'b'),
+                listOf(),
+                listOf(),
+                listOf('c'),
+                listOf('d', 'e', 'f'),
+                listOf()
+            ),
+            leadingNullCount = 2,
+            trailingNullCount = 1,
+            indexOfInitialPage = 0
+        )
+
+        assertEquals(
+            listOf(null, null, 'a', 'b', 'c', 'd', 'e', 'f', null),
+            presenter.asList()
+        )
+        // Access in reverse, to avoid only hitting the most recently accessed page.
+        assertEquals(
+            listOf('f', 'e', 'd', 'c', 'b', 'a'),
+            (5 downTo 0).map { presenter.getFromStorage(it) }
+        )
+    }
+
+    @Test
+    fun get_afterInsertAndDrop() {
+        val presenter = PagePresenter(
+            pages = listOf(listOf('c', 'd')),
+            leadingNullCount = 0,
+            trailingNullCount = 0,
+            indexOfInitialPage = 0
+        )
+        val callback = ProcessPageEventCallbackCapture()
+        presenter.processEvent(
+            adjacentInsertEvent(
+                isPrepend = true,
+                page = listOf('a', 'b'),
+                originalPageOffset = -1,
+                placeholdersRemaining = 0
+            ),
+            callback
+        )
+        presenter.processEvent(
+            adjacentInsertEvent(
+                isPrepend = false,
+                page = listOf('e'),
+                originalPageOffset = 1,
+                placeholdersRemaining = 0
+            ),
+            callback
+        )
+        assertEquals(listOf('a', 'b', 'c', 'd', 'e'), presenter.asList())
+
+        presenter.dropPages(
+            isPrepend = true,
+            minPageOffset = -1,
+            maxPageOffset = -1,
+            placeholdersRemaining = 0,
+            callback = callback
+        )
+        assertEquals(listOf('c', 'd', 'e'), presenter.asList())
+    }
+
+    @Test
+    fun snapshot_unaffectedByLaterEvents() {
+        val presenter = PagePresenter(
+            pages = listOf(listOf('a', 'b'), listOf(), listOf('c')),
+            leadingNullCount = 1,
+            trailingNullCount = 0,
+            indexOfInitialPage = 0
+        )
+        val snapshot = presenter.snapshot()
+
+        presenter.insertPage(
+            isPrepend = false,
+            page = listOf('d'),
+            placeholdersRemaining = 0,
+            callback = ProcessPageEventCallbackCapture()
+        )
+
+        assertEquals(listOf(null, 'a', 'b', 'c'), snapshot)
+        assertEquals(listOf('a', 'b', 'c'), snapshot.items)
+        assertFailsWith<IndexOutOfBoundsException> {
+            snapshot.items[3]
+        }
+        assertEquals(listOf(null, 'a', 'b', 'c', 'd'), presenter.snapshot())
+    }
+
     companion object {
         val IDLE_EVENTS = listOf<PresenterEvent>(
             StateEvent(REFRESH, false, NotLoading.Incomplete),
@@ -56,4 +56,25 @@ class PagingConfigTest {
             )
         }
     }
+
+    @Test
+    fun maxWeightRequiresItemWeigher() {
+        assertFailsWith<IllegalArgumentException> {
+            PagingConfig(
+                pageSize = 10,
+                maxWeight = 1000
+            )
+        }
+        assertFailsWith<IllegalArgumentException> {
+            PagingConfig(
+                pageSize = 10,
+                itemWeigher = ItemWeigher<Any> { 1 }
+            )
+        }
+        PagingConfig(
+            pageSize = 10,
+            maxWeight = 1000,
+            itemWeigher = ItemWeigher<Any> { 1 }
+        )
+    }
 }
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package androidx.paging
+
+import com.google.common.truth.Truth.assertThat
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.cancel
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.flow.filterIsInstance
+import kotlinx.coroutines.flow.first
+import kotlinx.coroutines.flow.flowOf
+import kotlinx.coroutines.flow.take
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.withTimeout
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import org.junit.runner.RunWith
+import org.junit.runners.JUnit4
+import java.io.DataInput
+import java.io.DataOutput
+import java.io.IOException
+import kotlin.test.assertNull
+
+@RunWith(JUnit4::class)
+class PagingDiskCacheTest {
+    @get:Rule
+    val tempFolder = TemporaryFolder()
+
+    private var nowMs = 0L
+    private var failReads = false
+    private var failWrites = false
+
+    private val serializer = object : PageSerializer<Int> {
+        override fun writeItem(item: Int, output: DataOutput) {
+            // Not an IOException, serializers can fail with any exception.
+            if (failWrites) throw IllegalStateException("Unwritable item")
+            output.writeInt(item)
+        }
+
+        override fun readItem(input: DataInput): Int {
+            if (failReads) throw IOException("Unreadable item")
+            return input.readInt()
+        }
+    }
+
+    private fun createCache(maxSizeBytes: Long = 1024) = PagingDiskCache(
+        directory = tempFolder.root,
+        serializer = serializer,
+        maxSizeBytes = maxSizeBytes,
+        currentTimeMillis = { nowMs }
+    )
+
+    private fun refresh(vararg pages: List<Int>, placeholdersBefore: Int = 0) =
+        PageEvent.Insert.Refresh(
+            pages = pages.mapIndexed { index, data -> TransformablePage(index, data) },
+            placeholdersBefore = placeholdersBefore,
+            placeholdersAfter = 0,
+            combinedLoadStates = CombinedLoadStates.IDLE_SOURCE
+        )
+
+    private suspend fun PagingDiskCache<Int>.readPages(key: String) =
+        read(key)?.pages?.map { it.data }
+
+    @Test
+    fun readMissing() = runBlocking {
+        assertNull(createCache().read("feed"))
+    }
+
+    @Test
+    fun writeAndRead() = runBlocking {
+        val cache = createCache()
+        cache.write("feed", refresh(listOf(1, 2), listOf(), listOf(3), placeholdersBefore = 5))
+
+        val insert = createCache().read("feed")!!
+        assertThat(insert.loadType).isEqualTo(LoadType.REFRESH)
+        assertThat(insert.pages.map { it.data }).containsExactly(listOf(1, 2), listOf(), listOf(3))
+            .inOrder()
+        assertThat(insert.placeholdersBefore).isEqualTo(5)
+        assertThat(insert.placeholdersAfter).isEqualTo(0)
+    }
+
+    @Test
+    fun separateKeys() = runBlocking {
+        val cache = createCache()
+        cache.write("feed", refresh(listOf(1)))
+        cache.write("profile", refresh(listOf(2)))
+        cache.write("feed", refresh(listOf(3)))
+
+        assertThat(cache.readPages("feed")).containsExactly(listOf(3))
+        assertThat(cache.readPages("profile")).containsExactly(listOf(2))
+
+        cache.remove("feed")
+        assertNull(cache.read("feed"))
+        assertThat(cache.readPages("profile")).containsExactly(listOf(2))
+
+        cache.clear()
+        assertNull(cache.read("profile"))
+    }
+
+    @Test
+    fun evictsLeastRecentlyUsed() = runBlocking {
+        // Fits two entries of 25 items each, but not three.
+        val cache = createCache(maxSizeBytes = 300)
+        val items = List(25) { it }
+        cache.write("a", refresh(items))
+        nowMs += 1000
+        cache.write("b", refresh(items))
+        nowMs += 1000
+        // Reading marks "a" as used more recently than "b".
+        assertThat(cache.readPages("a")).isNotNull()
+        nowMs += 1000
+        cache.write("c", refresh(items))
+
+        assertThat(cache.readPages("a")).isNotNull()
+        assertNull(cache.read("b"))
+        assertThat(cache.readPages("c")).isNotNull()
+    }
+
+    @Test
+    fun writesLeadingPagesThatFit() = runBlocking {
+        val cache = createCache(maxSizeBytes = 100)
+        cache.write("feed", refresh(List(10) { it }, List(10) { it + 10 }, List(10) { it + 20 }))
+
+        val insert = cache.read("feed")!!
+        assertThat(insert.pages.map { it.data }).containsExactly(List(10) { it })
+        // Items of the dropped pages are still counted.
+        assertThat(insert.placeholdersAfter).isEqualTo(20)
+
+        // Nothing fits.
+        cache.write("feed", refresh(List(100) { it }))
+        assertNull(cache.read("feed"))
+    }
+
+    @Test
+    fun unreadableEntryDiscarded() = runBlocking {
+        val cache = createCache()
+        cache.write("feed", refresh(listOf(1)))
+
+        failReads = true
+        assertNull(cache.read("feed"))
+
+        failReads = false
+        assertNull(cache.read("feed"))
+        assertThat(tempFolder.root.list()).isEmpty()
+    }
+
+    @Test
+    fun failedWriteLeavesNoEntry() = runBlocking {
+        val cache = createCache()
+        cache.write("feed", refresh(listOf(1)))
+
+        failWrites = true
+        cache.write("feed", refresh(listOf(2)))
+
+        assertNull(cache.read("feed"))
+        assertThat(tempFolder.root.list()).isEmpty()
+    }
+
+    @Test
+    fun entryOfAnotherKeyDiscarded() = runBlocking {
+        val cache = createCache()
+        cache.write("a", refresh(listOf(1)))
+        val fileA = tempFolder.root.listFiles()!!.single()
+        cache.write("b", refresh(listOf(2)))
+        val fileB = tempFolder.root.listFiles()!!.single { it != fileA }
+
+        // Simulates a hash collision between both keys.
+        assertThat(fileB.delete()).isTrue()
+        assertThat(fileA.renameTo(fileB)).isTrue()
+
+        assertNull(cache.read("b"))
+        assertThat(tempFolder.root.list()).isEmpty()
+    }
+
+    @Test
+    fun cachedIn_replaysBeforeFirstGeneration() = runBlocking {
+        val cache = createCache()
+        cache.write("feed", refresh(listOf(1, 2), listOf(3)))
+
+        val scope = CoroutineScope(Job())
+        try {
+            val generations = flowOf(PagingData.from(listOf(4, 5)))
+                .cachedIn(scope, cache, "feed")
+                .take(2)
+                .toList()
+            val firstInsert = generations[0].flow.filterIsInstance<PageEvent.Insert<Int>>().first()
+            assertThat(firstInsert.pages.map { it.data }).containsExactly(listOf(1, 2), listOf(3))
+                .inOrder()
+            assertThat(generations[1].flow.filterIsInstance<PageEvent.Insert<Int>>().first().pages)
+                .isNotEmpty()
+        } finally {
+            scope.cancel()
+        }
+    }
+
+    @Test
+    fun cachedIn_persistsLoadedPages() = runBlocking {
+        val cache = createCache()
+        val scope = CoroutineScope(Job())
+        try {
+            val pagingData = flowOf(PagingData.from(listOf(4, 5)))
+                .cachedIn(scope, cache, "feed")
+                .first()
+            pagingData.flow.filterIsInstance<PageEvent.Insert<Int>>().first()
+
+            // Pages are written in the background.
+            var persisted: List<List<Int>>? = null
+            withTimeout(10_000) {
+                while (persisted == null) {
+                    delay(10)
+                    persisted = cache.readPages("feed")
+                }
+            }
+            assertThat(persisted).containsExactly(listOf(4, 5))
+        } finally {
+            scope.cancel()
+        }
+    }
+}
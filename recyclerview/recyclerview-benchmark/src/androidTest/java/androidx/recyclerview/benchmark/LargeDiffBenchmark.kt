@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.recyclerview.benchmark
+
+import androidx.benchmark.junit4.BenchmarkRule
+import androidx.benchmark.junit4.measureRepeated
+import androidx.recyclerview.widget.DiffUtil
+import androidx.test.filters.LargeTest
+import org.junit.AfterClass
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.Parameterized
+import java.util.Random
+import java.util.concurrent.Executors
+
+/**
+ * Compares single threaded and parallel diffs of large lists, with one change every
+ * [CHANGE_INTERVAL] items scattered across the list.
+ */
+@LargeTest
+@RunWith(Parameterized::class)
+class LargeDiffBenchmark(private val size: Int) {
+
+    @get:Rule
+    val benchmarkRule = BenchmarkRule()
+
+    private val callback = createCallback(size)
+
+    @Test
+    fun singleThreaded() {
+        benchmarkRule.measureRepeated {
+            DiffUtil.calculateDiff(callback, false)
+        }
+    }
+
+    @Test
+    fun parallel() {
+        benchmarkRule.measureRepeated {
+            DiffUtil.calculateDiff(callback, false, executor)
+        }
+    }
+
+    companion object {
+        private const val CHANGE_INTERVAL = 500
+
+        private val executor = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors()
+        )
+
+        @JvmStatic
+        @AfterClass
+        fun shutdownExecutor() {
+            executor.shutdown()
+        }
+
+        @JvmStatic
+        @Parameterized.Parameters(name = "size={0}")
+        fun data() = arrayOf(10_000, 100_000, 1_000_000)
+
+        private fun createCallback(size: Int): DiffUtil.Callback {
+            val random = Random(size.toLong())
+            val before = IntArray(size) { it }
+            val after = ArrayList<Int>(size)
+            before.forEach {
+                when (random.nextInt(CHANGE_INTERVAL)) {
+                    0 -> after.add(-it - 1) // replace
+                    1 -> Unit // remove
+                    2 -> {
+                        after.add(it)
+                        after.add(-it - 1) // insert
+                    }
+                    else -> after.add(it)
+                }
+            }
+            return object : DiffUtil.Callback() {
+                override fun getOldListSize() = before.size
+
+                override fun getNewListSize() = after.size
+
+                override fun areItemsTheSame(oldItemPosition: Int, newItemPosition: Int) =
+                    before[oldItemPosition] == after[newItemPosition]
+
+                override fun areContentsTheSame(oldItemPosition: Int, newItemPosition: Int) =
+                    before[oldItemPosition] == after[newItemPosition]
+            }
+        }
+    }
+}
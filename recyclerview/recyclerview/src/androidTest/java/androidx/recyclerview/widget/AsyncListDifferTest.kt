@@ -20,8 +20,10 @@ import androidx.test.ext.junit.runners.AndroidJUnit4
 import androidx.test.filters.MediumTest
 import androidx.testutils.TestExecutor
 import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
 import org.junit.Assert.assertNotSame
 import org.junit.Assert.assertSame
+import org.junit.Assert.assertTrue
 import org.junit.Assert.fail
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -346,6 +348,116 @@ class AsyncListDifferTest {
         verifyNoMoreInteractions(listener)
     }
 
+    @Test
+    fun submitListCoalesced() {
+        val comparedItems = mutableSetOf<String>()
+        val differ = AsyncListDiffer(
+            IGNORE_CALLBACK,
+            AsyncDifferConfig.Builder(object : DiffUtil.ItemCallback<String>() {
+                override fun areItemsTheSame(oldItem: String, newItem: String): Boolean {
+                    comparedItems.add(newItem)
+                    return STRING_DIFF_CALLBACK.areItemsTheSame(oldItem, newItem)
+                }
+
+                override fun areContentsTheSame(oldItem: String, newItem: String) =
+                    STRING_DIFF_CALLBACK.areContentsTheSame(oldItem, newItem)
+            })
+                .setMainThreadExecutor(mMainThread)
+                .setBackgroundThreadExecutor(mBackgroundThread)
+                .build()
+        )
+        differ.submitList(listOf("a", "b"))
+
+        // two lists submitted before the background thread runs, only the newest is diffed
+        differ.submitList(listOf("a", "b", "c"))
+        differ.submitList(listOf("b"))
+        drain()
+        assertEquals(listOf("b"), differ.currentList)
+        assertFalse(comparedItems.contains("c"))
+    }
+
+    @Test
+    fun submitListCancelsRunningDiff() {
+        var staleComparisons = 0
+        // provides access to differ, which must be constructed after the diff callback
+        val differAccessor = arrayOf<AsyncListDiffer<String>?>(null)
+        val differ = AsyncListDiffer(
+            IGNORE_CALLBACK,
+            AsyncDifferConfig.Builder(object : DiffUtil.ItemCallback<String>() {
+                override fun areItemsTheSame(oldItem: String, newItem: String): Boolean {
+                    if (newItem.startsWith("b")) {
+                        if (staleComparisons++ == 0) {
+                            // a newer list arrives while the diff is running
+                            differAccessor[0]!!.submitList(listOf("c"))
+                        }
+                    }
+                    return oldItem == newItem
+                }
+
+                override fun areContentsTheSame(oldItem: String, newItem: String) =
+                    oldItem == newItem
+            })
+                .setMainThreadExecutor(mMainThread)
+                .setBackgroundThreadExecutor(mBackgroundThread)
+                .build()
+        )
+        differAccessor[0] = differ
+        differ.submitList((0 until 1000).map { "a$it" })
+
+        differ.submitList((0 until 1000).map { "b$it" })
+        drain()
+        assertEquals(listOf("c"), differ.currentList)
+        // the full diff would take a million comparisons, it stops at the next check
+        assertTrue(staleComparisons <= 256)
+    }
+
+    @Test
+    fun submitListWithChanges() {
+        val callback = mock(ListUpdateCallback::class.java)
+        val differ = createDiffer(callback)
+        differ.submitList(listOf("a", "b"))
+        verify(callback).onInserted(0, 2)
+
+        // changes are dispatched immediately, without a diff
+        val runnable = mock(Runnable::class.java)
+        differ.submitList(
+            listOf("alpha", "c", "b"),
+            ListChanges.Builder()
+                .insert(1, 1)
+                .change(0, 1, "lpha")
+                .build(),
+            runnable
+        )
+        assertEquals(listOf("alpha", "c", "b"), differ.currentList)
+        verify(callback).onInserted(1, 1)
+        verify(callback).onChanged(0, 1, "lpha")
+        verify(runnable).run()
+        verifyNoMoreInteractions(callback)
+        assertFalse(mBackgroundThread.executeAll())
+    }
+
+    @Test
+    fun submitListWithChangesDropsPendingDiff() {
+        val callback = mock(ListUpdateCallback::class.java)
+        val differ = createDiffer(callback)
+        differ.submitList(listOf("a", "b"))
+        verify(callback).onInserted(0, 2)
+
+        differ.submitList(listOf("c"))
+        differ.submitList(listOf("b"), ListChanges.Builder().remove(0, 1).build(), null)
+        drain()
+        assertEquals(listOf("b"), differ.currentList)
+        verify(callback).onRemoved(0, 1)
+        verifyNoMoreInteractions(callback)
+    }
+
+    @Test(expected = IllegalArgumentException::class)
+    fun submitListWithChangesSizeMismatch() {
+        val differ = createDiffer()
+        differ.submitList(listOf("a", "b"))
+        differ.submitList(listOf("a"), ListChanges.Builder().insert(0, 1).build(), null)
+    }
+
     private fun drain() {
         var executed: Boolean
         do {
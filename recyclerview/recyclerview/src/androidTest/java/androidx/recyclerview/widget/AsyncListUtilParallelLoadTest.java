@@ -0,0 +1,244 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package androidx.recyclerview.widget;
+
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.filters.MediumTest;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@MediumTest
+@RunWith(AndroidJUnit4.class)
+public class AsyncListUtilParallelLoadTest {
+    private static final int TILE_SIZE = 10;
+    private static final int ITEM_COUNT = 1000;
+
+    private final QueueExecutor mLoadExecutor = new QueueExecutor();
+    private final TestDataCallback mDataCallback = new TestDataCallback();
+    private final TestViewCallback mViewCallback = new TestViewCallback();
+    AsyncListUtil<String> mAsyncListUtil;
+
+    @Test
+    public void loadsTilesInParallel() throws Throwable {
+        createAsyncListUtil(0, 39, 2);
+
+        Runnable first = mLoadExecutor.take();
+        Runnable second = mLoadExecutor.take();
+        assertNull("only two tiles should load at the same time", mLoadExecutor.poll());
+
+        first.run();
+        Runnable third = mLoadExecutor.take();
+        second.run();
+        Runnable fourth = mLoadExecutor.take();
+        third.run();
+        fourth.run();
+
+        for (int position = 0; position < 40; position += TILE_SIZE) {
+            waitForTile(position);
+        }
+        assertEquals(4, mDataCallback.getFilledPositions().size());
+        assertThat(mDataCallback.getFilledPositions(), hasItems(0, 10, 20, 30));
+        assertNull(mLoadExecutor.poll());
+    }
+
+    @Test
+    public void loadsVisibleTilesFirst() throws Throwable {
+        createAsyncListUtil(0, 39, 1);
+
+        for (int position = 0; position < 40; position += TILE_SIZE) {
+            mLoadExecutor.take().run();
+        }
+        assertEquals(Arrays.asList(0, 10, 20, 30), mDataCallback.getFilledPositions());
+    }
+
+    @Test
+    public void cancelsTilesOutOfRange() throws Throwable {
+        createAsyncListUtil(0, 19, 1);
+        Runnable load = mLoadExecutor.take();
+
+        // tile 10 is still waiting for a free load slot
+        scrollTo(500, 519);
+        load.run();
+        mLoadExecutor.take().run();
+        mLoadExecutor.take().run();
+        waitForTile(500);
+        waitForTile(510);
+
+        assertThat(mDataCallback.getFilledPositions(), not(hasItems(10)));
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                assertNull(mAsyncListUtil.mTileList.getItemAt(0));
+            }
+        });
+        assertNull(mLoadExecutor.poll());
+    }
+
+    @Test
+    public void metrics() throws Throwable {
+        createAsyncListUtil(0, 9, 1);
+        mLoadExecutor.take().run();
+        waitForTile(0);
+
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                assertNotNull(mAsyncListUtil.getItem(0));
+                assertNotNull(mAsyncListUtil.getItem(9));
+                assertNull(mAsyncListUtil.getItem(10));
+                assertEquals(2, mAsyncListUtil.getTileHitCount());
+                assertEquals(1, mAsyncListUtil.getTileMissCount());
+                assertTrue(mAsyncListUtil.getAverageTileLoadTimeNanos() > 0);
+            }
+        });
+    }
+
+    private void createAsyncListUtil(final int firstVisible, final int lastVisible,
+            final int maxParallelLoads) {
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                mViewCallback.mFirstVisible = firstVisible;
+                mViewCallback.mLastVisible = lastVisible;
+                mAsyncListUtil = new AsyncListUtil<>(String.class, TILE_SIZE, mDataCallback,
+                        mViewCallback, mLoadExecutor, maxParallelLoads);
+            }
+        });
+    }
+
+    private void scrollTo(final int firstVisible, final int lastVisible) {
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                mViewCallback.mFirstVisible = firstVisible;
+                mViewCallback.mLastVisible = lastVisible;
+                mAsyncListUtil.onRangeChanged();
+            }
+        });
+    }
+
+    private void waitForTile(final int position) throws InterruptedException {
+        final long deadline = SystemClock.uptimeMillis() + 1000;
+        final boolean[] loaded = new boolean[1];
+        while (true) {
+            InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+                @Override
+                public void run() {
+                    // Not calling getItem, which would count a tile miss
+                    loaded[0] = mAsyncListUtil.mTileList.getItemAt(position) != null;
+                }
+            });
+            if (loaded[0]) {
+                return;
+            }
+            assertTrue("timed out waiting for tile @" + position,
+                    SystemClock.uptimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static class QueueExecutor implements Executor {
+        private final LinkedBlockingQueue<Runnable> mQueue = new LinkedBlockingQueue<>();
+
+        @Override
+        public void execute(@NonNull Runnable command) {
+            mQueue.add(command);
+        }
+
+        Runnable take() throws InterruptedException {
+            Runnable runnable = mQueue.poll(1, TimeUnit.SECONDS);
+            assertNotNull("timed out waiting for a tile load", runnable);
+            return runnable;
+        }
+
+        Runnable poll() throws InterruptedException {
+            return mQueue.poll(100, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static class TestDataCallback extends AsyncListUtil.DataCallback<String> {
+        private final List<Integer> mFilledPositions =
+                Collections.synchronizedList(new ArrayList<Integer>());
+
+        @Override
+        public int refreshData() {
+            return ITEM_COUNT;
+        }
+
+        @Override
+        public void fillData(@NonNull String[] data, int startPosition, int itemCount) {
+            mFilledPositions.add(startPosition);
+            for (int i = 0; i < itemCount; i++) {
+                data[i] = "item #" + (startPosition + i);
+            }
+        }
+
+        List<Integer> getFilledPositions() {
+            synchronized (mFilledPositions) {
+                return new ArrayList<>(mFilledPositions);
+            }
+        }
+    }
+
+    private static class TestViewCallback extends AsyncListUtil.ViewCallback {
+        int mFirstVisible;
+        int mLastVisible;
+
+        @Override
+        public void getItemRangeInto(@NonNull int[] outRange) {
+            outRange[0] = mFirstVisible;
+            outRange[1] = mLastVisible;
+        }
+
+        @Override
+        public void extendRangeInto(@NonNull int[] range, @NonNull int[] outRange,
+                int scrollHint) {
+            outRange[0] = range[0];
+            outRange[1] = range[1];
+        }
+
+        @Override
+        public void onDataRefresh() {
+        }
+
+        @Override
+        public void onItemLoaded(int position) {
+        }
+    }
+}
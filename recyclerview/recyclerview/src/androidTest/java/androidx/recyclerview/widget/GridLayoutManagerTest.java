@@ -760,6 +760,78 @@ public class GridLayoutManagerTest extends BaseGridLayoutManagerTest {
         checkForMainThreadException();
     }
 
+    @Test
+    public void predictiveInsertWithIncrementalSpanIndex() throws Throwable {
+        final RecyclerView rv = setupBasic(new Config(3, 100));
+        final GridLayoutManager.SpanSizeLookup uncached = new GridLayoutManager.SpanSizeLookup() {
+            @Override
+            public int getSpanSize(int position) {
+                if (position < 0 || position >= mAdapter.getItemCount()) {
+                    postExceptionToInstrumentation(new AssertionError("position is not within "
+                            + "adapter range. pos:" + position + ", adapter size:"
+                            + mAdapter.getItemCount()));
+                    return 1;
+                }
+                return 1 + mAdapter.getItemAt(position).mId % 3;
+            }
+        };
+        final GridLayoutManager.SpanSizeLookup incremental =
+                new GridLayoutManager.SpanSizeLookup() {
+            @Override
+            public int getSpanSize(int position) {
+                return uncached.getSpanSize(position);
+            }
+        };
+        incremental.setIncrementalSpanIndexEnabled(true);
+        mGlm.setSpanSizeLookup(incremental);
+        assertTrue("Assumption check", rv.getItemAnimator() instanceof DefaultItemAnimator);
+        waitForFirstLayout(rv);
+        assertTrue("Assumption check", mGlm.supportsPredictiveItemAnimations());
+        assertSpanIndicesMatch(rv, uncached);
+
+        // inserts both before and among the laid out children, some of them past the number of
+        // items the adapter had before the change
+        mGlm.expectLayout(2);
+        mAdapter.addAndNotify(new int[]{0, 5}, new int[]{rv.getChildCount() / 2, 7},
+                new int[]{100, 20});
+        mGlm.waitForLayout(2);
+        checkForMainThreadException();
+        assertSpanIndicesMatch(rv, uncached);
+
+        mGlm.expectLayout(2);
+        mAdapter.addAndNotify(1, 2);
+        mGlm.waitForLayout(2);
+        checkForMainThreadException();
+        assertSpanIndicesMatch(rv, uncached);
+    }
+
+    private void assertSpanIndicesMatch(final RecyclerView rv,
+            final GridLayoutManager.SpanSizeLookup uncached) throws Throwable {
+        mActivityRule.runOnUiThread(new Runnable() {
+            @Override
+            public void run() {
+                final GridLayoutManager.SpanSizeLookup lookup = mGlm.getSpanSizeLookup();
+                final int spanCount = mGlm.getSpanCount();
+                for (int i = 0; i < rv.getChildCount(); i++) {
+                    final View child = rv.getChildAt(i);
+                    final GridLayoutManager.LayoutParams lp =
+                            (GridLayoutManager.LayoutParams) child.getLayoutParams();
+                    final int position = lp.getViewLayoutPosition();
+                    assertEquals("span index of child at " + position,
+                            uncached.getSpanIndex(position, spanCount), lp.getSpanIndex());
+                }
+                for (int position = 0; position < mAdapter.getItemCount(); position++) {
+                    assertEquals("span index of " + position,
+                            uncached.getSpanIndex(position, spanCount),
+                            lookup.getSpanIndex(position, spanCount));
+                    assertEquals("span group index of " + position,
+                            uncached.getSpanGroupIndex(position, spanCount),
+                            lookup.getSpanGroupIndex(position, spanCount));
+                }
+            }
+        });
+    }
+
     @Test
     public void movingAGroupOffScreenForAddedItems() throws Throwable {
         final RecyclerView rv = setupBasic(new Config(3, 100));
@@ -19,9 +19,12 @@ package androidx.recyclerview.widget;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 import android.content.Context;
 import android.view.View;
@@ -91,6 +94,81 @@ public class RecycledViewPoolTest {
         assertEquals(0, pool.getRecycledViewCount(3));
     }
 
+    @Test
+    public void warmUpRaisesMax() {
+        RecyclerView.RecycledViewPool pool = new RecyclerView.RecycledViewPool();
+        pool.putRecycledView(makeHolder(0));
+        pool.warmUp(0, 8);
+        assertTrue(pool.hasPendingWarmUp());
+
+        for (int i = 0; i < 10; i++) {
+            pool.putRecycledView(makeHolder(0));
+        }
+        assertEquals(8, pool.getRecycledViewCount(0));
+    }
+
+    @Test
+    public void warmUp_stopsOnceRecycledHoldersFillThePool() {
+        Context context = ApplicationProvider.getApplicationContext();
+        TestAdapter adapter = new TestAdapter();
+        RecyclerView recyclerView = new RecyclerView(context);
+        recyclerView.setAdapter(adapter);
+        RecyclerView.RecycledViewPool pool = new RecyclerView.RecycledViewPool();
+        pool.setAdaptiveSizingEnabled(true);
+
+        pool.warmUp(0, 4);
+        // a past deadline only leaves room for the first creation, nothing is timed yet
+        assertTrue(pool.warmUpWithDeadline(recyclerView, 0));
+        assertThat(adapter.mCreateCount, is(equalTo(1)));
+
+        // scrolling recycles enough holders to complete the warm-up
+        for (int i = 0; i < 3; i++) {
+            pool.putRecycledView(makeHolder(0));
+        }
+        assertFalse(pool.warmUpWithDeadline(recyclerView, RecyclerView.FOREVER_NS));
+        assertThat(adapter.mCreateCount, is(equalTo(1)));
+        assertFalse(pool.hasPendingWarmUp());
+
+        // nothing was discarded, so draining the pool doesn't grow it
+        for (int i = 0; i < 4; i++) {
+            assertNotNull(pool.getRecycledView(0));
+        }
+        assertNull(pool.getRecycledView(0));
+        for (int i = 0; i < 5; i++) {
+            pool.putRecycledView(makeHolder(0));
+        }
+        assertThat(pool.getRecycledViewCount(0), is(equalTo(4)));
+    }
+
+    @Test
+    public void adaptiveSizing_growsAfterDiscardAndMiss() {
+        assertThat(putDiscardAndMiss(true), is(equalTo(2)));
+    }
+
+    @Test
+    public void adaptiveSizing_disabledByDefault() {
+        assertThat(putDiscardAndMiss(false), is(equalTo(1)));
+    }
+
+    private int putDiscardAndMiss(boolean adaptiveSizing) {
+        RecyclerView.RecycledViewPool pool = new RecyclerView.RecycledViewPool();
+        if (adaptiveSizing) {
+            pool.setAdaptiveSizingEnabled(true);
+        }
+        pool.setMaxRecycledViews(0, 1);
+        pool.putRecycledView(makeHolder(0));
+        // discarded, the pool is full
+        pool.putRecycledView(makeHolder(0));
+
+        assertNotNull(pool.getRecycledView(0));
+        // the discarded holder has to be created again
+        assertNull(pool.getRecycledView(0));
+
+        pool.putRecycledView(makeHolder(0));
+        pool.putRecycledView(makeHolder(0));
+        return pool.getRecycledViewCount(0);
+    }
+
     @Test
     public void onAdapterChanged_attachedToOneOldAdapterNotNullNotCompatWithPrev_clears() {
         onAdapterChanged(1, true, true, true);
@@ -145,12 +223,13 @@ public class RecycledViewPoolTest {
     }
 
     private class TestAdapter extends RecyclerView.Adapter {
+        int mCreateCount = 0;
 
         @NonNull
         @Override
         public RecyclerView.ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
-            //noinspection ConstantConditions
-            return null;
+            mCreateCount++;
+            return new MockViewHolder(parent.getContext());
         }
 
         @Override
@@ -1305,6 +1305,58 @@ public class RecyclerViewCacheTest {
         assertEquals(4, ((InnerAdapter) innerRecyclerView.getAdapter()).mItemsBound);
     }
 
+    @Test
+    public void poolWarmUpRespectsDeadline() {
+        mRecyclerView.setLayoutManager(new RecyclerView.LayoutManager() {
+            @Override
+            public RecyclerView.LayoutParams generateDefaultLayoutParams() {
+                return new RecyclerView.LayoutParams(ViewGroup.LayoutParams.WRAP_CONTENT,
+                        ViewGroup.LayoutParams.WRAP_CONTENT);
+            }
+
+            @Override
+            public void onLayoutChildren(RecyclerView.Recycler recycler, RecyclerView.State state) {
+            }
+        });
+
+        RecyclerView.Adapter mockAdapter = mock(RecyclerView.Adapter.class);
+        when(mockAdapter.onCreateViewHolder(any(ViewGroup.class), anyInt()))
+                .thenAnswer(new Answer<RecyclerView.ViewHolder>() {
+                    @Override
+                    public RecyclerView.ViewHolder answer(InvocationOnMock invocation)
+                            throws Throwable {
+                        mRecyclerView.registerTimePassingMs(5);
+                        return new RecyclerView.ViewHolder(new View(getContext())) {};
+                    }
+                });
+        when(mockAdapter.getItemCount()).thenReturn(10);
+        mRecyclerView.setAdapter(mockAdapter);
+
+        layout(320, 320);
+
+        RecyclerView.RecycledViewPool pool = mRecyclerView.getRecycledViewPool();
+        pool.warmUp(0, 4);
+        assertTrue(pool.hasPendingWarmUp());
+
+        // 12ms is only enough for two 5ms creations
+        assertSame(mRecyclerView, mRecyclerView.mGapWorker.prefetch(
+                mRecyclerView.getNanoTime() + TimeUnit.MILLISECONDS.toNanos(12)));
+        verify(mockAdapter, times(2)).onCreateViewHolder(any(ViewGroup.class), anyInt());
+        assertEquals(2, pool.getRecycledViewCount(0));
+
+        // once warm, nothing is left to reschedule
+        assertEquals(null, mRecyclerView.mGapWorker.prefetch(RecyclerView.FOREVER_NS));
+        verify(mockAdapter, times(4)).onCreateViewHolder(any(ViewGroup.class), anyInt());
+        assertEquals(4, pool.getRecycledViewCount(0));
+        assertFalse(pool.hasPendingWarmUp());
+
+        // warm-up isn't repeated once the pool has been drained
+        pool.getRecycledView(0);
+        mRecyclerView.mGapWorker.prefetch(RecyclerView.FOREVER_NS);
+        verify(mockAdapter, times(4)).onCreateViewHolder(any(ViewGroup.class), anyInt());
+        assertEquals(3, pool.getRecycledViewCount(0));
+    }
+
     @Test
     public void setRecycledViewPool_followedByTwoSetAdapters_clearsRecycledViewPool() {
         RecyclerView.ViewHolder viewHolder = new RecyclerView.ViewHolder(new View(getContext())) {};
@@ -105,6 +105,13 @@ public class ThreadUtilTest {
                                 setResultData("loadTile", position, scrollHint);
                             }
 
+                            @Override
+                            public void addLoadedTile(int generation,
+                                    TileList.Tile<Integer> data, int scrollHint) {
+                                assertBackgroundThread();
+                                setResultData("addLoadedTile", generation, data, scrollHint);
+                            }
+
                             @Override
                             public void recycleTile(TileList.Tile<Integer> data) {
                                 assertBackgroundThread();
@@ -168,6 +175,15 @@ public class ThreadUtilTest {
         assertThat(data, is(new Object[]{2, 1}));
     }
 
+    @Test
+    public void addLoadedTile() throws InterruptedException {
+        initWait("addLoadedTile");
+        TileList.Tile<Integer> tile = new TileList.Tile<Integer>(Integer.class, 10);
+        mBackgroundProxy.addLoadedTile(3, tile, 2);
+        Object[] data = waitFor("addLoadedTile");
+        assertThat(data, is(new Object[]{3, tile, 2}));
+    }
+
     @Test
     public void recycleTile() throws InterruptedException {
         initWait("recycleTile");
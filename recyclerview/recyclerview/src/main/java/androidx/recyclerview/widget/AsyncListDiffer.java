@@ -196,9 +196,13 @@ public class AsyncListDiffer<T> {
     @NonNull
     private List<T> mReadOnlyList = Collections.emptyList();
 
-    // Max generation of currently scheduled runnable
+    // Max generation of currently scheduled runnable. Volatile as diffs running on the background
+    // thread read it to stop as soon as they are stale.
     @SuppressWarnings("WeakerAccess") /* synthetic access */
-    int mMaxScheduledGeneration;
+    volatile int mMaxScheduledGeneration;
+
+    // Number of item comparisons between two checks of whether a running diff is stale
+    private static final int CANCELLATION_CHECK_INTERVAL = 256;
 
     /**
      * Get the current List - any diffing to present this list has already been computed and
@@ -250,7 +254,7 @@ public class AsyncListDiffer<T> {
     @SuppressWarnings("WeakerAccess")
     public void submitList(@Nullable final List<T> newList,
             @Nullable final Runnable commitCallback) {
-        // incrementing generation means any currently-running diffs are discarded when they finish
+        // incrementing generation means any currently-running diffs are stopped and discarded
         final int runGeneration = ++mMaxScheduledGeneration;
 
         if (newList == mList) {
@@ -289,60 +293,17 @@ public class AsyncListDiffer<T> {
         mConfig.getBackgroundThreadExecutor().execute(new Runnable() {
             @Override
             public void run() {
-                final DiffUtil.DiffResult result = DiffUtil.calculateDiff(new DiffUtil.Callback() {
-                    @Override
-                    public int getOldListSize() {
-                        return oldList.size();
-                    }
-
-                    @Override
-                    public int getNewListSize() {
-                        return newList.size();
-                    }
-
-                    @Override
-                    public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
-                        T oldItem = oldList.get(oldItemPosition);
-                        T newItem = newList.get(newItemPosition);
-                        if (oldItem != null && newItem != null) {
-                            return mConfig.getDiffCallback().areItemsTheSame(oldItem, newItem);
-                        }
-                        // If both items are null we consider them the same.
-                        return oldItem == null && newItem == null;
-                    }
-
-                    @Override
-                    public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
-                        T oldItem = oldList.get(oldItemPosition);
-                        T newItem = newList.get(newItemPosition);
-                        if (oldItem != null && newItem != null) {
-                            return mConfig.getDiffCallback().areContentsTheSame(oldItem, newItem);
-                        }
-                        if (oldItem == null && newItem == null) {
-                            return true;
-                        }
-                        // There is an implementation bug if we reach this point. Per the docs, this
-                        // method should only be invoked when areItemsTheSame returns true. That
-                        // only occurs when both items are non-null or both are null and both of
-                        // those cases are handled above.
-                        throw new AssertionError();
-                    }
-
-                    @Nullable
-                    @Override
-                    public Object getChangePayload(int oldItemPosition, int newItemPosition) {
-                        T oldItem = oldList.get(oldItemPosition);
-                        T newItem = newList.get(newItemPosition);
-                        if (oldItem != null && newItem != null) {
-                            return mConfig.getDiffCallback().getChangePayload(oldItem, newItem);
-                        }
-                        // There is an implementation bug if we reach this point. Per the docs, this
-                        // method should only be invoked when areItemsTheSame returns true AND
-                        // areContentsTheSame returns false. That only occurs when both items are
-                        // non-null which is the only case handled above.
-                        throw new AssertionError();
-                    }
-                });
+                if (mMaxScheduledGeneration != runGeneration) {
+                    // a newer list was submitted while this one was waiting for the executor,
+                    // only the newest pending list needs to be diffed
+                    return;
+                }
+                final DiffUtil.DiffResult result;
+                try {
+                    result = calculateDiff(oldList, newList, runGeneration);
+                } catch (DiffCancelledException e) {
+                    return;
+                }
 
                 mMainThreadExecutor.execute(new Runnable() {
                     @Override
@@ -356,6 +317,111 @@ public class AsyncListDiffer<T> {
         });
     }
 
+    /**
+     * Pass a new List to the AdapterHelper, along with the changes that turn the current List
+     * into it.
+     * <p>
+     * No diff is computed: the List is swapped in and the changes are dispatched to the
+     * {@link ListUpdateCallback} immediately, and any diff still running for a previously
+     * submitted List is stopped. Use this instead of {@link #submitList(List, Runnable)} when
+     * the changes are already known, for example when appending a page of items.
+     *
+     * @param newList The new List.
+     * @param changes The changes that turn {@link #getCurrentList()} into {@code newList}.
+     * @param commitCallback Optional runnable that is executed when the List is committed.
+     * @throws IllegalArgumentException if the changes do not apply to the current List, or do not
+     *                                  result in a List of the same size as {@code newList}.
+     */
+    public void submitList(@NonNull final List<T> newList, @NonNull ListChanges changes,
+            @Nullable final Runnable commitCallback) {
+        final List<T> previousList = mReadOnlyList;
+        changes.validate(previousList.size(), newList.size());
+        // incrementing generation means any currently-running diffs are stopped and discarded
+        ++mMaxScheduledGeneration;
+        mList = newList;
+        // notify last, after list is updated
+        mReadOnlyList = Collections.unmodifiableList(newList);
+        changes.dispatchUpdatesTo(mUpdateCallback);
+        onCurrentListChanged(previousList, commitCallback);
+    }
+
+    @SuppressWarnings("WeakerAccess") /* synthetic access */
+    DiffUtil.DiffResult calculateDiff(final List<T> oldList, final List<T> newList,
+            final int runGeneration) {
+        return DiffUtil.calculateDiff(new DiffUtil.Callback() {
+            private int mComparisons;
+
+            @Override
+            public int getOldListSize() {
+                return oldList.size();
+            }
+
+            @Override
+            public int getNewListSize() {
+                return newList.size();
+            }
+
+            @Override
+            public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+                if (++mComparisons % CANCELLATION_CHECK_INTERVAL == 0
+                        && mMaxScheduledGeneration != runGeneration) {
+                    throw new DiffCancelledException();
+                }
+                T oldItem = oldList.get(oldItemPosition);
+                T newItem = newList.get(newItemPosition);
+                if (oldItem != null && newItem != null) {
+                    return mConfig.getDiffCallback().areItemsTheSame(oldItem, newItem);
+                }
+                // If both items are null we consider them the same.
+                return oldItem == null && newItem == null;
+            }
+
+            @Override
+            public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+                T oldItem = oldList.get(oldItemPosition);
+                T newItem = newList.get(newItemPosition);
+                if (oldItem != null && newItem != null) {
+                    return mConfig.getDiffCallback().areContentsTheSame(oldItem, newItem);
+                }
+                if (oldItem == null && newItem == null) {
+                    return true;
+                }
+                // There is an implementation bug if we reach this point. Per the docs, this
+                // method should only be invoked when areItemsTheSame returns true. That
+                // only occurs when both items are non-null or both are null and both of
+                // those cases are handled above.
+                throw new AssertionError();
+            }
+
+            @Nullable
+            @Override
+            public Object getChangePayload(int oldItemPosition, int newItemPosition) {
+                T oldItem = oldList.get(oldItemPosition);
+                T newItem = newList.get(newItemPosition);
+                if (oldItem != null && newItem != null) {
+                    return mConfig.getDiffCallback().getChangePayload(oldItem, newItem);
+                }
+                // There is an implementation bug if we reach this point. Per the docs, this
+                // method should only be invoked when areItemsTheSame returns true AND
+                // areContentsTheSame returns false. That only occurs when both items are
+                // non-null which is the only case handled above.
+                throw new AssertionError();
+            }
+        });
+    }
+
+    /**
+     * Thrown from the diff callback to stop a diff whose list is no longer the newest one.
+     */
+    @SuppressWarnings("WeakerAccess") /* synthetic access */
+    static final class DiffCancelledException extends RuntimeException {
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            // the stack trace is never used, don't pay for it
+            return this;
+        }
+    }
+
     @SuppressWarnings("WeakerAccess") /* synthetic access */
     void latchList(
             @NonNull List<T> newList,
@@ -17,6 +17,7 @@
 package androidx.recyclerview.widget;
 
 import android.util.Log;
+import android.util.SparseArray;
 import android.util.SparseBooleanArray;
 import android.util.SparseIntArray;
 
@@ -25,6 +26,8 @@ import androidx.annotation.Nullable;
 import androidx.annotation.UiThread;
 import androidx.annotation.WorkerThread;
 
+import java.util.concurrent.Executor;
+
 /**
  * A utility class that supports asynchronous content loading.
  * <p>
@@ -39,8 +42,10 @@ import androidx.annotation.WorkerThread;
  * {@link ViewCallback} when the data is loaded. It may load some extra items for smoother
  * scrolling.
  * <p>
- * Note that this class uses a single thread to load the data, so it suitable to load data from
- * secondary storage such as disk, but not from network.
+ * Note that by default this class uses a single thread to load the data, so it suitable to load
+ * data from secondary storage such as disk, but not from network. It can also load several tiles
+ * in parallel on an {@link Executor}, see
+ * {@link #AsyncListUtil(Class, int, DataCallback, ViewCallback, Executor, int)}.
  * <p>
  * This class is designed to work with {@link RecyclerView}, but it does
  * not depend on it and can be used with other list views.
@@ -55,6 +60,9 @@ public class AsyncListUtil<T> {
     final int mTileSize;
     final DataCallback<T> mDataCallback;
     final ViewCallback mViewCallback;
+    @Nullable
+    final Executor mLoadExecutor;
+    final int mMaxParallelLoads;
 
     final TileList<T> mTileList;
 
@@ -75,6 +83,11 @@ public class AsyncListUtil<T> {
 
     final SparseIntArray mMissingPositions = new SparseIntArray();
 
+    private long mTileHitCount;
+    private long mTileMissCount;
+    private long mLoadedTileCount;
+    private long mTotalTileLoadTimeNs;
+
     void log(String s, Object... args) {
         Log.d(TAG, "[MAIN] " + String.format(s, args));
     }
@@ -89,10 +102,49 @@ public class AsyncListUtil<T> {
      */
     public AsyncListUtil(@NonNull Class<T> klass, int tileSize,
             @NonNull DataCallback<T> dataCallback, @NonNull ViewCallback viewCallback) {
+        this(klass, tileSize, dataCallback, viewCallback, 1, null);
+    }
+
+    /**
+     * Creates an AsyncListUtil which loads up to <code>maxParallelLoads</code> tiles at the same
+     * time on the given executor.
+     * <p>
+     * When more tiles are required than can be loaded at once, the tiles closest to the visible
+     * range are loaded first, favoring the scroll direction. Tiles that leave the range extended
+     * by {@link ViewCallback#extendRangeInto(int[], int[], int)} before their load starts are
+     * not loaded, and the ones that leave it while loading are discarded.
+     * <p>
+     * {@link DataCallback#fillData(Object[], int, int)} is called on the threads of
+     * <code>loadExecutor</code>, concurrently for different tiles, so it must be thread safe.
+     * The other {@link DataCallback} methods are still called on a single background thread,
+     * possibly while tiles are being filled.
+     *
+     * @param klass Class of the data item.
+     * @param tileSize Number of item per chunk loaded at once.
+     * @param dataCallback Data access callback.
+     * @param viewCallback Callback for querying visible item range and update notifications.
+     * @param loadExecutor Executor to fill tiles on. It should be able to run
+     *                     <code>maxParallelLoads</code> tasks at the same time.
+     * @param maxParallelLoads Maximum number of tiles to load at the same time.
+     */
+    public AsyncListUtil(@NonNull Class<T> klass, int tileSize,
+            @NonNull DataCallback<T> dataCallback, @NonNull ViewCallback viewCallback,
+            @NonNull Executor loadExecutor, int maxParallelLoads) {
+        this(klass, tileSize, dataCallback, viewCallback, maxParallelLoads, loadExecutor);
+    }
+
+    private AsyncListUtil(Class<T> klass, int tileSize, DataCallback<T> dataCallback,
+            ViewCallback viewCallback, int maxParallelLoads, @Nullable Executor loadExecutor) {
+        if (maxParallelLoads < 1) {
+            throw new IllegalArgumentException(
+                    "maxParallelLoads must be at least 1, was " + maxParallelLoads);
+        }
         mTClass = klass;
         mTileSize = tileSize;
         mDataCallback = dataCallback;
         mViewCallback = viewCallback;
+        mLoadExecutor = loadExecutor;
+        mMaxParallelLoads = maxParallelLoads;
 
         mTileList = new TileList<T>(mTileSize);
 
@@ -156,12 +208,47 @@ public class AsyncListUtil<T> {
             throw new IndexOutOfBoundsException(position + " is not within 0 and " + mItemCount);
         }
         T item = mTileList.getItemAt(position);
-        if (item == null && !isRefreshPending()) {
-            mMissingPositions.put(position, 0);
+        if (item != null) {
+            mTileHitCount++;
+        } else {
+            mTileMissCount++;
+            if (!isRefreshPending()) {
+                mMissingPositions.put(position, 0);
+            }
         }
         return item;
     }
 
+    /**
+     * Returns the number of calls to {@link #getItem(int)} which found the item in a loaded tile.
+     *
+     * @return Number of tile hits.
+     */
+    public long getTileHitCount() {
+        return mTileHitCount;
+    }
+
+    /**
+     * Returns the number of calls to {@link #getItem(int)} which returned <code>null</code>
+     * because the item's tile was not loaded yet.
+     *
+     * @return Number of tile misses.
+     */
+    public long getTileMissCount() {
+        return mTileMissCount;
+    }
+
+    /**
+     * Returns the average time it took to load the tiles added so far, from the moment the load
+     * was started, or was queued when loading tiles in parallel, until the tile was filled by
+     * {@link DataCallback#fillData(Object[], int, int)}.
+     *
+     * @return Average tile load latency in nanoseconds, or 0 if no tile has been loaded yet.
+     */
+    public long getAverageTileLoadTimeNanos() {
+        return mLoadedTileCount == 0 ? 0 : mTotalTileLoadTimeNs / mLoadedTileCount;
+    }
+
     /**
      * Returns the number of items in the data set.
      *
@@ -237,6 +324,8 @@ public class AsyncListUtil<T> {
                 mBackgroundProxy.recycleTile(tile);
                 return;
             }
+            mLoadedTileCount++;
+            mTotalTileLoadTimeNs += tile.mLoadTimeNs;
             TileList.Tile<T> duplicate = mTileList.addOrReplace(tile);
             if (duplicate != null) {
                 Log.e(TAG, "duplicate tile @" + duplicate.mStartPosition);
@@ -303,10 +392,24 @@ public class AsyncListUtil<T> {
         private int mFirstRequiredTileStart;
         private int mLastRequiredTileStart;
 
+        // Only used when loading tiles in parallel on mLoadExecutor
+        private int mFirstVisibleTileStart;
+        private int mLastVisibleTileStart;
+        private int mScrollHint;
+        // Loads of tiles of the current generation which are still required, by tile start
+        final SparseArray<TileLoad> mRunningLoads = new SparseArray<>();
+        // Scroll hints of tiles waiting for a free load slot, by tile start
+        final SparseIntArray mPendingLoads = new SparseIntArray();
+        // Number of loads on mLoadExecutor, including cancelled ones which haven't returned yet
+        private int mRunningLoadCount;
+
         @Override
         public void refresh(int generation) {
             mGeneration = generation;
             mLoadedTiles.clear();
+            // Cancel all loads, tiles of the previous generation are discarded anyway.
+            cancelLoads(Integer.MAX_VALUE, Integer.MIN_VALUE);
+            mPendingLoads.clear();
             mItemCount = mDataCallback.refreshData();
             mMainThreadProxy.updateItemCount(mGeneration, mItemCount);
         }
@@ -333,6 +436,15 @@ public class AsyncListUtil<T> {
                         mFirstRequiredTileStart, mLastRequiredTileStart);
             }
 
+            if (mLoadExecutor != null) {
+                mFirstVisibleTileStart = firstVisibleTileStart;
+                mLastVisibleTileStart = lastVisibleTileStart;
+                mScrollHint = scrollHint;
+                // Pending loads are requested again below, in their new order.
+                mPendingLoads.clear();
+                cancelLoads(mFirstRequiredTileStart, mLastRequiredTileStart);
+            }
+
             // All pending tile requests are removed by ThreadUtil at this point.
             // Re-request all required tiles in the most optimal order.
             if (scrollHint == ViewCallback.HINT_SCROLL_DESC) {
@@ -369,14 +481,109 @@ public class AsyncListUtil<T> {
                 }
                 return;
             }
+            if (mLoadExecutor != null) {
+                if (mRunningLoads.get(position) == null) {
+                    mPendingLoads.put(position, scrollHint);
+                    startPendingLoads();
+                }
+                return;
+            }
             TileList.Tile<T> tile = acquireTile();
             tile.mStartPosition = position;
             tile.mItemCount = Math.min(mTileSize, mItemCount - tile.mStartPosition);
+            final long startTimeNs = System.nanoTime();
             mDataCallback.fillData(tile.mItems, tile.mStartPosition, tile.mItemCount);
+            tile.mLoadTimeNs = System.nanoTime() - startTimeNs;
             flushTileCache(scrollHint);
             addTile(tile);
         }
 
+        @Override
+        public void addLoadedTile(int generation, TileList.Tile<T> tile, int scrollHint) {
+            mRunningLoadCount--;
+            final TileLoad load = generation == mGeneration
+                    ? mRunningLoads.get(tile.mStartPosition) : null;
+            if (load != null && load.mTile == tile && !isTileLoaded(tile.mStartPosition)) {
+                mRunningLoads.remove(tile.mStartPosition);
+                flushTileCache(scrollHint);
+                addTile(tile);
+            } else {
+                if (DEBUG) {
+                    log("discarding cancelled tile @%d", tile.mStartPosition);
+                }
+                recycleTile(tile);
+            }
+            startPendingLoads();
+        }
+
+        /**
+         * Starts loading pending tiles, closest to the visible range first, until
+         * the maximum number of parallel loads is reached.
+         */
+        private void startPendingLoads() {
+            while (mRunningLoadCount < mMaxParallelLoads && mPendingLoads.size() > 0) {
+                final int index = getClosestPendingLoadIndex();
+                final int position = mPendingLoads.keyAt(index);
+                final int scrollHint = mPendingLoads.valueAt(index);
+                mPendingLoads.removeAt(index);
+
+                TileList.Tile<T> tile = acquireTile();
+                tile.mStartPosition = position;
+                tile.mItemCount = Math.min(mTileSize, mItemCount - tile.mStartPosition);
+                TileLoad load = new TileLoad(tile, mGeneration, scrollHint);
+                mRunningLoads.put(position, load);
+                mRunningLoadCount++;
+                if (DEBUG) {
+                    log("loading tile @%d, %d tiles loading", position, mRunningLoadCount);
+                }
+                mLoadExecutor.execute(load);
+            }
+        }
+
+        private int getClosestPendingLoadIndex() {
+            // Pending loads are sorted by position. On equal distances, visible tiles load in the
+            // scroll direction, and other tiles load ahead of the scroll direction first, which is
+            // the order in which updateRange requests them.
+            final boolean descending = mScrollHint == ViewCallback.HINT_SCROLL_DESC;
+            int closestIndex = -1;
+            int closestDistance = Integer.MAX_VALUE;
+            for (int i = 0; i < mPendingLoads.size(); i++) {
+                final int position = mPendingLoads.keyAt(i);
+                final int distance;
+                if (position < mFirstVisibleTileStart) {
+                    distance = mFirstVisibleTileStart - position;
+                } else if (position > mLastVisibleTileStart) {
+                    distance = position - mLastVisibleTileStart;
+                } else {
+                    distance = 0;
+                }
+                final boolean preferHigherPosition = (distance == 0) == descending;
+                if (distance < closestDistance
+                        || (distance == closestDistance && preferHigherPosition)) {
+                    closestIndex = i;
+                    closestDistance = distance;
+                }
+            }
+            return closestIndex;
+        }
+
+        /**
+         * Cancels the loads of tiles outside of the given tile range. Their tiles are recycled
+         * when they return from the load executor.
+         */
+        private void cancelLoads(int firstTileStart, int lastTileStart) {
+            for (int i = mRunningLoads.size() - 1; i >= 0; i--) {
+                final int position = mRunningLoads.keyAt(i);
+                if (position < firstTileStart || position > lastTileStart) {
+                    if (DEBUG) {
+                        log("cancelling load of tile @%d", position);
+                    }
+                    mRunningLoads.valueAt(i).mCancelled = true;
+                    mRunningLoads.removeAt(i);
+                }
+            }
+        }
+
         @Override
         public void recycleTile(TileList.Tile<T> tile) {
             if (DEBUG) {
@@ -442,11 +649,42 @@ public class AsyncListUtil<T> {
         }
     };
 
+    /**
+     * Fills a tile on the load executor, then hands it back to the background thread.
+     */
+    final class TileLoad implements Runnable {
+        final TileList.Tile<T> mTile;
+        final int mGeneration;
+        final int mScrollHint;
+        final long mQueueTimeNs = System.nanoTime();
+        volatile boolean mCancelled;
+
+        TileLoad(TileList.Tile<T> tile, int generation, int scrollHint) {
+            mTile = tile;
+            mGeneration = generation;
+            mScrollHint = scrollHint;
+        }
+
+        @Override
+        public void run() {
+            if (mCancelled) {
+                // Nothing to recycle in the data of a tile which wasn't filled.
+                mTile.mItemCount = 0;
+            } else {
+                mDataCallback.fillData(mTile.mItems, mTile.mStartPosition, mTile.mItemCount);
+                mTile.mLoadTimeNs = System.nanoTime() - mQueueTimeNs;
+            }
+            mBackgroundProxy.addLoadedTile(mGeneration, mTile, mScrollHint);
+        }
+    }
+
     /**
      * The callback that provides data access for {@link AsyncListUtil}.
      *
      * <p>
-     * All methods are called on the background thread.
+     * All methods are called on the background thread, except for {@link #fillData} when
+     * loading tiles in parallel, see
+     * {@link AsyncListUtil#AsyncListUtil(Class, int, DataCallback, ViewCallback, Executor, int)}.
      */
     public static abstract class DataCallback<T> {
 
@@ -28,6 +28,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * DiffUtil is a utility class that calculates the difference between two lists and outputs a
@@ -126,12 +127,6 @@ public class DiffUtil {
 
         final List<Diagonal> diagonals = new ArrayList<>();
 
-        // instead of a recursive implementation, we keep our own stack to avoid potential stack
-        // overflow exceptions
-        final List<Range> stack = new ArrayList<>();
-
-        stack.add(new Range(0, oldSize, 0, newSize));
-
         final int max = (oldSize + newSize + 1) / 2;
         // allocate forward and backward k-lines. K lines are diagonal lines in the matrix. (see the
         // paper for details)
@@ -139,6 +134,73 @@ public class DiffUtil {
         final CenteredArray forward = new CenteredArray(max * 2 + 1);
         final CenteredArray backward = new CenteredArray(max * 2 + 1);
 
+        findDiagonals(new Range(0, oldSize, 0, newSize), cb, forward, backward, diagonals,
+                Integer.MAX_VALUE, null);
+        // sort snakes
+        Collections.sort(diagonals, DIAGONAL_COMPARATOR);
+
+        return new DiffResult(cb, diagonals,
+                forward.backingData(), backward.backingData(),
+                detectMoves);
+    }
+
+    /**
+     * Calculates the list of update operations that can covert one list into the other one,
+     * using the given executor to solve independent parts of the lists in parallel.
+     * <p>
+     * Every time Myers' algorithm finds the middle snake of a part of the lists, the parts before
+     * and after it are independent of each other, so they can be solved on different threads.
+     * The resulting DiffResult is identical to the one returned by
+     * {@link #calculateDiff(Callback, boolean)}. The calling thread takes part in the work, so
+     * this method makes progress even if the executor is busy or is the one running the caller.
+     * <p>
+     * {@link Callback#areItemsTheSame(int, int)} is called concurrently from multiple threads, so
+     * it must be safe to call from any thread while the lists do not change. All other callback
+     * methods are only called from the calling thread.
+     * <p>
+     * Parallelism only pays off for large lists: parts of the lists smaller than a few thousand
+     * items are always solved on a single thread.
+     *
+     * @param cb The callback that acts as a gateway to the backing list data
+     * @param detectMoves True if DiffUtil should try to detect moved items, false otherwise.
+     * @param executor The executor to run the parallel parts of the calculation on
+     *
+     * @return A DiffResult that contains the information about the edit sequence to convert the
+     * old list into the new list.
+     */
+    @NonNull
+    public static DiffResult calculateDiff(@NonNull Callback cb, boolean detectMoves,
+            @NonNull Executor executor) {
+        final int oldSize = cb.getOldListSize();
+        final int newSize = cb.getNewListSize();
+        final ParallelDiff parallelDiff = new ParallelDiff(cb, executor);
+        final List<Diagonal> diagonals = parallelDiff.run(new Range(0, oldSize, 0, newSize));
+        Collections.sort(diagonals, DIAGONAL_COMPARATOR);
+        // unlike the single threaded version, there are no shared k-line arrays to re-purpose so
+        // we only allocate what the result needs
+        return new DiffResult(cb, diagonals, new int[oldSize], new int[newSize], detectMoves);
+    }
+
+    /**
+     * Runs Myers' algorithm on the given range, collecting the diagonals it finds.
+     * <p>
+     * When a parallel diff is given, every range of at least {@code splitThreshold} items found
+     * while running the algorithm is handed to it instead of being solved here.
+     */
+    static void findDiagonals(
+            Range root,
+            Callback cb,
+            CenteredArray forward,
+            CenteredArray backward,
+            List<Diagonal> diagonals,
+            int splitThreshold,
+            @Nullable ParallelDiff parallelDiff) {
+        // instead of a recursive implementation, we keep our own stack to avoid potential stack
+        // overflow exceptions
+        final List<Range> stack = new ArrayList<>();
+
+        stack.add(root);
+
         // We pool the ranges to avoid allocations for each recursive call.
         final List<Range> rangePool = new ArrayList<>();
         while (!stack.isEmpty()) {
@@ -156,7 +218,11 @@ public class DiffUtil {
                 left.newListStart = range.newListStart;
                 left.oldListEnd = snake.startX;
                 left.newListEnd = snake.startY;
-                stack.add(left);
+                if (parallelDiff != null && left.oldSize() + left.newSize() >= splitThreshold) {
+                    parallelDiff.fork(left);
+                } else {
+                    stack.add(left);
+                }
 
                 // re-use range for right
                 //noinspection UnnecessaryLocalVariable
@@ -171,12 +237,6 @@ public class DiffUtil {
             }
 
         }
-        // sort snakes
-        Collections.sort(diagonals, DIAGONAL_COMPARATOR);
-
-        return new DiffResult(cb, diagonals,
-                forward.backingData(), backward.backingData(),
-                detectMoves);
     }
 
     /**
@@ -1025,6 +1085,122 @@ public class DiffUtil {
         }
     }
 
+    /**
+     * Coordinates the threads of {@link #calculateDiff(Callback, boolean, Executor)}.
+     * <p>
+     * Large ranges found while running Myers' algorithm are queued, and one task is posted to the
+     * executor for each of them. Each task solves the oldest queued range, if any is left. The
+     * calling thread keeps solving queued ranges itself until all of them are done, so queued
+     * work never waits on the executor.
+     */
+    static final class ParallelDiff {
+        // Ranges smaller than this are solved by the thread that found them, as handing them
+        // over to another thread costs more than solving them.
+        static final int SPLIT_THRESHOLD = 1 << 12;
+
+        private final Callback mCallback;
+        private final Executor mExecutor;
+        private final Object mLock = new Object();
+        // guarded by mLock
+        private final ArrayDeque<Range> mQueue = new ArrayDeque<>();
+        private final List<Diagonal> mDiagonals = new ArrayList<>();
+        private int mPendingCount;
+        private RuntimeException mFailure;
+
+        private final Runnable mSolveTask = new Runnable() {
+            @Override
+            public void run() {
+                final Range range;
+                synchronized (mLock) {
+                    range = mQueue.poll();
+                }
+                if (range != null) {
+                    solve(range);
+                }
+            }
+        };
+
+        ParallelDiff(Callback callback, Executor executor) {
+            mCallback = callback;
+            mExecutor = executor;
+        }
+
+        /**
+         * Solves the given range on the calling thread and any thread of the executor, returning
+         * the unsorted diagonals.
+         */
+        List<Diagonal> run(Range root) {
+            synchronized (mLock) {
+                mPendingCount++;
+            }
+            solve(root);
+            while (true) {
+                final Range range;
+                synchronized (mLock) {
+                    range = mQueue.poll();
+                    if (range == null) {
+                        while (mPendingCount > 0 && mQueue.isEmpty()) {
+                            try {
+                                mLock.wait();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                throw new RuntimeException(e);
+                            }
+                        }
+                        if (mPendingCount == 0) {
+                            if (mFailure != null) {
+                                throw mFailure;
+                            }
+                            return mDiagonals;
+                        }
+                        continue;
+                    }
+                }
+                solve(range);
+            }
+        }
+
+        void fork(Range range) {
+            synchronized (mLock) {
+                mQueue.add(new Range(range.oldListStart, range.oldListEnd, range.newListStart,
+                        range.newListEnd));
+                mPendingCount++;
+                mLock.notifyAll();
+            }
+            mExecutor.execute(mSolveTask);
+        }
+
+        private void solve(Range range) {
+            final List<Diagonal> diagonals = new ArrayList<>();
+            RuntimeException failure = null;
+            try {
+                synchronized (mLock) {
+                    if (mFailure != null) {
+                        // no need to keep going, the diff failed
+                        return;
+                    }
+                }
+                // sub ranges are smaller, so arrays sized for this range fit all of them
+                final int max = (range.oldSize() + range.newSize() + 1) / 2;
+                final CenteredArray forward = new CenteredArray(max * 2 + 1);
+                final CenteredArray backward = new CenteredArray(max * 2 + 1);
+                findDiagonals(range, mCallback, forward, backward, diagonals, SPLIT_THRESHOLD,
+                        this);
+            } catch (RuntimeException e) {
+                failure = e;
+            } finally {
+                synchronized (mLock) {
+                    mDiagonals.addAll(diagonals);
+                    if (failure != null && mFailure == null) {
+                        mFailure = failure;
+                    }
+                    mPendingCount--;
+                    mLock.notifyAll();
+                }
+            }
+        }
+    }
+
     /**
      * Array wrapper w/ negative index support.
      * We use this array instead of a regular array so that algorithm is easier to read without
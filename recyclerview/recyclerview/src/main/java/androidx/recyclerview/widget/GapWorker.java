@@ -187,6 +187,23 @@ final class GapWorker implements Runnable {
         recyclerView.mPrefetchRegistry.setPrefetchVector(prefetchDx, prefetchDy);
     }
 
+    /**
+     * Schedule the creation of the ViewHolders requested by
+     * {@link RecyclerView.RecycledViewPool#warmUp(int, int)} immediately after the current
+     * traversal, without prefetching any item.
+     */
+    void postWarmUp(RecyclerView recyclerView) {
+        if (recyclerView.isAttachedToWindow()) {
+            if (RecyclerView.DEBUG && !mRecyclerViews.contains(recyclerView)) {
+                throw new IllegalStateException("attempting to post unregistered view!");
+            }
+            if (mPostTimeNs == 0) {
+                mPostTimeNs = recyclerView.getNanoTime();
+                recyclerView.post(this);
+            }
+        }
+    }
+
     static Comparator<Task> sTaskComparator = new Comparator<Task>() {
         @Override
         public int compare(Task lhs, Task rhs) {
@@ -363,13 +380,44 @@ final class GapWorker implements Runnable {
         }
     }
 
-    void prefetch(long deadlineNs) {
+    /**
+     * Creates the ViewHolders requested by {@link RecyclerView.RecycledViewPool#warmUp(int, int)}
+     * with the remaining time before the deadline, once prefetch tasks are done.
+     *
+     * @return the RecyclerView to post the remaining warm-up work with, or null if there's
+     * nothing left to do or no progress was made before the deadline.
+     */
+    @Nullable
+    private RecyclerView warmUpPoolsWithDeadline(long deadlineNs) {
+        RecyclerView pendingView = null;
+        final int viewCount = mRecyclerViews.size();
+        for (int i = 0; i < viewCount; i++) {
+            RecyclerView view = mRecyclerViews.get(i);
+            if (view.mAdapter == null || view.getWindowVisibility() != View.VISIBLE) {
+                continue;
+            }
+            if (view.mRecycler.getRecycledViewPool().warmUpWithDeadline(view, deadlineNs)) {
+                pendingView = view;
+            }
+        }
+        return pendingView;
+    }
+
+    /**
+     * Runs prefetch tasks, then pool warm-up, within the deadline.
+     *
+     * @return the RecyclerView to post the remaining warm-up work with, or null if there's none.
+     */
+    @Nullable
+    RecyclerView prefetch(long deadlineNs) {
         buildTaskList();
         flushTasksWithDeadline(deadlineNs);
+        return warmUpPoolsWithDeadline(deadlineNs);
     }
 
     @Override
     public void run() {
+        RecyclerView pendingWarmUpView = null;
         try {
             TraceCompat.beginSection(RecyclerView.TRACE_PREFETCH_TAG);
 
@@ -396,12 +444,16 @@ final class GapWorker implements Runnable {
 
             long nextFrameNs = TimeUnit.MILLISECONDS.toNanos(latestFrameVsyncMs) + mFrameIntervalNs;
 
-            prefetch(nextFrameNs);
+            pendingWarmUpView = prefetch(nextFrameNs);
 
-            // TODO: consider rescheduling self, if there's more work to do
+            // TODO: consider rescheduling self, if there's more prefetch work to do
         } finally {
             mPostTimeNs = 0;
             TraceCompat.endSection();
         }
+        if (pendingWarmUpView != null) {
+            // pool warm-up made progress, but didn't finish before the deadline
+            postWarmUp(pendingWarmUpView);
+        }
     }
 }
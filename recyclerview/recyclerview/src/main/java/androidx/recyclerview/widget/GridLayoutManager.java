@@ -164,6 +164,8 @@ public class GridLayoutManager extends LinearLayoutManager {
 
     @Override
     public void onLayoutChildren(RecyclerView.Recycler recycler, RecyclerView.State state) {
+        mSpanSizeLookup.setIncrementalSpanIndexItemCount(
+                state.isPreLayout() ? RecyclerView.NO_POSITION : state.getItemCount());
         if (state.isPreLayout()) {
             cachePreLayoutSpanMapping();
         }
@@ -197,18 +199,22 @@ public class GridLayoutManager extends LinearLayoutManager {
 
     @Override
     public void onItemsAdded(RecyclerView recyclerView, int positionStart, int itemCount) {
+        mSpanSizeLookup.onItemsAdded(positionStart, itemCount);
         mSpanSizeLookup.invalidateSpanIndexCache();
         mSpanSizeLookup.invalidateSpanGroupIndexCache();
     }
 
     @Override
     public void onItemsChanged(RecyclerView recyclerView) {
+        mSpanSizeLookup.setIncrementalSpanIndexItemCount(RecyclerView.NO_POSITION);
+        mSpanSizeLookup.invalidateIncrementalSpanIndex();
         mSpanSizeLookup.invalidateSpanIndexCache();
         mSpanSizeLookup.invalidateSpanGroupIndexCache();
     }
 
     @Override
     public void onItemsRemoved(RecyclerView recyclerView, int positionStart, int itemCount) {
+        mSpanSizeLookup.onItemsRemoved(positionStart, itemCount);
         mSpanSizeLookup.invalidateSpanIndexCache();
         mSpanSizeLookup.invalidateSpanGroupIndexCache();
     }
@@ -216,12 +222,14 @@ public class GridLayoutManager extends LinearLayoutManager {
     @Override
     public void onItemsUpdated(RecyclerView recyclerView, int positionStart, int itemCount,
             Object payload) {
+        mSpanSizeLookup.onItemsUpdated(positionStart, itemCount);
         mSpanSizeLookup.invalidateSpanIndexCache();
         mSpanSizeLookup.invalidateSpanGroupIndexCache();
     }
 
     @Override
     public void onItemsMoved(RecyclerView recyclerView, int from, int to, int itemCount) {
+        mSpanSizeLookup.onItemsMoved(from, to, itemCount);
         mSpanSizeLookup.invalidateSpanIndexCache();
         mSpanSizeLookup.invalidateSpanGroupIndexCache();
     }
@@ -849,6 +857,12 @@ public class GridLayoutManager extends LinearLayoutManager {
         private boolean mCacheSpanIndices = false;
         private boolean mCacheSpanGroupIndices = false;
 
+        private IncrementalSpanIndex mIncrementalSpanIndex;
+        // Number of items in the adapter once all adapter changes were dispatched to
+        // GridLayoutManager, or NO_POSITION while changes may be pending, such as during
+        // pre-layout, in which case the incremental span index is not used
+        private int mIncrementalSpanIndexItemCount = RecyclerView.NO_POSITION;
+
         /**
          * Returns the number of span occupied by the item at <code>position</code>.
          *
@@ -905,6 +919,85 @@ public class GridLayoutManager extends LinearLayoutManager {
             mSpanGroupIndexCache.clear();
         }
 
+        /**
+         * Sets whether the default implementations of {@link #getSpanIndex(int, int)} and
+         * {@link #getSpanGroupIndex(int, int)} should use an incremental span index. By default
+         * the incremental span index is disabled.
+         * <p>
+         * The incremental span index keeps the span size of each item in blocks, along with the
+         * span and span group each block starts at, and is updated in place when
+         * GridLayoutManager is notified of adapter changes, rather than being discarded like the
+         * span index caches. Looking up the span index or span group index of any position then
+         * takes a binary search and a walk through at most one block, instead of a walk from the
+         * closest cached position, which makes jumping through and editing large grids with
+         * variable span sizes cheap. The index is only used once GridLayoutManager has laid out
+         * all pending adapter changes, so lookups during pre-layout use the calculation without
+         * the index.
+         * <p>
+         * If span sizes change without the adapter notifying changes, you must call
+         * {@link #invalidateIncrementalSpanIndex()}.
+         *
+         * @param enabled Whether the incremental span index should be used.
+         */
+        public void setIncrementalSpanIndexEnabled(boolean enabled) {
+            if (!enabled) {
+                mIncrementalSpanIndex = null;
+            } else if (mIncrementalSpanIndex == null) {
+                mIncrementalSpanIndex = new IncrementalSpanIndex(this);
+            }
+        }
+
+        /**
+         * Returns whether the incremental span index is used or not.
+         *
+         * @return True if the incremental span index is used.
+         * @see #setIncrementalSpanIndexEnabled(boolean)
+         */
+        public boolean isIncrementalSpanIndexEnabled() {
+            return mIncrementalSpanIndex != null;
+        }
+
+        /**
+         * Clears the incremental span index, if enabled. GridLayoutManager automatically calls
+         * this method when the whole data set changes.
+         */
+        public void invalidateIncrementalSpanIndex() {
+            if (mIncrementalSpanIndex != null) {
+                mIncrementalSpanIndex.clear();
+            }
+        }
+
+        void setIncrementalSpanIndexItemCount(int itemCount) {
+            mIncrementalSpanIndexItemCount = itemCount;
+        }
+
+        void onItemsAdded(int positionStart, int itemCount) {
+            mIncrementalSpanIndexItemCount = RecyclerView.NO_POSITION;
+            if (mIncrementalSpanIndex != null) {
+                mIncrementalSpanIndex.onItemsAdded(positionStart, itemCount);
+            }
+        }
+
+        void onItemsRemoved(int positionStart, int itemCount) {
+            mIncrementalSpanIndexItemCount = RecyclerView.NO_POSITION;
+            if (mIncrementalSpanIndex != null) {
+                mIncrementalSpanIndex.onItemsRemoved(positionStart, itemCount);
+            }
+        }
+
+        void onItemsUpdated(int positionStart, int itemCount) {
+            if (mIncrementalSpanIndex != null) {
+                mIncrementalSpanIndex.onItemsUpdated(positionStart, itemCount);
+            }
+        }
+
+        void onItemsMoved(int from, int to, int itemCount) {
+            mIncrementalSpanIndexItemCount = RecyclerView.NO_POSITION;
+            if (mIncrementalSpanIndex != null) {
+                mIncrementalSpanIndex.onItemsMoved(from, to, itemCount);
+            }
+        }
+
         /**
          * Returns whether results of {@link #getSpanIndex(int, int)} method are cached or not.
          *
@@ -957,7 +1050,9 @@ public class GridLayoutManager extends LinearLayoutManager {
          * ({@link #setSpanIndexCacheEnabled(boolean)}) for better performance. When caching is
          * disabled, default implementation traverses all items from 0 to
          * <code>position</code>. When caching is enabled, it calculates from the closest cached
-         * value before the <code>position</code>.
+         * value before the <code>position</code>. When the incremental span index is enabled
+         * ({@link #setIncrementalSpanIndexEnabled(boolean)}), it looks the position up in the
+         * index.
          * <p>
          * If you override this method, you need to make sure it is consistent with
          * {@link #getSpanSize(int)}. GridLayoutManager does not call this method for
@@ -977,6 +1072,9 @@ public class GridLayoutManager extends LinearLayoutManager {
             if (positionSpanSize == spanCount) {
                 return 0; // quick return for full-span items
             }
+            if (canUseIncrementalSpanIndex(position)) {
+                return mIncrementalSpanIndex.getSpanIndex(position, spanCount);
+            }
             int span = 0;
             int startPos = 0;
             // If caching is enabled, try to jump
@@ -1003,6 +1101,19 @@ public class GridLayoutManager extends LinearLayoutManager {
             return 0;
         }
 
+        /**
+         * Returns whether the incremental span index is enabled and can be used to look up the
+         * given position, syncing it with the adapter if so. Lookups during pre-layout, or of
+         * positions the adapter doesn't have, fall back to the uncached calculation.
+         */
+        private boolean canUseIncrementalSpanIndex(int position) {
+            if (mIncrementalSpanIndex == null || position >= mIncrementalSpanIndexItemCount) {
+                return false;
+            }
+            mIncrementalSpanIndex.sync(mIncrementalSpanIndexItemCount);
+            return true;
+        }
+
         static int findFirstKeyLessThan(SparseIntArray cache, int position) {
             int lo = 0;
             int hi = cache.size() - 1;
@@ -1036,6 +1147,9 @@ public class GridLayoutManager extends LinearLayoutManager {
          * @return The index of the span group including the item at the given adapter position
          */
         public int getSpanGroupIndex(int adapterPosition, int spanCount) {
+            if (canUseIncrementalSpanIndex(adapterPosition)) {
+                return mIncrementalSpanIndex.getSpanGroupIndex(adapterPosition, spanCount);
+            }
             int span = 0;
             int group = 0;
             int start = 0;
@@ -0,0 +1,425 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package androidx.recyclerview.widget;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Block-indexed span indices and span group indices of the items of a
+ * {@link GridLayoutManager.SpanSizeLookup}, which is updated in place when the adapter notifies
+ * changes instead of being rebuilt from position 0.
+ * <p>
+ * Span sizes are kept in blocks of up to {@link #MAX_BLOCK_SIZE} items. For each span a block can
+ * be entered at, a block lazily memoizes the span it is left at and the number of span groups it
+ * completes, so the span and span group each block starts with can be computed by jumping from
+ * block to block. These are kept until a change happens in a preceding block, which makes a
+ * lookup a binary search for the block of the position followed by a walk of at most one block.
+ * <p>
+ * Span sizes are only re-read for the items an adapter change touches, and only once the index
+ * is {@link #sync(int) synced} with the adapter, so that they are never read while adapter
+ * changes are still pending, such as during pre-layout.
+ */
+final class IncrementalSpanIndex {
+    static final int BLOCK_SIZE = 128;
+    private static final int MAX_BLOCK_SIZE = BLOCK_SIZE * 2;
+    private static final int UNKNOWN_SPAN_SIZE = -1;
+    private static final int INITIAL_BLOCK_CAPACITY = 16;
+
+    private final GridLayoutManager.SpanSizeLookup mLookup;
+    private final ArrayList<Block> mBlocks = new ArrayList<>();
+    private int mSize;
+    private int mSpanCount = -1;
+    private boolean mHasUnknownSpanSizes;
+
+    // Adapter position, span index and span group index of the first item of each block, only
+    // valid for the blocks below mValidBlockCount
+    private int[] mBlockStart = new int[INITIAL_BLOCK_CAPACITY];
+    private int[] mBlockEntrySpan = new int[INITIAL_BLOCK_CAPACITY];
+    private int[] mBlockEntryGroup = new int[INITIAL_BLOCK_CAPACITY];
+    private int mValidBlockCount;
+
+    // Offset of the position within the block returned by locateBlock
+    private int mLocatedOffset;
+
+    IncrementalSpanIndex(GridLayoutManager.SpanSizeLookup lookup) {
+        mLookup = lookup;
+    }
+
+    /**
+     * Makes the index hold the span sizes of the given number of items, reading the span sizes
+     * that adapter changes invalidated. An index holding a different number of items missed
+     * adapter changes, so it is rebuilt rather than grown.
+     * <p>
+     * Must only be called when all adapter changes have been dispatched to the index.
+     */
+    void sync(int itemCount) {
+        if (mSize != itemCount) {
+            clear();
+            onItemsAdded(0, itemCount);
+        }
+        if (!mHasUnknownSpanSizes) {
+            return;
+        }
+        int start = 0;
+        for (int i = 0; i < mBlocks.size(); i++) {
+            final Block block = mBlocks.get(i);
+            block.readSpanSizes(mLookup, start);
+            start += block.mCount;
+        }
+        mHasUnknownSpanSizes = false;
+    }
+
+    /**
+     * Returns the same value as {@link GridLayoutManager.SpanSizeLookup#getSpanIndex(int, int)}
+     * would without caching.
+     * <p>
+     * The index must be {@link #sync(int) synced} with more than <code>position</code> items.
+     */
+    int getSpanIndex(int position, int spanCount) {
+        final int blockIndex = findBlock(position, spanCount);
+        final int[] sizes = mBlocks.get(blockIndex).mSizes;
+        final int offset = position - mBlockStart[blockIndex];
+        int span = mBlockEntrySpan[blockIndex];
+        for (int i = 0; i < offset; i++) {
+            span = nextSpan(span, sizes[i], spanCount);
+        }
+        final int positionSpanSize = sizes[offset];
+        if (positionSpanSize == spanCount) {
+            return 0; // quick return for full-span items
+        }
+        if (span + positionSpanSize <= spanCount) {
+            return span;
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the same value as
+     * {@link GridLayoutManager.SpanSizeLookup#getSpanGroupIndex(int, int)} would without caching.
+     * <p>
+     * The index must be {@link #sync(int) synced} with more than <code>position</code> items.
+     */
+    int getSpanGroupIndex(int position, int spanCount) {
+        final int blockIndex = findBlock(position, spanCount);
+        final int[] sizes = mBlocks.get(blockIndex).mSizes;
+        final int offset = position - mBlockStart[blockIndex];
+        int span = mBlockEntrySpan[blockIndex];
+        int group = mBlockEntryGroup[blockIndex];
+        for (int i = 0; i < offset; i++) {
+            final int size = sizes[i];
+            if (span + size >= spanCount) {
+                group++;
+            }
+            span = nextSpan(span, size, spanCount);
+        }
+        if (span + sizes[offset] > spanCount) {
+            group++;
+        }
+        return group;
+    }
+
+    /**
+     * Returns the span the item after an item of the given size starts at, mirroring the walk of
+     * {@link GridLayoutManager.SpanSizeLookup#getSpanIndex(int, int)}.
+     * <p>
+     * Spans beyond <code>spanCount</code> are only reachable by items that don't fit in the grid
+     * and behave like <code>spanCount</code> for the next item, so they are clamped to keep the
+     * number of states of a block bounded.
+     */
+    private static int nextSpan(int span, int size, int spanCount) {
+        final int next = span + size;
+        if (next == spanCount) {
+            return 0;
+        } else if (next > spanCount) {
+            // did not fit, moving to next row / column
+            return Math.min(size, spanCount);
+        }
+        return next;
+    }
+
+    /**
+     * Finds the block of the given position, making sure the span and span group it starts with
+     * are known.
+     */
+    private int findBlock(int position, int spanCount) {
+        if (spanCount != mSpanCount) {
+            mSpanCount = spanCount;
+            for (int i = 0; i < mBlocks.size(); i++) {
+                mBlocks.get(i).invalidateExits();
+            }
+            mValidBlockCount = 0;
+        }
+        int blockIndex = findValidBlock(position);
+        if (blockIndex == RecyclerView.NO_POSITION) {
+            final int blockCount = mBlocks.size();
+            while (mValidBlockCount < blockCount) {
+                final int index = mValidBlockCount++;
+                computeBlockEntry(index);
+                if (position < mBlockStart[index] + mBlocks.get(index).mCount) {
+                    blockIndex = index;
+                    break;
+                }
+            }
+        }
+        return blockIndex;
+    }
+
+    /**
+     * Returns the index of the block containing the given position among the blocks whose entry
+     * is known, or {@link RecyclerView#NO_POSITION} if it is after them.
+     */
+    private int findValidBlock(int position) {
+        final int last = mValidBlockCount - 1;
+        if (last < 0 || position >= mBlockStart[last] + mBlocks.get(last).mCount) {
+            return RecyclerView.NO_POSITION;
+        }
+        int lo = 0;
+        int hi = last;
+        while (lo < hi) {
+            // Using unsigned shift here to divide by two because it is guaranteed to not
+            // overflow.
+            final int mid = (lo + hi + 1) >>> 1;
+            if (mBlockStart[mid] <= position) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    private void computeBlockEntry(int index) {
+        if (index >= mBlockStart.length) {
+            final int capacity = Math.max(index + 1, mBlockStart.length * 2);
+            mBlockStart = Arrays.copyOf(mBlockStart, capacity);
+            mBlockEntrySpan = Arrays.copyOf(mBlockEntrySpan, capacity);
+            mBlockEntryGroup = Arrays.copyOf(mBlockEntryGroup, capacity);
+        }
+        if (index == 0) {
+            mBlockStart[0] = 0;
+            mBlockEntrySpan[0] = 0;
+            mBlockEntryGroup[0] = 0;
+            return;
+        }
+        final int previous = index - 1;
+        final Block block = mBlocks.get(previous);
+        final int entrySpan = mBlockEntrySpan[previous];
+        block.computeExit(entrySpan, mSpanCount);
+        mBlockStart[index] = mBlockStart[previous] + block.mCount;
+        mBlockEntrySpan[index] = block.mExitSpan[entrySpan];
+        mBlockEntryGroup[index] = mBlockEntryGroup[previous] + block.mExitGroupCount[entrySpan];
+    }
+
+    /**
+     * Returns the index of the block containing the given position, and sets
+     * {@link #mLocatedOffset} to the offset of the position within it. A position equal to the
+     * number of items is located at the end of the last block.
+     */
+    private int locateBlock(int position) {
+        int index = findValidBlock(position);
+        if (index != RecyclerView.NO_POSITION) {
+            mLocatedOffset = position - mBlockStart[index];
+            return index;
+        }
+        index = 0;
+        int start = 0;
+        if (mValidBlockCount > 0) {
+            index = mValidBlockCount - 1;
+            start = mBlockStart[index];
+        }
+        final int last = mBlocks.size() - 1;
+        for (; index < last; index++) {
+            final int count = mBlocks.get(index).mCount;
+            if (position < start + count) {
+                break;
+            }
+            start += count;
+        }
+        mLocatedOffset = position - start;
+        return index;
+    }
+
+    void onItemsAdded(int positionStart, int itemCount) {
+        if (positionStart > mSize || itemCount <= 0) {
+            return;
+        }
+        if (mBlocks.isEmpty()) {
+            mBlocks.add(new Block(Math.min(itemCount, MAX_BLOCK_SIZE)));
+        }
+        final int blockIndex = locateBlock(positionStart);
+        final int offset = mLocatedOffset;
+        final Block block = mBlocks.get(blockIndex);
+        final int newCount = block.mCount + itemCount;
+        if (newCount <= MAX_BLOCK_SIZE) {
+            block.ensureCapacity(newCount);
+            System.arraycopy(block.mSizes, offset, block.mSizes, offset + itemCount,
+                    block.mCount - offset);
+            Arrays.fill(block.mSizes, offset, offset + itemCount, UNKNOWN_SPAN_SIZE);
+            block.mCount = newCount;
+            block.invalidateSpanSizes();
+        } else {
+            final int[] sizes = new int[newCount];
+            System.arraycopy(block.mSizes, 0, sizes, 0, offset);
+            Arrays.fill(sizes, offset, offset + itemCount, UNKNOWN_SPAN_SIZE);
+            System.arraycopy(block.mSizes, offset, sizes, offset + itemCount,
+                    block.mCount - offset);
+            final ArrayList<Block> split = new ArrayList<>(newCount / BLOCK_SIZE + 1);
+            for (int start = 0; start < newCount; start += BLOCK_SIZE) {
+                final int count = Math.min(BLOCK_SIZE, newCount - start);
+                final Block splitBlock = new Block(count);
+                System.arraycopy(sizes, start, splitBlock.mSizes, 0, count);
+                splitBlock.mCount = count;
+                splitBlock.invalidateSpanSizes();
+                split.add(splitBlock);
+            }
+            mBlocks.remove(blockIndex);
+            mBlocks.addAll(blockIndex, split);
+        }
+        mSize += itemCount;
+        mHasUnknownSpanSizes = true;
+        mValidBlockCount = Math.min(mValidBlockCount, blockIndex + 1);
+    }
+
+    void onItemsRemoved(int positionStart, int itemCount) {
+        if (positionStart >= mSize || itemCount <= 0) {
+            return;
+        }
+        int remaining = Math.min(itemCount, mSize - positionStart);
+        mSize -= remaining;
+        int blockIndex = locateBlock(positionStart);
+        int offset = mLocatedOffset;
+        mValidBlockCount = Math.min(mValidBlockCount, blockIndex + 1);
+        while (remaining > 0) {
+            final Block block = mBlocks.get(blockIndex);
+            final int removed = Math.min(remaining, block.mCount - offset);
+            System.arraycopy(block.mSizes, offset + removed, block.mSizes, offset,
+                    block.mCount - offset - removed);
+            block.mCount -= removed;
+            block.invalidateExits();
+            remaining -= removed;
+            if (block.mCount == 0) {
+                mBlocks.remove(blockIndex);
+                mValidBlockCount = Math.min(mValidBlockCount, blockIndex);
+            } else {
+                blockIndex++;
+            }
+            offset = 0;
+        }
+    }
+
+    void onItemsUpdated(int positionStart, int itemCount) {
+        if (positionStart >= mSize || itemCount <= 0) {
+            return;
+        }
+        int remaining = Math.min(itemCount, mSize - positionStart);
+        int blockIndex = locateBlock(positionStart);
+        int offset = mLocatedOffset;
+        mValidBlockCount = Math.min(mValidBlockCount, blockIndex + 1);
+        while (remaining > 0) {
+            final Block block = mBlocks.get(blockIndex);
+            final int updated = Math.min(remaining, block.mCount - offset);
+            Arrays.fill(block.mSizes, offset, offset + updated, UNKNOWN_SPAN_SIZE);
+            block.invalidateSpanSizes();
+            mHasUnknownSpanSizes = true;
+            remaining -= updated;
+            blockIndex++;
+            offset = 0;
+        }
+    }
+
+    void onItemsMoved(int from, int to, int itemCount) {
+        if (itemCount != 1) {
+            clear();
+            return;
+        }
+        onItemsRemoved(from, 1);
+        onItemsAdded(to, 1);
+    }
+
+    void clear() {
+        mBlocks.clear();
+        mSize = 0;
+        mValidBlockCount = 0;
+        mHasUnknownSpanSizes = false;
+    }
+
+    private static final class Block {
+        int[] mSizes;
+        int mCount;
+        boolean mHasUnknownSpanSizes;
+        // Indexed by the span the block is entered at, the span the block is left at, or -1 if
+        // it isn't known yet, and the number of span groups completed within the block
+        int[] mExitSpan;
+        int[] mExitGroupCount;
+
+        Block(int capacity) {
+            mSizes = new int[Math.max(capacity, INITIAL_BLOCK_CAPACITY)];
+        }
+
+        void ensureCapacity(int capacity) {
+            if (mSizes.length < capacity) {
+                mSizes = Arrays.copyOf(mSizes,
+                        Math.min(MAX_BLOCK_SIZE, Math.max(capacity, mSizes.length * 2)));
+            }
+        }
+
+        void invalidateSpanSizes() {
+            mHasUnknownSpanSizes = true;
+            invalidateExits();
+        }
+
+        void invalidateExits() {
+            mExitSpan = null;
+            mExitGroupCount = null;
+        }
+
+        void readSpanSizes(GridLayoutManager.SpanSizeLookup lookup, int start) {
+            if (!mHasUnknownSpanSizes) {
+                return;
+            }
+            for (int i = 0; i < mCount; i++) {
+                if (mSizes[i] == UNKNOWN_SPAN_SIZE) {
+                    mSizes[i] = lookup.getSpanSize(start + i);
+                }
+            }
+            mHasUnknownSpanSizes = false;
+        }
+
+        void computeExit(int entrySpan, int spanCount) {
+            if (mExitSpan == null) {
+                mExitSpan = new int[spanCount + 1];
+                mExitGroupCount = new int[spanCount + 1];
+                Arrays.fill(mExitSpan, -1);
+            } else if (mExitSpan[entrySpan] != -1) {
+                return;
+            }
+            int span = entrySpan;
+            int group = 0;
+            for (int i = 0; i < mCount; i++) {
+                final int size = mSizes[i];
+                if (span + size >= spanCount) {
+                    group++;
+                }
+                span = nextSpan(span, size, spanCount);
+            }
+            mExitSpan[entrySpan] = span;
+            mExitGroupCount[entrySpan] = group;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.recyclerview.widget;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An explicit list of update operations that converts one list into another, for callers that
+ * already know what changed and don't need {@link DiffUtil} to find it out.
+ * <p>
+ * Operations are applied in order, each one relative to the list as modified by the previous
+ * ones, the same way {@link ListUpdateCallback} receives them.
+ *
+ * @see AsyncListDiffer#submitList(List, ListChanges, Runnable)
+ */
+public final class ListChanges {
+    private static final int TYPE_INSERT = 0;
+    private static final int TYPE_REMOVE = 1;
+    private static final int TYPE_MOVE = 2;
+    private static final int TYPE_CHANGE = 3;
+
+    // three ints per operation: type, position (or from position) and count (or to position)
+    private final int[] mOperations;
+    // payload of each operation, only set for changes
+    private final Object[] mPayloads;
+
+    @SuppressWarnings("WeakerAccess") /* synthetic access */
+    ListChanges(@NonNull int[] operations, @NonNull Object[] payloads) {
+        mOperations = operations;
+        mPayloads = payloads;
+    }
+
+    /**
+     * Dispatches the operations to the given callback, in the order they were added.
+     *
+     * @param updateCallback The callback to receive the update operations.
+     */
+    public void dispatchUpdatesTo(@NonNull ListUpdateCallback updateCallback) {
+        for (int i = 0; i < mPayloads.length; i++) {
+            final int first = mOperations[i * 3 + 1];
+            final int second = mOperations[i * 3 + 2];
+            switch (mOperations[i * 3]) {
+                case TYPE_INSERT:
+                    updateCallback.onInserted(first, second);
+                    break;
+                case TYPE_REMOVE:
+                    updateCallback.onRemoved(first, second);
+                    break;
+                case TYPE_MOVE:
+                    updateCallback.onMoved(first, second);
+                    break;
+                default:
+                    updateCallback.onChanged(first, second, mPayloads[i]);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Checks that the operations can be applied to a list of {@code oldSize} items and result in
+     * a list of {@code newSize} items.
+     *
+     * @throws IllegalArgumentException if an operation is out of bounds or sizes don't add up.
+     */
+    void validate(int oldSize, int newSize) {
+        int size = oldSize;
+        for (int i = 0; i < mPayloads.length; i++) {
+            final int type = mOperations[i * 3];
+            final int first = mOperations[i * 3 + 1];
+            final int second = mOperations[i * 3 + 2];
+            final boolean inBounds;
+            if (type == TYPE_INSERT) {
+                inBounds = first <= size;
+            } else if (type == TYPE_MOVE) {
+                inBounds = first < size && second < size;
+            } else {
+                inBounds = first + second <= size;
+            }
+            if (!inBounds) {
+                throw new IllegalArgumentException("Operation " + i + " is out of bounds of a"
+                        + " list of " + size + " items");
+            }
+            if (type == TYPE_INSERT) {
+                size += second;
+            } else if (type == TYPE_REMOVE) {
+                size -= second;
+            }
+        }
+        if (size != newSize) {
+            throw new IllegalArgumentException("Changes turn a list of " + oldSize + " items into"
+                    + " a list of " + size + " items, but the new list has " + newSize + " items");
+        }
+    }
+
+    /**
+     * Builder class for {@link ListChanges}.
+     */
+    public static final class Builder {
+        private final List<int[]> mOperations = new ArrayList<>();
+        private final List<Object> mPayloads = new ArrayList<>();
+
+        /**
+         * Adds an insertion of {@code count} items at the given position.
+         *
+         * @param position The position of the first new item.
+         * @param count The number of items inserted.
+         * @return this
+         */
+        @NonNull
+        public Builder insert(int position, int count) {
+            return add(TYPE_INSERT, checkPosition(position), checkCount(count), null);
+        }
+
+        /**
+         * Adds a removal of {@code count} items from the given position.
+         *
+         * @param position The position of the first removed item.
+         * @param count The number of items removed.
+         * @return this
+         */
+        @NonNull
+        public Builder remove(int position, int count) {
+            return add(TYPE_REMOVE, checkPosition(position), checkCount(count), null);
+        }
+
+        /**
+         * Adds a move of an item from one position to another.
+         *
+         * @param fromPosition The previous position of the item.
+         * @param toPosition The new position of the item.
+         * @return this
+         */
+        @NonNull
+        public Builder move(int fromPosition, int toPosition) {
+            return add(TYPE_MOVE, checkPosition(fromPosition), checkPosition(toPosition), null);
+        }
+
+        /**
+         * Adds a change of {@code count} items from the given position.
+         *
+         * @param position The position of the first changed item.
+         * @param count The number of items changed.
+         * @param payload Optional parameter, passed to
+         *                {@link ListUpdateCallback#onChanged(int, int, Object)}.
+         * @return this
+         */
+        @NonNull
+        public Builder change(int position, int count, @Nullable Object payload) {
+            return add(TYPE_CHANGE, checkPosition(position), checkCount(count), payload);
+        }
+
+        /**
+         * Creates a {@link ListChanges} with the operations added so far.
+         *
+         * @return A new ListChanges.
+         */
+        @NonNull
+        public ListChanges build() {
+            final int[] operations = new int[mOperations.size() * 3];
+            for (int i = 0; i < mOperations.size(); i++) {
+                System.arraycopy(mOperations.get(i), 0, operations, i * 3, 3);
+            }
+            return new ListChanges(operations, mPayloads.toArray());
+        }
+
+        private Builder add(int type, int first, int second, @Nullable Object payload) {
+            mOperations.add(new int[]{type, first, second});
+            mPayloads.add(payload);
+            return this;
+        }
+
+        private static int checkPosition(int position) {
+            if (position < 0) {
+                throw new IllegalArgumentException("Position must be positive, was " + position);
+            }
+            return position;
+        }
+
+        private static int checkCount(int count) {
+            if (count < 1) {
+                throw new IllegalArgumentException("Count must be at least 1, was " + count);
+            }
+            return count;
+        }
+    }
+}
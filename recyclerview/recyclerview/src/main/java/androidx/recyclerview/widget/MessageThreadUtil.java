@@ -94,6 +94,7 @@ class MessageThreadUtil<T> implements ThreadUtil<T> {
             static final int UPDATE_RANGE = 2;
             static final int LOAD_TILE = 3;
             static final int RECYCLE_TILE = 4;
+            static final int ADD_LOADED_TILE = 5;
 
             @Override
             public void refresh(int generation) {
@@ -112,6 +113,12 @@ class MessageThreadUtil<T> implements ThreadUtil<T> {
                 sendMessage(SyncQueueItem.obtainMessage(LOAD_TILE, position, scrollHint));
             }
 
+            @Override
+            public void addLoadedTile(int generation, TileList.Tile<T> tile, int scrollHint) {
+                sendMessage(SyncQueueItem.obtainMessage(ADD_LOADED_TILE, generation, scrollHint,
+                        0, 0, 0, tile));
+            }
+
             @Override
             public void recycleTile(TileList.Tile<T> tile) {
                 sendMessage(SyncQueueItem.obtainMessage(RECYCLE_TILE, 0, tile));
@@ -155,6 +162,11 @@ class MessageThreadUtil<T> implements ThreadUtil<T> {
                             case LOAD_TILE:
                                 callback.loadTile(msg.arg1, msg.arg2);
                                 break;
+                            case ADD_LOADED_TILE:
+                                @SuppressWarnings("unchecked")
+                                TileList.Tile<T> loadedTile = (TileList.Tile<T>) msg.data;
+                                callback.addLoadedTile(msg.arg1, loadedTile, msg.arg2);
+                                break;
                             case RECYCLE_TILE:
                                 @SuppressWarnings("unchecked")
                                 TileList.Tile<T> tile = (TileList.Tile<T>) msg.data;
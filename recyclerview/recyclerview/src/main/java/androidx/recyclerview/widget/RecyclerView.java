@@ -4578,6 +4578,11 @@ public class RecyclerView extends ViewGroup implements ScrollingView,
         dispatchLayout();
         TraceCompat.endSection();
         mFirstLayoutComplete = true;
+        if (ALLOW_THREAD_GAP_WORK && mGapWorker != null && mAdapter != null
+                && mRecycler.getRecycledViewPool().hasPendingWarmUp()) {
+            // fill the pool in the idle time after this frame, rather than on the next scroll
+            mGapWorker.postWarmUp(this);
+        }
     }
 
     @Override
@@ -5825,6 +5830,8 @@ public class RecyclerView extends ViewGroup implements ScrollingView,
      */
     public static class RecycledViewPool {
         private static final int DEFAULT_MAX_SCRAP = 5;
+        // Adaptive sizing never grows a type's pool beyond this size
+        private static final int MAX_ADAPTIVE_SCRAP = DEFAULT_MAX_SCRAP * 4;
 
         /**
          * Tracks both pooled holders, as well as create/bind timing metadata for the given type.
@@ -5845,12 +5852,19 @@ public class RecyclerView extends ViewGroup implements ScrollingView,
             int mMaxScrap = DEFAULT_MAX_SCRAP;
             long mCreateRunningAverageNs = 0;
             long mBindRunningAverageNs = 0;
+            // Number of holders the pool should hold once warmed up, see warmUp(int, int), or 0
+            // when there is nothing left to warm up
+            int mWarmUpTarget = 0;
+            // Number of holders discarded because the pool was full, since the last miss
+            int mDiscardCount = 0;
         }
 
         SparseArray<ScrapData> mScrap = new SparseArray<>();
 
         private int mAttachCount = 0;
 
+        private boolean mAdaptiveSizingEnabled = false;
+
         /**
          * Discard all ViewHolders.
          */
@@ -5883,6 +5897,47 @@ public class RecyclerView extends ViewGroup implements ScrollingView,
             return getScrapDataForType(viewType).mScrapHeap.size();
         }
 
+        /**
+         * Requests the pool to hold at least the given number of ViewHolders of the given view
+         * type, creating the missing ones ahead of time.
+         * <p>
+         * The ViewHolders are created on the main thread by an attached RecyclerView using this
+         * pool, in the idle time between frames, the same way prefetched ViewHolders are. This
+         * moves the cost of {@link Adapter#onCreateViewHolder(ViewGroup, int)} out of the first
+         * frames of a fling, at the cost of holding the created Views in memory.
+         * <p>
+         * If the maximum number of ViewHolders of the given type is lower than {@code count}, it is
+         * raised to {@code count}. Calling this method again replaces the previous request.
+         *
+         * @param viewType ViewHolder type
+         * @param count    Number of ViewHolders the pool should hold
+         * @see #setMaxRecycledViews(int, int)
+         */
+        public void warmUp(int viewType, int count) {
+            ScrapData scrapData = getScrapDataForType(viewType);
+            if (scrapData.mMaxScrap < count) {
+                scrapData.mMaxScrap = count;
+            }
+            scrapData.mWarmUpTarget = count > scrapData.mScrapHeap.size() ? count : 0;
+        }
+
+        /**
+         * Enables or disables adaptive sizing of the pool.
+         * <p>
+         * When enabled, the maximum number of ViewHolders held for a view type grows by one each
+         * time a ViewHolder of that type has to be created after one was discarded because the
+         * pool was full, up to a limit of {@value #MAX_ADAPTIVE_SCRAP}. This lets the pool learn
+         * the number of ViewHolders a layout needs to recycle without calling
+         * {@link #setMaxRecycledViews(int, int)} for each view type.
+         * <p>
+         * Adaptive sizing is disabled by default.
+         *
+         * @param enabled True to let the pool grow when it is too small for its RecyclerViews
+         */
+        public void setAdaptiveSizingEnabled(boolean enabled) {
+            mAdaptiveSizingEnabled = enabled;
+        }
+
         /**
          * Acquire a ViewHolder of the specified type from the pool, or {@code null} if none are
          * present.
@@ -5902,6 +5957,14 @@ public class RecyclerView extends ViewGroup implements ScrollingView,
                     }
                 }
             }
+            if (mAdaptiveSizingEnabled && scrapData != null && scrapData.mDiscardCount > 0) {
+                // a holder has been thrown away and now has to be created again, the pool is
+                // too small for the number of holders in flight
+                scrapData.mDiscardCount = 0;
+                if (scrapData.mMaxScrap < MAX_ADAPTIVE_SCRAP) {
+                    scrapData.mMaxScrap++;
+                }
+            }
             return null;
         }
 
@@ -5930,8 +5993,10 @@ public class RecyclerView extends ViewGroup implements ScrollingView,
          */
         public void putRecycledView(ViewHolder scrap) {
             final int viewType = scrap.getItemViewType();
-            final ArrayList<ViewHolder> scrapHeap = getScrapDataForType(viewType).mScrapHeap;
-            if (mScrap.get(viewType).mMaxScrap <= scrapHeap.size()) {
+            final ScrapData scrapData = getScrapDataForType(viewType);
+            final ArrayList<ViewHolder> scrapHeap = scrapData.mScrapHeap;
+            if (scrapData.mMaxScrap <= scrapHeap.size()) {
+                scrapData.mDiscardCount++;
                 return;
             }
             if (DEBUG && scrapHeap.contains(scrap)) {
@@ -5970,6 +6035,58 @@ public class RecyclerView extends ViewGroup implements ScrollingView,
             return expectedDurationNs == 0 || (approxCurrentNs + expectedDurationNs < deadlineNs);
         }
 
+        /**
+         * Returns true if {@link #warmUp(int, int)} has requested ViewHolders which haven't been
+         * created yet.
+         */
+        boolean hasPendingWarmUp() {
+            for (int i = 0; i < mScrap.size(); i++) {
+                if (mScrap.valueAt(i).mWarmUpTarget > 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Creates ViewHolders requested by {@link #warmUp(int, int)} with the given RecyclerView,
+         * as long as they are expected to be created before the deadline.
+         *
+         * @return True if at least one ViewHolder was created, and more are still pending.
+         */
+        boolean warmUpWithDeadline(RecyclerView view, long deadlineNs) {
+            boolean created = false;
+            for (int i = 0; i < mScrap.size(); i++) {
+                final int viewType = mScrap.keyAt(i);
+                final ScrapData scrapData = mScrap.valueAt(i);
+                final ArrayList<ViewHolder> scrapHeap = scrapData.mScrapHeap;
+                while (scrapData.mWarmUpTarget > 0) {
+                    // holders recycled since the request count towards it, stop as soon as the
+                    // pool is full rather than creating holders which would be thrown away
+                    if (scrapHeap.size()
+                            >= Math.min(scrapData.mWarmUpTarget, scrapData.mMaxScrap)) {
+                        scrapData.mWarmUpTarget = 0;
+                        break;
+                    }
+                    long start = view.getNanoTime();
+                    if (!willCreateInTime(viewType, start, deadlineNs)) {
+                        break;
+                    }
+                    ViewHolder holder = view.mAdapter.createViewHolder(view, viewType);
+                    RecyclerView innerView = findNestedRecyclerView(holder.itemView);
+                    if (innerView != null) {
+                        holder.mNestedRecyclerView = new WeakReference<>(innerView);
+                    }
+                    factorInCreateTime(viewType, view.getNanoTime() - start);
+                    // not putRecycledView(), there is room for it and it isn't a discard candidate
+                    holder.resetInternal();
+                    scrapHeap.add(holder);
+                    created = true;
+                }
+            }
+            return created && hasPendingWarmUp();
+        }
+
         void attach() {
             mAttachCount++;
         }
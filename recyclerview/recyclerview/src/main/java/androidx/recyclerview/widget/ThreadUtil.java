@@ -36,6 +36,8 @@ interface ThreadUtil<T> {
 
         void loadTile(int position, int scrollHint);
 
+        void addLoadedTile(int generation, TileList.Tile<T> tile, int scrollHint);
+
         void recycleTile(TileList.Tile<T> tile);
     }
 
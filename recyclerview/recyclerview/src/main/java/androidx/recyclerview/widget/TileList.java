@@ -95,6 +95,7 @@ class TileList<T> {
         public int mStartPosition;
         public int mItemCount;
         Tile<T> mNext;  // Used only for pooling recycled tiles.
+        long mLoadTimeNs;  // Time it took to load the tile, used only for metrics.
 
         public Tile(Class<T> klass, int size) {
             @SuppressWarnings("unchecked")
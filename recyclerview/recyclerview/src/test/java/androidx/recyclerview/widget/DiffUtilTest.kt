@@ -31,6 +31,8 @@ import org.junit.runner.RunWith
 import org.junit.runners.JUnit4
 import java.util.Random
 import java.util.UUID
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
 
 @RunWith(JUnit4::class)
 class DiffUtilTest {
@@ -370,6 +372,64 @@ class DiffUtilTest {
         check()
     }
 
+    @Test
+    fun parallelDiffMatchesSingleThreaded() {
+        initWithSize(20000)
+        repeat(400) {
+            when (sRand.nextInt(4)) {
+                0 -> add(sRand.nextInt(after.size + 1))
+                1 -> delete(sRand.nextInt(after.size))
+                2 -> move(sRand.nextInt(after.size), sRand.nextInt(after.size))
+                3 -> update(sRand.nextInt(after.size))
+            }
+        }
+        val expectedResult = calculate()
+        val expected = recordUpdates(expectedResult)
+        val threadPool = Executors.newFixedThreadPool(4)
+        try {
+            listOf(
+                threadPool,
+                // runs forked parts synchronously, nested in the part that found them
+                Executor { it.run() },
+                // never runs anything, so the calling thread has to solve all parts
+                Executor { }
+            ).forEach { executor ->
+                val result = DiffUtil.calculateDiff(callback, true, executor)
+                assertThat(recordUpdates(result), `is`(expected))
+                before.indices.forEach {
+                    assertThat(
+                        result.convertOldPositionToNew(it),
+                        `is`(expectedResult.convertOldPositionToNew(it))
+                    )
+                }
+            }
+        } finally {
+            threadPool.shutdown()
+        }
+    }
+
+    private fun recordUpdates(result: DiffUtil.DiffResult): List<String> {
+        val updates = mutableListOf<String>()
+        result.dispatchUpdatesTo(object : ListUpdateCallback {
+            override fun onInserted(position: Int, count: Int) {
+                updates.add("insert $position $count")
+            }
+
+            override fun onRemoved(position: Int, count: Int) {
+                updates.add("remove $position $count")
+            }
+
+            override fun onMoved(fromPosition: Int, toPosition: Int) {
+                updates.add("move $fromPosition $toPosition")
+            }
+
+            override fun onChanged(position: Int, count: Int, payload: Any?) {
+                updates.add("change $position $count $payload")
+            }
+        })
+        return updates
+    }
+
     private fun testRandom(initialSize: Int, operationCount: Int) {
         log.setLength(0)
         Item.idCounter = 0
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package androidx.recyclerview.widget;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+@RunWith(JUnit4.class)
+public class IncrementalSpanIndexTest {
+    private static final int SPAN_COUNT = 4;
+
+    private final List<Integer> mSpanSizes = new ArrayList<>();
+    private final Random mRandom = new Random(42);
+    private GridLayoutManager.SpanSizeLookup mLookup;
+    private IncrementalSpanIndex mIndex;
+
+    @Before
+    public void setup() {
+        // The lookup isn't constructed, so the real getSpanIndex and getSpanGroupIndex walk
+        // from position 0 without any cache, which is what the index is compared against.
+        mLookup = mock(GridLayoutManager.SpanSizeLookup.class, CALLS_REAL_METHODS);
+        doAnswer(new Answer<Integer>() {
+            @Override
+            public Integer answer(InvocationOnMock invocation) {
+                return mSpanSizes.get((Integer) invocation.getArgument(0));
+            }
+        }).when(mLookup).getSpanSize(anyInt());
+        mIndex = new IncrementalSpanIndex(mLookup);
+    }
+
+    @Test
+    public void singleItem() {
+        addItems(0, 1);
+        assertMatchesLookup(SPAN_COUNT);
+    }
+
+    @Test
+    public void uniformSpanSizes() {
+        for (int i = 0; i < 1000; i++) {
+            mSpanSizes.add(1);
+        }
+        assertMatchesLookup(SPAN_COUNT);
+        mIndex.sync(1000);
+        assertEquals(249, mIndex.getSpanGroupIndex(999, SPAN_COUNT));
+        assertEquals(3, mIndex.getSpanIndex(999, SPAN_COUNT));
+    }
+
+    @Test
+    public void variableSpanSizes() {
+        addItems(0, 1000);
+        assertMatchesLookup(SPAN_COUNT);
+    }
+
+    @Test
+    public void itemsLargerThanSpanCount() {
+        addItems(0, 500);
+        mSpanSizes.set(100, SPAN_COUNT + 2);
+        mSpanSizes.set(300, SPAN_COUNT + 1);
+        mIndex.onItemsUpdated(100, 1);
+        mIndex.onItemsUpdated(300, 1);
+        assertMatchesLookup(SPAN_COUNT);
+    }
+
+    @Test
+    public void spanCountChange() {
+        addItems(0, 1000);
+        assertMatchesLookup(SPAN_COUNT);
+        assertMatchesLookup(SPAN_COUNT + 3);
+        assertMatchesLookup(SPAN_COUNT);
+    }
+
+    @Test
+    public void insert() {
+        addItems(0, 1000);
+        assertMatchesLookup(SPAN_COUNT);
+        addItems(0, 1);
+        assertMatchesLookup(SPAN_COUNT);
+        addItems(500, 3);
+        assertMatchesLookup(SPAN_COUNT);
+        addItems(mSpanSizes.size(), 10);
+        assertMatchesLookup(SPAN_COUNT);
+        // splits blocks
+        addItems(200, 1000);
+        assertMatchesLookup(SPAN_COUNT);
+    }
+
+    @Test
+    public void remove() {
+        addItems(0, 2000);
+        assertMatchesLookup(SPAN_COUNT);
+        removeItems(0, 1);
+        assertMatchesLookup(SPAN_COUNT);
+        removeItems(700, 3);
+        assertMatchesLookup(SPAN_COUNT);
+        // removes whole blocks
+        removeItems(100, 1000);
+        assertMatchesLookup(SPAN_COUNT);
+        removeItems(0, mSpanSizes.size());
+        addItems(0, 10);
+        assertMatchesLookup(SPAN_COUNT);
+    }
+
+    @Test
+    public void move() {
+        addItems(0, 1000);
+        assertMatchesLookup(SPAN_COUNT);
+        moveItem(0, 999);
+        assertMatchesLookup(SPAN_COUNT);
+        moveItem(999, 0);
+        assertMatchesLookup(SPAN_COUNT);
+        moveItem(400, 401);
+        assertMatchesLookup(SPAN_COUNT);
+    }
+
+    @Test
+    public void update() {
+        addItems(0, 1000);
+        assertMatchesLookup(SPAN_COUNT);
+        for (int i = 300; i < 600; i++) {
+            mSpanSizes.set(i, randomSpanSize());
+        }
+        mIndex.onItemsUpdated(300, 300);
+        assertMatchesLookup(SPAN_COUNT);
+    }
+
+    @Test
+    public void syncRebuildsAfterMissedChanges() {
+        addItems(0, 1000);
+        assertMatchesLookup(SPAN_COUNT);
+        // the index isn't notified of these, so it holds fewer items than the adapter
+        for (int i = 0; i < 100; i++) {
+            mSpanSizes.add(0, randomSpanSize());
+        }
+        assertMatchesLookup(SPAN_COUNT);
+        addItems(500, 10);
+        removeItems(50, 100);
+        moveItem(800, 10);
+        assertMatchesLookup(SPAN_COUNT);
+    }
+
+    @Test
+    public void spanSizesReadOnSync() {
+        addItems(0, 1000);
+        assertMatchesLookup(SPAN_COUNT);
+        // span sizes of added items are only read once the index is synced, after the adapter
+        // changes they are read for have all been dispatched
+        addItems(0, 10);
+        for (int i = 0; i < 10; i++) {
+            mSpanSizes.set(i, randomSpanSize());
+        }
+        assertMatchesLookup(SPAN_COUNT);
+    }
+
+    @Test
+    public void randomChanges() {
+        addItems(0, 1000);
+        for (int i = 0; i < 100; i++) {
+            final int size = mSpanSizes.size();
+            switch (mRandom.nextInt(4)) {
+                case 0:
+                    addItems(mRandom.nextInt(size + 1), 1 + mRandom.nextInt(300));
+                    break;
+                case 1:
+                    if (size > 0) {
+                        int start = mRandom.nextInt(size);
+                        removeItems(start, 1 + mRandom.nextInt(Math.min(size - start, 300)));
+                    }
+                    break;
+                case 2:
+                    if (size > 0) {
+                        moveItem(mRandom.nextInt(size), mRandom.nextInt(size));
+                    }
+                    break;
+                default:
+                    if (size > 0) {
+                        int position = mRandom.nextInt(size);
+                        mSpanSizes.set(position, randomSpanSize());
+                        mIndex.onItemsUpdated(position, 1);
+                    }
+                    break;
+            }
+            if (!mSpanSizes.isEmpty()) {
+                assertPositionMatchesLookup(mRandom.nextInt(mSpanSizes.size()), SPAN_COUNT);
+            }
+        }
+        assertMatchesLookup(SPAN_COUNT);
+    }
+
+    private int randomSpanSize() {
+        return 1 + mRandom.nextInt(SPAN_COUNT);
+    }
+
+    private void addItems(int positionStart, int itemCount) {
+        for (int i = 0; i < itemCount; i++) {
+            mSpanSizes.add(positionStart, randomSpanSize());
+        }
+        mIndex.onItemsAdded(positionStart, itemCount);
+    }
+
+    private void removeItems(int positionStart, int itemCount) {
+        for (int i = 0; i < itemCount; i++) {
+            mSpanSizes.remove(positionStart);
+        }
+        mIndex.onItemsRemoved(positionStart, itemCount);
+    }
+
+    private void moveItem(int from, int to) {
+        mSpanSizes.add(to, mSpanSizes.remove(from));
+        mIndex.onItemsMoved(from, to, 1);
+    }
+
+    private void assertMatchesLookup(int spanCount) {
+        // the lookup walks from position 0, so only check a subset of positions of large lists
+        final int step = Math.max(1, mSpanSizes.size() / 100);
+        // query backwards first, so that lookups don't only walk forward through the blocks
+        for (int position = mSpanSizes.size() - 1; position >= 0; position -= step) {
+            assertPositionMatchesLookup(position, spanCount);
+        }
+        for (int position = 0; position < mSpanSizes.size(); position += step + 1) {
+            assertPositionMatchesLookup(position, spanCount);
+        }
+    }
+
+    private void assertPositionMatchesLookup(int position, int spanCount) {
+        mIndex.sync(mSpanSizes.size());
+        assertEquals("span index of " + position,
+                mLookup.getSpanIndex(position, spanCount),
+                mIndex.getSpanIndex(position, spanCount));
+        assertEquals("span group index of " + position,
+                mLookup.getSpanGroupIndex(position, spanCount),
+                mIndex.getSpanGroupIndex(position, spanCount));
+    }
+}
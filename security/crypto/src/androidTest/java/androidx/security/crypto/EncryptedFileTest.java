@@ -22,10 +22,12 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 
 import android.content.Context;
 import android.content.SharedPreferences;
+import android.os.Build;
 
 import androidx.test.core.app.ApplicationProvider;
 import androidx.test.ext.junit.runners.AndroidJUnit4;
 import androidx.test.filters.MediumTest;
+import androidx.test.filters.SdkSuppress;
 
 import com.google.crypto.tink.KeysetHandle;
 import com.google.crypto.tink.StreamingAead;
@@ -44,7 +46,12 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
 import java.security.KeyStore;
+import java.util.Arrays;
+import java.util.Random;
 
 @MediumTest
 @RunWith(AndroidJUnit4.class)
@@ -83,6 +90,9 @@ public class EncryptedFileTest {
         dataFile = new File(mContext.getFilesDir(), "tink_test_file");
         dataFile.delete();
 
+        dataFile = new File(mContext.getFilesDir(), "seekable_test_file");
+        dataFile.delete();
+
         // Delete MasterKeys
         KeyStore keyStore = KeyStore.getInstance("AndroidKeyStore");
         keyStore.load(null);
@@ -349,4 +359,63 @@ public class EncryptedFileTest {
         inputStream.close();
     }
 
+    @SdkSuppress(minSdkVersion = Build.VERSION_CODES.N)
+    @Test
+    public void testSeekableChannelRandomReads() throws Exception {
+        // Spans several segments, with a partial last one.
+        byte[] fileContent = new byte[10 * 4096 + 123];
+        new Random(0).nextBytes(fileContent);
+        EncryptedFile encryptedFile = writeSeekableTestFile(fileContent);
+
+        for (int cachedSegmentCount : new int[]{0, 4}) {
+            SeekableByteChannel channel = encryptedFile.openSeekableChannel(cachedSegmentCount);
+            Assert.assertEquals(fileContent.length, channel.size());
+
+            Random random = new Random(cachedSegmentCount);
+            for (int i = 0; i < 100; i++) {
+                int position = random.nextInt(fileContent.length);
+                int length = Math.min(random.nextInt(3 * 4096),
+                        fileContent.length - position);
+                ByteBuffer buffer = ByteBuffer.allocate(length);
+                channel.position(position);
+                while (buffer.hasRemaining()) {
+                    Assert.assertTrue(channel.read(buffer) > 0);
+                }
+                Assert.assertArrayEquals(
+                        Arrays.copyOfRange(fileContent, position, position + length),
+                        buffer.array());
+                Assert.assertEquals(position + length, channel.position());
+            }
+
+            channel.position(fileContent.length);
+            Assert.assertEquals(-1, channel.read(ByteBuffer.allocate(1)));
+            channel.close();
+            Assert.assertFalse(channel.isOpen());
+        }
+    }
+
+    @SdkSuppress(minSdkVersion = Build.VERSION_CODES.N)
+    @Test(expected = NonWritableChannelException.class)
+    public void testSeekableChannelIsReadOnly() throws Exception {
+        EncryptedFile encryptedFile = writeSeekableTestFile("Don't tell anyone...".getBytes(UTF_8));
+
+        SeekableByteChannel channel = encryptedFile.openSeekableChannel(1);
+        try {
+            channel.write(ByteBuffer.wrap(new byte[1]));
+        } finally {
+            channel.close();
+        }
+    }
+
+    private EncryptedFile writeSeekableTestFile(byte[] fileContent) throws Exception {
+        EncryptedFile encryptedFile = new EncryptedFile.Builder(mContext,
+                new File(mContext.getFilesDir(), "seekable_test_file"), mMasterKey,
+                EncryptedFile.FileEncryptionScheme.AES256_GCM_HKDF_4KB)
+                .build();
+        OutputStream outputStream = encryptedFile.openFileOutput();
+        outputStream.write(fileContent);
+        outputStream.close();
+        return encryptedFile;
+    }
+
 }
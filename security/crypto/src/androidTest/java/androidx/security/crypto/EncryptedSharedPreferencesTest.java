@@ -48,6 +48,7 @@ import org.junit.runner.RunWith;
 import java.io.File;
 import java.nio.ByteBuffer;
 import java.security.KeyStore;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
 
@@ -435,4 +436,72 @@ public class EncryptedSharedPreferencesTest {
         editor.apply();
     }
 
+    @Test
+    public void testReadsValueChangedByAnotherInstance() throws Exception {
+        SharedPreferences reader = EncryptedSharedPreferences
+                .create(mContext,
+                        PREFS_FILE,
+                        mMasterKey,
+                        EncryptedSharedPreferences.PrefKeyEncryptionScheme.AES256_SIV,
+                        EncryptedSharedPreferences.PrefValueEncryptionScheme.AES256_GCM);
+        SharedPreferences writer = EncryptedSharedPreferences
+                .create(mContext,
+                        PREFS_FILE,
+                        mMasterKey,
+                        EncryptedSharedPreferences.PrefKeyEncryptionScheme.AES256_SIV,
+                        EncryptedSharedPreferences.PrefValueEncryptionScheme.AES256_GCM);
+
+        writer.edit().putInt("counter", 1).commit();
+        Assert.assertEquals(1, reader.getInt("counter", 0));
+
+        writer.edit().putInt("counter", 2).commit();
+        Assert.assertEquals("Cached value should have been replaced",
+                2, reader.getInt("counter", 0));
+
+        writer.edit().remove("counter").commit();
+        Assert.assertEquals(0, reader.getInt("counter", 0));
+    }
+
+    @Test
+    public void testGetValues() throws Exception {
+        EncryptedSharedPreferences sharedPreferences =
+                (EncryptedSharedPreferences) EncryptedSharedPreferences
+                        .create(mContext,
+                                PREFS_FILE,
+                                mMasterKey,
+                                EncryptedSharedPreferences.PrefKeyEncryptionScheme.AES256_SIV,
+                                EncryptedSharedPreferences.PrefValueEncryptionScheme.AES256_GCM);
+        sharedPreferences.edit()
+                .putString("string", "value")
+                .putBoolean("boolean", true)
+                .putLong("unread", 3L)
+                .commit();
+
+        Map<String, ?> values = sharedPreferences.getValues(
+                Arrays.asList("string", "boolean", "missing"));
+
+        Assert.assertEquals(2, values.size());
+        Assert.assertEquals("value", values.get("string"));
+        Assert.assertEquals(true, values.get("boolean"));
+        Assert.assertFalse(values.containsKey("missing"));
+    }
+
+    @Test
+    public void testGetStringSet_returnsCopyOfCachedValue() throws Exception {
+        SharedPreferences sharedPreferences = EncryptedSharedPreferences
+                .create(mContext,
+                        PREFS_FILE,
+                        mMasterKey,
+                        EncryptedSharedPreferences.PrefKeyEncryptionScheme.AES256_SIV,
+                        EncryptedSharedPreferences.PrefValueEncryptionScheme.AES256_GCM);
+        Set<String> stringSet = new ArraySet<>();
+        stringSet.add("a");
+        stringSet.add("b");
+        sharedPreferences.edit().putStringSet("set", stringSet).commit();
+
+        sharedPreferences.getStringSet("set", null).add("c");
+
+        Assert.assertEquals(stringSet, sharedPreferences.getStringSet("set", null));
+    }
+
 }
@@ -22,8 +22,11 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
+import android.os.Build;
 
+import androidx.annotation.IntRange;
 import androidx.annotation.NonNull;
+import androidx.annotation.RequiresApi;
 
 import com.google.crypto.tink.KeyTemplate;
 import com.google.crypto.tink.KeysetHandle;
@@ -40,6 +43,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.security.GeneralSecurityException;
 
 /**
@@ -61,6 +65,9 @@ import java.security.GeneralSecurityException;
  *
  *  // read the encrypted file
  *  FileInputStream encryptedInputStream = encryptedFile.openFileInput();
+ *
+ *  // or read parts of it at random positions, on API 24 and above
+ *  SeekableByteChannel encryptedChannel = encryptedFile.openSeekableChannel(16);
  * </pre>
  */
 public final class EncryptedFile {
@@ -74,16 +81,19 @@ public final class EncryptedFile {
     final Context mContext;
     final String mMasterKeyAlias;
     final StreamingAead mStreamingAead;
+    final FileEncryptionScheme mFileEncryptionScheme;
 
     EncryptedFile(
             @NonNull File file,
             @NonNull String masterKeyAlias,
             @NonNull StreamingAead streamingAead,
+            @NonNull FileEncryptionScheme fileEncryptionScheme,
             @NonNull Context context) {
         mFile = file;
         mContext = context;
         mMasterKeyAlias = masterKeyAlias;
         mStreamingAead = streamingAead;
+        mFileEncryptionScheme = fileEncryptionScheme;
     }
 
     /**
@@ -99,17 +109,39 @@ public final class EncryptedFile {
          *
          * <a href="https://google.github.io/tink/javadoc/tink/1.4.0/com/google/crypto/tink/streamingaead/AesGcmHkdfStreamingKeyManager.html">AesGcmHkdfStreamingKeyManager</a>.aes256GcmHkdf4KBTemplate()
          */
-        AES256_GCM_HKDF_4KB(AesGcmHkdfStreamingKeyManager.aes256GcmHkdf4KBTemplate());
+        // Segments are 4096 bytes of cipher text, each with a 16 byte tag. The first one also
+        // holds the 40 byte header: a length byte, a 32 byte salt and a 7 byte nonce prefix.
+        AES256_GCM_HKDF_4KB(AesGcmHkdfStreamingKeyManager.aes256GcmHkdf4KBTemplate(),
+                4096 - 40 - 16, 4096 - 16);
 
         private final KeyTemplate mStreamingAeadKeyTemplate;
+        private final int mFirstPlaintextSegmentSize;
+        private final int mPlaintextSegmentSize;
 
-        FileEncryptionScheme(KeyTemplate keyTemplate) {
+        FileEncryptionScheme(KeyTemplate keyTemplate, int firstPlaintextSegmentSize,
+                int plaintextSegmentSize) {
             mStreamingAeadKeyTemplate = keyTemplate;
+            mFirstPlaintextSegmentSize = firstPlaintextSegmentSize;
+            mPlaintextSegmentSize = plaintextSegmentSize;
         }
 
         KeyTemplate getKeyTemplate() {
             return mStreamingAeadKeyTemplate;
         }
+
+        /**
+         * Returns the number of plain text bytes in the first segment of an encrypted file.
+         */
+        int getFirstPlaintextSegmentSize() {
+            return mFirstPlaintextSegmentSize;
+        }
+
+        /**
+         * Returns the number of plain text bytes in each of the following segments.
+         */
+        int getPlaintextSegmentSize() {
+            return mPlaintextSegmentSize;
+        }
     }
 
     /**
@@ -202,7 +234,8 @@ public final class EncryptedFile {
             StreamingAead streamingAead =
                     streadmingAeadKeysetHandle.getPrimitive(StreamingAead.class);
 
-            return new EncryptedFile(mFile, mKeysetAlias, streamingAead, mContext);
+            return new EncryptedFile(mFile, mKeysetAlias, streamingAead, mFileEncryptionScheme,
+                    mContext);
         }
     }
 
@@ -252,6 +285,49 @@ public final class EncryptedFile {
         return new EncryptedFileInputStream(fileInputStream.getFD(), decryptingStream);
     }
 
+    /**
+     * Opens a read only channel over the decrypted content of the file, which can be read from
+     * any position without decrypting the content before it.
+     *
+     * <p>The file is encrypted in segments of about 4 KB, each of which is decrypted as a whole.
+     * The most recently read segments are kept decrypted in memory, up to
+     * {@code cachedSegmentCount} of them, so that reading several times from the same part of
+     * the file only decrypts it once.
+     *
+     * Please ensure that the same master key and keyset are  used to decrypt or it
+     * will cause failures.
+     *
+     * @param cachedSegmentCount The number of decrypted segments to keep in memory, or 0 to
+     *                           only keep the segment being read.
+     * @return The channel to read previously encrypted data.
+     * @throws GeneralSecurityException when a bad master key or keyset has been used
+     * @throws IOException              when the file was not found
+     */
+    @RequiresApi(Build.VERSION_CODES.N)
+    @NonNull
+    public SeekableByteChannel openSeekableChannel(@IntRange(from = 0) int cachedSegmentCount)
+            throws GeneralSecurityException, IOException {
+        if (cachedSegmentCount < 0) {
+            throw new IllegalArgumentException("cachedSegmentCount must not be negative: "
+                    + cachedSegmentCount);
+        }
+        if (!mFile.exists()) {
+            throw new IOException("file doesn't exist: " + mFile.getName());
+        }
+        FileChannel cipherTextChannel = new FileInputStream(mFile).getChannel();
+        SeekableByteChannel decryptingChannel;
+        try {
+            decryptingChannel = mStreamingAead.newSeekableDecryptingChannel(cipherTextChannel,
+                    mFile.getName().getBytes(UTF_8));
+        } catch (GeneralSecurityException | IOException | RuntimeException ex) {
+            cipherTextChannel.close();
+            throw ex;
+        }
+        return new EncryptedFileChannel(decryptingChannel, cipherTextChannel,
+                mFileEncryptionScheme.getFirstPlaintextSegmentSize(),
+                mFileEncryptionScheme.getPlaintextSegmentSize(), cachedSegmentCount);
+    }
+
     /**
      * Encrypted file output stream
      */
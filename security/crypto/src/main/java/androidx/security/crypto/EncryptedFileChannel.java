@@ -0,0 +1,191 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.security.crypto;
+
+import android.os.Build;
+
+import androidx.annotation.GuardedBy;
+import androidx.annotation.NonNull;
+import androidx.annotation.RequiresApi;
+import androidx.collection.LruCache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * A read only {@link SeekableByteChannel} over the content of an {@link EncryptedFile}.
+ *
+ * <p>Reads are served from whole decrypted segments, the most recently used of which are kept in
+ * memory, so that reading any part of the file decrypts at most the segments it spans.
+ */
+@RequiresApi(Build.VERSION_CODES.N)
+final class EncryptedFileChannel implements SeekableByteChannel {
+    private final SeekableByteChannel mDecryptingChannel;
+    private final SeekableByteChannel mCipherTextChannel;
+    private final int mFirstSegmentSize;
+    private final int mSegmentSize;
+
+    @GuardedBy("this")
+    private final LruCache<Long, byte[]> mSegments;
+    @GuardedBy("this")
+    private long mPosition;
+    @GuardedBy("this")
+    private long mSize = -1;
+    @GuardedBy("this")
+    private boolean mOpen = true;
+
+    /**
+     * @param decryptingChannel  The channel decrypting {@code cipherTextChannel}.
+     * @param cipherTextChannel  The channel reading the encrypted file, closed with this channel.
+     * @param firstSegmentSize   The number of plain text bytes in the first segment.
+     * @param segmentSize        The number of plain text bytes in each of the following segments.
+     * @param cachedSegmentCount The number of decrypted segments to keep in memory.
+     */
+    EncryptedFileChannel(@NonNull SeekableByteChannel decryptingChannel,
+            @NonNull SeekableByteChannel cipherTextChannel, int firstSegmentSize,
+            int segmentSize, int cachedSegmentCount) {
+        mDecryptingChannel = decryptingChannel;
+        mCipherTextChannel = cipherTextChannel;
+        mFirstSegmentSize = firstSegmentSize;
+        mSegmentSize = segmentSize;
+        // The segment being read is always kept, so that small sequential reads decrypt it once.
+        mSegments = new LruCache<>(Math.max(1, cachedSegmentCount));
+    }
+
+    @Override
+    public synchronized int read(@NonNull ByteBuffer dst) throws IOException {
+        ensureOpen();
+        long size = size();
+        if (!dst.hasRemaining()) {
+            return 0;
+        }
+        if (mPosition >= size) {
+            return -1;
+        }
+        int read = 0;
+        while (dst.hasRemaining() && mPosition < size) {
+            long segmentIndex = getSegmentIndex(mPosition);
+            byte[] segment = getSegment(segmentIndex, size);
+            int offset = (int) (mPosition - getSegmentStart(segmentIndex));
+            int length = Math.min(dst.remaining(), segment.length - offset);
+            dst.put(segment, offset, length);
+            mPosition += length;
+            read += length;
+        }
+        return read;
+    }
+
+    @Override
+    public int write(@NonNull ByteBuffer src) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public synchronized long position() throws IOException {
+        ensureOpen();
+        return mPosition;
+    }
+
+    @NonNull
+    @Override
+    public synchronized SeekableByteChannel position(long newPosition) throws IOException {
+        ensureOpen();
+        if (newPosition < 0) {
+            throw new IllegalArgumentException("Negative position: " + newPosition);
+        }
+        mPosition = newPosition;
+        return this;
+    }
+
+    @Override
+    public synchronized long size() throws IOException {
+        ensureOpen();
+        if (mSize < 0) {
+            mSize = mDecryptingChannel.size();
+        }
+        return mSize;
+    }
+
+    @NonNull
+    @Override
+    public SeekableByteChannel truncate(long size) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public synchronized boolean isOpen() {
+        return mOpen;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!mOpen) {
+            return;
+        }
+        mOpen = false;
+        mSegments.evictAll();
+        try {
+            mDecryptingChannel.close();
+        } finally {
+            mCipherTextChannel.close();
+        }
+    }
+
+    @GuardedBy("this")
+    private void ensureOpen() throws ClosedChannelException {
+        if (!mOpen) {
+            throw new ClosedChannelException();
+        }
+    }
+
+    private long getSegmentIndex(long position) {
+        if (position < mFirstSegmentSize) {
+            return 0;
+        }
+        return 1 + (position - mFirstSegmentSize) / mSegmentSize;
+    }
+
+    private long getSegmentStart(long segmentIndex) {
+        if (segmentIndex == 0) {
+            return 0;
+        }
+        return mFirstSegmentSize + (segmentIndex - 1) * mSegmentSize;
+    }
+
+    @GuardedBy("this")
+    private byte[] getSegment(long segmentIndex, long size) throws IOException {
+        byte[] segment = mSegments.get(segmentIndex);
+        if (segment != null) {
+            return segment;
+        }
+        long start = getSegmentStart(segmentIndex);
+        int maxLength = segmentIndex == 0 ? mFirstSegmentSize : mSegmentSize;
+        segment = new byte[(int) Math.min(maxLength, size - start)];
+        ByteBuffer buffer = ByteBuffer.wrap(segment);
+        mDecryptingChannel.position(start);
+        while (buffer.hasRemaining()) {
+            if (mDecryptingChannel.read(buffer) < 0) {
+                throw new IOException("Unexpected end of encrypted file");
+            }
+        }
+        mSegments.put(segmentIndex, segment);
+        return segment;
+    }
+}
@@ -27,6 +27,7 @@ import android.util.Pair;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.collection.ArraySet;
+import androidx.collection.LruCache;
 
 import com.google.crypto.tink.Aead;
 import com.google.crypto.tink.DeterministicAead;
@@ -43,10 +44,12 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.security.GeneralSecurityException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -67,6 +70,9 @@ import java.util.concurrent.atomic.AtomicBoolean;
  *  // use the shared preferences and editor as you normally would
  *  SharedPreferences.Editor editor = sharedPreferences.edit();
  * </pre>
+ *
+ * <p>Decrypted keys and values are cached in memory, so reading the same preference again only
+ * costs a decryption once its value has changed.
  */
 public final class EncryptedSharedPreferences implements SharedPreferences {
 
@@ -77,6 +83,9 @@ public final class EncryptedSharedPreferences implements SharedPreferences {
 
     private static final String NULL_VALUE = "__NULL__";
 
+    // Maximum number of key ciphertexts remembered in each direction
+    private static final int KEY_CACHE_SIZE = 512;
+
     final SharedPreferences mSharedPreferences;
     final CopyOnWriteArrayList<OnSharedPreferenceChangeListener> mListeners;
     final String mFileName;
@@ -85,6 +94,29 @@ public final class EncryptedSharedPreferences implements SharedPreferences {
     final Aead mValueAead;
     final DeterministicAead mKeyDeterministicAead;
 
+    // AES-SIV is deterministic, so a key always encrypts to the same ciphertext. Keys are cached
+    // as plain text to cipher text and the other way around, with the null key as NULL_VALUE.
+    private final LruCache<String, String> mEncryptedKeys = new LruCache<>(KEY_CACHE_SIZE);
+    private final LruCache<String, String> mDecryptedKeys = new LruCache<>(KEY_CACHE_SIZE);
+    // Decrypted values by encrypted key. Entries are only used while the underlying preferences
+    // still hold the cipher text they were decrypted from.
+    @SuppressWarnings("WeakerAccess") /* synthetic access */
+    final Map<String, DecryptedValue> mDecryptedValues = new ConcurrentHashMap<>();
+    // Held here since SharedPreferences only keeps weak references to its listeners
+    private final OnSharedPreferenceChangeListener mDecryptedValuesInvalidator =
+            new OnSharedPreferenceChangeListener() {
+                @Override
+                public void onSharedPreferenceChanged(SharedPreferences sharedPreferences,
+                        String encryptedKey) {
+                    if (encryptedKey == null) {
+                        // The preferences were cleared
+                        mDecryptedValues.clear();
+                    } else {
+                        mDecryptedValues.remove(encryptedKey);
+                    }
+                }
+            };
+
     EncryptedSharedPreferences(@NonNull String name,
             @NonNull String masterKeyAlias,
             @NonNull SharedPreferences sharedPreferences,
@@ -96,6 +128,7 @@ public final class EncryptedSharedPreferences implements SharedPreferences {
         mValueAead = aead;
         mKeyDeterministicAead = deterministicAead;
         mListeners = new CopyOnWriteArrayList<>();
+        mSharedPreferences.registerOnSharedPreferenceChangeListener(mDecryptedValuesInvalidator);
     }
 
     /**
@@ -401,12 +434,41 @@ public final class EncryptedSharedPreferences implements SharedPreferences {
             if (!isReservedKey(entry.getKey())) {
                 String decryptedKey = decryptKey(entry.getKey());
                 allEntries.put(decryptedKey,
-                        getDecryptedObject(decryptedKey));
+                        getDecryptedObject(entry.getKey(), (String) entry.getValue()));
             }
         }
         return allEntries;
     }
 
+    /**
+     * Retrieves the values of several preferences at once.
+     *
+     * <p>This avoids decrypting the whole file like {@link #getAll()} does when only some of
+     * its preferences are needed, such as the ones shown on a settings screen.
+     *
+     * @param keys The names of the preferences to retrieve.
+     * @return A map from each of the given keys which is set to its value. The values are
+     * {@link String}, {@link Set} of {@link String}, {@link Integer}, {@link Long},
+     * {@link Float} or {@link Boolean}, as they were put.
+     * @throws SecurityException if one of the keys is reserved for the encryption keysets, or if
+     *                           a value can not be decrypted.
+     */
+    @NonNull
+    public Map<String, ?> getValues(@NonNull Collection<String> keys) {
+        Map<String, ? super Object> values = new HashMap<>(keys.size());
+        for (String key : keys) {
+            if (isReservedKey(key)) {
+                throw new SecurityException(key + " is a reserved key for the encryption keyset.");
+            }
+            String encryptedKey = encryptKey(key);
+            String encryptedValue = mSharedPreferences.getString(encryptedKey, null);
+            if (encryptedValue != null) {
+                values.put(key, getDecryptedObject(encryptedKey, encryptedValue));
+            }
+        }
+        return values;
+    }
+
     @Nullable
     @Override
     public String getString(@Nullable String key, @Nullable String defValue) {
@@ -526,57 +588,83 @@ public final class EncryptedSharedPreferences implements SharedPreferences {
         if (key == null) {
             key = NULL_VALUE;
         }
+        String encryptedKey = encryptKey(key);
+        String encryptedValue = mSharedPreferences.getString(encryptedKey, null);
+        if (encryptedValue == null) {
+            return null;
+        }
+        return getDecryptedObject(encryptedKey, encryptedValue);
+    }
+
+    /**
+     * Returns the decrypted value stored under the given encrypted key, reusing the value
+     * decrypted last time if the cipher text has not changed since.
+     */
+    @SuppressWarnings("unchecked")
+    private Object getDecryptedObject(@NonNull String encryptedKey,
+            @NonNull String encryptedValue) {
+        DecryptedValue decryptedValue = mDecryptedValues.get(encryptedKey);
+        if (decryptedValue == null || !decryptedValue.mCipherText.equals(encryptedValue)) {
+            decryptedValue = new DecryptedValue(encryptedValue,
+                    decryptObject(encryptedKey, encryptedValue));
+            mDecryptedValues.put(encryptedKey, decryptedValue);
+        }
+        Object value = decryptedValue.mValue;
+        if (value instanceof Set) {
+            // Callers may modify the returned set
+            return new ArraySet<>((Set<String>) value);
+        }
+        return value;
+    }
+
+    private Object decryptObject(@NonNull String encryptedKey, @NonNull String encryptedValue) {
         Object returnValue = null;
         try {
-            String encryptedKey = encryptKey(key);
-            String encryptedValue = mSharedPreferences.getString(encryptedKey, null);
-            if (encryptedValue != null) {
-                byte[] cipherText = Base64.decode(encryptedValue, Base64.DEFAULT);
-                byte[] value = mValueAead.decrypt(cipherText, encryptedKey.getBytes(UTF_8));
-                ByteBuffer buffer = ByteBuffer.wrap(value);
-                buffer.position(0);
-                int typeId = buffer.getInt();
-                EncryptedType type = EncryptedType.fromId(typeId);
-                switch (type) {
-                    case STRING:
-                        int stringLength = buffer.getInt();
-                        ByteBuffer stringSlice = buffer.slice();
-                        buffer.limit(stringLength);
-                        String stringValue = UTF_8.decode(stringSlice).toString();
-                        if (stringValue.equals(NULL_VALUE)) {
-                            returnValue = null;
-                        } else {
-                            returnValue = stringValue;
-                        }
-                        break;
-                    case INT:
-                        returnValue = buffer.getInt();
-                        break;
-                    case LONG:
-                        returnValue = buffer.getLong();
-                        break;
-                    case FLOAT:
-                        returnValue = buffer.getFloat();
-                        break;
-                    case BOOLEAN:
-                        returnValue = buffer.get() != (byte) 0;
-                        break;
-                    case STRING_SET:
-                        ArraySet<String> stringSet = new ArraySet<>();
-                        while (buffer.hasRemaining()) {
-                            int subStringLength = buffer.getInt();
-                            ByteBuffer subStringSlice = buffer.slice();
-                            subStringSlice.limit(subStringLength);
-                            buffer.position(buffer.position() + subStringLength);
-                            stringSet.add(UTF_8.decode(subStringSlice).toString());
-                        }
-                        if (stringSet.size() == 1 && NULL_VALUE.equals(stringSet.valueAt(0))) {
-                            returnValue = null;
-                        } else {
-                            returnValue = stringSet;
-                        }
-                        break;
-                }
+            byte[] cipherText = Base64.decode(encryptedValue, Base64.DEFAULT);
+            byte[] value = mValueAead.decrypt(cipherText, encryptedKey.getBytes(UTF_8));
+            ByteBuffer buffer = ByteBuffer.wrap(value);
+            buffer.position(0);
+            int typeId = buffer.getInt();
+            EncryptedType type = EncryptedType.fromId(typeId);
+            switch (type) {
+                case STRING:
+                    int stringLength = buffer.getInt();
+                    ByteBuffer stringSlice = buffer.slice();
+                    buffer.limit(stringLength);
+                    String stringValue = UTF_8.decode(stringSlice).toString();
+                    if (stringValue.equals(NULL_VALUE)) {
+                        returnValue = null;
+                    } else {
+                        returnValue = stringValue;
+                    }
+                    break;
+                case INT:
+                    returnValue = buffer.getInt();
+                    break;
+                case LONG:
+                    returnValue = buffer.getLong();
+                    break;
+                case FLOAT:
+                    returnValue = buffer.getFloat();
+                    break;
+                case BOOLEAN:
+                    returnValue = buffer.get() != (byte) 0;
+                    break;
+                case STRING_SET:
+                    ArraySet<String> stringSet = new ArraySet<>();
+                    while (buffer.hasRemaining()) {
+                        int subStringLength = buffer.getInt();
+                        ByteBuffer subStringSlice = buffer.slice();
+                        subStringSlice.limit(subStringLength);
+                        buffer.position(buffer.position() + subStringLength);
+                        stringSet.add(UTF_8.decode(subStringSlice).toString());
+                    }
+                    if (stringSet.size() == 1 && NULL_VALUE.equals(stringSet.valueAt(0))) {
+                        returnValue = null;
+                    } else {
+                        returnValue = stringSet;
+                    }
+                    break;
             }
         } catch (GeneralSecurityException ex) {
             throw new SecurityException("Could not decrypt value. " + ex.getMessage(), ex);
@@ -588,29 +676,41 @@ public final class EncryptedSharedPreferences implements SharedPreferences {
         if (key == null) {
             key = NULL_VALUE;
         }
+        String encryptedKey = mEncryptedKeys.get(key);
+        if (encryptedKey != null) {
+            return encryptedKey;
+        }
         try {
             byte[] encryptedKeyBytes = mKeyDeterministicAead.encryptDeterministically(
                     key.getBytes(UTF_8),
                     mFileName.getBytes());
-            return Base64.encode(encryptedKeyBytes);
+            encryptedKey = Base64.encode(encryptedKeyBytes);
         } catch (GeneralSecurityException ex) {
             throw new SecurityException("Could not encrypt key. " + ex.getMessage(), ex);
         }
+        mEncryptedKeys.put(key, encryptedKey);
+        mDecryptedKeys.put(encryptedKey, key);
+        return encryptedKey;
     }
 
     String decryptKey(String encryptedKey) {
-        try {
-            byte[] clearText = mKeyDeterministicAead.decryptDeterministically(
-                    Base64.decode(encryptedKey, Base64.DEFAULT),
-                    mFileName.getBytes());
-            String key = new String(clearText, UTF_8);
-            if (key.equals(NULL_VALUE)) {
-                key = null;
+        String key = mDecryptedKeys.get(encryptedKey);
+        if (key == null) {
+            try {
+                byte[] clearText = mKeyDeterministicAead.decryptDeterministically(
+                        Base64.decode(encryptedKey, Base64.DEFAULT),
+                        mFileName.getBytes());
+                key = new String(clearText, UTF_8);
+            } catch (GeneralSecurityException ex) {
+                throw new SecurityException("Could not decrypt key. " + ex.getMessage(), ex);
             }
-            return key;
-        } catch (GeneralSecurityException ex) {
-            throw new SecurityException("Could not decrypt key. " + ex.getMessage(), ex);
+            mDecryptedKeys.put(encryptedKey, key);
+            mEncryptedKeys.put(key, encryptedKey);
+        }
+        if (key.equals(NULL_VALUE)) {
+            key = null;
         }
+        return key;
     }
 
 
@@ -633,4 +733,15 @@ public final class EncryptedSharedPreferences implements SharedPreferences {
         return new Pair<>(encryptedKey, Base64.encode(cipherText));
     }
 
+    /** A decrypted value along with the cipher text it was decrypted from. */
+    static final class DecryptedValue {
+        final String mCipherText;
+        final Object mValue;
+
+        DecryptedValue(String cipherText, Object value) {
+            mCipherText = cipherText;
+            mValue = value;
+        }
+    }
+
 }
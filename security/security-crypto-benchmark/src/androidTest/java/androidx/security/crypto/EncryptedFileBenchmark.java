@@ -0,0 +1,137 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.security.crypto;
+
+import static org.junit.Assert.assertEquals;
+
+import android.content.Context;
+import android.os.Build;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.test.core.app.ApplicationProvider;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.filters.LargeTest;
+import androidx.test.filters.SdkSuppress;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.util.Random;
+
+/**
+ * Measures reading a small record at a random position of a 1 MB encrypted file.
+ */
+@LargeTest
+@RunWith(AndroidJUnit4.class)
+public class EncryptedFileBenchmark {
+    private static final String FILE_NAME = "benchmark_encrypted_file";
+    private static final String PREFS_FILE = "__androidx_security_crypto_encrypted_file_pref__";
+    private static final int FILE_SIZE = 1024 * 1024;
+    private static final int RECORD_SIZE = 256;
+    // Records read by the benchmarks fall within this many segments
+    private static final int HOT_SEGMENT_COUNT = 8;
+
+    @Rule
+    public BenchmarkRule mBenchmarkRule = new BenchmarkRule();
+
+    private Context mContext;
+    private File mFile;
+    private EncryptedFile mEncryptedFile;
+    private final Random mRandom = new Random(0);
+
+    @Before
+    public void setUp() throws Exception {
+        mContext = ApplicationProvider.getApplicationContext();
+        mFile = new File(mContext.getFilesDir(), FILE_NAME);
+        mFile.delete();
+        MasterKey masterKey = new MasterKey.Builder(mContext)
+                .setKeyScheme(MasterKey.KeyScheme.AES256_GCM)
+                .build();
+        mEncryptedFile = new EncryptedFile.Builder(mContext, mFile, masterKey,
+                EncryptedFile.FileEncryptionScheme.AES256_GCM_HKDF_4KB)
+                .build();
+        byte[] content = new byte[FILE_SIZE];
+        mRandom.nextBytes(content);
+        OutputStream outputStream = mEncryptedFile.openFileOutput();
+        outputStream.write(content);
+        outputStream.close();
+    }
+
+    @After
+    public void tearDown() {
+        mFile.delete();
+        mContext.getSharedPreferences(PREFS_FILE, Context.MODE_PRIVATE).edit().clear().commit();
+    }
+
+    @Test
+    public void readRecord_inputStream() throws Exception {
+        byte[] record = new byte[RECORD_SIZE];
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            InputStream inputStream = mEncryptedFile.openFileInput();
+            long remaining = nextRecordPosition();
+            while (remaining > 0) {
+                remaining -= inputStream.skip(remaining);
+            }
+            int read = 0;
+            while (read < RECORD_SIZE) {
+                read += inputStream.read(record, read, RECORD_SIZE - read);
+            }
+            inputStream.close();
+        }
+    }
+
+    @SdkSuppress(minSdkVersion = Build.VERSION_CODES.N)
+    @Test
+    public void readRecord_seekableChannel() throws Exception {
+        readRecords(0);
+    }
+
+    @SdkSuppress(minSdkVersion = Build.VERSION_CODES.N)
+    @Test
+    public void readRecord_seekableChannel_cachedSegments() throws Exception {
+        readRecords(HOT_SEGMENT_COUNT);
+    }
+
+    private void readRecords(int cachedSegmentCount) throws Exception {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        SeekableByteChannel channel = mEncryptedFile.openSeekableChannel(cachedSegmentCount);
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            record.clear();
+            channel.position(nextRecordPosition());
+            while (record.hasRemaining()) {
+                channel.read(record);
+            }
+        }
+        assertEquals(FILE_SIZE, channel.size());
+        channel.close();
+    }
+
+    private long nextRecordPosition() {
+        return mRandom.nextInt(HOT_SEGMENT_COUNT * 4096 - RECORD_SIZE);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.security.crypto;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.test.core.app.ApplicationProvider;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.filters.LargeTest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures reading and writing a file of {@link #KEY_COUNT} preferences, about the size of a
+ * settings screen.
+ */
+@LargeTest
+@RunWith(AndroidJUnit4.class)
+public class EncryptedSharedPreferencesBenchmark {
+    private static final String PREFS_FILE = "benchmark_encrypted_prefs";
+    private static final int KEY_COUNT = 50;
+
+    @Rule
+    public BenchmarkRule mBenchmarkRule = new BenchmarkRule();
+
+    private Context mContext;
+    private EncryptedSharedPreferences mSharedPreferences;
+    private final List<String> mKeys = new ArrayList<>(KEY_COUNT);
+
+    @Before
+    public void setUp() throws Exception {
+        mContext = ApplicationProvider.getApplicationContext();
+        MasterKey masterKey = new MasterKey.Builder(mContext)
+                .setKeyScheme(MasterKey.KeyScheme.AES256_GCM)
+                .build();
+        mSharedPreferences = (EncryptedSharedPreferences) EncryptedSharedPreferences.create(
+                mContext,
+                PREFS_FILE,
+                masterKey,
+                EncryptedSharedPreferences.PrefKeyEncryptionScheme.AES256_SIV,
+                EncryptedSharedPreferences.PrefValueEncryptionScheme.AES256_GCM);
+        SharedPreferences.Editor editor = mSharedPreferences.edit();
+        for (int i = 0; i < KEY_COUNT; i++) {
+            String key = "preference_" + i;
+            mKeys.add(key);
+            editor.putString(key, "value_" + i);
+        }
+        editor.commit();
+    }
+
+    @After
+    public void tearDown() {
+        // Also removes the keysets, which are created again by the next test
+        mContext.getSharedPreferences(PREFS_FILE, Context.MODE_PRIVATE).edit().clear().commit();
+    }
+
+    @Test
+    public void getString() {
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            assertNotNull(mSharedPreferences.getString("preference_0", null));
+        }
+    }
+
+    @Test
+    public void getString_allKeys() {
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            for (int i = 0; i < KEY_COUNT; i++) {
+                assertNotNull(mSharedPreferences.getString(mKeys.get(i), null));
+            }
+        }
+    }
+
+    @Test
+    public void getValues_allKeys() {
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            assertEquals(KEY_COUNT, mSharedPreferences.getValues(mKeys).size());
+        }
+    }
+
+    @Test
+    public void getAll() {
+        BenchmarkState state = mBenchmarkRule.getState();
+        while (state.keepRunning()) {
+            assertEquals(KEY_COUNT, mSharedPreferences.getAll().size());
+        }
+    }
+
+    @Test
+    public void getString_afterChange() {
+        BenchmarkState state = mBenchmarkRule.getState();
+        int i = 0;
+        while (state.keepRunning()) {
+            state.pauseTiming();
+            mSharedPreferences.edit().putInt("changing", i++).commit();
+            state.resumeTiming();
+            assertEquals(i - 1, mSharedPreferences.getInt("changing", -1));
+        }
+    }
+
+    @Test
+    public void putString_apply() {
+        BenchmarkState state = mBenchmarkRule.getState();
+        int i = 0;
+        while (state.keepRunning()) {
+            mSharedPreferences.edit().putString("preference_0", "value_" + i++).apply();
+        }
+    }
+}
@@ -22,12 +22,16 @@ import androidx.test.ext.junit.runners.AndroidJUnit4
 import androidx.test.filters.MediumTest
 import org.hamcrest.CoreMatchers.`is`
 import org.hamcrest.CoreMatchers.containsString
+import org.hamcrest.CoreMatchers.not
+import org.hamcrest.CoreMatchers.sameInstance
+import org.junit.Assert.assertFalse
 import org.junit.Assert.assertThat
 import org.junit.Assert.assertTrue
 import org.junit.Assert.fail
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
+import kotlin.concurrent.thread
 
 @RunWith(AndroidJUnit4::class)
 @MediumTest
@@ -75,4 +79,96 @@ class AppInitializerTest {
             assertThat(exception.localizedMessage, containsString("Cycle detected."))
         }
     }
+
+    @Test
+    fun parallelInitializationWithDependencies() {
+        appInitializer.initializeInParallel(
+            listOf<Class<out Initializer<*>>>(
+                InitializerWithDependency::class.java,
+                ThreadInitializer::class.java
+            ),
+            emptySet(),
+            2
+        )
+        assertThat(appInitializer.mInitialized.size, `is`(3))
+        assertTrue(appInitializer.mInitialized.containsKey(InitializerNoDependencies::class.java))
+        assertTrue(appInitializer.mInitialized.containsKey(InitializerWithDependency::class.java))
+        val thread = appInitializer.mInitialized[ThreadInitializer::class.java]
+        assertThat(thread, not(sameInstance<Any>(Thread.currentThread())))
+        assertThat(appInitializer.initializerStats.size, `is`(3))
+        // Dependencies are always initialized first.
+        assertThat(
+            appInitializer.initializerStats[0].initializer,
+            `is`<Class<*>>(InitializerNoDependencies::class.java)
+        )
+        assertTrue(appInitializer.initializerStats.all { it.isParallel })
+    }
+
+    @Test
+    fun parallelInitializationOnMainThread() {
+        appInitializer.initializeInParallel(
+            listOf<Class<out Initializer<*>>>(ThreadInitializer::class.java),
+            setOf<Class<*>>(ThreadInitializer::class.java),
+            2
+        )
+        val thread = appInitializer.mInitialized[ThreadInitializer::class.java]
+        assertThat(thread, sameInstance<Any>(Thread.currentThread()))
+    }
+
+    @Test
+    fun parallelInitializationWithCyclicDependencies() {
+        try {
+            appInitializer.initializeInParallel(
+                listOf<Class<out Initializer<*>>>(CyclicDependencyInitializer::class.java),
+                emptySet(),
+                2
+            )
+            fail()
+        } catch (exception: StartupException) {
+            assertThat(exception.localizedMessage, containsString("Cycle detected."))
+        }
+    }
+
+    @Test
+    fun parallelInitializationWithUndeclaredNestedComponent() {
+        NestedInitializer.appInitializer = appInitializer
+        // Once InitializerNoDependencies is created, NestedInitializer is queued before
+        // InitializerWithDependency, and waits for it on the only thread of the pool.
+        val initialization = thread {
+            appInitializer.initializeInParallel(
+                listOf<Class<out Initializer<*>>>(
+                    NestedInitializer::class.java,
+                    InitializerWithDependency::class.java
+                ),
+                emptySet(),
+                1
+            )
+        }
+        initialization.join(5000)
+        assertFalse(initialization.isAlive)
+        assertThat(appInitializer.mInitialized.size, `is`(3))
+        assertTrue(appInitializer.mInitialized.containsKey(NestedInitializer::class.java))
+        assertTrue(appInitializer.mInitialized.containsKey(InitializerWithDependency::class.java))
+    }
+
+    @Test
+    fun parallelInitializationWithLazyComponentOnMainThread() {
+        LazySlowDependentInitializer.appInitializer = appInitializer
+        // LazySlowDependentInitializer initializes SlowDependentInitializer on the main thread,
+        // which is not discovered and waits for SlowInitializer being created on the pool.
+        val initialization = thread {
+            appInitializer.initializeInParallel(
+                listOf<Class<out Initializer<*>>>(
+                    LazySlowDependentInitializer::class.java,
+                    SlowInitializer::class.java
+                ),
+                setOf<Class<*>>(LazySlowDependentInitializer::class.java),
+                2
+            )
+        }
+        initialization.join(5000)
+        assertFalse(initialization.isAlive)
+        assertThat(appInitializer.mInitialized.size, `is`(3))
+        assertTrue(appInitializer.mInitialized.containsKey(SlowDependentInitializer::class.java))
+    }
 }
@@ -27,6 +27,7 @@ import android.os.Bundle;
 import androidx.annotation.NonNull;
 import androidx.tracing.Trace;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -37,6 +38,15 @@ import java.util.Set;
  * An {@link AppInitializer} can be used to initialize all discovered [ComponentInitializer]s.
  * <br/>
  * The discovery mechanism is via `<meta-data>` entries in the merged `AndroidManifest.xml`.
+ * <br/>
+ * Discovered {@link Initializer}s are initialized one after another on the main thread by default.
+ * Setting the `androidx.startup.parallelism` `<meta-data>` of the
+ * {@link InitializationProvider} to a number greater than 1 creates independent
+ * {@link Initializer}s in parallel instead, on at most that many background threads. Each
+ * {@link Initializer} is still only created once all its
+ * {@link Initializer#dependencies()} have been created. {@link Initializer}s which must be created
+ * on the main thread can be discovered with the `androidx.startup.main_thread` value instead of
+ * `androidx.startup`.
  */
 @SuppressWarnings("WeakerAccess")
 public final class AppInitializer {
@@ -63,6 +73,14 @@ public final class AppInitializer {
     @NonNull
     final Context mContext;
 
+    @NonNull
+    final List<InitializerStats> mStats;
+
+    /**
+     * The graph of {@link Initializer}s being initialized in parallel, if any.
+     */
+    volatile InitializerGraph mGraph;
+
     /**
      * Creates an instance of {@link AppInitializer}
      *
@@ -72,6 +90,7 @@ public final class AppInitializer {
         mContext = context.getApplicationContext();
         mDiscovered = new HashSet<>();
         mInitialized = new HashMap<>();
+        mStats = new ArrayList<>();
     }
 
     /**
@@ -115,59 +134,97 @@ public final class AppInitializer {
         return mDiscovered.contains(component);
     }
 
+    /**
+     * Returns the time it took to initialize each {@link Initializer}, in the order they were
+     * initialized.
+     *
+     * @return The {@link InitializerStats} of the initialized {@link Initializer}s.
+     */
+    @NonNull
+    public List<InitializerStats> getInitializerStats() {
+        synchronized (sLock) {
+            return new ArrayList<>(mStats);
+        }
+    }
+
     @NonNull
     @SuppressWarnings({"unchecked", "TypeParameterUnusedInFormals"})
     <T> T doInitialize(
             @NonNull Class<? extends Initializer<?>> component,
             @NonNull Set<Class<?>> initializing) {
+        // Components of a graph being initialized in parallel are waited for, and dependencies
+        // are initialized, without holding the lock: the Initializers of the graph might take it
+        // to initialize other components, so waiting for them while holding it could deadlock.
+        InitializerGraph graph = mGraph;
+        if (graph != null && graph.contains(component)) {
+            return (T) graph.await(component);
+        }
         synchronized (sLock) {
-            boolean isTracingEnabled = Trace.isEnabled();
+            if (mInitialized.containsKey(component)) {
+                return (T) mInitialized.get(component);
+            }
+        }
+        boolean isTracingEnabled = Trace.isEnabled();
+        try {
+            if (isTracingEnabled) {
+                // Use the simpleName here because section names would get too big otherwise.
+                Trace.beginSection(component.getSimpleName());
+            }
+            if (initializing.contains(component)) {
+                String message = String.format(
+                        "Cannot initialize %s. Cycle detected.", component.getName()
+                );
+                throw new IllegalStateException(message);
+            }
+            Initializer<?> initializer;
+            initializing.add(component);
             try {
-                if (isTracingEnabled) {
-                    // Use the simpleName here because section names would get too big otherwise.
-                    Trace.beginSection(component.getSimpleName());
-                }
-                if (initializing.contains(component)) {
-                    String message = String.format(
-                            "Cannot initialize %s. Cycle detected.", component.getName()
-                    );
-                    throw new IllegalStateException(message);
+                Object instance = component.getDeclaredConstructor().newInstance();
+                initializer = (Initializer<?>) instance;
+                List<Class<? extends Initializer<?>>> dependencies = initializer.dependencies();
+                for (Class<? extends Initializer<?>> clazz : dependencies) {
+                    doInitialize(clazz, initializing);
                 }
-                Object result;
-                if (!mInitialized.containsKey(component)) {
-                    initializing.add(component);
-                    try {
-                        Object instance = component.getDeclaredConstructor().newInstance();
-                        Initializer<?> initializer = (Initializer<?>) instance;
-                        List<Class<? extends Initializer<?>>> dependencies =
-                                initializer.dependencies();
-
-                        if (!dependencies.isEmpty()) {
-                            for (Class<? extends Initializer<?>> clazz : dependencies) {
-                                if (!mInitialized.containsKey(clazz)) {
-                                    doInitialize(clazz, initializing);
-                                }
+            } catch (Throwable throwable) {
+                throw new StartupException(throwable);
+            }
+            long lockTime = System.nanoTime();
+            synchronized (sLock) {
+                long blockedTime = System.nanoTime() - lockTime;
+                graph = mGraph;
+                if (graph == null || !graph.contains(component)) {
+                    Object result;
+                    if (!mInitialized.containsKey(component)) {
+                        try {
+                            if (StartupLogger.DEBUG) {
+                                StartupLogger.i(
+                                        String.format("Initializing %s", component.getName()));
                             }
+                            long startTime = System.nanoTime();
+                            result = initializer.create(mContext);
+                            long wallTime = System.nanoTime() - startTime;
+                            if (StartupLogger.DEBUG) {
+                                StartupLogger.i(
+                                        String.format("Initialized %s", component.getName()));
+                            }
+                            mInitialized.put(component, result);
+                            mStats.add(
+                                    new InitializerStats(component, wallTime, blockedTime, false));
+                        } catch (Throwable throwable) {
+                            throw new StartupException(throwable);
                         }
-                        if (StartupLogger.DEBUG) {
-                            StartupLogger.i(String.format("Initializing %s", component.getName()));
-                        }
-                        result = initializer.create(mContext);
-                        if (StartupLogger.DEBUG) {
-                            StartupLogger.i(String.format("Initialized %s", component.getName()));
-                        }
-                        initializing.remove(component);
-                        mInitialized.put(component, result);
-                    } catch (Throwable throwable) {
-                        throw new StartupException(throwable);
+                    } else {
+                        result = mInitialized.get(component);
                     }
-                } else {
-                    result = mInitialized.get(component);
+                    initializing.remove(component);
+                    return (T) result;
                 }
-                return (T) result;
-            } finally {
-                Trace.endSection();
             }
+            // A graph including the component started while its dependencies were initialized.
+            initializing.remove(component);
+            return (T) graph.await(component);
+        } finally {
+            Trace.endSection();
         }
     }
 
@@ -181,24 +238,43 @@ public final class AppInitializer {
                     .getProviderInfo(provider, GET_META_DATA);
             Bundle metadata = providerInfo.metaData;
             String startup = mContext.getString(R.string.androidx_startup);
+            String startupMainThread = mContext.getString(R.string.androidx_startup_main_thread);
+            String parallelismKey = mContext.getString(R.string.androidx_startup_parallelism);
             if (metadata != null) {
-                Set<Class<?>> initializing = new HashSet<>();
+                List<Class<? extends Initializer<?>>> components = new ArrayList<>();
+                Set<Class<?>> mainThreadComponents = new HashSet<>();
                 Set<String> keys = metadata.keySet();
                 for (String key : keys) {
+                    if (parallelismKey.equals(key)) {
+                        continue;
+                    }
                     String value = metadata.getString(key, null);
-                    if (startup.equals(value)) {
+                    boolean onMainThread = startupMainThread.equals(value);
+                    if (startup.equals(value) || onMainThread) {
                         Class<?> clazz = Class.forName(key);
                         if (Initializer.class.isAssignableFrom(clazz)) {
                             Class<? extends Initializer<?>> component =
                                     (Class<? extends Initializer<?>>) clazz;
                             mDiscovered.add(component);
+                            if (onMainThread) {
+                                mainThreadComponents.add(component);
+                            }
                             if (StartupLogger.DEBUG) {
                                 StartupLogger.i(String.format("Discovered %s", key));
                             }
-                            doInitialize(component, initializing);
+                            components.add(component);
                         }
                     }
                 }
+                int parallelism = metadata.getInt(parallelismKey, 1);
+                if (parallelism > 1) {
+                    initializeInParallel(components, mainThreadComponents, parallelism);
+                } else {
+                    Set<Class<?>> initializing = new HashSet<>();
+                    for (Class<? extends Initializer<?>> component : components) {
+                        doInitialize(component, initializing);
+                    }
+                }
             }
         } catch (PackageManager.NameNotFoundException | ClassNotFoundException exception) {
             throw new StartupException(exception);
@@ -206,4 +282,43 @@ public final class AppInitializer {
             Trace.endSection();
         }
     }
+
+    /**
+     * Initializes components and their dependencies in parallel, and blocks until all of them
+     * have been initialized.
+     *
+     * @param components           The {@link Class}es of {@link Initializer} to initialize
+     * @param mainThreadComponents The components which must be created on the current thread
+     * @param parallelism          The maximum number of background threads
+     */
+    void initializeInParallel(
+            @NonNull List<Class<? extends Initializer<?>>> components,
+            @NonNull Set<Class<?>> mainThreadComponents,
+            int parallelism) {
+        InitializerGraph graph = new InitializerGraph(this, mainThreadComponents);
+        synchronized (sLock) {
+            Set<Class<?>> initializing = new HashSet<>();
+            for (Class<? extends Initializer<?>> component : components) {
+                if (!mInitialized.containsKey(component)) {
+                    graph.add(component, initializing);
+                }
+            }
+            mGraph = graph;
+        }
+        try {
+            graph.run(parallelism);
+        } finally {
+            // Until the graph is cleared, its components are looked up in the graph itself.
+            synchronized (sLock) {
+                for (InitializerGraph.Node node : graph.mCreated) {
+                    mInitialized.put(node.mComponent, node.mResult);
+                    mStats.add(node.mStats);
+                    if (StartupLogger.DEBUG) {
+                        StartupLogger.i(node.mStats.toString());
+                    }
+                }
+                mGraph = null;
+            }
+        }
+    }
 }
@@ -0,0 +1,427 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.startup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.tracing.Trace;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Initializes a graph of {@link Initializer}s in parallel, where each {@link Initializer} is
+ * created as soon as all of its dependencies have been created.
+ * <br/>
+ * {@link Initializer}s are created on a bounded pool of threads, except the ones pinned to the
+ * thread which builds and runs the graph, which is usually the main thread.
+ */
+final class InitializerGraph {
+
+    /**
+     * Wakes up the thread running the graph, to check whether it is done.
+     */
+    static final Runnable WAKE_UP = new Runnable() {
+        @Override
+        public void run() {
+            // Does nothing.
+        }
+    };
+
+    @NonNull
+    final AppInitializer mAppInitializer;
+
+    @NonNull
+    final Map<Class<?>, Node> mNodes;
+
+    @NonNull
+    final Set<Class<?>> mMainThreadComponents;
+
+    @NonNull
+    final Thread mMainThread;
+
+    /**
+     * The {@link Initializer}s to create on the main thread, and wake ups.
+     */
+    @NonNull
+    final BlockingQueue<Runnable> mMainThreadTasks;
+
+    /**
+     * The number of {@link Initializer}s which have not completed yet.
+     */
+    @NonNull
+    final AtomicInteger mRemaining;
+
+    /**
+     * The first failure of an {@link Initializer}.
+     */
+    @NonNull
+    final AtomicReference<Throwable> mFirstFailure;
+
+    /**
+     * The {@link Initializer}s which have been created successfully, in the order they completed.
+     */
+    @NonNull
+    final Queue<Node> mCreated;
+
+    @Nullable
+    ExecutorService mExecutor;
+
+    /**
+     * Creates an empty graph, to be run on the current thread.
+     *
+     * @param appInitializer       The {@link AppInitializer} the components are created for
+     * @param mainThreadComponents The components which must be created on the current thread
+     */
+    InitializerGraph(
+            @NonNull AppInitializer appInitializer,
+            @NonNull Set<Class<?>> mainThreadComponents) {
+        mAppInitializer = appInitializer;
+        mMainThreadComponents = mainThreadComponents;
+        mMainThread = Thread.currentThread();
+        mNodes = new HashMap<>();
+        mMainThreadTasks = new LinkedBlockingQueue<>();
+        mRemaining = new AtomicInteger();
+        mFirstFailure = new AtomicReference<>();
+        mCreated = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Adds a component and its dependencies which have not been initialized yet to the graph.
+     * <br/>
+     * Must be called while holding the lock guarding app initialization.
+     *
+     * @param component    The {@link Class} of {@link Initializer} to add
+     * @param initializing The components being added, to detect cycles
+     */
+    void add(
+            @NonNull Class<? extends Initializer<?>> component,
+            @NonNull Set<Class<?>> initializing) {
+        addNode(component, initializing);
+    }
+
+    @NonNull
+    private Node addNode(
+            @NonNull Class<? extends Initializer<?>> component,
+            @NonNull Set<Class<?>> initializing) {
+        Node node = mNodes.get(component);
+        if (node != null) {
+            return node;
+        }
+        if (initializing.contains(component)) {
+            String message = String.format(
+                    "Cannot initialize %s. Cycle detected.", component.getName()
+            );
+            throw new IllegalStateException(message);
+        }
+        initializing.add(component);
+        try {
+            Object instance = component.getDeclaredConstructor().newInstance();
+            Initializer<?> initializer = (Initializer<?>) instance;
+            node = new Node(component, initializer, mMainThreadComponents.contains(component));
+            for (Class<? extends Initializer<?>> clazz : initializer.dependencies()) {
+                if (!mAppInitializer.mInitialized.containsKey(clazz)) {
+                    Node dependency = addNode(clazz, initializing);
+                    dependency.mDependents.add(node);
+                    node.mDependencies.add(dependency);
+                    node.mPendingDependencies.incrementAndGet();
+                }
+            }
+        } catch (Throwable throwable) {
+            throw new StartupException(throwable);
+        }
+        initializing.remove(component);
+        mNodes.put(component, node);
+        return node;
+    }
+
+    /**
+     * @param component The {@link Class} of {@link Initializer} to check
+     * @return <code>true</code> if the component is initialized by this graph.
+     */
+    boolean contains(@NonNull Class<?> component) {
+        return mNodes.containsKey(component);
+    }
+
+    /**
+     * Creates all the {@link Initializer}s of the graph, and blocks until they have been created.
+     *
+     * @param parallelism The maximum number of threads creating {@link Initializer}s, besides
+     *                    the current thread
+     */
+    void run(int parallelism) {
+        List<Node> ready = new ArrayList<>();
+        int poolSize = 0;
+        for (Node node : mNodes.values()) {
+            if (!node.mOnMainThread) {
+                poolSize++;
+            }
+            if (node.mPendingDependencies.get() == 0) {
+                ready.add(node);
+            }
+        }
+        poolSize = Math.min(poolSize, parallelism);
+        if (poolSize > 0) {
+            mExecutor = Executors.newFixedThreadPool(poolSize, new ThreadFactory() {
+                private final AtomicInteger mCount = new AtomicInteger();
+
+                @Override
+                public Thread newThread(@NonNull Runnable runnable) {
+                    return new Thread(runnable, "androidx.startup-" + mCount.incrementAndGet());
+                }
+            });
+        }
+        mRemaining.set(mNodes.size());
+        try {
+            for (Node node : ready) {
+                node.schedule();
+            }
+            while (mRemaining.get() > 0) {
+                mMainThreadTasks.take().run();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new StartupException(exception);
+        } finally {
+            if (mExecutor != null) {
+                mExecutor.shutdown();
+            }
+        }
+        Throwable failure = mFirstFailure.get();
+        if (failure != null) {
+            throw new StartupException(failure);
+        }
+    }
+
+    /**
+     * Blocks until a component of the graph has been created. When called on the thread running
+     * the graph, this keeps creating the {@link Initializer}s pinned to it meanwhile. When called
+     * on a pool thread, this creates the component and its dependencies which have not started
+     * yet on that thread, as every thread of the pool might be waiting for them otherwise.
+     *
+     * @param component The {@link Class} of {@link Initializer} to wait for
+     * @return The initialized instance
+     */
+    @Nullable
+    Object await(@NonNull Class<?> component) {
+        Node node = mNodes.get(component);
+        try {
+            if (Thread.currentThread() == mMainThread) {
+                while (node.mDone.getCount() > 0) {
+                    mMainThreadTasks.take().run();
+                }
+            } else {
+                runInline(node);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new StartupException(exception);
+        }
+        if (node.mFailure != null) {
+            throw new StartupException(node.mFailure);
+        }
+        return node.mResult;
+    }
+
+    /**
+     * Creates a node on the current thread unless it has already started, after its dependencies,
+     * and blocks until it has been created.
+     *
+     * @param node The {@link Node} to create
+     */
+    void runInline(@NonNull Node node) throws InterruptedException {
+        if (node.mOnMainThread || node.mStarted.get()) {
+            // Either running on another thread, or left to the thread running the graph.
+            node.mDone.await();
+            return;
+        }
+        Throwable dependencyFailure = null;
+        for (Node dependency : node.mDependencies) {
+            runInline(dependency);
+            if (dependency.mFailure != null) {
+                dependencyFailure = dependency.mFailure;
+            }
+        }
+        if (node.mStarted.compareAndSet(false, true)) {
+            if (dependencyFailure != null) {
+                node.complete(null, dependencyFailure, null);
+            } else {
+                node.mReadyTime = System.nanoTime();
+                node.create();
+            }
+        } else {
+            node.mDone.await();
+        }
+    }
+
+    /**
+     * An {@link Initializer} of the graph.
+     */
+    final class Node implements Runnable {
+        @NonNull
+        final Class<? extends Initializer<?>> mComponent;
+
+        @NonNull
+        final Initializer<?> mInitializer;
+
+        final boolean mOnMainThread;
+
+        @NonNull
+        final List<Node> mDependencies;
+
+        @NonNull
+        final List<Node> mDependents;
+
+        @NonNull
+        final AtomicInteger mPendingDependencies;
+
+        @NonNull
+        final CountDownLatch mDone;
+
+        /**
+         * Whether a thread has claimed this node, either from the queue it was scheduled on or
+         * by waiting for it in {@link #runInline(Node)}.
+         */
+        @NonNull
+        final AtomicBoolean mStarted;
+
+        @Nullable
+        volatile Throwable mDependencyFailure;
+
+        @Nullable
+        volatile Object mResult;
+
+        @Nullable
+        volatile Throwable mFailure;
+
+        @Nullable
+        InitializerStats mStats;
+
+        /**
+         * When all the dependencies have been created, in nanoseconds.
+         */
+        long mReadyTime;
+
+        Node(
+                @NonNull Class<? extends Initializer<?>> component,
+                @NonNull Initializer<?> initializer,
+                boolean onMainThread) {
+            mComponent = component;
+            mInitializer = initializer;
+            mOnMainThread = onMainThread;
+            mDependencies = new ArrayList<>();
+            mDependents = new ArrayList<>();
+            mPendingDependencies = new AtomicInteger();
+            mDone = new CountDownLatch(1);
+            mStarted = new AtomicBoolean();
+        }
+
+        void schedule() {
+            mReadyTime = System.nanoTime();
+            if (mOnMainThread || mExecutor == null) {
+                mMainThreadTasks.add(this);
+            } else {
+                mExecutor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            // The node might have been created inline while it was waiting in a queue.
+            if (mStarted.compareAndSet(false, true)) {
+                create();
+            }
+        }
+
+        void create() {
+            long startTime = System.nanoTime();
+            Object result = null;
+            Throwable failure = null;
+            boolean isTracingEnabled = Trace.isEnabled();
+            try {
+                if (isTracingEnabled) {
+                    // Use the simpleName here because section names would get too big otherwise.
+                    Trace.beginSection(mComponent.getSimpleName());
+                }
+                if (StartupLogger.DEBUG) {
+                    StartupLogger.i(String.format("Initializing %s", mComponent.getName()));
+                }
+                result = mInitializer.create(mAppInitializer.mContext);
+                if (StartupLogger.DEBUG) {
+                    StartupLogger.i(String.format("Initialized %s", mComponent.getName()));
+                }
+            } catch (Throwable throwable) {
+                failure = throwable;
+            } finally {
+                if (isTracingEnabled) {
+                    Trace.endSection();
+                }
+            }
+            long endTime = System.nanoTime();
+            complete(result, failure, new InitializerStats(
+                    mComponent, endTime - startTime, startTime - mReadyTime, true));
+        }
+
+        void complete(
+                @Nullable Object result,
+                @Nullable Throwable failure,
+                @Nullable InitializerStats stats) {
+            mResult = result;
+            mFailure = failure;
+            mStats = stats;
+            if (failure == null) {
+                // Published by AppInitializer once the graph is done, as graph threads never take
+                // the lock guarding app initialization.
+                mCreated.add(this);
+            } else {
+                mFirstFailure.compareAndSet(null, failure);
+            }
+            mDone.countDown();
+            for (Node dependent : mDependents) {
+                if (failure != null) {
+                    dependent.mDependencyFailure = failure;
+                }
+                if (dependent.mPendingDependencies.decrementAndGet() == 0) {
+                    Throwable dependencyFailure = dependent.mDependencyFailure;
+                    if (dependencyFailure != null) {
+                        if (dependent.mStarted.compareAndSet(false, true)) {
+                            dependent.complete(null, dependencyFailure, null);
+                        }
+                    } else {
+                        dependent.schedule();
+                    }
+                }
+            }
+            mRemaining.decrementAndGet();
+            mMainThreadTasks.add(WAKE_UP);
+        }
+    }
+}
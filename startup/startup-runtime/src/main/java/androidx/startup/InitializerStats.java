@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package androidx.startup;
+
+import androidx.annotation.NonNull;
+
+/**
+ * The time it took to initialize an {@link Initializer}.
+ *
+ * @see AppInitializer#getInitializerStats()
+ */
+public final class InitializerStats {
+
+    @NonNull
+    private final Class<? extends Initializer<?>> mInitializer;
+
+    private final long mWallTimeNanos;
+
+    private final long mBlockedTimeNanos;
+
+    private final boolean mParallel;
+
+    InitializerStats(
+            @NonNull Class<? extends Initializer<?>> initializer,
+            long wallTimeNanos,
+            long blockedTimeNanos,
+            boolean parallel) {
+        mInitializer = initializer;
+        mWallTimeNanos = wallTimeNanos;
+        mBlockedTimeNanos = blockedTimeNanos;
+        mParallel = parallel;
+    }
+
+    /**
+     * @return The {@link Class} of the {@link Initializer}.
+     */
+    @NonNull
+    public Class<? extends Initializer<?>> getInitializer() {
+        return mInitializer;
+    }
+
+    /**
+     * @return The wall time spent in {@link Initializer#create(android.content.Context)}, in
+     * nanoseconds. This doesn't include the time spent initializing its dependencies.
+     */
+    public long getWallTimeNanos() {
+        return mWallTimeNanos;
+    }
+
+    /**
+     * @return The time the {@link Initializer} was blocked before being created, in nanoseconds.
+     * When initialized in parallel, this is the time between its last dependency being created and
+     * a thread being available to create it. Otherwise, this is the time spent waiting for other
+     * threads to finish initializing components.
+     */
+    public long getBlockedTimeNanos() {
+        return mBlockedTimeNanos;
+    }
+
+    /**
+     * @return <code>true</code> if the {@link Initializer} was initialized as part of a parallel
+     * initialization.
+     */
+    public boolean isParallel() {
+        return mParallel;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return String.format("%s: wall %dns, blocked %dns", mInitializer.getName(),
+                mWallTimeNanos, mBlockedTimeNanos);
+    }
+}